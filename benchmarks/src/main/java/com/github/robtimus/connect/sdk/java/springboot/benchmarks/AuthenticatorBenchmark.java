@@ -0,0 +1,109 @@
+/*
+ * AuthenticatorBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.benchmarks;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.robtimus.connect.sdk.java.springboot.ConfigurableV1HMACAuthenticator;
+import com.github.robtimus.connect.sdk.java.springboot.PooledV1HMACAuthenticator;
+import com.worldline.connect.sdk.java.authentication.Authenticator;
+import com.worldline.connect.sdk.java.authentication.V1HMACAuthenticator;
+import com.worldline.connect.sdk.java.communication.MetadataProvider;
+import com.worldline.connect.sdk.java.communication.RequestHeader;
+
+/**
+ * Benchmarks for calculating authorization headers.
+ * Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm} to see the number of bytes allocated per call.
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings({ "nls", "javadoc" })
+public class AuthenticatorBenchmark {
+
+    @Param({ "V1HMAC", "POOLED", "CONFIGURABLE", "CONFIGURABLE_POOLED" })
+    private AuthenticatorType authenticatorType;
+
+    private Authenticator authenticator;
+    private URI resourceUri;
+    private List<RequestHeader> requestHeaders;
+
+    @Setup
+    public void setup() {
+        authenticator = authenticatorType.create("apiKeyId", "secretApiKey");
+        resourceUri = URI.create("https://payment.preprod.connect.worldline-solutions.com/v1/1234/payments");
+
+        requestHeaders = new ArrayList<>();
+        requestHeaders.addAll(new MetadataProvider("robtimus").getServerMetadataHeaders());
+        requestHeaders.add(new RequestHeader("X-GCS-Idempotence-Key", "d6b0c5e4-2b8a-4a4b-9bb5-2b7d0b3b7f4e"));
+        requestHeaders.add(new RequestHeader("Date", "Sat, 17 Oct 2026 10:15:30 GMT"));
+        requestHeaders.add(new RequestHeader("Content-Type", "application/json"));
+    }
+
+    @Benchmark
+    public String getAuthorization() {
+        return authenticator.getAuthorization("POST", resourceUri, requestHeaders);
+    }
+
+    public enum AuthenticatorType {
+        V1HMAC {
+            @Override
+            Authenticator create(String apiKeyId, String secretApiKey) {
+                return new V1HMACAuthenticator(apiKeyId, secretApiKey);
+            }
+        },
+        POOLED {
+            @Override
+            Authenticator create(String apiKeyId, String secretApiKey) {
+                return new PooledV1HMACAuthenticator(apiKeyId, secretApiKey);
+            }
+        },
+        CONFIGURABLE {
+            @Override
+            Authenticator create(String apiKeyId, String secretApiKey) {
+                return new ConfigurableV1HMACAuthenticator(apiKeyId, secretApiKey);
+            }
+        },
+        CONFIGURABLE_POOLED {
+            @Override
+            Authenticator create(String apiKeyId, String secretApiKey) {
+                return new ConfigurableV1HMACAuthenticator(apiKeyId, secretApiKey, true);
+            }
+        };
+
+        abstract Authenticator create(String apiKeyId, String secretApiKey);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * CommunicatorLoggerBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.robtimus.connect.sdk.java.springboot.logging.LogbackCommunicatorLogger;
+import com.worldline.connect.sdk.java.logging.CommunicatorLogger;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.helpers.NOPAppender;
+
+/**
+ * Benchmarks for logging request and response messages through a {@link LogbackCommunicatorLogger}.
+ * The backing logger has level {@code INFO} and an appender that discards all events, so only the cost of the logger itself is measured.
+ * Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm} to see the number of bytes allocated per call.
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings({ "nls", "javadoc" })
+public class CommunicatorLoggerBenchmark {
+
+    private static final String MESSAGE = """
+            Outgoing request (requestId='3f5c1a8e-5d0b-4a5e-9a57-1c3f6f1b2d4e'):
+              method:       'POST'
+              uri:          '/v1/1234/payments'
+              headers:      'X-GCS-ServerMetaInfo="********", Date="Sat, 17 Oct 2026 10:15:30 GMT", Authorization="********"'
+              content-type: 'application/json'
+              body:         '{"order":{"amountOfMoney":{"currencyCode":"EUR","amount":2980}},"cardPaymentMethodSpecificInput":{}}'""";
+
+    // INFO is enabled, DEBUG is not
+    @Param({ "INFO", "DEBUG" })
+    private String level;
+
+    private LoggerContext loggerContext;
+    private CommunicatorLogger communicatorLogger;
+    private Exception exception;
+
+    @Setup
+    public void setup() {
+        // use a separate context, so the benchmark is not affected by any logback configuration on the class path
+        loggerContext = new LoggerContext();
+
+        NOPAppender<ILoggingEvent> appender = new NOPAppender<>();
+        appender.setContext(loggerContext);
+        appender.start();
+
+        Logger logger = loggerContext.getLogger("com.worldline.connect.sdk.java.Communicator");
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+
+        communicatorLogger = new LogbackCommunicatorLogger(logger, Level.toLevel(level));
+        exception = new IllegalStateException("benchmark");
+    }
+
+    @TearDown
+    public void tearDown() {
+        loggerContext.stop();
+    }
+
+    @Benchmark
+    public void log() {
+        communicatorLogger.log(MESSAGE);
+    }
+
+    @Benchmark
+    public void logWithThrowable() {
+        communicatorLogger.log(MESSAGE, exception);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * DateHeaderBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.benchmarks;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.robtimus.connect.sdk.java.springboot.communication.CachedDateHeader;
+
+/**
+ * Benchmarks for calculating the value of the {@code Date} header.
+ * Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm} to see the number of bytes allocated per call.
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings({ "nls", "javadoc" })
+public class DateHeaderBenchmark {
+
+    // the same formatting as the SDK's Communicator.getHeaderDateString()
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US);
+    private static final ZoneId GMT = ZoneId.of("GMT");
+
+    private final CachedDateHeader cachedDateHeader = CachedDateHeader.systemUTC();
+
+    @Benchmark
+    public String perCall() {
+        return ZonedDateTime.now(GMT).format(FORMATTER);
+    }
+
+    @Benchmark
+    public String cached() {
+        return cachedDateHeader.value();
+    }
+}
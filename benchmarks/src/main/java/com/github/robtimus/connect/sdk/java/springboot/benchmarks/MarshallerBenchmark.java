@@ -0,0 +1,222 @@
+/*
+ * MarshallerBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.robtimus.connect.sdk.java.springboot.json.DomainTypeAdapters;
+import com.github.robtimus.connect.sdk.java.springboot.json.GsonMarshaller;
+import com.github.robtimus.connect.sdk.java.springboot.json.JacksonMarshaller;
+import com.github.robtimus.connect.sdk.java.springboot.json.PooledGsonMarshaller;
+import com.worldline.connect.sdk.java.json.DefaultMarshaller;
+import com.worldline.connect.sdk.java.json.Marshaller;
+import com.worldline.connect.sdk.java.v1.domain.AmountOfMoney;
+import com.worldline.connect.sdk.java.v1.domain.Card;
+import com.worldline.connect.sdk.java.v1.domain.CardPaymentMethodSpecificInput;
+import com.worldline.connect.sdk.java.v1.domain.CreatePaymentRequest;
+import com.worldline.connect.sdk.java.v1.domain.CreatePaymentResponse;
+import com.worldline.connect.sdk.java.v1.domain.Order;
+import com.worldline.connect.sdk.java.v1.domain.PaymentProduct;
+import com.worldline.connect.sdk.java.v1.domain.PaymentProductDisplayHints;
+import com.worldline.connect.sdk.java.v1.domain.PaymentProducts;
+
+/**
+ * Throughput benchmarks for marshalling requests and unmarshalling responses.
+ * Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm} to see the number of bytes allocated per call.
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings({ "nls", "javadoc" })
+public class MarshallerBenchmark {
+
+    static final String CREATE_PAYMENT_RESPONSE = """
+            {
+                "creationOutput": {
+                    "additionalReference": "00000012341000059598",
+                    "externalReference": "000000123410000595980000100001"
+                },
+                "payment": {
+                    "id": "000000123410000595980000100001",
+                    "paymentOutput": {
+                        "amountOfMoney": {
+                            "amount": 2345,
+                            "currencyCode": "CAD"
+                        },
+                        "references": {
+                            "paymentReference": "0"
+                        },
+                        "paymentMethod": "card",
+                        "cardPaymentMethodSpecificOutput": {
+                            "paymentProductId": 1,
+                            "authorisationCode": "OK1131",
+                            "card": {
+                                "cardNumber": "************9176",
+                                "expiryDate": "1220"
+                            },
+                            "fraudResults": {
+                                "fraudServiceResult": "error",
+                                "avsResult": "X",
+                                "cvvResult": "M"
+                            }
+                        }
+                    },
+                    "status": "PENDING_APPROVAL",
+                    "statusOutput": {
+                        "isCancellable": true,
+                        "statusCategory": "PENDING_MERCHANT",
+                        "statusCode": 600,
+                        "statusCodeChangeDateTime": "20140630154830",
+                        "isAuthorized": true,
+                        "isRefundable": false
+                    }
+                }
+            }
+            """;
+
+    @Param({ "GSON", "POOLED_GSON", "GENERATED_TYPE_ADAPTERS", "JACKSON" })
+    private MarshallerType marshallerType;
+
+    private Marshaller marshaller;
+    private CreatePaymentRequest request;
+    private byte[] responseBytes;
+    private byte[] largeResponseBytes;
+
+    @Setup
+    public void setup() {
+        marshaller = marshallerType.create();
+        request = createPaymentRequest();
+        responseBytes = CREATE_PAYMENT_RESPONSE.getBytes(StandardCharsets.UTF_8);
+        largeResponseBytes = DefaultMarshaller.INSTANCE.marshal(createPaymentProducts(500)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String marshal() {
+        return marshaller.marshal(request);
+    }
+
+    @Benchmark
+    public CreatePaymentResponse unmarshalString() {
+        return marshaller.unmarshal(CREATE_PAYMENT_RESPONSE, CreatePaymentResponse.class);
+    }
+
+    @Benchmark
+    public CreatePaymentResponse unmarshalInputStream() {
+        return marshaller.unmarshal(new ByteArrayInputStream(responseBytes), CreatePaymentResponse.class);
+    }
+
+    @Benchmark
+    public PaymentProducts unmarshalLargeInputStream() {
+        return marshaller.unmarshal(new ByteArrayInputStream(largeResponseBytes), PaymentProducts.class);
+    }
+
+    static CreatePaymentRequest createPaymentRequest() {
+        AmountOfMoney amountOfMoney = new AmountOfMoney();
+        amountOfMoney.setAmount(2980L);
+        amountOfMoney.setCurrencyCode("EUR");
+
+        Order order = new Order();
+        order.setAmountOfMoney(amountOfMoney);
+
+        Card card = new Card();
+        card.setCardNumber("4567350000427977");
+        card.setCardholderName("Wile E. Coyote");
+        card.setCvv("123");
+        card.setExpiryDate("1299");
+
+        CardPaymentMethodSpecificInput cardPaymentMethodSpecificInput = new CardPaymentMethodSpecificInput();
+        cardPaymentMethodSpecificInput.setCard(card);
+        cardPaymentMethodSpecificInput.setPaymentProductId(1);
+
+        CreatePaymentRequest request = new CreatePaymentRequest();
+        request.setOrder(order);
+        request.setCardPaymentMethodSpecificInput(cardPaymentMethodSpecificInput);
+        return request;
+    }
+
+    private static PaymentProducts createPaymentProducts(int count) {
+        List<PaymentProduct> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            PaymentProductDisplayHints displayHints = new PaymentProductDisplayHints();
+            displayHints.setDisplayOrder(i);
+            displayHints.setLabel("Product " + i);
+            displayHints.setLogo("/templates/master/global/css/img/ppimages/pp_logo_" + i + "_v1.png");
+
+            PaymentProduct product = new PaymentProduct();
+            product.setId(i);
+            product.setPaymentMethod("card");
+            product.setAllowsRecurring(i % 2 == 0);
+            product.setDisplayHints(displayHints);
+            products.add(product);
+        }
+
+        PaymentProducts paymentProducts = new PaymentProducts();
+        paymentProducts.setPaymentProducts(products);
+        return paymentProducts;
+    }
+
+    public enum MarshallerType {
+        GSON {
+            @Override
+            Marshaller create() {
+                return DefaultMarshaller.INSTANCE;
+            }
+        },
+        POOLED_GSON {
+            @Override
+            Marshaller create() {
+                return new PooledGsonMarshaller();
+            }
+        },
+        GENERATED_TYPE_ADAPTERS {
+            @Override
+            Marshaller create() {
+                return new GsonMarshaller(PooledGsonMarshaller.gsonBuilder()
+                        .registerTypeAdapterFactory(DomainTypeAdapters.factory())
+                        .create());
+            }
+        },
+        JACKSON {
+            @Override
+            Marshaller create() {
+                return new JacksonMarshaller();
+            }
+        };
+
+        abstract Marshaller create();
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * MerchantClientBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.robtimus.connect.sdk.java.springboot.DateCachingCommunicator;
+import com.github.robtimus.connect.sdk.java.springboot.PooledV1HMACAuthenticator;
+import com.github.robtimus.connect.sdk.java.springboot.communication.CachedDateHeader;
+import com.github.robtimus.connect.sdk.java.springboot.communication.JdkHttpClientConnection;
+import com.github.robtimus.connect.sdk.java.springboot.json.PooledGsonMarshaller;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.worldline.connect.sdk.java.Client;
+import com.worldline.connect.sdk.java.Communicator;
+import com.worldline.connect.sdk.java.authentication.V1HMACAuthenticator;
+import com.worldline.connect.sdk.java.communication.Connection;
+import com.worldline.connect.sdk.java.communication.DefaultConnectionBuilder;
+import com.worldline.connect.sdk.java.communication.MetadataProvider;
+import com.worldline.connect.sdk.java.json.DefaultMarshaller;
+import com.worldline.connect.sdk.java.v1.domain.CreatePaymentRequest;
+import com.worldline.connect.sdk.java.v1.domain.CreatePaymentResponse;
+import com.worldline.connect.sdk.java.v1.merchant.MerchantClient;
+
+/**
+ * Benchmarks for a full {@link MerchantClient} call against an in-process HTTP stub server.
+ * This includes marshalling the request, calculating the headers, sending the request over a loopback connection, and unmarshalling the
+ * response. The stub server returns a fixed response without any processing.
+ * Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm} to see the number of bytes allocated per call.
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings({ "nls", "javadoc" })
+public class MerchantClientBenchmark {
+
+    @Param({ "SDK", "STARTER" })
+    private CommunicatorType communicatorType;
+
+    @Param({ "DEFAULT", "JDK_HTTP_CLIENT" })
+    private ConnectionType connectionType;
+
+    private ExecutorService serverExecutor;
+    private HttpServer server;
+    private Client client;
+    private MerchantClient merchantClient;
+    private CreatePaymentRequest request;
+
+    @Setup
+    public void setup() throws IOException {
+        byte[] responseBody = MarshallerBenchmark.CREATE_PAYMENT_RESPONSE.getBytes(StandardCharsets.UTF_8);
+
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/v1/1234/payments", exchange -> respond(exchange, responseBody));
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        URI apiEndpoint = URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+
+        Communicator communicator = communicatorType.create(apiEndpoint, connectionType.create());
+        client = new Client(communicator);
+        merchantClient = client.v1().merchant("1234");
+        request = MarshallerBenchmark.createPaymentRequest();
+    }
+
+    private static void respond(HttpExchange exchange, byte[] responseBody) throws IOException {
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            requestBody.transferTo(OutputStream.nullOutputStream());
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(201, responseBody.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(responseBody);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        client.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public CreatePaymentResponse createPayment() {
+        return merchantClient.payments().create(request);
+    }
+
+    public enum CommunicatorType {
+        SDK {
+            @Override
+            Communicator create(URI apiEndpoint, Connection connection) {
+                return new Communicator(apiEndpoint, connection, new V1HMACAuthenticator("apiKeyId", "secretApiKey"),
+                        new MetadataProvider("robtimus"), DefaultMarshaller.INSTANCE);
+            }
+        },
+        STARTER {
+            @Override
+            Communicator create(URI apiEndpoint, Connection connection) {
+                return new DateCachingCommunicator(apiEndpoint, connection, new PooledV1HMACAuthenticator("apiKeyId", "secretApiKey"),
+                        new MetadataProvider("robtimus"), new PooledGsonMarshaller(), CachedDateHeader.systemUTC());
+            }
+        };
+
+        abstract Communicator create(URI apiEndpoint, Connection connection);
+    }
+
+    public enum ConnectionType {
+        DEFAULT {
+            @Override
+            Connection create() {
+                return new DefaultConnectionBuilder(5000, 10000).build();
+            }
+        },
+        JDK_HTTP_CLIENT {
+            @Override
+            Connection create() {
+                // the stub server only supports HTTP/1.1, and HTTP/2 would try to upgrade each plain HTTP connection
+                HttpClient httpClient = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofSeconds(5))
+                        .build();
+                return new JdkHttpClientConnection(httpClient, Duration.ofSeconds(10));
+            }
+        };
+
+        abstract Connection create();
+    }
+}
@@ -0,0 +1,492 @@
+/*
+ * DomainTypeAdapterGenerator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.build;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+
+/**
+ * Generates Gson type adapters for the domain classes of connect-sdk-java.
+ * This class is run as a single-file source program during the build, with connect-sdk-java and Gson on the class path.
+ * <p>
+ * Arguments:
+ * <ol>
+ * <li>The path to the connect-sdk-java JAR file.</li>
+ * <li>The directory to generate sources in.</li>
+ * </ol>
+ * The generated type adapters work like Gson's reflection based type adapters, but use the domain classes' getters and setters.
+ * Domain classes for which that is not possible, for instance because a field has no getter or setter, are skipped.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("nls")
+public final class DomainTypeAdapterGenerator {
+
+    private static final String DOMAIN_PACKAGE = "com.worldline.connect.sdk.java.v1.domain";
+    private static final String GSON_ANNOTATIONS_PACKAGE = "com.google.gson.annotations";
+
+    private static final String TARGET_PACKAGE = "com.github.robtimus.connect.sdk.java.springboot.json";
+    private static final String TARGET_CLASS = "GeneratedDomainTypeAdapterFactory";
+
+    private DomainTypeAdapterGenerator() {
+    }
+
+    /**
+     * Runs the generator.
+     *
+     * @param args The program arguments.
+     * @throws IOException If an I/O error occurs.
+     * @throws ReflectiveOperationException If a domain class cannot be loaded.
+     */
+    public static void main(String[] args) throws IOException, ReflectiveOperationException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: DomainTypeAdapterGenerator <connect-sdk-java JAR file> <output directory>");
+        }
+        Path sdkJar = Paths.get(args[0]);
+        Path outputDirectory = Paths.get(args[1]);
+
+        List<DomainClass> domainClasses = new ArrayList<>();
+        for (String className : findClassNames(sdkJar)) {
+            Class<?> type = Class.forName(className, false, DomainTypeAdapterGenerator.class.getClassLoader());
+            DomainClass domainClass = DomainClass.of(type);
+            if (domainClass != null) {
+                domainClasses.add(domainClass);
+            }
+        }
+
+        Path packageDirectory = outputDirectory.resolve(TARGET_PACKAGE.replace('.', '/'));
+        Files.createDirectories(packageDirectory);
+        try (Writer writer = Files.newBufferedWriter(packageDirectory.resolve(TARGET_CLASS + ".java"), StandardCharsets.UTF_8);
+                PrintWriter out = new PrintWriter(writer)) {
+
+            generate(out, sdkJar.getFileName().toString(), domainClasses);
+        }
+        System.out.printf("Generated type adapters for %d domain classes%n", domainClasses.size());
+    }
+
+    private static List<String> findClassNames(Path sdkJar) throws IOException {
+        String prefix = DOMAIN_PACKAGE.replace('.', '/') + "/";
+        try (JarFile jarFile = new JarFile(sdkJar.toFile())) {
+            return jarFile.stream()
+                    .map(JarEntry::getName)
+                    .filter(name -> name.startsWith(prefix) && name.endsWith(".class"))
+                    // skip nested classes and classes in sub packages
+                    .filter(name -> name.indexOf('$') == -1 && name.indexOf('/', prefix.length()) == -1)
+                    .map(name -> name.substring(0, name.length() - ".class".length()).replace('/', '.'))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static void generate(PrintWriter out, String sdkJarName, List<DomainClass> domainClasses) {
+        out.printf("// Generated by DomainTypeAdapterGenerator from %s; do not edit%n", sdkJarName);
+        out.println();
+        out.printf("package %s;%n", TARGET_PACKAGE);
+        out.println();
+        out.println("import java.io.IOException;");
+        out.println("import com.google.gson.Gson;");
+        out.println("import com.google.gson.JsonSyntaxException;");
+        out.println("import com.google.gson.TypeAdapter;");
+        out.println("import com.google.gson.TypeAdapterFactory;");
+        out.println("import com.google.gson.reflect.TypeToken;");
+        out.println("import com.google.gson.stream.JsonReader;");
+        out.println("import com.google.gson.stream.JsonToken;");
+        out.println("import com.google.gson.stream.JsonWriter;");
+        out.println();
+        out.println("@SuppressWarnings({ \"deprecation\", \"removal\", \"nls\", \"javadoc\" })");
+        out.printf("final class %s implements TypeAdapterFactory {%n", TARGET_CLASS);
+        out.println();
+        out.printf("    static final %s INSTANCE = new %<s();%n", TARGET_CLASS);
+        out.println();
+        out.printf("    private %s() {%n", TARGET_CLASS);
+        out.println("    }");
+        out.println();
+        out.println("    @Override");
+        out.println("    @SuppressWarnings(\"unchecked\")");
+        out.println("    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {");
+        out.println("        if (!(type.getType() instanceof Class<?>)) {");
+        out.println("            return null;");
+        out.println("        }");
+        out.println("        Class<?> rawType = type.getRawType();");
+        out.println("        // Switch on the class name, so adapters for domain classes that don't exist at runtime are never loaded");
+        out.println("        return (TypeAdapter<T>) switch (rawType.getName()) {");
+        for (DomainClass domainClass : domainClasses) {
+            out.printf("            case \"%s\" -> %s.create(gson, rawType);%n", domainClass.type.getName(), domainClass.adapterName());
+        }
+        out.println("            default -> null;");
+        out.println("        };");
+        out.println("    }");
+
+        for (DomainClass domainClass : domainClasses) {
+            out.println();
+            domainClass.generate(out);
+        }
+
+        out.println("}");
+    }
+
+    private static boolean hasGsonAnnotation(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation.annotationType().getPackage().getName().equals(GSON_ANNOTATIONS_PACKAGE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class DomainClass {
+
+        private final Class<?> type;
+        private final List<DomainField> fields;
+
+        private DomainClass(Class<?> type, List<DomainField> fields) {
+            this.type = type;
+            this.fields = fields;
+        }
+
+        private static DomainClass of(Class<?> type) {
+            int modifiers = type.getModifiers();
+            if (!Modifier.isPublic(modifiers) || Modifier.isAbstract(modifiers) || type.isInterface() || type.isEnum()
+                    || type.getTypeParameters().length > 0 || hasGsonAnnotation(type.getAnnotations())) {
+
+                return null;
+            }
+            try {
+                if (!Modifier.isPublic(type.getConstructor().getModifiers())) {
+                    return skip(type, "no public no-argument constructor");
+                }
+            } catch (@SuppressWarnings("unused") NoSuchMethodException e) {
+                return skip(type, "no public no-argument constructor");
+            }
+
+            // Collect the fields in the same order as Gson's ReflectiveTypeAdapterFactory
+            List<DomainField> fields = new ArrayList<>();
+            Set<String> names = new HashSet<>();
+            for (Class<?> c = type; c != Object.class; c = c.getSuperclass()) {
+                if (c != type && c.getTypeParameters().length > 0) {
+                    return skip(type, "generic super class " + c.getName());
+                }
+                for (Field field : c.getDeclaredFields()) {
+                    int fieldModifiers = field.getModifiers();
+                    if (Modifier.isStatic(fieldModifiers) || Modifier.isTransient(fieldModifiers) || field.isSynthetic()) {
+                        continue;
+                    }
+                    if (!names.add(field.getName())) {
+                        return skip(type, "duplicate field " + field.getName());
+                    }
+                    String reason = DomainField.validate(type, field);
+                    if (reason != null) {
+                        return skip(type, reason);
+                    }
+                    fields.add(new DomainField(type, field));
+                }
+            }
+            return new DomainClass(type, fields);
+        }
+
+        private static DomainClass skip(Class<?> type, String reason) {
+            System.out.printf("Skipping %s: %s%n", type.getName(), reason);
+            return null;
+        }
+
+        private String adapterName() {
+            return type.getSimpleName() + "TypeAdapter";
+        }
+
+        private void generate(PrintWriter out) {
+            String typeName = type.getCanonicalName();
+            String adapterName = adapterName();
+
+            out.printf("    private static final class %s extends TypeAdapter<%s> {%n", adapterName, typeName);
+            out.println();
+            out.println("        private static final String[] FIELDS = {");
+            for (DomainField field : fields) {
+                out.printf("                \"%s\",%n", field.signature());
+            }
+            out.println("        };");
+            out.println();
+            out.println("        private final Gson gson;");
+            for (DomainField field : fields) {
+                out.printf("        private final TypeAdapter<%s> %s;%n", field.boxedTypeName(), field.adapterName());
+            }
+            out.println();
+            out.printf("        private %s(Gson gson) {%n", adapterName);
+            out.println("            this.gson = gson;");
+            for (DomainField field : fields) {
+                out.printf("            %s = %s;%n", field.adapterName(), field.adapterExpression());
+            }
+            out.println("        }");
+            out.println();
+            out.println("        static TypeAdapter<?> create(Gson gson, Class<?> type) {");
+            out.printf("            return type == %s.class && DomainTypeAdapters.hasFields(type, FIELDS) ? new %s(gson) : null;%n",
+                    typeName, adapterName);
+            out.println("        }");
+            out.println();
+            out.println("        @Override");
+            out.printf("        public void write(JsonWriter out, %s value) throws IOException {%n", typeName);
+            out.println("            if (value == null) {");
+            out.println("                out.nullValue();");
+            out.println("                return;");
+            out.println("            }");
+            out.println("            out.beginObject();");
+            for (DomainField field : fields) {
+                field.generateWrite(out);
+            }
+            out.println("            out.endObject();");
+            out.println("        }");
+            out.println();
+            out.println("        @Override");
+            out.printf("        public %s read(JsonReader in) throws IOException {%n", typeName);
+            out.println("            if (in.peek() == JsonToken.NULL) {");
+            out.println("                in.nextNull();");
+            out.println("                return null;");
+            out.println("            }");
+            out.printf("            %s result = new %<s();%n", typeName);
+            out.println("            try {");
+            out.println("                in.beginObject();");
+            out.println("                while (in.hasNext()) {");
+            out.println("                    switch (in.nextName()) {");
+            for (DomainField field : fields) {
+                field.generateRead(out);
+            }
+            out.println("                        default -> in.skipValue();");
+            out.println("                    }");
+            out.println("                }");
+            out.println("                in.endObject();");
+            out.println("            } catch (IllegalStateException e) {");
+            out.println("                throw new JsonSyntaxException(e);");
+            out.println("            }");
+            out.println("            return result;");
+            out.println("        }");
+            out.println("    }");
+        }
+    }
+
+    private static final class DomainField {
+
+        private final Class<?> owner;
+        private final Field field;
+        private final Method getter;
+        private final Method setter;
+
+        private DomainField(Class<?> owner, Field field) {
+            this.owner = owner;
+            this.field = field;
+            this.getter = findGetter(owner, field);
+            this.setter = findSetter(owner, field);
+        }
+
+        private static String validate(Class<?> owner, Field field) {
+            if (hasGsonAnnotation(field.getAnnotations())) {
+                return "Gson annotation on field " + field.getName();
+            }
+            if (!isSupported(field.getGenericType())) {
+                return "unsupported type for field " + field.getName() + ": " + field.getGenericType().getTypeName();
+            }
+            if (findGetter(owner, field) == null) {
+                return "no getter for field " + field.getName();
+            }
+            if (findSetter(owner, field) == null) {
+                return "no setter for field " + field.getName();
+            }
+            return null;
+        }
+
+        private static boolean isSupported(Type type) {
+            if (type instanceof Class<?>) {
+                return true;
+            }
+            if (type instanceof ParameterizedType) {
+                ParameterizedType parameterizedType = (ParameterizedType) type;
+                for (Type typeArgument : parameterizedType.getActualTypeArguments()) {
+                    if (!isSupported(typeArgument)) {
+                        return false;
+                    }
+                }
+                return parameterizedType.getRawType() instanceof Class<?>;
+            }
+            // type variables, wildcards and generic arrays
+            return false;
+        }
+
+        private static Method findGetter(Class<?> owner, Field field) {
+            String suffix = capitalize(field.getName());
+            Method getter = findMethod(owner, "get" + suffix);
+            if (getter == null && field.getType() == boolean.class) {
+                getter = findMethod(owner, "is" + suffix);
+            }
+            return getter != null && getter.getGenericReturnType().equals(field.getGenericType()) ? getter : null;
+        }
+
+        private static Method findSetter(Class<?> owner, Field field) {
+            Method setter = findMethod(owner, "set" + capitalize(field.getName()), field.getType());
+            return setter != null && setter.getGenericParameterTypes()[0].equals(field.getGenericType()) ? setter : null;
+        }
+
+        private static Method findMethod(Class<?> owner, String name, Class<?>... parameterTypes) {
+            try {
+                Method method = owner.getMethod(name, parameterTypes);
+                return Modifier.isStatic(method.getModifiers()) ? null : method;
+            } catch (@SuppressWarnings("unused") NoSuchMethodException e) {
+                return null;
+            }
+        }
+
+        private static String capitalize(String name) {
+            return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        }
+
+        private String signature() {
+            // must match DomainTypeAdapters.fields
+            return field.getName() + ":" + field.getGenericType().getTypeName();
+        }
+
+        private String adapterName() {
+            return field.getName() + "Adapter";
+        }
+
+        private String boxedTypeName() {
+            Type type = field.getGenericType();
+            return type instanceof Class<?> && ((Class<?>) type).isPrimitive()
+                    ? box((Class<?>) type).getCanonicalName()
+                    : typeName(type);
+        }
+
+        private String adapterExpression() {
+            Type type = field.getGenericType();
+            return type instanceof Class<?>
+                    ? "gson.getAdapter(" + typeName(type) + ".class)"
+                    : "DomainTypeAdapters.getAdapter(gson, " + typeExpression(type) + ")";
+        }
+
+        private static String typeName(Type type) {
+            if (type instanceof Class<?>) {
+                return ((Class<?>) type).getCanonicalName();
+            }
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            StringBuilder sb = new StringBuilder(typeName(parameterizedType.getRawType())).append('<');
+            Type[] typeArguments = parameterizedType.getActualTypeArguments();
+            for (int i = 0; i < typeArguments.length; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                sb.append(typeName(typeArguments[i]));
+            }
+            return sb.append('>').toString();
+        }
+
+        private static String typeExpression(Type type) {
+            if (type instanceof Class<?>) {
+                return ((Class<?>) type).getCanonicalName() + ".class";
+            }
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            StringBuilder sb = new StringBuilder("DomainTypeAdapters.parameterized(")
+                    .append(typeExpression(parameterizedType.getRawType()));
+            for (Type typeArgument : parameterizedType.getActualTypeArguments()) {
+                sb.append(", ").append(typeExpression(typeArgument));
+            }
+            return sb.append(')').toString();
+        }
+
+        private static Class<?> box(Class<?> type) {
+            if (type == boolean.class) {
+                return Boolean.class;
+            }
+            if (type == byte.class) {
+                return Byte.class;
+            }
+            if (type == char.class) {
+                return Character.class;
+            }
+            if (type == short.class) {
+                return Short.class;
+            }
+            if (type == int.class) {
+                return Integer.class;
+            }
+            if (type == long.class) {
+                return Long.class;
+            }
+            if (type == float.class) {
+                return Float.class;
+            }
+            return Double.class;
+        }
+
+        private void generateWrite(PrintWriter out) {
+            Type type = field.getGenericType();
+            String valueName = field.getName() + "Value";
+            String name = field.getName();
+
+            out.printf("            %s %s = value.%s();%n", boxedTypeName(), valueName, getter.getName());
+            // Gson skips fields that refer to the object itself
+            boolean checkSelf = type instanceof Class<?> && ((Class<?>) type).isAssignableFrom(owner);
+            String indent = checkSelf ? "                " : "            ";
+            if (checkSelf) {
+                out.printf("            if (%s != value) {%n", valueName);
+            }
+            out.printf("%sout.name(\"%s\");%n", indent, name);
+            if (needsRuntimeType(type)) {
+                out.printf("%sDomainTypeAdapters.write(out, gson, %s, %s.class, %s);%n", indent, adapterName(), typeName(type), valueName);
+            } else {
+                out.printf("%s%s.write(out, %s);%n", indent, adapterName(), valueName);
+            }
+            if (checkSelf) {
+                out.println("            }");
+            }
+        }
+
+        // Gson uses the runtime type for fields with a non-generic declared type
+        private static boolean needsRuntimeType(Type type) {
+            return type instanceof Class<?> && !((Class<?>) type).isPrimitive() && !Modifier.isFinal(((Class<?>) type).getModifiers());
+        }
+
+        private void generateRead(PrintWriter out) {
+            if (field.getType().isPrimitive()) {
+                // Like Gson, ignore null values for primitive fields
+                String valueName = field.getName() + "Value";
+                out.printf("                        case \"%s\" -> {%n", field.getName());
+                out.printf("                            %s %s = %s.read(in);%n", boxedTypeName(), valueName, adapterName());
+                out.printf("                            if (%s != null) {%n", valueName);
+                out.printf("                                result.%s(%s);%n", setter.getName(), valueName);
+                out.println("                            }");
+                out.println("                        }");
+            } else {
+                out.printf("                        case \"%s\" -> result.%s(%s.read(in));%n", field.getName(), setter.getName(), adapterName());
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * AsyncMerchantClient.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import com.worldline.connect.sdk.java.communication.Connection;
+import com.worldline.connect.sdk.java.v1.merchant.MerchantClient;
+
+/**
+ * A facade for {@link MerchantClient} that returns {@link CompletableFuture}s instead of blocking the calling thread.
+ * <p>
+ * The SDK's {@link Connection} contract is synchronous; a call only returns after its response has been handled. This class therefore does not
+ * remove the blocking, but moves it to an {@link Executor}. If that executor uses virtual threads, for instance because Spring Boot property
+ * {@code spring.threads.virtual.enabled} is set to {@code true}, a large number of calls can be in flight without a matching number of
+ * platform threads.
+ * <p>
+ * Example usage:
+ * <pre><code>
+ * CompletableFuture&lt;CreatePaymentResponse&gt; future = asyncMerchantClient.submit(client -&gt; client.payments().create(body));
+ * </code></pre>
+ * This class is thread-safe.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+public class AsyncMerchantClient {
+
+    private final MerchantClient merchantClient;
+    private final Executor executor;
+
+    /**
+     * Creates a new asynchronous merchant client.
+     *
+     * @param merchantClient The merchant client to delegate to.
+     * @param executor The executor to perform calls on.
+     */
+    public AsyncMerchantClient(MerchantClient merchantClient, Executor executor) {
+        this.merchantClient = Objects.requireNonNull(merchantClient);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * Asynchronously performs a call that returns a result.
+     *
+     * @param <T> The result type of the call.
+     * @param call The call to perform.
+     * @return A {@link CompletableFuture} that will be completed with the result of the call,
+     *         or completed exceptionally with the exception thrown by the call.
+     * @throws RejectedExecutionException If the executor does not accept the call.
+     */
+    public <T> CompletableFuture<T> submit(Function<? super MerchantClient, ? extends T> call) {
+        Objects.requireNonNull(call);
+        return CompletableFuture.supplyAsync(() -> call.apply(merchantClient), executor);
+    }
+
+    /**
+     * Asynchronously performs a call that does not return a result.
+     *
+     * @param call The call to perform.
+     * @return A {@link CompletableFuture} that will be completed when the call has finished,
+     *         or completed exceptionally with the exception thrown by the call.
+     * @throws RejectedExecutionException If the executor does not accept the call.
+     */
+    public CompletableFuture<Void> execute(Consumer<? super MerchantClient> call) {
+        Objects.requireNonNull(call);
+        return CompletableFuture.runAsync(() -> call.accept(merchantClient), executor);
+    }
+}
@@ -18,8 +18,13 @@
 package com.github.robtimus.connect.sdk.java.springboot;
 
 import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import com.worldline.connect.sdk.java.authentication.Authenticator;
 import com.worldline.connect.sdk.java.authentication.V1HMACAuthenticator;
 import com.worldline.connect.sdk.java.communication.RequestHeader;
@@ -27,37 +32,288 @@ import com.worldline.connect.sdk.java.communication.RequestHeader;
 /**
  * An {@link Authenticator} implementation that allows the API key id and secret to be replaced, something that {@link V1HMACAuthenticator} does not
  * support.
+ * <p>
+ * Signatures can be calculated using either {@link V1HMACAuthenticator} or {@link PooledV1HMACAuthenticator}. Both produce the same signatures,
+ * but the latter reuses pre-initialized {@link javax.crypto.Mac Mac} instances and buffers.
+ * <p>
+ * API keys can be {@link #rotateApiKey(String, String, Duration) rotated} with an overlap window. Requests are always signed with the current
+ * API key, but during the overlap window the previous API key remains available through
+ * {@link #getPreviousAuthorization(String, URI, List)}. This allows requests that are rejected because the new API key is not yet known
+ * everywhere to be retried with the previous API key.
  * This class is thread-safe.
  *
  * @author Rob Spoor
  * @since 3.8
  */
+@SuppressWarnings("nls")
 public class ConfigurableV1HMACAuthenticator implements Authenticator {
 
-    private final AtomicReference<Authenticator> delegate;
+    private final boolean pooled;
+    private final Clock clock;
+    private final AtomicReference<KeyState> state;
 
     /**
-     * Creates a new configurable authenticator.
+     * Creates a new configurable authenticator that uses {@link V1HMACAuthenticator} to calculate signatures.
      *
      * @param apiKeyId The initial API key id.
      * @param secretApiKey The initial secret API key.
      */
     public ConfigurableV1HMACAuthenticator(String apiKeyId, String secretApiKey) {
-        delegate = new AtomicReference<>(new V1HMACAuthenticator(apiKeyId, secretApiKey));
+        this(apiKeyId, secretApiKey, false);
     }
 
     /**
-     * Sets the new API key to use.
+     * Creates a new configurable authenticator.
+     *
+     * @param apiKeyId The initial API key id.
+     * @param secretApiKey The initial secret API key.
+     * @param pooled {@code true} to use {@link PooledV1HMACAuthenticator} to calculate signatures,
+     *                   or {@code false} to use {@link V1HMACAuthenticator}.
+     * @since 5.1
+     */
+    public ConfigurableV1HMACAuthenticator(String apiKeyId, String secretApiKey, boolean pooled) {
+        this(apiKeyId, secretApiKey, pooled, Clock.systemUTC());
+    }
+
+    ConfigurableV1HMACAuthenticator(String apiKeyId, String secretApiKey, boolean pooled, Clock clock) {
+        this.pooled = pooled;
+        this.clock = Objects.requireNonNull(clock);
+        this.state = new AtomicReference<>(new KeyState(createApiKey(apiKeyId, secretApiKey), null, null));
+    }
+
+    /**
+     * Sets the new API key to use. The previous API key is discarded immediately.
      *
      * @param apiKeyId The new API key id.
      * @param secretApiKey The new secret API key.
      */
     public void setApiKey(String apiKeyId, String secretApiKey) {
-        delegate.set(new V1HMACAuthenticator(apiKeyId, secretApiKey));
+        rotateApiKey(apiKeyId, secretApiKey, Duration.ZERO);
+    }
+
+    /**
+     * Rotates the API key to use. Requests are signed with the new API key immediately, but the current API key remains available as previous
+     * API key until the given overlap window has ended. Any API key that was still available as previous API key is discarded.
+     *
+     * @param apiKeyId The new API key id.
+     * @param secretApiKey The new secret API key.
+     * @param overlap The time that the current API key remains available as previous API key; {@link Duration#ZERO} to discard it immediately.
+     * @throws IllegalArgumentException If the overlap window is negative.
+     * @since 5.1
+     */
+    public void rotateApiKey(String apiKeyId, String secretApiKey, Duration overlap) {
+        if (overlap.isNegative()) {
+            throw new IllegalArgumentException("overlap must be >= 0, is " + overlap);
+        }
+
+        ApiKey apiKey = createApiKey(apiKeyId, secretApiKey);
+        if (overlap.isZero()) {
+            state.set(new KeyState(apiKey, null, null));
+        } else {
+            Instant overlapEnd = clock.instant().plus(overlap);
+            state.getAndUpdate(current -> new KeyState(apiKey, current.current, overlapEnd));
+        }
+    }
+
+    /**
+     * Returns whether or not {@link PooledV1HMACAuthenticator} is used to calculate signatures.
+     *
+     * @return {@code true} if {@link PooledV1HMACAuthenticator} is used to calculate signatures,
+     *         or {@code false} if {@link V1HMACAuthenticator} is used.
+     * @since 5.1
+     */
+    public boolean isPooled() {
+        return pooled;
+    }
+
+    /**
+     * Returns the current API key.
+     *
+     * @return The current API key.
+     * @since 5.1
+     */
+    public ApiKey currentApiKey() {
+        return state.get().current;
+    }
+
+    /**
+     * Returns the previous API key, if the overlap window has not ended yet.
+     *
+     * @return The previous API key, or {@code null} if there is no previous API key or the overlap window has ended.
+     * @since 5.1
+     */
+    public ApiKey previousApiKey() {
+        KeyState current = state.get();
+        // don't query the clock if there is no previous API key, which is the case outside of rotations
+        return current.previous != null ? current.previous(clock.instant()) : null;
+    }
+
+    /**
+     * Returns the end of the overlap window, if it has not ended yet.
+     *
+     * @return The end of the overlap window, or {@code null} if there is no previous API key or the overlap window has ended.
+     * @since 5.1
+     */
+    public Instant overlapEnd() {
+        KeyState current = state.get();
+        return current.previous(clock.instant()) != null ? current.overlapEnd : null;
+    }
+
+    private ApiKey createApiKey(String apiKeyId, String secretApiKey) {
+        Authenticator authenticator = pooled
+                ? new PooledV1HMACAuthenticator(apiKeyId, secretApiKey)
+                : new V1HMACAuthenticator(apiKeyId, secretApiKey);
+        return new ApiKey(apiKeyId, authenticator);
     }
 
     @Override
     public String getAuthorization(String httpMethod, URI resourceUri, List<RequestHeader> requestHeaders) {
-        return delegate.get().getAuthorization(httpMethod, resourceUri, requestHeaders);
+        return state.get().current.authenticator.getAuthorization(httpMethod, resourceUri, requestHeaders);
+    }
+
+    /**
+     * Returns the value for the authorization header using the previous API key, if the overlap window has not ended yet.
+     *
+     * @param httpMethod The HTTP method.
+     * @param resourceUri The URI of the resource.
+     * @param requestHeaders The request headers, excluding the authorization header.
+     * @return The value for the authorization header using the previous API key,
+     *         or {@code null} if there is no previous API key or the overlap window has ended.
+     * @since 5.1
+     */
+    public String getPreviousAuthorization(String httpMethod, URI resourceUri, List<RequestHeader> requestHeaders) {
+        ApiKey previous = previousApiKey();
+        return previous != null ? previous.authenticator.getAuthorization(httpMethod, resourceUri, requestHeaders) : null;
+    }
+
+    /**
+     * Records the response of a request for the API key that was used to sign it.
+     * If the API key is neither the current nor the previous API key, the response is ignored.
+     * <p>
+     * If the current and previous API key have different ids, the API key is found using the API key id in the authorization header.
+     * Otherwise only the secret API key was rotated, and the request is signed again with both API keys to find the API key that was used.
+     *
+     * @param httpMethod The HTTP method.
+     * @param resourceUri The URI of the resource.
+     * @param requestHeaders The request headers, excluding the authorization header.
+     * @param authorization The value of the authorization header of the request.
+     * @param authenticated {@code true} if the request was accepted, or {@code false} if it was rejected as unauthorized.
+     * @since 5.1
+     */
+    public void recordResponse(String httpMethod, URI resourceUri, List<RequestHeader> requestHeaders, String authorization,
+            boolean authenticated) {
+
+        KeyState current = state.get();
+        ApiKey apiKey = current.find(authorization, httpMethod, resourceUri, requestHeaders);
+        if (apiKey != null) {
+            apiKey.record(authenticated);
+        }
+    }
+
+    /**
+     * An API key, with counters for the responses of requests that were signed with it.
+     *
+     * @author Rob Spoor
+     * @since 5.1
+     */
+    public static final class ApiKey {
+
+        private final String apiKeyId;
+        private final String authorizationPrefix;
+        private final Authenticator authenticator;
+
+        private final LongAdder successCount;
+        private final LongAdder failureCount;
+
+        private ApiKey(String apiKeyId, Authenticator authenticator) {
+            this.apiKeyId = apiKeyId;
+            this.authorizationPrefix = "GCS v1HMAC:" + apiKeyId + ":";
+            this.authenticator = authenticator;
+
+            this.successCount = new LongAdder();
+            this.failureCount = new LongAdder();
+        }
+
+        /**
+         * Returns the API key id.
+         *
+         * @return The API key id.
+         */
+        public String apiKeyId() {
+            return apiKeyId;
+        }
+
+        /**
+         * Returns the number of requests signed with this API key that were accepted.
+         *
+         * @return The number of requests signed with this API key that were accepted.
+         */
+        public long successCount() {
+            return successCount.sum();
+        }
+
+        /**
+         * Returns the number of requests signed with this API key that were rejected as unauthorized.
+         *
+         * @return The number of requests signed with this API key that were rejected as unauthorized.
+         */
+        public long failureCount() {
+            return failureCount.sum();
+        }
+
+        private boolean hasApiKeyId(String authorization) {
+            return authorization.startsWith(authorizationPrefix);
+        }
+
+        private boolean signed(String authorization, String httpMethod, URI resourceUri, List<RequestHeader> requestHeaders) {
+            return authorization.equals(authenticator.getAuthorization(httpMethod, resourceUri, requestHeaders));
+        }
+
+        private void record(boolean authenticated) {
+            if (authenticated) {
+                successCount.increment();
+            } else {
+                failureCount.increment();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "ApiKey[apiKeyId=" + apiKeyId + ", successCount=" + successCount() + ", failureCount=" + failureCount() + "]";
+        }
+    }
+
+    private static final class KeyState {
+
+        private final ApiKey current;
+        private final ApiKey previous;
+        private final Instant overlapEnd;
+
+        private KeyState(ApiKey current, ApiKey previous, Instant overlapEnd) {
+            this.current = current;
+            this.previous = previous;
+            this.overlapEnd = overlapEnd;
+        }
+
+        private ApiKey previous(Instant now) {
+            return previous != null && now.isBefore(overlapEnd) ? previous : null;
+        }
+
+        private ApiKey find(String authorization, String httpMethod, URI resourceUri, List<RequestHeader> requestHeaders) {
+            if (previous == null || !previous.apiKeyId.equals(current.apiKeyId)) {
+                if (current.hasApiKeyId(authorization)) {
+                    return current;
+                }
+                return previous != null && previous.hasApiKeyId(authorization) ? previous : null;
+            }
+            // only the secret API key was rotated, so the API key id cannot tell the API keys apart
+            if (!current.hasApiKeyId(authorization)) {
+                return null;
+            }
+            if (current.signed(authorization, httpMethod, resourceUri, requestHeaders)) {
+                return current;
+            }
+            return previous.signed(authorization, httpMethod, resourceUri, requestHeaders) ? previous : null;
+        }
     }
 }
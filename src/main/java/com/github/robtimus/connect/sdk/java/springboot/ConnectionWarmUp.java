@@ -0,0 +1,113 @@
+/*
+ * ConnectionWarmUp.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import com.github.robtimus.connect.sdk.java.springboot.communication.JdkHttpClientConnection;
+import com.worldline.connect.sdk.java.v1.merchant.MerchantClient;
+import com.worldline.connect.sdk.java.v1.merchant.services.ServicesClient;
+
+/**
+ * Warms up the connections of a {@link MerchantClient} when the application is ready.
+ * This is done by performing a number of parallel
+ * {@link MerchantClient#services() merchantClient.services()}{@code .}{@link ServicesClient#testconnection() testconnection()} calls.
+ * As long as a call is in progress, its connection cannot be used by other calls. With a connection pool of HTTP/1.1 connections, like that
+ * of {@code DefaultConnection}, parallel calls therefore each use their own connection, and afterwards the connection pool contains up to
+ * that many connections for which DNS resolution, the TCP connect and the TLS handshake have already been done.
+ * With HTTP/2, like with {@link JdkHttpClientConnection}, parallel calls are multiplexed over a single connection; more than one call only
+ * warms up the server side.
+ * <p>
+ * Spring Boot changes the application's readiness state to {@link ReadinessState#ACCEPTING_TRAFFIC} only after {@link ApplicationReadyEvent}
+ * listeners have finished. The warm-up therefore delays the readiness state, which keeps traffic away if a load balancer or orchestrator
+ * uses readiness probes. The application itself is not blocked: an embedded web server has already been started and accepts requests while
+ * the warm-up is in progress. Failing calls are logged but do not prevent the application from starting.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public class ConnectionWarmUp implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConnectionWarmUp.class);
+
+    private final MerchantClient merchantClient;
+    private final int connections;
+    private final Duration timeout;
+
+    private volatile Duration duration;
+    private volatile int successCount;
+
+    /**
+     * Creates a new connection warm-up.
+     *
+     * @param merchantClient The merchant client to use.
+     * @param connections The number of connections to warm up. Must be &gt; 0.
+     * @param timeout The maximum time to wait for the warm-up to finish.
+     */
+    public ConnectionWarmUp(MerchantClient merchantClient, int connections, Duration timeout) {
+        if (connections <= 0) {
+            throw new IllegalArgumentException("connections must be > 0, is " + connections);
+        }
+        this.merchantClient = Objects.requireNonNull(merchantClient);
+        this.connections = connections;
+        this.timeout = Objects.requireNonNull(timeout);
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        warmUp();
+    }
+
+    /**
+     * Warms up connections. This method blocks until all calls have finished or the timeout has expired.
+     */
+    public void warmUp() {
+        Runnable call = () -> merchantClient.services().testconnection();
+        WarmUpTasks tasks = new WarmUpTasks("connect-sdk-warm-up-", connections, Collections.nCopies(connections, call));
+
+        successCount = tasks.await(timeout, (e, i) -> LOGGER.warn("Connection warm-up call failed", e));
+        duration = tasks.elapsed();
+
+        LOGGER.info("Warmed up {} of {} connections in {} ms", successCount, connections, duration.toMillis());
+    }
+
+    /**
+     * Returns the duration of the last warm-up.
+     *
+     * @return The duration of the last warm-up, or {@code null} if no warm-up has been performed yet.
+     */
+    public Duration duration() {
+        return duration;
+    }
+
+    /**
+     * Returns the number of successful calls of the last warm-up.
+     *
+     * @return The number of successful calls of the last warm-up, or {@code 0} if no warm-up has been performed yet.
+     */
+    public int successCount() {
+        return successCount;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * DateCachingCommunicator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot;
+
+import java.net.URI;
+import java.util.Objects;
+import com.github.robtimus.connect.sdk.java.springboot.communication.CachedDateHeader;
+import com.worldline.connect.sdk.java.Communicator;
+import com.worldline.connect.sdk.java.authentication.Authenticator;
+import com.worldline.connect.sdk.java.communication.Connection;
+import com.worldline.connect.sdk.java.communication.MetadataProvider;
+import com.worldline.connect.sdk.java.json.Marshaller;
+
+/**
+ * A {@link Communicator} that uses a {@link CachedDateHeader} for the {@code Date} header of requests,
+ * instead of formatting the current time for each request.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+public class DateCachingCommunicator extends Communicator {
+
+    private final CachedDateHeader dateHeader;
+
+    /**
+     * Creates a new communicator.
+     *
+     * @param apiEndpoint The API endpoint to use.
+     * @param connection The connection to use.
+     * @param authenticator The authenticator to use.
+     * @param metadataProvider The metadata provider to use.
+     * @param marshaller The marshaller to use.
+     * @param dateHeader The provider for values of the {@code Date} header.
+     */
+    public DateCachingCommunicator(URI apiEndpoint, Connection connection, Authenticator authenticator, MetadataProvider metadataProvider,
+            Marshaller marshaller, CachedDateHeader dateHeader) {
+
+        super(apiEndpoint, connection, authenticator, metadataProvider, marshaller);
+        this.dateHeader = Objects.requireNonNull(dateHeader);
+    }
+
+    /**
+     * Returns the provider for values of the {@code Date} header.
+     *
+     * @return The provider for values of the {@code Date} header.
+     */
+    public CachedDateHeader dateHeader() {
+        return dateHeader;
+    }
+
+    @Override
+    protected String getHeaderDateString() {
+        return dateHeader.value();
+    }
+}
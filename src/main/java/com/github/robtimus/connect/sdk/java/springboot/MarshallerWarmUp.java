@@ -0,0 +1,205 @@
+/*
+ * MarshallerWarmUp.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import com.worldline.connect.sdk.java.json.Marshaller;
+import com.worldline.connect.sdk.java.v1.domain.ApprovePaymentRequest;
+import com.worldline.connect.sdk.java.v1.domain.CancelPaymentResponse;
+import com.worldline.connect.sdk.java.v1.domain.CapturePaymentRequest;
+import com.worldline.connect.sdk.java.v1.domain.CaptureResponse;
+import com.worldline.connect.sdk.java.v1.domain.CreateHostedCheckoutRequest;
+import com.worldline.connect.sdk.java.v1.domain.CreateHostedCheckoutResponse;
+import com.worldline.connect.sdk.java.v1.domain.CreatePaymentRequest;
+import com.worldline.connect.sdk.java.v1.domain.CreatePaymentResponse;
+import com.worldline.connect.sdk.java.v1.domain.ErrorResponse;
+import com.worldline.connect.sdk.java.v1.domain.GetHostedCheckoutResponse;
+import com.worldline.connect.sdk.java.v1.domain.PaymentApprovalResponse;
+import com.worldline.connect.sdk.java.v1.domain.PaymentErrorResponse;
+import com.worldline.connect.sdk.java.v1.domain.PaymentResponse;
+import com.worldline.connect.sdk.java.v1.domain.RefundRequest;
+import com.worldline.connect.sdk.java.v1.domain.RefundResponse;
+import com.worldline.connect.sdk.java.v1.domain.TestConnection;
+
+/**
+ * Warms up a {@link Marshaller} by marshalling and unmarshalling instances of commonly used domain types.
+ * Marshallers like the SDK's {@code DefaultMarshaller} lazily create and cache the (reflection based) type adapters for each type, and
+ * the types of all nested objects. Without a warm-up, this is done during the first payment requests.
+ * <p>
+ * The warm-up is started when all singletons have been instantiated, and runs in parallel with the remainder of the application context
+ * refresh. It is awaited when the application is ready, which delays the readiness state like {@link ConnectionWarmUp} does.
+ * Failing types are logged but do not prevent the application from starting.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public class MarshallerWarmUp implements SmartInitializingSingleton, ApplicationListener<ApplicationReadyEvent> {
+
+    /** The domain types that are warmed up by default; the requests and responses of the most commonly used calls, and error responses. */
+    public static final List<Class<?>> DEFAULT_TYPES = List.of(
+            CreatePaymentRequest.class,
+            CreatePaymentResponse.class,
+            PaymentResponse.class,
+            PaymentErrorResponse.class,
+            ErrorResponse.class,
+            ApprovePaymentRequest.class,
+            PaymentApprovalResponse.class,
+            CapturePaymentRequest.class,
+            CaptureResponse.class,
+            CancelPaymentResponse.class,
+            RefundRequest.class,
+            RefundResponse.class,
+            CreateHostedCheckoutRequest.class,
+            CreateHostedCheckoutResponse.class,
+            GetHostedCheckoutResponse.class,
+            TestConnection.class);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MarshallerWarmUp.class);
+
+    private final Marshaller marshaller;
+    private final List<Class<?>> types;
+    private final Duration timeout;
+
+    private WarmUpTasks tasks;
+
+    private volatile Duration duration;
+    private volatile int successCount;
+
+    /**
+     * Creates a new marshaller warm-up for the {@link #DEFAULT_TYPES default types}.
+     *
+     * @param marshaller The marshaller to warm up.
+     * @param timeout The maximum time to wait for the warm-up to finish.
+     */
+    public MarshallerWarmUp(Marshaller marshaller, Duration timeout) {
+        this(marshaller, DEFAULT_TYPES, timeout);
+    }
+
+    /**
+     * Creates a new marshaller warm-up.
+     *
+     * @param marshaller The marshaller to warm up.
+     * @param types The types to warm up. Each type must be a domain type that can be unmarshalled from an empty JSON object.
+     * @param timeout The maximum time to wait for the warm-up to finish.
+     * @throws IllegalArgumentException If the given types are empty.
+     */
+    public MarshallerWarmUp(Marshaller marshaller, Collection<Class<?>> types, Duration timeout) {
+        if (types.isEmpty()) {
+            throw new IllegalArgumentException("types must not be empty");
+        }
+        this.marshaller = Objects.requireNonNull(marshaller);
+        this.types = List.copyOf(types);
+        this.timeout = Objects.requireNonNull(timeout);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        start();
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        await();
+    }
+
+    /**
+     * Warms up the marshaller. This method blocks until all types have been warmed up or the timeout has expired.
+     */
+    public void warmUp() {
+        start();
+        await();
+    }
+
+    /**
+     * Starts warming up the marshaller, without waiting for it to finish.
+     * Types are warmed up in parallel, using at most as many threads as there are available processors.
+     * This method does nothing if a warm-up has already been started and not yet awaited.
+     */
+    public synchronized void start() {
+        if (tasks != null) {
+            return;
+        }
+
+        int threads = Math.min(types.size(), Runtime.getRuntime().availableProcessors());
+        List<Runnable> warmUps = types.stream()
+                .<Runnable>map(type -> () -> warmUp(type))
+                .toList();
+        tasks = new WarmUpTasks("connect-sdk-marshaller-warm-up-", threads, warmUps);
+    }
+
+    private void warmUp(Class<?> type) {
+        // unmarshalling and marshalling resolves the adapters for both directions, for the type and the types of its fields
+        Object value = marshaller.unmarshal("{}", type);
+        marshaller.marshal(value);
+    }
+
+    /**
+     * Waits for a started warm-up to finish. This method blocks until all types have been warmed up or the timeout has expired,
+     * measured from when the warm-up was started. This method does nothing if no warm-up has been started.
+     */
+    public synchronized void await() {
+        if (tasks == null) {
+            return;
+        }
+
+        try {
+            successCount = tasks.await(timeout, (e, i) -> LOGGER.warn("Marshaller warm-up failed for type {}", types.get(i).getName(), e));
+            duration = tasks.elapsed();
+        } finally {
+            tasks = null;
+        }
+
+        LOGGER.info("Warmed up marshaller for {} of {} types in {} ms", successCount, types.size(), duration.toMillis());
+    }
+
+    /**
+     * Returns the types that are warmed up.
+     *
+     * @return An unmodifiable list with the types that are warmed up.
+     */
+    public List<Class<?>> types() {
+        return types;
+    }
+
+    /**
+     * Returns the duration of the last warm-up.
+     *
+     * @return The duration of the last warm-up, or {@code null} if no warm-up has finished yet.
+     */
+    public Duration duration() {
+        return duration;
+    }
+
+    /**
+     * Returns the number of types that were warmed up successfully during the last warm-up.
+     *
+     * @return The number of types that were warmed up successfully during the last warm-up, or {@code 0} if no warm-up has finished yet.
+     */
+    public int successCount() {
+        return successCount;
+    }
+}
@@ -0,0 +1,323 @@
+/*
+ * PooledV1HMACAuthenticator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import com.github.robtimus.connect.sdk.java.springboot.internal.IdlePool;
+import com.worldline.connect.sdk.java.authentication.Authenticator;
+import com.worldline.connect.sdk.java.authentication.V1HMACAuthenticator;
+import com.worldline.connect.sdk.java.communication.RequestHeader;
+
+/**
+ * An {@link Authenticator} implementation that produces the same signatures as {@link V1HMACAuthenticator}, but with far fewer allocations.
+ * <p>
+ * Where {@link V1HMACAuthenticator} creates and initializes a new {@link Mac} and builds several intermediate strings and lists for each call,
+ * this class keeps a pool of signers. Each signer has a {@link Mac} that is initialized with the secret API key only once, as well as buffers for
+ * the data to sign and its UTF-8 encoding that are reused between calls. In the common case the only object that is created for a call is the
+ * resulting authorization string.
+ * <p>
+ * Signers are pooled using an {@link IdlePool}. If all pooled signers are in use, a new signer is created. At most a configurable number of
+ * signers is kept for reuse afterwards.
+ * This class is thread-safe.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public class PooledV1HMACAuthenticator implements Authenticator {
+
+    /** The default maximum number of idle signers: twice the number of available processors. */
+    public static final int DEFAULT_MAX_IDLE = Runtime.getRuntime().availableProcessors() * 2;
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private static final Comparator<RequestHeader> NAME_COMPARATOR = Comparator.comparing(RequestHeader::getName, String.CASE_INSENSITIVE_ORDER);
+
+    private static final Pattern NEWLINE_PATTERN = Pattern.compile("\r?\n[\\s&&[^\r\n]]*");
+
+    private static final int INITIAL_CAPACITY = 512;
+
+    private final String apiKeyId;
+    private final String authorizationPrefix;
+    private final SecretKeySpec secretKey;
+
+    private final IdlePool<Signer> idleSigners;
+
+    /**
+     * Creates a new pooled authenticator that keeps at most {@link #DEFAULT_MAX_IDLE} idle signers.
+     *
+     * @param apiKeyId The API key id.
+     * @param secretApiKey The secret API key.
+     * @throws IllegalArgumentException If the API key id or secret API key is {@code null} or blank.
+     */
+    public PooledV1HMACAuthenticator(String apiKeyId, String secretApiKey) {
+        this(apiKeyId, secretApiKey, DEFAULT_MAX_IDLE);
+    }
+
+    /**
+     * Creates a new pooled authenticator.
+     *
+     * @param apiKeyId The API key id.
+     * @param secretApiKey The secret API key.
+     * @param maxIdle The maximum number of idle signers to keep.
+     * @throws IllegalArgumentException If the API key id or secret API key is {@code null} or blank, or if the maximum number of idle signers
+     *                                      is not positive.
+     */
+    public PooledV1HMACAuthenticator(String apiKeyId, String secretApiKey, int maxIdle) {
+        if (apiKeyId == null || apiKeyId.trim().isEmpty()) {
+            throw new IllegalArgumentException("apiKeyId is required");
+        }
+        if (secretApiKey == null || secretApiKey.trim().isEmpty()) {
+            throw new IllegalArgumentException("secretApiKey is required");
+        }
+        this.idleSigners = new IdlePool<>(maxIdle);
+
+        this.apiKeyId = apiKeyId;
+        this.authorizationPrefix = "GCS v1HMAC:" + apiKeyId + ":";
+        this.secretKey = new SecretKeySpec(secretApiKey.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+
+        // fail fast if the algorithm is not available or the key is invalid, and have a signer ready for the first call
+        this.idleSigners.release(new Signer(createMac()));
+    }
+
+    /**
+     * Returns the API key id.
+     *
+     * @return The API key id.
+     */
+    public String apiKeyId() {
+        return apiKeyId;
+    }
+
+    /**
+     * Returns the maximum number of idle signers to keep.
+     *
+     * @return The maximum number of idle signers to keep.
+     */
+    public int maxIdle() {
+        return idleSigners.maxIdle();
+    }
+
+    /**
+     * Returns the number of signers that are currently idle.
+     *
+     * @return The number of signers that are currently idle.
+     */
+    public int idleCount() {
+        return idleSigners.idleCount();
+    }
+
+    @Override
+    public String getAuthorization(String httpMethod, URI resourceUri, List<RequestHeader> requestHeaders) {
+        if (httpMethod == null || httpMethod.isEmpty()) {
+            throw new IllegalArgumentException("httpMethod is required");
+        }
+        if (resourceUri == null) {
+            throw new IllegalArgumentException("resourceUri is required");
+        }
+
+        Signer signer = idleSigners.acquire();
+        if (signer == null) {
+            signer = new Signer(createMac());
+        }
+        String authorization = signer.getAuthorization(authorizationPrefix, httpMethod, resourceUri, requestHeaders);
+        // only return the signer to the pool if no exception occurred, so its Mac and buffers are known to be in a clean state
+        idleSigners.release(signer);
+        return authorization;
+    }
+
+    private Mac createMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[apiKeyId=" + apiKeyId + ", maxIdle=" + maxIdle() + "]";
+    }
+
+    private static final class Signer {
+
+        private final Mac mac;
+
+        private final StringBuilder buffer;
+        private final List<RequestHeader> xgcsHeaders;
+
+        private final CharsetEncoder encoder;
+        private char[] chars;
+        private CharBuffer charBuffer;
+        private ByteBuffer byteBuffer;
+
+        private final byte[] signature;
+        private final byte[] encodedSignature;
+
+        private Signer(Mac mac) {
+            this.mac = mac;
+
+            this.buffer = new StringBuilder(INITIAL_CAPACITY);
+            this.xgcsHeaders = new ArrayList<>();
+
+            this.encoder = StandardCharsets.UTF_8.newEncoder()
+                    // the same as String.getBytes
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            this.chars = new char[INITIAL_CAPACITY];
+            this.charBuffer = CharBuffer.wrap(chars);
+            // each char is encoded to at most 3 bytes; surrogate pairs are encoded to 4 bytes for 2 chars
+            this.byteBuffer = ByteBuffer.allocate(INITIAL_CAPACITY * 3);
+
+            this.signature = new byte[mac.getMacLength()];
+            this.encodedSignature = new byte[(signature.length + 2) / 3 * 4];
+        }
+
+        private String getAuthorization(String authorizationPrefix, String httpMethod, URI resourceUri, List<RequestHeader> requestHeaders) {
+            buffer.setLength(0);
+            appendDataToSign(httpMethod, resourceUri, requestHeaders);
+            sign();
+
+            int encodedLength = Base64.getEncoder().encode(signature, encodedSignature);
+
+            buffer.setLength(0);
+            buffer.append(authorizationPrefix);
+            for (int i = 0; i < encodedLength; i++) {
+                buffer.append((char) encodedSignature[i]);
+            }
+            return buffer.toString();
+        }
+
+        private void appendDataToSign(String httpMethod, URI resourceUri, List<RequestHeader> requestHeaders) {
+            String contentType = null;
+            String date = null;
+            xgcsHeaders.clear();
+
+            if (requestHeaders != null) {
+                for (RequestHeader requestHeader : requestHeaders) {
+                    String name = requestHeader.getName();
+                    if ("Content-Type".equalsIgnoreCase(name)) {
+                        contentType = requestHeader.getValue();
+                    } else if ("Date".equalsIgnoreCase(name)) {
+                        date = requestHeader.getValue();
+                    } else if (name.regionMatches(true, 0, "x-gcs", 0, 5)) {
+                        xgcsHeaders.add(requestHeader);
+                    }
+                }
+            }
+            // sorting is stable, and the same as sorting on the lower case names
+            xgcsHeaders.sort(NAME_COMPARATOR);
+
+            buffer.append(httpMethod.toUpperCase(Locale.ROOT)).append('\n');
+            if (contentType != null) {
+                buffer.append(contentType);
+            }
+            buffer.append('\n');
+            buffer.append(date).append('\n');
+            for (int i = 0, size = xgcsHeaders.size(); i < size; i++) {
+                RequestHeader xgcsHeader = xgcsHeaders.get(i);
+                appendLowerCase(xgcsHeader.getName());
+                buffer.append(':');
+                appendCanonicalizedValue(xgcsHeader.getValue());
+                buffer.append('\n');
+            }
+            buffer.append(resourceUri.getRawPath());
+            String query = resourceUri.getQuery();
+            if (query != null) {
+                buffer.append('?').append(query);
+            }
+            buffer.append('\n');
+
+            // the header references are no longer needed
+            xgcsHeaders.clear();
+        }
+
+        private void appendLowerCase(String name) {
+            for (int i = 0, length = name.length(); i < length; i++) {
+                buffer.append(Character.toLowerCase(name.charAt(i)));
+            }
+        }
+
+        private void appendCanonicalizedValue(String value) {
+            if (value == null) {
+                return;
+            }
+            if (value.indexOf('\n') != -1) {
+                // rare case: unfold the value like V1HMACAuthenticator does
+                buffer.append(NEWLINE_PATTERN.matcher(value).replaceAll(" ").trim());
+                return;
+            }
+            // common case: trim without creating a new string
+            int start = 0;
+            int end = value.length();
+            while (start < end && value.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && value.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            buffer.append(value, start, end);
+        }
+
+        private void sign() {
+            int length = buffer.length();
+            ensureCapacity(length);
+
+            buffer.getChars(0, length, chars, 0);
+            charBuffer.clear().limit(length);
+            byteBuffer.clear();
+
+            encoder.reset();
+            encoder.encode(charBuffer, byteBuffer, true);
+            encoder.flush(byteBuffer);
+
+            mac.update(byteBuffer.array(), 0, byteBuffer.position());
+            try {
+                // this also resets the Mac for the next call, keeping the secret key
+                mac.doFinal(signature, 0);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private void ensureCapacity(int length) {
+            if (chars.length < length) {
+                int capacity = Math.max(length, chars.length * 2);
+                chars = new char[capacity];
+                charBuffer = CharBuffer.wrap(chars);
+                byteBuffer = ByteBuffer.allocate(capacity * 3);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * WarmUpTasks.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Warm-up tasks that run in parallel on daemon threads, shared by {@link MarshallerWarmUp} and {@link ConnectionWarmUp}.
+ * The tasks are started when an instance is created. They are awaited with a timeout that is measured from that moment.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+final class WarmUpTasks {
+
+    private final long start;
+    private final ExecutorService executor;
+    private final List<Future<?>> futures;
+
+    /**
+     * Starts warm-up tasks.
+     *
+     * @param threadNamePrefix The prefix for the names of the threads that run the tasks.
+     * @param threads The maximum number of threads to use.
+     * @param tasks The tasks to run.
+     */
+    WarmUpTasks(String threadNamePrefix, int threads, List<? extends Runnable> tasks) {
+        this.start = System.nanoTime();
+        this.executor = Executors.newFixedThreadPool(threads, new WarmUpThreadFactory(threadNamePrefix));
+        this.futures = new ArrayList<>(tasks.size());
+        for (Runnable task : tasks) {
+            futures.add(executor.submit(task));
+        }
+        // let the threads terminate once all tasks have finished
+        executor.shutdown();
+    }
+
+    /**
+     * Waits for all tasks to finish, or until the timeout has expired. Tasks that are still running afterwards are cancelled.
+     *
+     * @param timeout The maximum time to wait, measured from when the tasks were started.
+     * @param failureHandler Called for each task that failed or did not finish in time, with the task's exception and index.
+     * @return The number of tasks that finished successfully.
+     */
+    int await(Duration timeout, ObjIntConsumer<Exception> failureHandler) {
+        try {
+            long deadline = start + timeout.toNanos();
+            int successes = 0;
+            for (int i = 0; i < futures.size(); i++) {
+                if (await(futures.get(i), i, deadline, failureHandler)) {
+                    successes++;
+                }
+            }
+            return successes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static boolean await(Future<?> future, int index, long deadline, ObjIntConsumer<Exception> failureHandler) {
+        try {
+            future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            failureHandler.accept(e, index);
+            future.cancel(true);
+            return false;
+        }
+    }
+
+    /**
+     * Returns the time since the tasks were started.
+     *
+     * @return The time since the tasks were started.
+     */
+    Duration elapsed() {
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private static final class WarmUpThreadFactory implements ThreadFactory {
+
+        private final String threadNamePrefix;
+        private final AtomicInteger counter = new AtomicInteger();
+
+        private WarmUpThreadFactory(String threadNamePrefix) {
+            this.threadNamePrefix = threadNamePrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, threadNamePrefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -17,10 +17,16 @@
 
 package com.github.robtimus.connect.sdk.java.springboot.actuator;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
 import org.springframework.boot.actuate.endpoint.Access;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
 import com.github.robtimus.connect.sdk.java.springboot.ConfigurableV1HMACAuthenticator;
+import com.github.robtimus.connect.sdk.java.springboot.ConfigurableV1HMACAuthenticator.ApiKey;
 
 /**
  * An {@link Endpoint} for managing API keys in <a href="https://github.com/Worldline-Global-Collect/connect-sdk-java/">connect-sdk-java</a>.
@@ -33,9 +39,40 @@ import com.github.robtimus.connect.sdk.java.springboot.ConfigurableV1HMACAuthent
 public class ApiKeyEndpoint {
 
     private final ConfigurableV1HMACAuthenticator authenticator;
+    private final Duration defaultOverlap;
 
     public ApiKeyEndpoint(ConfigurableV1HMACAuthenticator authenticator) {
+        this(authenticator, Duration.ZERO);
+    }
+
+    public ApiKeyEndpoint(ConfigurableV1HMACAuthenticator authenticator, Duration defaultOverlap) {
         this.authenticator = authenticator;
+        this.defaultOverlap = Objects.requireNonNull(defaultOverlap);
+    }
+
+    /**
+     * @return The current and previous API key, with their response counters.
+     * @since 5.1
+     */
+    @ReadOperation
+    public ApiKeys apiKeys() {
+        ApiKeys result = new ApiKeys();
+        result.current = ApiKeyState.of(authenticator.currentApiKey());
+        result.previous = ApiKeyState.of(authenticator.previousApiKey());
+        result.overlapEnd = authenticator.overlapEnd();
+        return result;
+    }
+
+    /**
+     * Sets the current API key to use, with the configured default overlap.
+     * <p>
+     * This method is not a separate operation; the write operation accepts requests without an overlap, and then behaves like this method.
+     *
+     * @param apiKeyId The new API key id.
+     * @param secretApiKey The new secret API key.
+     */
+    public void setApiKey(String apiKeyId, String secretApiKey) {
+        setApiKey(apiKeyId, secretApiKey, null);
     }
 
     /**
@@ -43,9 +80,60 @@ public class ApiKeyEndpoint {
      *
      * @param apiKeyId The new API key id.
      * @param secretApiKey The new secret API key.
+     * @param overlap The time that the current API key remains available for retrying unauthorized requests.
+     *                    If {@code null} the configured default is used.
      */
     @WriteOperation
-    public void setApiKey(String apiKeyId, String secretApiKey) {
-        authenticator.setApiKey(apiKeyId, secretApiKey);
+    public void setApiKey(String apiKeyId, String secretApiKey, @Nullable Duration overlap) {
+        authenticator.rotateApiKey(apiKeyId, secretApiKey, overlap != null ? overlap : defaultOverlap);
+    }
+
+    public static class ApiKeys {
+
+        private ApiKeyState current;
+        private ApiKeyState previous;
+        private Instant overlapEnd;
+
+        public ApiKeyState getCurrent() {
+            return current;
+        }
+
+        public ApiKeyState getPrevious() {
+            return previous;
+        }
+
+        public Instant getOverlapEnd() {
+            return overlapEnd;
+        }
+    }
+
+    public static class ApiKeyState {
+
+        private String apiKeyId;
+        private long successCount;
+        private long failureCount;
+
+        private static ApiKeyState of(ApiKey apiKey) {
+            if (apiKey == null) {
+                return null;
+            }
+            ApiKeyState result = new ApiKeyState();
+            result.apiKeyId = apiKey.apiKeyId();
+            result.successCount = apiKey.successCount();
+            result.failureCount = apiKey.failureCount();
+            return result;
+        }
+
+        public String getApiKeyId() {
+            return apiKeyId;
+        }
+
+        public long getSuccessCount() {
+            return successCount;
+        }
+
+        public long getFailureCount() {
+            return failureCount;
+        }
     }
 }
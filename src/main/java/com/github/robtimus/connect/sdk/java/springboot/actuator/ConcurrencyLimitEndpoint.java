@@ -0,0 +1,97 @@
+/*
+ * ConcurrencyLimitEndpoint.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.actuator;
+
+import java.time.Duration;
+import org.springframework.boot.actuate.endpoint.Access;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import com.github.robtimus.connect.sdk.java.springboot.communication.AdaptiveConcurrencyLimiter;
+
+/**
+ * An {@link Endpoint} for inspecting the concurrency limit of
+ * <a href="https://github.com/Worldline-Global-Collect/connect-sdk-java/">connect-sdk-java</a>.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@Endpoint(id = "connectSdkConcurrencyLimit", defaultAccess = Access.NONE)
+@SuppressWarnings("javadoc")
+public class ConcurrencyLimitEndpoint {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitEndpoint(AdaptiveConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    /**
+     * @return The current state of the concurrency limiter.
+     */
+    @ReadOperation
+    public ConcurrencyLimit concurrencyLimit() {
+        ConcurrencyLimit result = new ConcurrencyLimit();
+        result.limit = limiter.limit();
+        result.minLimit = limiter.minLimit();
+        result.maxLimit = limiter.maxLimit();
+        result.inFlight = limiter.inFlight();
+        result.rejected = limiter.rejectedCount();
+        result.latencyThreshold = limiter.latencyThreshold();
+        result.maxWait = limiter.maxWait();
+        return result;
+    }
+
+    public static class ConcurrencyLimit {
+
+        private int limit;
+        private int minLimit;
+        private int maxLimit;
+        private int inFlight;
+        private long rejected;
+        private Duration latencyThreshold;
+        private Duration maxWait;
+
+        public int getLimit() {
+            return limit;
+        }
+
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public int getInFlight() {
+            return inFlight;
+        }
+
+        public long getRejected() {
+            return rejected;
+        }
+
+        public Duration getLatencyThreshold() {
+            return latencyThreshold;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+    }
+}
@@ -17,12 +17,25 @@
 
 package com.github.robtimus.connect.sdk.java.springboot.actuator;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.actuate.endpoint.Access;
 import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
@@ -30,6 +43,9 @@ import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.boot.actuate.endpoint.annotation.Selector;
 import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
 import org.springframework.context.ApplicationContext;
+import com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLoggingPolicy;
+import com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLoggingPolicy.Type;
+import com.github.robtimus.connect.sdk.java.springboot.logging.LevelAwareCommunicatorLogger;
 import com.worldline.connect.sdk.java.Client;
 import com.worldline.connect.sdk.java.Communicator;
 import com.worldline.connect.sdk.java.communication.Connection;
@@ -39,21 +55,64 @@ import com.worldline.connect.sdk.java.logging.LoggingCapable;
 /**
  * An {@link Endpoint} for enabling and disabling logging in
  * <a href="https://github.com/Worldline-Global-Collect/connect-sdk-java/">connect-sdk-java</a>.
+ * <p>
+ * If logging is enabled with a duration, a logging session is started that disables logging again automatically when the duration has passed.
+ * Logging sessions are listed by {@link #listLoggingCapableAndLoggerBeans()}, with the number of messages and bytes that were logged.
+ * Instances should be {@link #close() closed} when no longer needed.
  *
  * @author Rob Spoor
  */
 @Endpoint(id = "connectSdkLogging", defaultAccess = Access.NONE)
-@SuppressWarnings("javadoc")
-public class LoggingEndpoint {
+@SuppressWarnings({ "nls", "javadoc" })
+public class LoggingEndpoint implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoggingEndpoint.class);
 
     private final ApplicationContext context;
 
+    private final CommunicatorLoggingPolicy defaultPolicy;
+    private final Duration defaultDuration;
+
+    // bean name to active session; guarded by this
+    private final Map<String, Session> sessions = new HashMap<>();
+    private long sessionCounter;
+    private ScheduledExecutorService scheduler;
+
     public LoggingEndpoint(ApplicationContext context) {
+        this(context, CommunicatorLoggingPolicy.all());
+    }
+
+    /**
+     * Creates a new endpoint.
+     *
+     * @param context The application context to find beans in.
+     * @param defaultPolicy The logging policy to use if no policy type, sample rate or slow threshold is given when enabling logging.
+     * @since 5.1
+     */
+    public LoggingEndpoint(ApplicationContext context, CommunicatorLoggingPolicy defaultPolicy) {
+        this(context, defaultPolicy, Duration.ZERO);
+    }
+
+    /**
+     * Creates a new endpoint.
+     *
+     * @param context The application context to find beans in.
+     * @param defaultPolicy The logging policy to use if no policy type, sample rate or slow threshold is given when enabling logging.
+     * @param defaultDuration The duration to use if no duration is given when enabling logging; zero to not disable logging automatically.
+     * @throws IllegalArgumentException If the default duration is negative.
+     * @since 5.1
+     */
+    public LoggingEndpoint(ApplicationContext context, CommunicatorLoggingPolicy defaultPolicy, Duration defaultDuration) {
+        if (defaultDuration.isNegative()) {
+            throw new IllegalArgumentException("defaultDuration must be >= 0, is " + defaultDuration);
+        }
         this.context = context;
+        this.defaultPolicy = Objects.requireNonNull(defaultPolicy);
+        this.defaultDuration = defaultDuration;
     }
 
     /**
-     * @return All {@link LoggingCapable} and {@link CommunicatorLogger} beans.
+     * @return All {@link LoggingCapable} and {@link CommunicatorLogger} beans, and all active logging sessions.
      */
     @ReadOperation
     public LoggingCapableAndLoggerBeans listLoggingCapableAndLoggerBeans() {
@@ -63,19 +122,53 @@ public class LoggingEndpoint {
         LoggingCapableAndLoggerBeans result = new LoggingCapableAndLoggerBeans();
         result.addLoggingCapables(loggingCapables);
         result.addCommunicatorLoggers(loggers);
+        result.addSessions(activeSessions());
         return result;
     }
 
+    /**
+     * Enables logging for all {@link LoggingCapable} beans, using the default logging policy.
+     *
+     * @param logger If given, the bean name of the {@link CommunicatorLogger} to use.
+     *                   Otherwise all available {@link CommunicatorLogger}s will be used.
+     */
+    public void enableLogging(@Nullable String logger) {
+        enableLogging(logger, null, null, null, null);
+    }
+
     /**
      * Enables logging for all {@link LoggingCapable} beans.
      *
      * @param logger If given, the bean name of the {@link CommunicatorLogger} to use.
      *                   Otherwise all available {@link CommunicatorLogger}s will be used.
+     * @param policy If given, the logging policy type to use. Otherwise the default logging policy type will be used.
+     * @param sampleRate If given, the sample rate to use. Otherwise the default sample rate will be used.
+     * @param slowThreshold If given, the slow threshold to use. Otherwise the default slow threshold will be used.
+     * @param duration If given, the duration after which logging is disabled again. Otherwise the default duration will be used.
+     * @since 5.1
      */
     @WriteOperation
-    public void enableLogging(@Nullable String logger) {
-        findCommunicatorLogger(logger).ifPresent(loggerBean -> context.getBeansOfType(LoggingCapable.class).values()
-                .forEach(loggingCapable -> loggingCapable.enableLogging(loggerBean)));
+    public void enableLogging(@Nullable String logger, @Nullable Type policy, @Nullable Integer sampleRate, @Nullable Duration slowThreshold,
+            @Nullable Duration duration) {
+
+        CommunicatorLoggingPolicy policyToUse = resolvePolicy(policy, sampleRate, slowThreshold);
+        Duration durationToUse = resolveDuration(duration);
+        Optional<CommunicatorLogger> loggerBean = findCommunicatorLogger(logger);
+        if (loggerBean.isPresent()) {
+            Map<String, LoggingCapable> loggingCapables = context.getBeansOfType(LoggingCapable.class);
+            enableLogging(loggingCapables, loggerBean.get(), logger, policyToUse, durationToUse);
+        }
+    }
+
+    /**
+     * Enables logging for a specific {@link LoggingCapable} bean, using the default logging policy.
+     *
+     * @param beanName The name of the {@link LoggingCapable} bean.
+     * @param logger If given, the bean name of the {@link CommunicatorLogger} to use.
+     *                   Otherwise all available {@link CommunicatorLogger}s will be used.
+     */
+    public void enableLoggingOnBean(String beanName, @Nullable String logger) {
+        enableLoggingOnBean(beanName, logger, null, null, null, null);
     }
 
     /**
@@ -84,20 +177,57 @@ public class LoggingEndpoint {
      * @param beanName The name of the {@link LoggingCapable} bean.
      * @param logger If given, the bean name of the {@link CommunicatorLogger} to use.
      *                   Otherwise all available {@link CommunicatorLogger}s will be used.
+     * @param policy If given, the logging policy type to use. Otherwise the default logging policy type will be used.
+     * @param sampleRate If given, the sample rate to use. Otherwise the default sample rate will be used.
+     * @param slowThreshold If given, the slow threshold to use. Otherwise the default slow threshold will be used.
+     * @param duration If given, the duration after which logging is disabled again. Otherwise the default duration will be used.
+     * @since 5.1
      */
     @WriteOperation
-    public void enableLoggingOnBean(@Selector String beanName, @Nullable String logger) {
+    public void enableLoggingOnBean(@Selector String beanName, @Nullable String logger, @Nullable Type policy,
+            @Nullable Integer sampleRate, @Nullable Duration slowThreshold, @Nullable Duration duration) {
+
         LoggingCapable loggingCapable = context.getBean(beanName, LoggingCapable.class);
-        findCommunicatorLogger(logger).ifPresent(loggingCapable::enableLogging);
+        CommunicatorLoggingPolicy policyToUse = resolvePolicy(policy, sampleRate, slowThreshold);
+        Duration durationToUse = resolveDuration(duration);
+        Optional<CommunicatorLogger> loggerBean = findCommunicatorLogger(logger);
+        if (loggerBean.isPresent()) {
+            enableLogging(Map.of(beanName, loggingCapable), loggerBean.get(), logger, policyToUse, durationToUse);
+        }
+    }
+
+    private synchronized void enableLogging(Map<String, LoggingCapable> loggingCapables, CommunicatorLogger loggerBean, String loggerName,
+            CommunicatorLoggingPolicy policy, Duration duration) {
+
+        loggingCapables.keySet().forEach(this::endSession);
+
+        if (duration.isZero()) {
+            CommunicatorLogger communicatorLogger = policy.apply(loggerBean);
+            loggingCapables.values().forEach(loggingCapable -> loggingCapable.enableLogging(communicatorLogger));
+            return;
+        }
+
+        // count only the messages that are actually logged, after the policy has been applied
+        CountingCommunicatorLogger countingLogger = new CountingCommunicatorLogger(loggerBean);
+        CommunicatorLogger communicatorLogger = policy.apply(countingLogger);
+
+        Instant start = Instant.now();
+        Session session = new Session(++sessionCounter, loggingCapables.keySet(), loggerName, policy, start, start.plus(duration),
+                countingLogger);
+        session.beanNames.forEach(beanName -> sessions.put(beanName, session));
+        session.expiration = scheduler().schedule(() -> expire(session), duration.toMillis(), TimeUnit.MILLISECONDS);
+
+        loggingCapables.values().forEach(loggingCapable -> loggingCapable.enableLogging(communicatorLogger));
     }
 
     /**
      * Disables logging for all {@link LoggingCapable} beans.
      */
     @DeleteOperation
-    public void disableLogging() {
-        context.getBeansOfType(LoggingCapable.class).values()
-                .forEach(LoggingCapable::disableLogging);
+    public synchronized void disableLogging() {
+        Map<String, LoggingCapable> loggingCapables = context.getBeansOfType(LoggingCapable.class);
+        loggingCapables.keySet().forEach(this::endSession);
+        loggingCapables.values().forEach(LoggingCapable::disableLogging);
     }
 
     /**
@@ -106,11 +236,92 @@ public class LoggingEndpoint {
      * @param beanName The name of the {@link LoggingCapable} bean.
      */
     @DeleteOperation
-    public void disableLoggingOnBean(@Selector String beanName) {
+    public synchronized void disableLoggingOnBean(@Selector String beanName) {
         LoggingCapable loggingCapable = context.getBean(beanName, LoggingCapable.class);
+        endSession(beanName);
         loggingCapable.disableLogging();
     }
 
+    private synchronized void expire(Session session) {
+        for (String beanName : session.beanNames) {
+            if (sessions.remove(beanName, session)) {
+                try {
+                    context.getBean(beanName, LoggingCapable.class).disableLogging();
+                } catch (RuntimeException e) {
+                    // don't let one bean prevent disabling logging for the others
+                    LOGGER.warn("Failed to disable logging for bean '{}'", beanName, e);
+                }
+            }
+        }
+        session.beanNames.clear();
+    }
+
+    private void endSession(String beanName) {
+        Session session = sessions.remove(beanName);
+        if (session != null) {
+            session.beanNames.remove(beanName);
+            if (session.beanNames.isEmpty()) {
+                session.expiration.cancel(false);
+            }
+        }
+    }
+
+    private synchronized List<LoggingSession> activeSessions() {
+        Instant now = Instant.now();
+        return sessions.values().stream()
+                .distinct()
+                .sorted((s1, s2) -> Long.compare(s1.id, s2.id))
+                .map(session -> LoggingSession.of(session, now))
+                .toList();
+    }
+
+    private ScheduledExecutorService scheduler() {
+        if (scheduler == null) {
+            ScheduledThreadPoolExecutor scheduledExecutor = new ScheduledThreadPoolExecutor(1, r -> {
+                Thread thread = new Thread(r, "connect-sdk-logging-session");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduledExecutor.setRemoveOnCancelPolicy(true);
+            scheduledExecutor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+            scheduler = scheduledExecutor;
+        }
+        return scheduler;
+    }
+
+    /**
+     * Stops disabling logging automatically. Logging is not disabled for active logging sessions.
+     *
+     * @since 5.1
+     */
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        sessions.clear();
+    }
+
+    private CommunicatorLoggingPolicy resolvePolicy(Type policy, Integer sampleRate, Duration slowThreshold) {
+        if (policy == null && sampleRate == null && slowThreshold == null) {
+            return defaultPolicy;
+        }
+        return CommunicatorLoggingPolicy.of(
+                policy != null ? policy : defaultPolicy.type(),
+                sampleRate != null ? sampleRate : defaultPolicy.sampleRate(),
+                slowThreshold != null ? slowThreshold : defaultPolicy.slowThreshold());
+    }
+
+    private Duration resolveDuration(Duration duration) {
+        if (duration == null) {
+            return defaultDuration;
+        }
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("duration must be >= 0, is " + duration);
+        }
+        return duration;
+    }
+
     private Optional<CommunicatorLogger> findCommunicatorLogger(String logger) {
         if (logger != null) {
             return Optional.of(context.getBean(logger, CommunicatorLogger.class));
@@ -128,6 +339,7 @@ public class LoggingEndpoint {
         private List<String> communicators = new ArrayList<>();
         private List<String> clients = new ArrayList<>();
         private List<String> loggers = new ArrayList<>();
+        private List<LoggingSession> sessions = new ArrayList<>();
 
         public List<String> getConnections() {
             return connections;
@@ -145,6 +357,14 @@ public class LoggingEndpoint {
             return loggers;
         }
 
+        /**
+         * @return All active logging sessions.
+         * @since 5.1
+         */
+        public List<LoggingSession> getSessions() {
+            return sessions;
+        }
+
         private void addLoggingCapables(Map<String, LoggingCapable> loggingCapables) {
             loggingCapables.forEach(this::addLoggingCapable);
         }
@@ -164,9 +384,185 @@ public class LoggingEndpoint {
         private void addCommunicatorLoggers(Map<String, CommunicatorLogger> loggers) {
             this.loggers.addAll(loggers.keySet());
         }
+
+        private void addSessions(List<LoggingSession> sessions) {
+            this.sessions.addAll(sessions);
+        }
     }
 
-    static final class CompoundCommunicatorLogger implements CommunicatorLogger {
+    /**
+     * A logging session, started by enabling logging with a duration.
+     *
+     * @author Rob Spoor
+     * @since 5.1
+     */
+    public static class LoggingSession {
+
+        private List<String> beans;
+        private String logger;
+        private String policy;
+        private Instant start;
+        private Instant end;
+        private Duration remaining;
+        private long messageCount;
+        private long byteCount;
+
+        private static LoggingSession of(Session session, Instant now) {
+            LoggingSession result = new LoggingSession();
+            result.beans = List.copyOf(session.beanNames);
+            result.logger = session.loggerName;
+            result.policy = session.policy.toString();
+            result.start = session.start;
+            result.end = session.end;
+            result.remaining = now.isBefore(session.end) ? Duration.between(now, session.end) : Duration.ZERO;
+            result.messageCount = session.logger.messageCount();
+            result.byteCount = session.logger.byteCount();
+            return result;
+        }
+
+        public List<String> getBeans() {
+            return beans;
+        }
+
+        /**
+         * @return The bean name of the {@link CommunicatorLogger} that is used, or {@code null} if all available loggers are used.
+         */
+        public String getLogger() {
+            return logger;
+        }
+
+        public String getPolicy() {
+            return policy;
+        }
+
+        public Instant getStart() {
+            return start;
+        }
+
+        public Instant getEnd() {
+            return end;
+        }
+
+        public Duration getRemaining() {
+            return remaining;
+        }
+
+        public long getMessageCount() {
+            return messageCount;
+        }
+
+        /**
+         * @return The number of bytes of all logged messages, encoded as UTF-8.
+         */
+        public long getByteCount() {
+            return byteCount;
+        }
+    }
+
+    private static final class Session {
+
+        private final long id;
+        // the beans that logging is still enabled for by this session; guarded by the endpoint
+        private final Set<String> beanNames;
+        private final String loggerName;
+        private final CommunicatorLoggingPolicy policy;
+        private final Instant start;
+        private final Instant end;
+        private final CountingCommunicatorLogger logger;
+        private ScheduledFuture<?> expiration;
+
+        private Session(long id, Set<String> beanNames, String loggerName, CommunicatorLoggingPolicy policy, Instant start, Instant end,
+                CountingCommunicatorLogger logger) {
+
+            this.id = id;
+            this.beanNames = new LinkedHashSet<>(beanNames);
+            this.loggerName = loggerName;
+            this.policy = policy;
+            this.start = start;
+            this.end = end;
+            this.logger = logger;
+        }
+    }
+
+    static final class CountingCommunicatorLogger implements LevelAwareCommunicatorLogger {
+
+        private final CommunicatorLogger delegate;
+        private final LongAdder messageCount = new LongAdder();
+        private final LongAdder byteCount = new LongAdder();
+
+        CountingCommunicatorLogger(CommunicatorLogger delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return LevelAwareCommunicatorLogger.isEnabled(delegate);
+        }
+
+        @Override
+        public boolean isErrorEnabled() {
+            return LevelAwareCommunicatorLogger.isErrorEnabled(delegate);
+        }
+
+        @Override
+        public Runnable addLevelChangeListener(Runnable listener) {
+            return LevelAwareCommunicatorLogger.addLevelChangeListener(delegate, listener);
+        }
+
+        @Override
+        public void log(String message) {
+            if (isEnabled()) {
+                count(message);
+                delegate.log(message);
+            }
+        }
+
+        @Override
+        public void log(String message, Throwable thrown) {
+            if (isErrorEnabled()) {
+                count(message);
+                delegate.log(message, thrown);
+            }
+        }
+
+        private void count(String message) {
+            messageCount.increment();
+            if (message != null) {
+                byteCount.add(utf8Length(message));
+            }
+        }
+
+        long messageCount() {
+            return messageCount.sum();
+        }
+
+        long byteCount() {
+            return byteCount.sum();
+        }
+
+        static long utf8Length(String message) {
+            long length = 0;
+            int index = 0;
+            while (index < message.length()) {
+                char c = message.charAt(index);
+                if (c < 0x80) {
+                    length++;
+                } else if (c < 0x800) {
+                    length += 2;
+                } else if (Character.isHighSurrogate(c) && index + 1 < message.length() && Character.isLowSurrogate(message.charAt(index + 1))) {
+                    // a surrogate pair is a single code point
+                    length += 4;
+                    index++;
+                } else {
+                    length += 3;
+                }
+                index++;
+            }
+            return length;
+        }
+    }
+
+    static final class CompoundCommunicatorLogger implements LevelAwareCommunicatorLogger {
 
         final List<CommunicatorLogger> loggers = new ArrayList<>();
 
@@ -174,6 +570,24 @@ public class LoggingEndpoint {
             this.loggers.addAll(loggers);
         }
 
+        @Override
+        public boolean isEnabled() {
+            return loggers.stream().anyMatch(LevelAwareCommunicatorLogger::isEnabled);
+        }
+
+        @Override
+        public boolean isErrorEnabled() {
+            return loggers.stream().anyMatch(LevelAwareCommunicatorLogger::isErrorEnabled);
+        }
+
+        @Override
+        public Runnable addLevelChangeListener(Runnable listener) {
+            List<Runnable> removers = loggers.stream()
+                    .map(logger -> LevelAwareCommunicatorLogger.addLevelChangeListener(logger, listener))
+                    .toList();
+            return () -> removers.forEach(Runnable::run);
+        }
+
         @Override
         public void log(String message) {
             loggers.forEach(logger -> logger.log(message));
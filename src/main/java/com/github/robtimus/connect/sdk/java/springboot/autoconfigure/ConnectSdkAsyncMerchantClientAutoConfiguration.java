@@ -0,0 +1,77 @@
+/*
+ * ConnectSdkAsyncMerchantClientAutoConfiguration.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import com.github.robtimus.connect.sdk.java.springboot.AsyncMerchantClient;
+import com.worldline.connect.sdk.java.v1.merchant.MerchantClient;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for {@link AsyncMerchantClient}.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@Configuration
+// Registering the executor bean after TaskExecutionAutoConfiguration prevents that the applicationTaskExecutor bean backs off
+@AutoConfigureAfter(value = ConnectSdkMerchantClientAutoConfiguration.class,
+        name = "org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration")
+@ConditionalOnMissingBean(AsyncMerchantClient.class)
+@ConditionalOnBean(MerchantClient.class)
+@EnableConfigurationProperties(ConnectSdkProperties.class)
+@SuppressWarnings({ "nls", "javadoc" })
+public class ConnectSdkAsyncMerchantClientAutoConfiguration {
+
+    static final String ASYNC_MERCHANT_CLIENT_EXECUTOR = "connectSdkAsyncMerchantClientExecutor";
+
+    private static final String THREAD_NAME_PREFIX = "connect-sdk-async-";
+
+    // With platform threads, every call occupies a thread until its response has been handled, so more threads than connections
+    // would only wait for a connection. Without a queue, calls that exceed that are rejected instead of piling up.
+    // With virtual threads there is no need to limit the number of threads; the connection limits the number of concurrent calls.
+    @Bean(name = ASYNC_MERCHANT_CLIENT_EXECUTOR, destroyMethod = "shutdownNow")
+    @ConditionalOnMissingBean(name = ASYNC_MERCHANT_CLIENT_EXECUTOR)
+    public ThreadPoolExecutor connectSdkAsyncMerchantClientExecutor(ConnectSdkProperties properties, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return ConnectSdkExecutors.newBoundedExecutor(THREAD_NAME_PREFIX, Integer.MAX_VALUE, true);
+        }
+        int maxThreads = properties.getMaxConnections();
+        if (maxThreads <= 0) {
+            throw new IllegalStateException("connect.api.max-connections must be > 0, is " + maxThreads);
+        }
+        return ConnectSdkExecutors.newBoundedExecutor(THREAD_NAME_PREFIX, maxThreads, false);
+    }
+
+    @Bean
+    public AsyncMerchantClient connectSdkAsyncMerchantClient(MerchantClient merchantClient,
+            @Qualifier(ASYNC_MERCHANT_CLIENT_EXECUTOR) Executor executor) {
+
+        return new AsyncMerchantClient(merchantClient, executor);
+    }
+}
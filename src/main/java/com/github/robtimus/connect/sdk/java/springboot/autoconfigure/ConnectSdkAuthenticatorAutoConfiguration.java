@@ -17,8 +17,10 @@
 
 package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
 
+import java.time.Duration;
 import java.util.Objects;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
@@ -28,8 +30,11 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import com.github.robtimus.connect.sdk.java.springboot.ConfigurableV1HMACAuthenticator;
 import com.github.robtimus.connect.sdk.java.springboot.actuator.ApiKeyEndpoint;
+import com.github.robtimus.connect.sdk.java.springboot.communication.ApiKeyRotationConnection;
 import com.worldline.connect.sdk.java.authentication.Authenticator;
 
 /**
@@ -42,7 +47,7 @@ import com.worldline.connect.sdk.java.authentication.Authenticator;
 @ConditionalOnMissingBean(Authenticator.class)
 @ConditionalOnProperty(prefix = "connect.api", name = { "authorization-id", "authorization-secret" })
 @EnableConfigurationProperties(ConnectSdkProperties.class)
-@SuppressWarnings("javadoc")
+@SuppressWarnings({ "nls", "javadoc" })
 public class ConnectSdkAuthenticatorAutoConfiguration {
 
     private final ConnectSdkProperties properties;
@@ -53,16 +58,26 @@ public class ConnectSdkAuthenticatorAutoConfiguration {
     }
 
     @Bean
-    public ConfigurableV1HMACAuthenticator connectSdkV1HMACAuthenticator() {
+    public ConfigurableV1HMACAuthenticator connectSdkV1HMACAuthenticator(
+            @Value("${connect.api.authorization-pooling:false}") boolean pooling) {
         String authorizationId = properties.getAuthorizationId();
         String authorizationSecret = properties.getAuthorizationSecret();
-        return new ConfigurableV1HMACAuthenticator(authorizationId, authorizationSecret);
+        return new ConfigurableV1HMACAuthenticator(authorizationId, authorizationSecret, pooling);
+    }
+
+    // Retries with the previous API key should be subject to any rate and concurrency limit, and any timed connection should include the retry
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE - 200)
+    public ConnectionDecorator connectSdkApiKeyRotationDecorator(ConfigurableV1HMACAuthenticator authenticator) {
+        return connection -> new ApiKeyRotationConnection(connection, authenticator);
     }
 
     @Bean
     @ConditionalOnClass(Endpoint.class)
     @ConditionalOnAvailableEndpoint(endpoint = ApiKeyEndpoint.class)
-    public ApiKeyEndpoint connectSdkApiKeyEndpoint(ConfigurableV1HMACAuthenticator authenticator) {
-        return new ApiKeyEndpoint(authenticator);
+    public ApiKeyEndpoint connectSdkApiKeyEndpoint(ConfigurableV1HMACAuthenticator authenticator,
+            @Value("${connect.api.authorization-rotation-overlap:0}") long overlap) {
+
+        return new ApiKeyEndpoint(authenticator, Duration.ofMillis(overlap));
     }
 }
@@ -19,8 +19,10 @@ package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.List;
 import java.util.Objects;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
@@ -29,6 +31,8 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import com.github.robtimus.connect.sdk.java.springboot.DateCachingCommunicator;
+import com.github.robtimus.connect.sdk.java.springboot.communication.CachedDateHeader;
 import com.worldline.connect.sdk.java.Communicator;
 import com.worldline.connect.sdk.java.authentication.Authenticator;
 import com.worldline.connect.sdk.java.communication.Connection;
@@ -61,10 +65,24 @@ public class ConnectSdkCommunicatorAutoConfiguration {
     // don't close the communicator when the bean is destroyed, let the connection be closed directly
     @Bean(destroyMethod = "")
     public Communicator connectSdkCommunicator(Connection connection, Authenticator authenticator, MetadataProvider metadataProvider,
-            Marshaller marshaller) {
+            Marshaller marshaller, List<ConnectionDecorator> decorators,
+            @Value("${connect.api.cache-date-header:true}") boolean cacheDateHeader) {
 
         URI apiEndpoint = getApiEndpoint();
-        return new Communicator(apiEndpoint, connection, authenticator, metadataProvider, marshaller);
+        Connection decoratedConnection = decorate(connection, decorators);
+        if (cacheDateHeader) {
+            CachedDateHeader dateHeader = CachedDateHeader.systemUTC();
+            return new DateCachingCommunicator(apiEndpoint, decoratedConnection, authenticator, metadataProvider, marshaller, dateHeader);
+        }
+        return new Communicator(apiEndpoint, decoratedConnection, authenticator, metadataProvider, marshaller);
+    }
+
+    private Connection decorate(Connection connection, List<ConnectionDecorator> decorators) {
+        Connection result = connection;
+        for (ConnectionDecorator decorator : decorators) {
+            result = decorator.decorate(result);
+        }
+        return result;
     }
 
     private URI getApiEndpoint() {
@@ -17,12 +17,14 @@
 
 package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
 
+import java.util.Locale;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ConditionContext;
@@ -30,11 +32,17 @@ import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.type.AnnotatedTypeMetadata;
 import com.github.robtimus.connect.sdk.java.springboot.autoconfigure.ConnectSdkCommunicatorLoggerAutoConfiguration.OnUsesLogbackCondition;
+import com.github.robtimus.connect.sdk.java.springboot.logging.AsyncCommunicatorLogger;
+import com.github.robtimus.connect.sdk.java.springboot.logging.AsyncCommunicatorLogger.OverflowPolicy;
 import com.github.robtimus.connect.sdk.java.springboot.logging.LogbackCommunicatorLogger;
+import com.github.robtimus.connect.sdk.java.springboot.logging.StructuredCommunicatorLogger;
 import com.worldline.connect.sdk.java.Communicator;
 import com.worldline.connect.sdk.java.logging.CommunicatorLogger;
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 
 /**
  * {@link EnableAutoConfiguration Auto-configuration} for
@@ -55,10 +63,49 @@ public class ConnectSdkCommunicatorLoggerAutoConfiguration {
     public CommunicatorLogger connectSdkCommunicatorLogger(
             @Value("${connect.api.logger.name:com.worldline.connect.sdk.java.Communicator}") String loggerName,
             @Value("${connect.api.logger.level:INFO}") String logLevel,
-            @Value("${connect.api.logger.errorLevel:ERROR}") String errorLogLevel) {
+            @Value("${connect.api.logger.errorLevel:ERROR}") String errorLogLevel,
+            @Value("${connect.api.logger.structured.enabled:false}") boolean structured,
+            @Value("${connect.api.logger.structured.max-body-size:4096}") int maxBodySize,
+            @Value("${connect.api.logger.async.enabled:false}") boolean async,
+            @Value("${connect.api.logger.async.capacity:1024}") int capacity,
+            @Value("${connect.api.logger.async.overflow-policy:drop}") String overflowPolicy,
+            @Value("${connect.api.logger.async.sample-rate:10}") int sampleRate) {
 
         Logger logger = (Logger) LoggerFactory.getLogger(loggerName);
-        return new LogbackCommunicatorLogger(logger, Level.toLevel(logLevel, Level.INFO), Level.toLevel(errorLogLevel, Level.ERROR));
+        Level level = Level.toLevel(logLevel, Level.INFO);
+        Level errorLevel = Level.toLevel(errorLogLevel, Level.ERROR);
+        CommunicatorLogger communicatorLogger = structured
+                ? new StructuredCommunicatorLogger(logger, level, errorLevel, maxBodySize)
+                : new LogbackCommunicatorLogger(logger, level, errorLevel);
+        if (async) {
+            OverflowPolicy policy = OverflowPolicy.valueOf(overflowPolicy.toUpperCase(Locale.ROOT));
+            // the destroy method is inferred from AutoCloseable, so pending messages are written when the context is closed
+            return new AsyncCommunicatorLogger(communicatorLogger, capacity, policy, sampleRate);
+        }
+        return communicatorLogger;
+    }
+
+    @Configuration
+    @ConditionalOnClass(MeterBinder.class)
+    @ConditionalOnProperty(name = "connect.api.logger.async.enabled", havingValue = "true")
+    static class Metrics {
+
+        @Bean
+        MeterBinder connectSdkCommunicatorLoggerMetrics(CommunicatorLogger communicatorLogger) {
+            return registry -> {
+                if (communicatorLogger instanceof AsyncCommunicatorLogger asyncLogger) {
+                    FunctionCounter.builder("connect.sdk.logger.dropped", asyncLogger, AsyncCommunicatorLogger::droppedCount)
+                            .description("The number of communicator log messages that were dropped, either because the buffer was full "
+                                    + "or because they were not sampled")
+                            .baseUnit("messages")
+                            .register(registry);
+                    Gauge.builder("connect.sdk.logger.pending", asyncLogger, AsyncCommunicatorLogger::pendingCount)
+                            .description("The number of communicator log messages that are waiting to be written")
+                            .baseUnit("messages")
+                            .register(registry);
+                }
+            };
+        }
     }
 
     static class OnUsesLogbackCondition extends SpringBootCondition {
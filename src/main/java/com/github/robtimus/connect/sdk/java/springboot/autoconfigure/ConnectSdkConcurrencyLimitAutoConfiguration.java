@@ -0,0 +1,78 @@
+/*
+ * ConnectSdkConcurrencyLimitAutoConfiguration.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
+
+import java.time.Duration;
+import java.util.Collections;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import com.github.robtimus.connect.sdk.java.springboot.communication.AdaptiveConcurrencyLimiter;
+import com.github.robtimus.connect.sdk.java.springboot.communication.ConcurrencyLimitedConnection;
+import com.github.robtimus.connect.sdk.java.springboot.metrics.ConcurrencyLimiterMetrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for {@link ConcurrencyLimitedConnection}.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@Configuration
+@AutoConfigureBefore(ConnectSdkCommunicatorAutoConfiguration.class)
+@ConditionalOnProperty(name = "connect.api.concurrency-limit.enabled", havingValue = "true")
+@SuppressWarnings({ "nls", "javadoc" })
+public class ConnectSdkConcurrencyLimitAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public AdaptiveConcurrencyLimiter connectSdkConcurrencyLimiter(
+            @Value("${connect.api.concurrency-limit.initial-limit:20}") int initialLimit,
+            @Value("${connect.api.concurrency-limit.min-limit:1}") int minLimit,
+            @Value("${connect.api.concurrency-limit.max-limit:200}") int maxLimit,
+            @Value("${connect.api.concurrency-limit.latency-threshold:5000}") long latencyThreshold,
+            @Value("${connect.api.concurrency-limit.max-wait:0}") long maxWait) {
+
+        return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, Duration.ofMillis(latencyThreshold), Duration.ofMillis(maxWait));
+    }
+
+    // Any timed connection should wrap the concurrency limited connection, so it includes waiting time and rejections
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE - 100)
+    public ConnectionDecorator connectSdkConcurrencyLimitDecorator(AdaptiveConcurrencyLimiter limiter) {
+        return connection -> new ConcurrencyLimitedConnection(connection, limiter);
+    }
+
+    @Configuration
+    @ConditionalOnClass(MeterBinder.class)
+    static class Metrics {
+
+        @Bean
+        @ConditionalOnMissingBean
+        ConcurrencyLimiterMetrics connectSdkConcurrencyLimiterMetrics(AdaptiveConcurrencyLimiter limiter) {
+            return new ConcurrencyLimiterMetrics(limiter, Collections.emptyList());
+        }
+    }
+}
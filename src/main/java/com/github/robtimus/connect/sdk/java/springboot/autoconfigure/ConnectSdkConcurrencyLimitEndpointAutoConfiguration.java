@@ -0,0 +1,51 @@
+/*
+ * ConnectSdkConcurrencyLimitEndpointAutoConfiguration.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
+
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.github.robtimus.connect.sdk.java.springboot.actuator.ConcurrencyLimitEndpoint;
+import com.github.robtimus.connect.sdk.java.springboot.communication.AdaptiveConcurrencyLimiter;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for {@link ConcurrencyLimitEndpoint}.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@Configuration
+@AutoConfigureAfter(ConnectSdkConcurrencyLimitAutoConfiguration.class)
+@ConditionalOnClass(Endpoint.class)
+@ConditionalOnAvailableEndpoint(endpoint = ConcurrencyLimitEndpoint.class)
+@ConditionalOnBean(AdaptiveConcurrencyLimiter.class)
+@SuppressWarnings("javadoc")
+public class ConnectSdkConcurrencyLimitEndpointAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ConcurrencyLimitEndpoint connectSdkConcurrencyLimitEndpoint(AdaptiveConcurrencyLimiter limiter) {
+        return new ConcurrencyLimitEndpoint(limiter);
+    }
+}
@@ -17,24 +17,37 @@
 
 package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
 
+import java.net.Authenticator;
+import java.net.InetSocketAddress;
+import java.net.PasswordAuthentication;
+import java.net.ProxySelector;
 import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLParameters;
 import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.annotation.EnableScheduling;
-import org.springframework.scheduling.annotation.Scheduled;
-import org.springframework.stereotype.Service;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import com.github.robtimus.connect.sdk.java.springboot.autoconfigure.ConnectSdkProperties.ConnectionType;
+import com.github.robtimus.connect.sdk.java.springboot.communication.IdleConnectionEvictor;
+import com.github.robtimus.connect.sdk.java.springboot.communication.JdkHttpClientConnection;
 import com.worldline.connect.sdk.java.CommunicatorConfiguration;
 import com.worldline.connect.sdk.java.ProxyConfiguration;
 import com.worldline.connect.sdk.java.communication.Connection;
@@ -56,15 +69,57 @@ import com.worldline.connect.sdk.java.logging.HeaderObfuscator;
 @SuppressWarnings({ "nls", "javadoc" })
 public class ConnectSdkConnectionAutoConfiguration {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConnectSdkConnectionAutoConfiguration.class);
+
+    static final String IDLE_TIME = "${connect.api.close-idle-connections.idle-time:20000}";
+    // by default the idle time is fixed, like it was before the idle time could adapt to the traffic
+    private static final String MIN_IDLE_TIME = "${connect.api.close-idle-connections.min-idle-time:" + IDLE_TIME + "}";
+    private static final String INTERVAL = "${connect.api.close-idle-connections.interval:10000}";
+
+    private static final String TUNNELING_DISABLED_SCHEMES = "jdk.http.auth.tunneling.disabledSchemes";
+
     private final ConnectSdkProperties properties;
+    private final Environment environment;
 
     @Autowired
-    public ConnectSdkConnectionAutoConfiguration(ConnectSdkProperties properties) {
+    public ConnectSdkConnectionAutoConfiguration(ConnectSdkProperties properties, Environment environment) {
         this.properties = Objects.requireNonNull(properties);
+        this.environment = Objects.requireNonNull(environment);
     }
 
     @Bean(destroyMethod = "close")
     public PooledConnection connectSdkConnection(@Nullable BodyObfuscator bodyObfuscator, @Nullable HeaderObfuscator headerObfuscator) {
+        boolean virtualThreads = Threading.VIRTUAL.isActive(environment);
+        PooledConnection connection = switch (getConnectionType(virtualThreads)) {
+            case JDK_HTTP_CLIENT -> createJdkHttpClientConnection(virtualThreads);
+            case DEFAULT -> createDefaultConnection();
+            case AUTO -> virtualThreads ? createJdkHttpClientConnection(true) : createDefaultConnection();
+        };
+        if (bodyObfuscator != null) {
+            connection.setBodyObfuscator(bodyObfuscator);
+        }
+        if (headerObfuscator != null) {
+            connection.setHeaderObfuscator(headerObfuscator);
+        }
+        return connection;
+    }
+
+    private ConnectionType getConnectionType(boolean virtualThreads) {
+        ConnectionType connectionType = properties.getConnectionType();
+        if (connectionType != null) {
+            return connectionType;
+        }
+        if (virtualThreads) {
+            // Apache HttpClient 4 uses synchronized blocks while waiting for a connection and while reading responses,
+            // which can pin virtual threads to their carrier threads
+            LOGGER.warn("Virtual threads are enabled but no connection type is configured; using connection type default, which may pin virtual "
+                    + "threads to their carrier threads. Set property connect.api.connection-type to auto or jdk-http-client to use "
+                    + "java.net.http.HttpClient instead, or to default to suppress this warning.");
+        }
+        return ConnectionType.DEFAULT;
+    }
+
+    private DefaultConnection createDefaultConnection() {
         int connectTimeout = properties.getConnectTimeout();
         int socketTimeout = properties.getSocketTimeout();
         int maxConnections = properties.getMaxConnections();
@@ -73,19 +128,71 @@ public class ConnectSdkConnectionAutoConfiguration {
         ProxyConfiguration proxyConfiguration = getProxyConfiguration();
         Set<String> httpsProtocols = getHttpsProtocols();
 
-        DefaultConnection connection = new DefaultConnectionBuilder(connectTimeout, socketTimeout)
+        return new DefaultConnectionBuilder(connectTimeout, socketTimeout)
                 .withMaxConnections(maxConnections)
                 .withConnectionReuse(connectionReuse)
                 .withProxyConfiguration(proxyConfiguration)
                 .withHttpsProtocols(httpsProtocols)
                 .build();
-        if (bodyObfuscator != null) {
-            connection.setBodyObfuscator(bodyObfuscator);
+    }
+
+    private JdkHttpClientConnection createJdkHttpClientConnection(boolean virtualThreads) {
+        // The max connection count and connection reuse flag are not supported by HttpClient;
+        // with HTTP/2 all concurrent requests to the same host are multiplexed over one connection
+        failIfSet("connect.api.max-connections");
+        failIfSet("connect.api.connection-reuse");
+        // HttpClient has no socket timeout; connect.api.request-timeout is used instead
+        failIfSet("connect.api.socket-timeout");
+
+        int connectTimeout = properties.getConnectTimeout();
+        int requestTimeout = properties.getRequestTimeout();
+
+        SSLParameters sslParameters = new SSLParameters();
+        sslParameters.setProtocols(getHttpsProtocols().toArray(String[]::new));
+
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeout))
+                .sslParameters(sslParameters);
+
+        ProxyConfiguration proxyConfiguration = getProxyConfiguration();
+        if (proxyConfiguration != null) {
+            builder.proxy(ProxySelector.of(new InetSocketAddress(proxyConfiguration.getHost(), proxyConfiguration.getPort())));
+            if (proxyConfiguration.getUsername() != null) {
+                if (isBasicTunnelingAuthenticationDisabled()) {
+                    // HttpClient would silently skip the authenticator, and every request through the proxy would fail with a 407 response
+                    throw new IllegalStateException("Proxy authentication with connection type jdk-http-client requires Basic authentication "
+                            + "for HTTPS tunneling; set system property " + TUNNELING_DISABLED_SCHEMES + " to an empty value");
+                }
+                builder.authenticator(new ProxyAuthenticator(proxyConfiguration.getUsername(), proxyConfiguration.getPassword()));
+            }
         }
-        if (headerObfuscator != null) {
-            connection.setHeaderObfuscator(headerObfuscator);
+
+        SimpleAsyncTaskExecutor executor = null;
+        if (virtualThreads) {
+            // HttpClient uses its executor for handling responses and completing its futures;
+            // by default that's a cached thread pool with platform threads
+            executor = new SimpleAsyncTaskExecutor("connect-sdk-http-");
+            executor.setVirtualThreads(true);
+            builder.executor(executor);
+        }
+
+        return new JdkHttpClientConnection(builder.build(), requestTimeout > 0 ? Duration.ofMillis(requestTimeout) : null, executor);
+    }
+
+    private static boolean isBasicTunnelingAuthenticationDisabled() {
+        // If the system property is not set, the value from the JDK's net.properties file is used, which is Basic
+        String disabledSchemes = System.getProperty(TUNNELING_DISABLED_SCHEMES, "Basic");
+        return Arrays.stream(disabledSchemes.split(","))
+                .map(String::trim)
+                .anyMatch("Basic"::equalsIgnoreCase);
+    }
+
+    private void failIfSet(String propertyName) {
+        if (environment.containsProperty(propertyName)) {
+            throw new IllegalStateException(String.format("Property '%s' is not supported for connection type %s", propertyName,
+                    ConnectionType.JDK_HTTP_CLIENT.name().toLowerCase(Locale.ROOT).replace('_', '-')));
         }
-        return connection;
     }
 
     private ProxyConfiguration getProxyConfiguration() {
@@ -112,26 +219,34 @@ public class ConnectSdkConnectionAutoConfiguration {
         return CommunicatorConfiguration.DEFAULT_HTTPS_PROTOCOLS;
     }
 
-    @Service
-    @ConditionalOnProperty(name = "connect.api.close-idle-connections.enabled", havingValue = "true", matchIfMissing = true)
-    @EnableScheduling
-    static class ConnectionManager {
-
-        static final String IDLE_TIME = "${connect.api.close-idle-connections.idle-time:20000}";
-        private static final String INTERVAL = "${connect.api.close-idle-connections.interval:10000}";
+    private static final class ProxyAuthenticator extends Authenticator {
 
-        private final PooledConnection connection;
-        private final long idleTime;
+        private final String username;
+        private final String password;
 
-        ConnectionManager(PooledConnection connection, @Value(IDLE_TIME) long idleTime) {
-            this.connection = Objects.requireNonNull(connection);
-            this.idleTime = idleTime;
+        private ProxyAuthenticator(String username, String password) {
+            this.username = username;
+            this.password = password;
         }
 
-        @Scheduled(fixedDelayString = INTERVAL, initialDelayString = INTERVAL)
-        public void closeIdleAndExpiredConnections() {
-            connection.closeIdleConnections(idleTime, TimeUnit.MILLISECONDS);
-            connection.closeExpiredConnections();
+        @Override
+        protected PasswordAuthentication getPasswordAuthentication() {
+            if (getRequestorType() == RequestorType.PROXY) {
+                char[] passwordChars = password != null ? password.toCharArray() : new char[0];
+                return new PasswordAuthentication(username, passwordChars);
+            }
+            return null;
         }
     }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = "connect.api.close-idle-connections.enabled", havingValue = "true", matchIfMissing = true)
+    public IdleConnectionEvictor connectSdkIdleConnectionEvictor(PooledConnection connection,
+            @Value(MIN_IDLE_TIME) long minIdleTime,
+            @Value(IDLE_TIME) long maxIdleTime,
+            @Value(INTERVAL) long interval) {
+
+        return new IdleConnectionEvictor(connection, Duration.ofMillis(Math.min(minIdleTime, maxIdleTime)), Duration.ofMillis(maxIdleTime),
+                Duration.ofMillis(interval));
+    }
 }
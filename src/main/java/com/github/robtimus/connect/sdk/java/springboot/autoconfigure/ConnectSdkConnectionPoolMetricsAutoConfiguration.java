@@ -0,0 +1,50 @@
+/*
+ * ConnectSdkConnectionPoolMetricsAutoConfiguration.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
+
+import java.util.Collections;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.github.robtimus.connect.sdk.java.springboot.metrics.ConnectionPoolMetrics;
+import com.worldline.connect.sdk.java.communication.PooledConnection;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for {@link ConnectionPoolMetrics}.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@Configuration
+@AutoConfigureAfter(ConnectSdkConnectionAutoConfiguration.class)
+@ConditionalOnClass(MeterBinder.class)
+@ConditionalOnBean(PooledConnection.class)
+@ConditionalOnMissingBean(ConnectionPoolMetrics.class)
+@SuppressWarnings("javadoc")
+public class ConnectSdkConnectionPoolMetricsAutoConfiguration {
+
+    @Bean
+    public ConnectionPoolMetrics connectSdkConnectionPoolMetrics(PooledConnection connection) {
+        return new ConnectionPoolMetrics(connection, Collections.emptyList());
+    }
+}
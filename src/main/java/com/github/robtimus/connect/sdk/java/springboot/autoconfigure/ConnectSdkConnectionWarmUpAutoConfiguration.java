@@ -0,0 +1,102 @@
+/*
+ * ConnectSdkConnectionWarmUpAutoConfiguration.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import com.github.robtimus.connect.sdk.java.springboot.ConnectionWarmUp;
+import com.github.robtimus.connect.sdk.java.springboot.autoconfigure.ConnectSdkConnectionWarmUpAutoConfiguration.OnWarmUpConnectionsCondition;
+import com.worldline.connect.sdk.java.v1.merchant.MerchantClient;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for {@link ConnectionWarmUp}.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@Configuration
+@AutoConfigureAfter(ConnectSdkMerchantClientAutoConfiguration.class)
+@ConditionalOnMissingBean(ConnectionWarmUp.class)
+@ConditionalOnBean(MerchantClient.class)
+@Conditional(OnWarmUpConnectionsCondition.class)
+@SuppressWarnings({ "nls", "javadoc" })
+public class ConnectSdkConnectionWarmUpAutoConfiguration {
+
+    @Bean
+    public ConnectionWarmUp connectSdkConnectionWarmUp(MerchantClient merchantClient,
+            @Value("${connect.api.warm-up.connections}") int connections,
+            @Value("${connect.api.warm-up.timeout:10000}") long timeout) {
+
+        return new ConnectionWarmUp(merchantClient, connections, Duration.ofMillis(timeout));
+    }
+
+    @Configuration
+    @ConditionalOnClass(MeterBinder.class)
+    static class Metrics {
+
+        @Bean
+        MeterBinder connectSdkConnectionWarmUpMetrics(ConnectionWarmUp warmUp) {
+            return registry -> {
+                TimeGauge.builder("connect.sdk.warm-up.duration", warmUp, TimeUnit.MILLISECONDS, Metrics::durationInMillis)
+                        .description("The duration of the connection warm-up")
+                        .register(registry);
+                Gauge.builder("connect.sdk.warm-up.connections", warmUp, ConnectionWarmUp::successCount)
+                        .description("The number of connections that were warmed up")
+                        .baseUnit("connections")
+                        .register(registry);
+            };
+        }
+
+        private static double durationInMillis(ConnectionWarmUp warmUp) {
+            Duration duration = warmUp.duration();
+            return duration != null ? duration.toMillis() : Double.NaN;
+        }
+    }
+
+    static class OnWarmUpConnectionsCondition extends SpringBootCondition {
+
+        @Override
+        public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            Integer connections = context.getEnvironment().getProperty("connect.api.warm-up.connections", Integer.class);
+            if (connections == null) {
+                return ConditionOutcome.noMatch("connect.api.warm-up.connections is not set");
+            }
+            // 0 disables the warm-up; negative values are rejected by ConnectionWarmUp
+            if (connections == 0) {
+                return ConditionOutcome.noMatch("connect.api.warm-up.connections is 0");
+            }
+            return ConditionOutcome.match();
+        }
+    }
+}
@@ -17,7 +17,7 @@
 
 package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
 
-import static com.github.robtimus.connect.sdk.java.springboot.autoconfigure.ConnectSdkConnectionAutoConfiguration.ConnectionManager.IDLE_TIME;
+import static com.github.robtimus.connect.sdk.java.springboot.autoconfigure.ConnectSdkConnectionAutoConfiguration.IDLE_TIME;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
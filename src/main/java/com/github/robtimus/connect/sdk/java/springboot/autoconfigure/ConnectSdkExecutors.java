@@ -0,0 +1,64 @@
+/*
+ * ConnectSdkExecutors.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
+
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Factory methods for the executors of auto-configured beans.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+final class ConnectSdkExecutors {
+
+    private static final long PLATFORM_KEEP_ALIVE_SECONDS = 60;
+
+    private ConnectSdkExecutors() {
+    }
+
+    /**
+     * Creates a new executor without a queue. If all threads are busy, new tasks are rejected with a
+     * {@link java.util.concurrent.RejectedExecutionException}.
+     * <p>
+     * Beans for the returned executor should use {@code shutdownNow} as destroy method. That interrupts running tasks, unlike
+     * {@code close}, which waits until all tasks have finished.
+     *
+     * @param threadNamePrefix The prefix for the names of the threads.
+     * @param maxThreads The maximum number of threads.
+     * @param virtualThreads {@code true} to use virtual threads, or {@code false} to use platform daemon threads.
+     * @return The created executor.
+     */
+    static ThreadPoolExecutor newBoundedExecutor(String threadNamePrefix, int maxThreads, boolean virtualThreads) {
+        if (virtualThreads) {
+            // virtual threads are cheap to create and should not be pooled, so they terminate as soon as their task has finished;
+            // the executor then only limits the number of concurrent tasks
+            ThreadFactory threadFactory = new VirtualThreadTaskExecutor(threadNamePrefix).getVirtualThreadFactory();
+            return new ThreadPoolExecutor(0, maxThreads, 0, TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory);
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+        threadFactory.setDaemon(true);
+        return new ThreadPoolExecutor(0, maxThreads, PLATFORM_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory);
+    }
+}
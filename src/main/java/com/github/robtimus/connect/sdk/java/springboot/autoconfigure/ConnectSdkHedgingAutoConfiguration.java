@@ -0,0 +1,111 @@
+/*
+ * ConnectSdkHedgingAutoConfiguration.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import com.github.robtimus.connect.sdk.java.springboot.communication.HedgedConnection;
+import com.github.robtimus.connect.sdk.java.springboot.communication.HedgingPolicy;
+import com.github.robtimus.connect.sdk.java.springboot.metrics.HedgingMetrics;
+import com.worldline.connect.sdk.java.communication.Connection;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for {@link HedgedConnection}.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@Configuration
+// Registering the executor bean after TaskExecutionAutoConfiguration prevents that the applicationTaskExecutor bean backs off
+@AutoConfigureAfter(value = ConnectSdkConnectionAutoConfiguration.class,
+        name = "org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration")
+@AutoConfigureBefore(ConnectSdkCommunicatorAutoConfiguration.class)
+@ConditionalOnProperty(name = "connect.api.hedging.enabled", havingValue = "true")
+@ConditionalOnSingleCandidate(Connection.class)
+@SuppressWarnings({ "nls", "javadoc" })
+public class ConnectSdkHedgingAutoConfiguration {
+
+    static final String HEDGING_EXECUTOR = "connectSdkHedgingExecutor";
+
+    private static final String THREAD_NAME_PREFIX = "connect-sdk-hedging-";
+
+    @Bean
+    @ConditionalOnMissingBean
+    public HedgingPolicy connectSdkHedgingPolicy(
+            @Value("${connect.api.hedging.percentile:95}") double percentile,
+            @Value("${connect.api.hedging.min-delay:50}") long minDelay,
+            @Value("${connect.api.hedging.initial-delay:1000}") long initialDelay) {
+
+        return new HedgingPolicy(percentile, Duration.ofMillis(minDelay), Duration.ofMillis(initialDelay));
+    }
+
+    // The connection is not used, but by depending on it the executor is shut down before the connection is closed,
+    // so hedged requests that are still running don't use a closed connection.
+    // The executor has no queue; if all threads are busy it rejects requests, and HedgedConnection sends them without hedging.
+    @Bean(name = HEDGING_EXECUTOR, destroyMethod = "shutdownNow")
+    @ConditionalOnMissingBean(name = HEDGING_EXECUTOR)
+    public ThreadPoolExecutor connectSdkHedgingExecutor(@SuppressWarnings("unused") Connection connection, Environment environment,
+            @Value("${connect.api.hedging.max-threads:20}") int maxThreads) {
+
+        if (maxThreads <= 0) {
+            throw new IllegalStateException("connect.api.hedging.max-threads must be > 0, is " + maxThreads);
+        }
+        return ConnectSdkExecutors.newBoundedExecutor(THREAD_NAME_PREFIX, maxThreads, Threading.VIRTUAL.isActive(environment));
+    }
+
+    // Hedged requests should be subject to any rate and concurrency limit, and any timed connection should include the hedging
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE - 10)
+    public ConnectionDecorator connectSdkHedgingDecorator(HedgingPolicy policy, @Qualifier(HEDGING_EXECUTOR) Executor executor,
+            @Value("${connect.api.hedging.idempotent-posts:/v1/{merchantId}/services/getIINdetails}") String[] idempotentPostTemplates) {
+
+        List<String> templates = Arrays.asList(idempotentPostTemplates);
+        return connection -> new HedgedConnection(connection, policy, templates, executor);
+    }
+
+    @Configuration
+    @ConditionalOnClass(MeterBinder.class)
+    static class Metrics {
+
+        @Bean
+        @ConditionalOnMissingBean
+        HedgingMetrics connectSdkHedgingMetrics(HedgingPolicy policy) {
+            return new HedgingMetrics(policy, Collections.emptyList());
+        }
+    }
+}
@@ -17,6 +17,9 @@
 
 package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
 
+import java.time.Duration;
+import java.util.Locale;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
@@ -27,6 +30,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import com.github.robtimus.connect.sdk.java.springboot.actuator.LoggingEndpoint;
+import com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLoggingPolicy;
 
 /**
  * {@link EnableAutoConfiguration Auto-configuration} for {@link LoggingEndpoint}.
@@ -42,10 +46,18 @@ public class ConnectSdkLoggingEndpointAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public LoggingEndpoint connectSdkLoggingEndpoint(ApplicationContext context) {
+    public LoggingEndpoint connectSdkLoggingEndpoint(ApplicationContext context,
+            @Value("${connect.api.logger.policy.type:all}") String policyType,
+            @Value("${connect.api.logger.policy.sample-rate:100}") int sampleRate,
+            @Value("${connect.api.logger.policy.slow-threshold:1000}") long slowThreshold,
+            @Value("${connect.api.logger.default-duration:0}") long defaultDuration) {
+
+        CommunicatorLoggingPolicy.Type type = CommunicatorLoggingPolicy.Type.valueOf(policyType.toUpperCase(Locale.ROOT));
+        CommunicatorLoggingPolicy defaultPolicy = CommunicatorLoggingPolicy.of(type, sampleRate, Duration.ofMillis(slowThreshold));
+
         // there will always be at least one closeable bean available - either a custom Connection, or the auto-configured Connection
         // unless if Logback is disabled, there will always be at least one logger bean available - either a custom CommunicatorLogger, or the
         // auto-configured CommunicatorLogger
-        return new LoggingEndpoint(context);
+        return new LoggingEndpoint(context, defaultPolicy, Duration.ofMillis(defaultDuration));
     }
 }
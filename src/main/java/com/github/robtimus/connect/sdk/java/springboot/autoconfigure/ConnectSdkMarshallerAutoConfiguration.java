@@ -17,12 +17,24 @@
 
 package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
 
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import com.github.robtimus.connect.sdk.java.springboot.json.DomainTypeAdapters;
+import com.github.robtimus.connect.sdk.java.springboot.json.GsonMarshaller;
+import com.github.robtimus.connect.sdk.java.springboot.json.JacksonMarshaller;
+import com.github.robtimus.connect.sdk.java.springboot.json.PooledGsonMarshaller;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 import com.worldline.connect.sdk.java.json.DefaultMarshaller;
 import com.worldline.connect.sdk.java.json.Marshaller;
+import tools.jackson.databind.json.JsonMapper;
 
 /**
  * {@link EnableAutoConfiguration Auto-configuration} for
@@ -32,11 +44,66 @@ import com.worldline.connect.sdk.java.json.Marshaller;
  */
 @Configuration
 @ConditionalOnMissingBean(Marshaller.class)
-@SuppressWarnings("javadoc")
+@SuppressWarnings({ "nls", "javadoc" })
 public class ConnectSdkMarshallerAutoConfiguration {
 
     @Bean
-    public Marshaller connectSdkMarshaller() {
-        return DefaultMarshaller.INSTANCE;
+    @ConditionalOnProperty(name = "connect.api.marshaller", havingValue = "gson", matchIfMissing = true)
+    public Marshaller connectSdkMarshaller(@Value("${connect.api.marshaller-pooling:false}") boolean pooling,
+            @Value("${connect.api.marshaller-type-adapters:true}") boolean typeAdapters,
+            List<MarshallerGsonBuilderCustomizer> customizers) {
+
+        // DefaultMarshaller's Gson instance cannot be customized
+        if (typeAdapters || !customizers.isEmpty()) {
+            GsonBuilder builder = PooledGsonMarshaller.gsonBuilder();
+            if (typeAdapters) {
+                // registered first, so type adapters registered by customizers take precedence
+                builder.registerTypeAdapterFactory(DomainTypeAdapters.factory());
+            }
+            customize(builder, customizers);
+            Gson gson = builder.create();
+            return pooling
+                    ? new PooledGsonMarshaller(gson, PooledGsonMarshaller.DEFAULT_MAX_IDLE)
+                    : new GsonMarshaller(gson);
+        }
+        return pooling
+                ? new PooledGsonMarshaller()
+                : DefaultMarshaller.INSTANCE;
+    }
+
+    private void customize(GsonBuilder builder, List<MarshallerGsonBuilderCustomizer> customizers) {
+        for (MarshallerGsonBuilderCustomizer customizer : customizers) {
+            customizer.customize(builder);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnClass(JsonMapper.class)
+    @ConditionalOnProperty(name = "connect.api.marshaller", havingValue = "jackson")
+    static class Jackson {
+
+        // Don't use the application's JsonMapper as basis; settings like mix-ins or default typing would change the SDK's JSON
+        @Bean
+        JacksonMarshaller connectSdkJacksonMarshaller(List<MarshallerGsonBuilderCustomizer> customizers) {
+            if (!customizers.isEmpty()) {
+                // the customizers would have no effect at all
+                throw new IllegalStateException("Beans of type " + MarshallerGsonBuilderCustomizer.class.getSimpleName()
+                        + " are not supported if property 'connect.api.marshaller' is set to jackson");
+            }
+            return new JacksonMarshaller();
+        }
+    }
+
+    @Configuration
+    @ConditionalOnMissingClass("tools.jackson.databind.json.JsonMapper")
+    @ConditionalOnProperty(name = "connect.api.marshaller", havingValue = "jackson")
+    static class JacksonMissing {
+
+        // Without this, the SDK would silently fall back to its own default marshaller
+        @Bean
+        Marshaller connectSdkJacksonMarshaller() {
+            throw new IllegalStateException("Property 'connect.api.marshaller' is set to jackson, but Jackson 3 is not available; "
+                    + "add tools.jackson.core:jackson-databind as dependency");
+        }
     }
 }
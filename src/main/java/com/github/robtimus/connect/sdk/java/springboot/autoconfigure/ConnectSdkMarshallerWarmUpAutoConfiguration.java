@@ -0,0 +1,52 @@
+/*
+ * ConnectSdkMarshallerWarmUpAutoConfiguration.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.github.robtimus.connect.sdk.java.springboot.MarshallerWarmUp;
+import com.worldline.connect.sdk.java.json.Marshaller;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for {@link MarshallerWarmUp}.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@Configuration
+@AutoConfigureAfter(ConnectSdkMarshallerAutoConfiguration.class)
+@ConditionalOnMissingBean(MarshallerWarmUp.class)
+@ConditionalOnBean(Marshaller.class)
+@ConditionalOnProperty(name = "connect.api.warm-up.marshaller", havingValue = "true")
+@SuppressWarnings({ "nls", "javadoc" })
+public class ConnectSdkMarshallerWarmUpAutoConfiguration {
+
+    @Bean
+    public MarshallerWarmUp connectSdkMarshallerWarmUp(Marshaller marshaller,
+            @Value("${connect.api.warm-up.timeout:10000}") long timeout) {
+
+        return new MarshallerWarmUp(marshaller, Duration.ofMillis(timeout));
+    }
+}
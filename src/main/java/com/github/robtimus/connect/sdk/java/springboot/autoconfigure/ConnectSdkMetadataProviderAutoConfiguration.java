@@ -69,6 +69,8 @@ public class ConnectSdkMetadataProviderAutoConfiguration {
 
         customize(builder, customizers);
 
+        // the MetadataProvider serializes the server meta info header and combines it with the additional headers once, when it's built;
+        // all Communicator calls reuse that same unmodifiable collection, so all customizations must be applied before building it
         return builder.build();
     }
 
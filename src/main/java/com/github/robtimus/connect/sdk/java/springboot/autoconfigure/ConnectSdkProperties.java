@@ -38,10 +38,22 @@ public class ConnectSdkProperties {
     private int connectTimeout = 5_000;
     /** Socket/read timeout for HTTP requests. */
     private int socketTimeout = 300_000;
+    /**
+     * Timeout for receiving the response headers of HTTP requests, only used for connection type JDK_HTTP_CLIENT.
+     * Unlike the socket timeout, this covers the entire time between sending a request and receiving the response headers.
+     */
+    private int requestTimeout = 300_000;
     /** Maximum number of concurrent HTTP connections. */
     private int maxConnections = CommunicatorConfiguration.DEFAULT_MAX_CONNECTIONS;
     /** Whether or not to reuse connections. */
     private boolean connectionReuse = true;
+    /**
+     * The type of connection to use.
+     * If not specified, DEFAULT is used, and a warning is logged if virtual threads are enabled.
+     * JDK_HTTP_CLIENT does not support max-connections, connection-reuse and socket-timeout; setting any of these with JDK_HTTP_CLIENT fails
+     * startup.
+     */
+    private ConnectionType connectionType;
 
     /** Authorization type, should only be V1HMAC. */
     private AuthorizationType authorizationType = AuthorizationType.V1HMAC;
@@ -83,6 +95,14 @@ public class ConnectSdkProperties {
         this.socketTimeout = socketTimeout;
     }
 
+    public int getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    public void setRequestTimeout(int requestTimeout) {
+        this.requestTimeout = requestTimeout;
+    }
+
     public int getMaxConnections() {
         return maxConnections;
     }
@@ -99,6 +119,14 @@ public class ConnectSdkProperties {
         this.connectionReuse = connectionReuse;
     }
 
+    public ConnectionType getConnectionType() {
+        return connectionType;
+    }
+
+    public void setConnectionType(ConnectionType connectionType) {
+        this.connectionType = connectionType;
+    }
+
     public AuthorizationType getAuthorizationType() {
         return authorizationType;
     }
@@ -155,6 +183,15 @@ public class ConnectSdkProperties {
         this.shoppingCartExtension = shoppingCartExtension;
     }
 
+    public enum ConnectionType {
+        /** A connection based on Apache HttpClient, as provided by connect-sdk-java. */
+        DEFAULT,
+        /** A connection based on {@link java.net.http.HttpClient}, that uses HTTP/2 if possible. */
+        JDK_HTTP_CLIENT,
+        /** JDK_HTTP_CLIENT if virtual threads are enabled, DEFAULT otherwise. */
+        AUTO,
+    }
+
     public static class Endpoint {
 
         /** Hostname of the API endpoint to use. */
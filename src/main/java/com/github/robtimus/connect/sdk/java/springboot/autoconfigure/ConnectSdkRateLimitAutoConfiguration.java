@@ -0,0 +1,98 @@
+/*
+ * ConnectSdkRateLimitAutoConfiguration.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import com.github.robtimus.connect.sdk.java.springboot.communication.RateLimitedConnection;
+import com.github.robtimus.connect.sdk.java.springboot.communication.RateLimiter;
+import com.github.robtimus.connect.sdk.java.springboot.communication.RateLimits;
+import com.github.robtimus.connect.sdk.java.springboot.metrics.RateLimiterMetrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for {@link RateLimitedConnection}.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@Configuration
+@AutoConfigureBefore(ConnectSdkCommunicatorAutoConfiguration.class)
+@ConditionalOnProperty(name = "connect.api.rate-limit.enabled", havingValue = "true")
+@EnableConfigurationProperties(ConnectSdkRateLimitProperties.class)
+@SuppressWarnings({ "nls", "javadoc" })
+public class ConnectSdkRateLimitAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public RateLimits connectSdkRateLimits(ConnectSdkRateLimitProperties properties) {
+        Duration maxWait = Duration.ofMillis(properties.getMaxWait());
+
+        RateLimiter global = properties.getPermitsPerSecond() != null
+                ? new RateLimiter(properties.getPermitsPerSecond(), properties.getBurst(), maxWait)
+                : null;
+
+        Map<String, RateLimiter> groups = new LinkedHashMap<>();
+        Map<String, String> operations = new LinkedHashMap<>();
+        properties.getGroups().forEach((group, groupProperties) -> {
+            if (groupProperties.getOperations().isEmpty()) {
+                throw new IllegalStateException("No operations specified for rate limit group '" + group + "'");
+            }
+            groups.put(group, new RateLimiter(groupProperties.getPermitsPerSecond(), groupProperties.getBurst(), maxWait));
+            for (String operation : groupProperties.getOperations()) {
+                String existingGroup = operations.put(operation, group);
+                if (existingGroup != null) {
+                    throw new IllegalStateException("Operation '" + operation + "' is part of rate limit groups '" + existingGroup
+                            + "' and '" + group + "'");
+                }
+            }
+        });
+
+        return new RateLimits(global, groups, operations);
+    }
+
+    // Requests should wait for the rate limit before they acquire a concurrency limit permit, and any timed connection should include the wait
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE - 50)
+    public ConnectionDecorator connectSdkRateLimitDecorator(RateLimits rateLimits) {
+        return connection -> new RateLimitedConnection(connection, rateLimits);
+    }
+
+    @Configuration
+    @ConditionalOnClass(MeterBinder.class)
+    static class Metrics {
+
+        @Bean
+        @ConditionalOnMissingBean
+        RateLimiterMetrics connectSdkRateLimiterMetrics(RateLimits rateLimits) {
+            return new RateLimiterMetrics(rateLimits, Collections.emptyList());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * ConnectSdkRateLimitProperties.java
+ * Copyright 2019 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Properties for rate limiting requests to the Worldline Connect Server API.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@ConfigurationProperties("connect.api.rate-limit")
+@SuppressWarnings({ "nls", "javadoc" })
+public class ConnectSdkRateLimitProperties {
+
+    /** Enable rate limiting. */
+    private boolean enabled = false;
+    /** The number of requests per second for all requests. If not specified, only the operation groups are limited. */
+    private Double permitsPerSecond;
+    /** The maximum number of requests that can be sent at once for all requests. */
+    private int burst = 1;
+    /** Maximum time in ms to wait for a permit. */
+    private long maxWait = 1_000;
+    /** Rate limits per operation group. */
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public void setPermitsPerSecond(Double permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    public void setBurst(int burst) {
+        this.burst = burst;
+    }
+
+    public long getMaxWait() {
+        return maxWait;
+    }
+
+    public void setMaxWait(long maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    public Map<String, Group> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(Map<String, Group> groups) {
+        this.groups = groups;
+    }
+
+    public static class Group {
+
+        /** The number of requests per second for the operation group. */
+        private double permitsPerSecond;
+        /** The maximum number of requests that can be sent at once for the operation group. */
+        private int burst = 1;
+        /**
+         * The operations of the operation group, as HTTP method and path template separated by a space.
+         * For instance, POST /v1/{merchantId}/payments/{paymentId}/refund.
+         */
+        private List<String> operations = new ArrayList<>();
+
+        public double getPermitsPerSecond() {
+            return permitsPerSecond;
+        }
+
+        public void setPermitsPerSecond(double permitsPerSecond) {
+            this.permitsPerSecond = permitsPerSecond;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+
+        public List<String> getOperations() {
+            return operations;
+        }
+
+        public void setOperations(List<String> operations) {
+            this.operations = operations;
+        }
+    }
+}
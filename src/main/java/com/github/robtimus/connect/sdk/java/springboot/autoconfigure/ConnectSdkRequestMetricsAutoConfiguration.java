@@ -0,0 +1,54 @@
+/*
+ * ConnectSdkRequestMetricsAutoConfiguration.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import com.github.robtimus.connect.sdk.java.springboot.metrics.TimedConnection;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for {@link TimedConnection}.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@Configuration
+@AutoConfigureBefore(ConnectSdkCommunicatorAutoConfiguration.class)
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnProperty(name = "connect.api.metrics.requests.enabled", havingValue = "true", matchIfMissing = true)
+@SuppressWarnings({ "nls", "javadoc" })
+public class ConnectSdkRequestMetricsAutoConfiguration {
+
+    // The timed connection should be the outermost connection, so it includes the time spent in any other decorator
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public ConnectionDecorator connectSdkTimedConnectionDecorator(ObjectProvider<MeterRegistry> meterRegistry) {
+        return connection -> {
+            MeterRegistry registry = meterRegistry.getIfUnique();
+            return registry != null ? new TimedConnection(connection, registry) : connection;
+        };
+    }
+}
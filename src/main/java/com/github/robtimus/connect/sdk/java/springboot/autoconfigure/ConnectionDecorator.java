@@ -0,0 +1,44 @@
+/*
+ * ConnectionDecorator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
+
+import com.worldline.connect.sdk.java.Communicator;
+import com.worldline.connect.sdk.java.communication.Connection;
+
+/**
+ * Callback interface that can be implemented by beans wishing to decorate the {@link Connection} that is used by an auto-configured
+ * {@link Communicator}. Decorators are applied in their {@link org.springframework.core.annotation.Order order}; the last decorator is the
+ * outermost one.
+ * <p>
+ * Decorators only affect the {@link Communicator}; the {@link Connection} bean itself is not replaced.
+ * The {@link Connection} bean is also closed directly, so decorators should not rely on being closed.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@FunctionalInterface
+public interface ConnectionDecorator {
+
+    /**
+     * Decorates a {@link Connection}.
+     *
+     * @param connection The connection to decorate.
+     * @return The decorated connection; possibly {@code connection} itself.
+     */
+    Connection decorate(Connection connection);
+}
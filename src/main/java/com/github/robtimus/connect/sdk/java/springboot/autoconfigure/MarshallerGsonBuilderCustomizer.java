@@ -0,0 +1,46 @@
+/*
+ * MarshallerGsonBuilderCustomizer.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
+
+import com.github.robtimus.connect.sdk.java.springboot.json.GsonMarshaller;
+import com.github.robtimus.connect.sdk.java.springboot.json.PooledGsonMarshaller;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Callback interface that can be implemented by beans wishing to customize the {@link GsonBuilder} of the auto-configured Gson based
+ * {@link com.worldline.connect.sdk.java.json.Marshaller Marshaller} whilst retaining default auto-configuration.
+ * This can be used to register type adapters for the SDK's domain classes, for instance hand-written adapters for frequently used classes.
+ * These take precedence over the generated type adapters that are registered by default.
+ * <p>
+ * If beans of this type are available, the auto-configured {@code Marshaller} is a {@link PooledGsonMarshaller} if property
+ * {@code connect.api.marshaller-pooling} is {@code true}, or a {@link GsonMarshaller} otherwise.
+ * Beans of this type are not supported if property {@code connect.api.marshaller} is {@code jackson}; the application will fail to start.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@FunctionalInterface
+public interface MarshallerGsonBuilderCustomizer {
+
+    /**
+     * Customizes the {@link GsonBuilder}.
+     *
+     * @param builder The builder to customize.
+     */
+    void customize(GsonBuilder builder);
+}
@@ -22,6 +22,9 @@ import com.worldline.connect.sdk.java.communication.MetadataProviderBuilder;
 
 /**
  * Callback interface that can be implemented by beans wishing to customize the {@link MetadataProvider} whilst retaining default auto-configuration.
+ * <p>
+ * Customizers are called only once, when the {@link MetadataProvider} is created. The resulting headers are computed at that time, and are
+ * then reused for all requests.
  *
  * @author Rob Spoor
  */
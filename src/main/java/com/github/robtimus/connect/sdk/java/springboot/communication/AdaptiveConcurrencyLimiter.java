@@ -0,0 +1,220 @@
+/*
+ * AdaptiveConcurrencyLimiter.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A limiter for the number of concurrent requests, with a limit that adapts to the observed round-trip times.
+ * <p>
+ * The limit is adjusted using an additive increase / multiplicative decrease (AIMD) algorithm:
+ * <ul>
+ *   <li>If a request was overloaded (it failed with a communication error, returned status code 429 or 503, or took longer than the
+ *       latency threshold), the limit is multiplied by {@value #BACKOFF_RATIO}, but not below the minimum limit.</li>
+ *   <li>Otherwise, if at least half of the limit was in use, the limit is increased by one, but not above the maximum limit.
+ *       If less than half of the limit was in use, the limit is left as-is, because it is not what restricts the throughput.</li>
+ * </ul>
+ * Requests that cannot get a permit immediately wait at most a configurable time for one. If no permit becomes available in time, the
+ * request is rejected.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public class AdaptiveConcurrencyLimiter {
+
+    /** The ratio with which the limit is multiplied if a request was overloaded. */
+    public static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final long maxWaitNanos;
+
+    private final ReentrantLock lock;
+    private final Condition permitAvailable;
+
+    // only updated while holding the lock; volatile so they can be read without it
+    private volatile int limit;
+    private volatile int inFlight;
+
+    private final LongAdder rejectedCount;
+
+    /**
+     * Creates a new limiter.
+     *
+     * @param initialLimit The initial limit.
+     * @param minLimit The minimum limit.
+     * @param maxLimit The maximum limit.
+     * @param latencyThreshold The round-trip time above which requests are considered to be overloaded.
+     * @param maxWait The maximum time to wait for a permit; {@link Duration#ZERO} to reject requests immediately.
+     * @throws IllegalArgumentException If {@code minLimit} is not positive, if {@code initialLimit} is not between {@code minLimit} and
+     *                                      {@code maxLimit}, if {@code latencyThreshold} is not positive, or if {@code maxWait} is negative.
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold, Duration maxWait) {
+        if (minLimit <= 0) {
+            throw new IllegalArgumentException("minLimit must be > 0, is " + minLimit);
+        }
+        if (initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("initialLimit must be between " + minLimit + " and " + maxLimit + ", is " + initialLimit);
+        }
+        if (latencyThreshold.isNegative() || latencyThreshold.isZero()) {
+            throw new IllegalArgumentException("latencyThreshold must be > 0, is " + latencyThreshold);
+        }
+        if (maxWait.isNegative()) {
+            throw new IllegalArgumentException("maxWait must be >= 0, is " + maxWait);
+        }
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.maxWaitNanos = maxWait.toNanos();
+
+        this.lock = new ReentrantLock();
+        this.permitAvailable = lock.newCondition();
+
+        this.limit = initialLimit;
+        this.inFlight = 0;
+
+        this.rejectedCount = new LongAdder();
+    }
+
+    /**
+     * Tries to acquire a permit, waiting at most the configured maximum wait time.
+     * If this method returns {@code true}, {@link #release(long, boolean)} must be called when the request has finished.
+     *
+     * @return {@code true} if a permit was acquired, or {@code false} if the request is rejected.
+     * @throws InterruptedException If the current thread is interrupted while waiting for a permit.
+     */
+    public boolean tryAcquire() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            long remaining = maxWaitNanos;
+            while (inFlight >= limit) {
+                if (remaining <= 0) {
+                    rejectedCount.increment();
+                    return false;
+                }
+                remaining = permitAvailable.awaitNanos(remaining);
+            }
+            inFlight++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases a permit, and adjusts the limit based on the outcome of the request.
+     *
+     * @param rttNanos The round-trip time of the request, in nanoseconds.
+     * @param overloaded {@code true} if the request failed in a way that indicates that the server is overloaded, or {@code false} otherwise.
+     */
+    public void release(long rttNanos, boolean overloaded) {
+        lock.lock();
+        try {
+            int inFlightBefore = inFlight;
+            inFlight = inFlightBefore - 1;
+
+            int currentLimit = limit;
+            if (overloaded || rttNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, (int) (currentLimit * BACKOFF_RATIO));
+                permitAvailable.signal();
+            } else if (inFlightBefore * 2 >= currentLimit && currentLimit < maxLimit) {
+                limit = currentLimit + 1;
+                // one extra permit plus the one that was just released
+                permitAvailable.signalAll();
+            } else {
+                permitAvailable.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the current limit.
+     *
+     * @return The current limit.
+     */
+    public int limit() {
+        return limit;
+    }
+
+    /**
+     * Returns the minimum limit.
+     *
+     * @return The minimum limit.
+     */
+    public int minLimit() {
+        return minLimit;
+    }
+
+    /**
+     * Returns the maximum limit.
+     *
+     * @return The maximum limit.
+     */
+    public int maxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * Returns the number of requests that currently hold a permit.
+     *
+     * @return The number of requests that currently hold a permit.
+     */
+    public int inFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Returns the total number of rejected requests.
+     *
+     * @return The total number of rejected requests.
+     */
+    public long rejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * Returns the maximum time to wait for a permit.
+     *
+     * @return The maximum time to wait for a permit.
+     */
+    public Duration maxWait() {
+        return Duration.ofNanos(maxWaitNanos);
+    }
+
+    /**
+     * Returns the round-trip time above which requests are considered to be overloaded.
+     *
+     * @return The round-trip time above which requests are considered to be overloaded.
+     */
+    public Duration latencyThreshold() {
+        return Duration.ofNanos(latencyThresholdNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveConcurrencyLimiter[limit=" + limit + ", inFlight=" + inFlight + ", rejected=" + rejectedCount() + "]";
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * ApiKeyRotationConnection.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import com.github.robtimus.connect.sdk.java.springboot.ConfigurableV1HMACAuthenticator;
+import com.worldline.connect.sdk.java.communication.CommunicationException;
+import com.worldline.connect.sdk.java.communication.Connection;
+import com.worldline.connect.sdk.java.communication.MultipartFormDataObject;
+import com.worldline.connect.sdk.java.communication.RequestHeader;
+import com.worldline.connect.sdk.java.communication.ResponseHandler;
+import com.worldline.connect.sdk.java.communication.ResponseHeader;
+
+/**
+ * A {@link Connection} that supports API key rotation using a {@link ConfigurableV1HMACAuthenticator}.
+ * <p>
+ * If a request is rejected with status code 401 (Unauthorized) while the authenticator's previous API key is still available, the request
+ * is retried exactly once, signed with the previous API key. Multipart requests are never retried, because their contents can only be sent
+ * once.
+ * <p>
+ * While the previous API key is available, the response of each request is
+ * {@link ConfigurableV1HMACAuthenticator#recordResponse(String, URI, List, String, boolean) recorded} for the API key that was used to sign it.
+ * Outside of such overlap windows, requests are passed to the delegate connection as-is.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public class ApiKeyRotationConnection extends DelegatingConnection {
+
+    private static final int UNAUTHORIZED = 401;
+    private static final String AUTHORIZATION = "Authorization";
+
+    private final ConfigurableV1HMACAuthenticator authenticator;
+
+    /**
+     * Creates a new API key rotation connection.
+     *
+     * @param delegate The connection to delegate all calls to.
+     * @param authenticator The authenticator that is used to sign requests.
+     */
+    public ApiKeyRotationConnection(Connection delegate, ConfigurableV1HMACAuthenticator authenticator) {
+        super(delegate);
+        this.authenticator = Objects.requireNonNull(authenticator);
+    }
+
+    /**
+     * Returns the authenticator that is used to sign requests.
+     *
+     * @return The authenticator that is used to sign requests.
+     */
+    public ConfigurableV1HMACAuthenticator authenticator() {
+        return authenticator;
+    }
+
+    @Override
+    public <R> R get(URI uri, List<RequestHeader> requestHeaders, ResponseHandler<R> responseHandler) {
+        return retry("GET", uri, requestHeaders, responseHandler, (headers, handler) -> super.get(uri, headers, handler));
+    }
+
+    @Override
+    public <R> R delete(URI uri, List<RequestHeader> requestHeaders, ResponseHandler<R> responseHandler) {
+        return retry("DELETE", uri, requestHeaders, responseHandler, (headers, handler) -> super.delete(uri, headers, handler));
+    }
+
+    @Override
+    public <R> R post(URI uri, List<RequestHeader> requestHeaders, String body, ResponseHandler<R> responseHandler) {
+        return retry("POST", uri, requestHeaders, responseHandler, (headers, handler) -> super.post(uri, headers, body, handler));
+    }
+
+    @Override
+    public <R> R post(URI uri, List<RequestHeader> requestHeaders, MultipartFormDataObject multipart, ResponseHandler<R> responseHandler) {
+        return record("POST", uri, requestHeaders, responseHandler, handler -> super.post(uri, requestHeaders, multipart, handler));
+    }
+
+    @Override
+    public <R> R put(URI uri, List<RequestHeader> requestHeaders, String body, ResponseHandler<R> responseHandler) {
+        return retry("PUT", uri, requestHeaders, responseHandler, (headers, handler) -> super.put(uri, headers, body, handler));
+    }
+
+    @Override
+    public <R> R put(URI uri, List<RequestHeader> requestHeaders, MultipartFormDataObject multipart, ResponseHandler<R> responseHandler) {
+        return record("PUT", uri, requestHeaders, responseHandler, handler -> super.put(uri, requestHeaders, multipart, handler));
+    }
+
+    private <R> R retry(String httpMethod, URI uri, List<RequestHeader> requestHeaders, ResponseHandler<R> responseHandler,
+            BiFunction<List<RequestHeader>, ResponseHandler<R>, R> call) {
+
+        if (authenticator.previousApiKey() == null) {
+            // no overlap window, so there is nothing to retry with or to record
+            return call.apply(requestHeaders, responseHandler);
+        }
+
+        String authorization = findAuthorization(requestHeaders);
+        if (authorization == null) {
+            return call.apply(requestHeaders, responseHandler);
+        }
+
+        RetryDetectingResponseHandler<R> handler = new RetryDetectingResponseHandler<>(responseHandler, httpMethod, uri, requestHeaders,
+                authorization);
+        R result = call.apply(requestHeaders, handler);
+        if (handler.retryAuthorization == null) {
+            return result;
+        }
+
+        List<RequestHeader> retryHeaders = replaceAuthorization(requestHeaders, handler.retryAuthorization);
+        return call.apply(retryHeaders, new RecordingResponseHandler<>(responseHandler, httpMethod, uri, requestHeaders, handler.retryAuthorization));
+    }
+
+    private <R> R record(String httpMethod, URI uri, List<RequestHeader> requestHeaders, ResponseHandler<R> responseHandler,
+            Function<ResponseHandler<R>, R> call) {
+
+        String authorization = findAuthorization(requestHeaders);
+        return authorization == null || authenticator.previousApiKey() == null
+                ? call.apply(responseHandler)
+                : call.apply(new RecordingResponseHandler<>(responseHandler, httpMethod, uri, requestHeaders, authorization));
+    }
+
+    private static String findAuthorization(List<RequestHeader> requestHeaders) {
+        if (requestHeaders != null) {
+            for (RequestHeader requestHeader : requestHeaders) {
+                if (AUTHORIZATION.equalsIgnoreCase(requestHeader.getName())) {
+                    return requestHeader.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static List<RequestHeader> withoutAuthorization(List<RequestHeader> requestHeaders) {
+        List<RequestHeader> result = new ArrayList<>(requestHeaders.size());
+        for (RequestHeader requestHeader : requestHeaders) {
+            if (!AUTHORIZATION.equalsIgnoreCase(requestHeader.getName())) {
+                result.add(requestHeader);
+            }
+        }
+        return result;
+    }
+
+    private static List<RequestHeader> replaceAuthorization(List<RequestHeader> requestHeaders, String authorization) {
+        List<RequestHeader> result = new ArrayList<>(requestHeaders.size());
+        for (RequestHeader requestHeader : requestHeaders) {
+            if (AUTHORIZATION.equalsIgnoreCase(requestHeader.getName())) {
+                result.add(new RequestHeader(requestHeader.getName(), authorization));
+            } else {
+                result.add(requestHeader);
+            }
+        }
+        return result;
+    }
+
+    private class RecordingResponseHandler<R> implements ResponseHandler<R> {
+
+        private final ResponseHandler<R> delegate;
+        private final String httpMethod;
+        private final URI uri;
+        private final List<RequestHeader> requestHeaders;
+        private final String authorization;
+
+        private RecordingResponseHandler(ResponseHandler<R> delegate, String httpMethod, URI uri, List<RequestHeader> requestHeaders,
+                String authorization) {
+
+            this.delegate = delegate;
+            this.httpMethod = httpMethod;
+            this.uri = uri;
+            this.requestHeaders = requestHeaders;
+            this.authorization = authorization;
+        }
+
+        @Override
+        public R handleResponse(int statusCode, InputStream bodyStream, List<ResponseHeader> headers) {
+            record(statusCode != UNAUTHORIZED);
+            return delegate.handleResponse(statusCode, bodyStream, headers);
+        }
+
+        void record(boolean authenticated) {
+            // the Communicator signed the request headers without the authorization header
+            authenticator.recordResponse(httpMethod, uri, withoutAuthorization(requestHeaders), authorization, authenticated);
+        }
+    }
+
+    private final class RetryDetectingResponseHandler<R> extends RecordingResponseHandler<R> {
+
+        private String retryAuthorization;
+
+        private RetryDetectingResponseHandler(ResponseHandler<R> delegate, String httpMethod, URI uri, List<RequestHeader> requestHeaders,
+                String authorization) {
+
+            super(delegate, httpMethod, uri, requestHeaders, authorization);
+        }
+
+        @Override
+        public R handleResponse(int statusCode, InputStream bodyStream, List<ResponseHeader> headers) {
+            if (statusCode == UNAUTHORIZED) {
+                // the Communicator signed the request headers without the authorization header
+                String previousAuthorization = authenticator.getPreviousAuthorization(super.httpMethod, super.uri,
+                        withoutAuthorization(super.requestHeaders));
+                // if the request was already signed with the previous API key there is no point in retrying
+                if (previousAuthorization != null && !previousAuthorization.equals(super.authorization)) {
+                    record(false);
+                    discard(bodyStream);
+                    retryAuthorization = previousAuthorization;
+                    return null;
+                }
+            }
+            return super.handleResponse(statusCode, bodyStream, headers);
+        }
+
+        private void discard(InputStream bodyStream) {
+            // read the body fully so the connection can be reused for the retry
+            try {
+                bodyStream.transferTo(OutputStream.nullOutputStream());
+            } catch (IOException e) {
+                throw new CommunicationException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * ApiPaths.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+/**
+ * Utility methods for paths of the Worldline Connect Server API.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public final class ApiPaths {
+
+    /** The template that is returned for paths that are not Worldline Connect Server API paths. */
+    public static final String UNKNOWN = "UNKNOWN";
+
+    // the file service uses paths like /files/v1/<merchantId>/files/<fileId>
+    private static final String FILES_PREFIX = "/files";
+    private static final String MERCHANT_ID = "{merchantId}";
+
+    // resources that are followed by an identifier, and the name of the identifier
+    // this is an array and not a map, so the resource can be matched without creating a substring
+    private static final String[][] IDENTIFIERS = {
+            { "captures", "{captureId}" },
+            { "disputes", "{disputeId}" },
+            { "files", "{fileId}" },
+            { "hostedcheckouts", "{hostedCheckoutId}" },
+            { "hostedmandatemanagements", "{hostedMandateManagementId}" },
+            { "mandates", "{uniqueMandateReference}" },
+            { "payments", "{paymentId}" },
+            { "payouts", "{payoutId}" },
+            { "productgroups", "{paymentProductGroupId}" },
+            { "products", "{paymentProductId}" },
+            { "refunds", "{refundId}" },
+            { "tokens", "{tokenId}" },
+    };
+
+    private ApiPaths() {
+    }
+
+    /**
+     * Returns the template for a path of the Worldline Connect Server API.
+     * In the template, the merchant id and any resource identifiers are replaced by placeholders.
+     * For instance, {@code /v1/1234/payments/000000123410000595980000100001/approve} becomes
+     * {@code /v1/{merchantId}/payments/{paymentId}/approve}, and {@code /files/v1/1234/files/5678} becomes
+     * {@code /files/v1/{merchantId}/files/{fileId}}.
+     * <p>
+     * The result has a low cardinality, which makes it suitable for use as a metric tag.
+     *
+     * @param path The path to return the template for.
+     * @return The template for the given path, or {@link #UNKNOWN} if the path is not a Worldline Connect Server API path.
+     */
+    public static String toTemplate(String path) {
+        // path is [/files]/<version>/<merchantId>[/<resource>[/<id or action>[/<action>...]]]
+        if (path == null) {
+            return UNKNOWN;
+        }
+        int versionStart = path.startsWith(FILES_PREFIX + "/") ? FILES_PREFIX.length() : 0;
+        if (!path.startsWith("/v", versionStart)) {
+            return UNKNOWN;
+        }
+
+        // trailing slashes are ignored
+        int end = path.length();
+        while (end > 1 && path.charAt(end - 1) == '/') {
+            end--;
+        }
+
+        int merchantIdStart = path.indexOf('/', versionStart + 1) + 1;
+        if (merchantIdStart == 0 || merchantIdStart > end) {
+            return UNKNOWN;
+        }
+        int merchantIdEnd = segmentEnd(path, merchantIdStart, end);
+
+        StringBuilder template = new StringBuilder(end + MERCHANT_ID.length())
+                .append(path, 0, merchantIdStart)
+                .append(MERCHANT_ID);
+        if (merchantIdEnd < end) {
+            int resourceStart = merchantIdEnd + 1;
+            int resourceEnd = segmentEnd(path, resourceStart, end);
+            String identifier = resourceEnd < end ? findIdentifier(path, resourceStart, resourceEnd) : null;
+            if (identifier != null) {
+                int identifierEnd = segmentEnd(path, resourceEnd + 1, end);
+                template.append(path, merchantIdEnd, resourceEnd + 1)
+                        .append(identifier)
+                        .append(path, identifierEnd, end);
+            } else {
+                template.append(path, merchantIdEnd, end);
+            }
+        }
+        return template.toString();
+    }
+
+    private static int segmentEnd(String path, int segmentStart, int end) {
+        int index = path.indexOf('/', segmentStart);
+        return index == -1 || index > end ? end : index;
+    }
+
+    private static String findIdentifier(String path, int resourceStart, int resourceEnd) {
+        int resourceLength = resourceEnd - resourceStart;
+        for (String[] entry : IDENTIFIERS) {
+            String resource = entry[0];
+            if (resource.length() == resourceLength && path.startsWith(resource, resourceStart)) {
+                return entry[1];
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * CachedDateHeader.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * A provider for values of the HTTP {@code Date} header, in the same RFC 1123 format that the SDK's {@code Communicator} uses.
+ * This value is also part of the data that is signed by the {@code Authenticator}.
+ * <p>
+ * The {@code Date} header only has a precision of seconds, so all requests within the same second share the same value. This class therefore
+ * formats a value at most once per second (per thread in case of races), and caches it in a volatile field. Reading the cached value needs no
+ * locking and causes no allocations.
+ * This class is thread-safe.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public final class CachedDateHeader {
+
+    // the same pattern as used by the SDK; unlike DateTimeFormatter.RFC_1123_DATE_TIME this always uses two digits for the day of month
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US)
+            .withZone(ZoneOffset.UTC);
+
+    private static final CachedDateHeader SYSTEM_UTC = new CachedDateHeader(Clock.systemUTC());
+
+    private final Clock clock;
+
+    private volatile Entry entry;
+
+    /**
+     * Creates a new cached date header.
+     *
+     * @param clock The clock to use for determining the current time.
+     */
+    public CachedDateHeader(Clock clock) {
+        this.clock = Objects.requireNonNull(clock);
+        this.entry = new Entry(Long.MIN_VALUE, null);
+    }
+
+    /**
+     * Returns a shared cached date header that uses the system clock.
+     *
+     * @return A shared cached date header that uses the system clock.
+     */
+    public static CachedDateHeader systemUTC() {
+        return SYSTEM_UTC;
+    }
+
+    /**
+     * Returns the value for the {@code Date} header for the current time.
+     *
+     * @return The value for the {@code Date} header for the current time.
+     */
+    public String value() {
+        long epochSecond = Math.floorDiv(clock.millis(), 1000L);
+        Entry current = entry;
+        if (current.epochSecond == epochSecond) {
+            return current.value;
+        }
+        String value = FORMATTER.format(Instant.ofEpochSecond(epochSecond));
+        if (epochSecond > current.epochSecond) {
+            // racing threads may overwrite each other's entries for the same second; that only causes some extra formatting
+            entry = new Entry(epochSecond, value);
+        }
+        return value;
+    }
+
+    private static final class Entry {
+
+        private final long epochSecond;
+        private final String value;
+
+        private Entry(long epochSecond, String value) {
+            this.epochSecond = epochSecond;
+            this.value = value;
+        }
+    }
+}
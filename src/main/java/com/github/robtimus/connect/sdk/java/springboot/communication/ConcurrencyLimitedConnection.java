@@ -0,0 +1,136 @@
+/*
+ * ConcurrencyLimitedConnection.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import com.worldline.connect.sdk.java.communication.CommunicationException;
+import com.worldline.connect.sdk.java.communication.Connection;
+import com.worldline.connect.sdk.java.communication.MultipartFormDataObject;
+import com.worldline.connect.sdk.java.communication.RequestHeader;
+import com.worldline.connect.sdk.java.communication.ResponseHandler;
+
+/**
+ * A {@link Connection} that limits the number of concurrent requests using an {@link AdaptiveConcurrencyLimiter}.
+ * <p>
+ * If no permit can be acquired, a {@link CommunicationException} is thrown with a {@link RejectedExecutionException} as cause, without
+ * sending the request. If the current thread is interrupted while waiting for a permit, a {@link CommunicationException} is thrown with
+ * the {@link InterruptedException} as cause, and the thread's interrupted flag is set again.
+ * <p>
+ * A request is reported to the limiter as overloaded if it fails with a {@link CommunicationException}, or if its response has status code
+ * 429 (Too Many Requests) or 503 (Service Unavailable).
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public class ConcurrencyLimitedConnection extends DelegatingConnection {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int SERVICE_UNAVAILABLE = 503;
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    /**
+     * Creates a new concurrency limited connection.
+     *
+     * @param delegate The connection to delegate all calls to.
+     * @param limiter The limiter to use.
+     */
+    public ConcurrencyLimitedConnection(Connection delegate, AdaptiveConcurrencyLimiter limiter) {
+        super(delegate);
+        this.limiter = Objects.requireNonNull(limiter);
+    }
+
+    /**
+     * Returns the limiter that is used.
+     *
+     * @return The limiter that is used.
+     */
+    public AdaptiveConcurrencyLimiter limiter() {
+        return limiter;
+    }
+
+    @Override
+    public <R> R get(URI uri, List<RequestHeader> requestHeaders, ResponseHandler<R> responseHandler) {
+        return limit(responseHandler, handler -> super.get(uri, requestHeaders, handler));
+    }
+
+    @Override
+    public <R> R delete(URI uri, List<RequestHeader> requestHeaders, ResponseHandler<R> responseHandler) {
+        return limit(responseHandler, handler -> super.delete(uri, requestHeaders, handler));
+    }
+
+    @Override
+    public <R> R post(URI uri, List<RequestHeader> requestHeaders, String body, ResponseHandler<R> responseHandler) {
+        return limit(responseHandler, handler -> super.post(uri, requestHeaders, body, handler));
+    }
+
+    @Override
+    public <R> R post(URI uri, List<RequestHeader> requestHeaders, MultipartFormDataObject multipart, ResponseHandler<R> responseHandler) {
+        return limit(responseHandler, handler -> super.post(uri, requestHeaders, multipart, handler));
+    }
+
+    @Override
+    public <R> R put(URI uri, List<RequestHeader> requestHeaders, String body, ResponseHandler<R> responseHandler) {
+        return limit(responseHandler, handler -> super.put(uri, requestHeaders, body, handler));
+    }
+
+    @Override
+    public <R> R put(URI uri, List<RequestHeader> requestHeaders, MultipartFormDataObject multipart, ResponseHandler<R> responseHandler) {
+        return limit(responseHandler, handler -> super.put(uri, requestHeaders, multipart, handler));
+    }
+
+    private <R> R limit(ResponseHandler<R> responseHandler, Function<ResponseHandler<R>, R> call) {
+        acquirePermit();
+
+        StatusCapturingResponseHandler<R> handler = new StatusCapturingResponseHandler<>(responseHandler);
+        long start = System.nanoTime();
+        boolean overloaded = false;
+        try {
+            return call.apply(handler);
+        } catch (CommunicationException e) {
+            overloaded = true;
+            throw e;
+        } finally {
+            // the response handler is called before the exception for error responses is thrown, so the status code is known here
+            long rtt = System.nanoTime() - start;
+            limiter.release(rtt, overloaded || isOverloaded(handler.statusCode()));
+        }
+    }
+
+    private void acquirePermit() {
+        boolean acquired;
+        try {
+            acquired = limiter.tryAcquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommunicationException(e);
+        }
+        if (!acquired) {
+            throw new CommunicationException(new RejectedExecutionException("Concurrency limit of " + limiter.limit() + " reached"));
+        }
+    }
+
+    private static boolean isOverloaded(int statusCode) {
+        return statusCode == TOO_MANY_REQUESTS || statusCode == SERVICE_UNAVAILABLE;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * ConnectionPools.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+import org.apache.http.pool.ConnPoolControl;
+import org.springframework.util.ReflectionUtils;
+import com.worldline.connect.sdk.java.communication.Connection;
+import com.worldline.connect.sdk.java.communication.DefaultConnection;
+
+/**
+ * Utility methods for the connection pools of {@link Connection Connections}.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+public final class ConnectionPools {
+
+    private ConnectionPools() {
+    }
+
+    /**
+     * Finds the Apache HttpClient connection pool of a connection.
+     * This supports {@link DefaultConnection}, which does not expose its connection pool, as well as any other connection that has an
+     * instance field that contains a {@link ConnPoolControl}.
+     *
+     * @param connection The connection to find the connection pool of.
+     * @return The connection pool of the given connection, or {@code null} if the connection does not have an Apache HttpClient connection pool.
+     */
+    public static ConnPoolControl<?> findPool(Connection connection) {
+        Objects.requireNonNull(connection);
+
+        // DefaultConnection does not expose its connection manager, so find it using reflection
+        ConnPoolControl<?>[] result = new ConnPoolControl<?>[1];
+        ReflectionUtils.doWithFields(connection.getClass(), field -> {
+            if (result[0] == null) {
+                ReflectionUtils.makeAccessible(field);
+                if (field.get(connection) instanceof ConnPoolControl<?> pool) {
+                    result[0] = pool;
+                }
+            }
+        }, ConnectionPools::isInstanceField);
+        return result[0];
+    }
+
+    private static boolean isInstanceField(Field field) {
+        return !Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive();
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * DelegatingConnection.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import com.github.robtimus.connect.sdk.java.springboot.logging.LevelAwareCommunicatorLogger;
+import com.worldline.connect.sdk.java.communication.Connection;
+import com.worldline.connect.sdk.java.communication.MultipartFormDataObject;
+import com.worldline.connect.sdk.java.communication.PooledConnection;
+import com.worldline.connect.sdk.java.communication.RequestHeader;
+import com.worldline.connect.sdk.java.communication.ResponseHandler;
+import com.worldline.connect.sdk.java.logging.BodyObfuscator;
+import com.worldline.connect.sdk.java.logging.CommunicatorLogger;
+import com.worldline.connect.sdk.java.logging.HeaderObfuscator;
+
+/**
+ * A {@link Connection} that delegates all calls to another {@link Connection}.
+ * Sub classes can override methods to add behaviour before or after the delegate is called.
+ * <p>
+ * This class implements {@link PooledConnection}. {@link #closeIdleConnections(long, TimeUnit)} and {@link #closeExpiredConnections()}
+ * are delegated only if the delegate is a {@link PooledConnection} as well; otherwise they do nothing.
+ * <p>
+ * A {@link LevelAwareCommunicatorLogger} is only passed to the delegate while it is enabled for {@link LevelAwareCommunicatorLogger#isEnabled()
+ * messages} or {@link LevelAwareCommunicatorLogger#isErrorEnabled() errors}; otherwise logging is disabled for the delegate.
+ * This prevents that delegates like {@code DefaultConnection}, that do not check whether messages will be logged, build messages that would
+ * be discarded anyway. Logging for the delegate is enabled or disabled again when the communicator logger reports a
+ * {@link LevelAwareCommunicatorLogger#addLevelChangeListener(Runnable) level change}.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+public class DelegatingConnection implements PooledConnection {
+
+    private final Connection delegate;
+
+    // all guarded by loggingLock
+    private final Object loggingLock = new Object();
+    private CommunicatorLogger communicatorLogger;
+    private boolean delegateLoggingEnabled;
+    private Runnable levelChangeListenerRemover;
+
+    /**
+     * Creates a new delegating connection.
+     *
+     * @param delegate The connection to delegate all calls to.
+     */
+    public DelegatingConnection(Connection delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    /**
+     * Returns the connection that all calls are delegated to.
+     *
+     * @return The connection that all calls are delegated to.
+     */
+    public Connection delegate() {
+        return delegate;
+    }
+
+    @Override
+    public <R> R get(URI uri, List<RequestHeader> requestHeaders, ResponseHandler<R> responseHandler) {
+        return delegate.get(uri, requestHeaders, responseHandler);
+    }
+
+    @Override
+    public <R> R delete(URI uri, List<RequestHeader> requestHeaders, ResponseHandler<R> responseHandler) {
+        return delegate.delete(uri, requestHeaders, responseHandler);
+    }
+
+    @Override
+    public <R> R post(URI uri, List<RequestHeader> requestHeaders, String body, ResponseHandler<R> responseHandler) {
+        return delegate.post(uri, requestHeaders, body, responseHandler);
+    }
+
+    @Override
+    public <R> R post(URI uri, List<RequestHeader> requestHeaders, MultipartFormDataObject multipart, ResponseHandler<R> responseHandler) {
+        return delegate.post(uri, requestHeaders, multipart, responseHandler);
+    }
+
+    @Override
+    public <R> R put(URI uri, List<RequestHeader> requestHeaders, String body, ResponseHandler<R> responseHandler) {
+        return delegate.put(uri, requestHeaders, body, responseHandler);
+    }
+
+    @Override
+    public <R> R put(URI uri, List<RequestHeader> requestHeaders, MultipartFormDataObject multipart, ResponseHandler<R> responseHandler) {
+        return delegate.put(uri, requestHeaders, multipart, responseHandler);
+    }
+
+    @Override
+    public void closeIdleConnections(long idleTime, TimeUnit timeUnit) {
+        if (delegate instanceof PooledConnection pooledConnection) {
+            pooledConnection.closeIdleConnections(idleTime, timeUnit);
+        }
+    }
+
+    @Override
+    public void closeExpiredConnections() {
+        if (delegate instanceof PooledConnection pooledConnection) {
+            pooledConnection.closeExpiredConnections();
+        }
+    }
+
+    @Override
+    public void setBodyObfuscator(BodyObfuscator bodyObfuscator) {
+        delegate.setBodyObfuscator(bodyObfuscator);
+    }
+
+    @Override
+    public void setHeaderObfuscator(HeaderObfuscator headerObfuscator) {
+        delegate.setHeaderObfuscator(headerObfuscator);
+    }
+
+    @Override
+    public void enableLogging(CommunicatorLogger communicatorLogger) {
+        Objects.requireNonNull(communicatorLogger);
+        synchronized (loggingLock) {
+            removeLevelChangeListener();
+            this.communicatorLogger = communicatorLogger;
+            levelChangeListenerRemover = LevelAwareCommunicatorLogger.addLevelChangeListener(communicatorLogger, this::updateDelegateLogging);
+
+            delegateLoggingEnabled = isEnabled(communicatorLogger);
+            if (delegateLoggingEnabled) {
+                delegate.enableLogging(communicatorLogger);
+            } else {
+                delegate.disableLogging();
+            }
+        }
+    }
+
+    private void updateDelegateLogging() {
+        synchronized (loggingLock) {
+            if (communicatorLogger == null) {
+                return;
+            }
+            boolean enabled = isEnabled(communicatorLogger);
+            if (enabled != delegateLoggingEnabled) {
+                delegateLoggingEnabled = enabled;
+                if (enabled) {
+                    delegate.enableLogging(communicatorLogger);
+                } else {
+                    delegate.disableLogging();
+                }
+            }
+        }
+    }
+
+    private static boolean isEnabled(CommunicatorLogger communicatorLogger) {
+        return LevelAwareCommunicatorLogger.isEnabled(communicatorLogger) || LevelAwareCommunicatorLogger.isErrorEnabled(communicatorLogger);
+    }
+
+    @Override
+    public void disableLogging() {
+        synchronized (loggingLock) {
+            removeLevelChangeListener();
+            communicatorLogger = null;
+            delegateLoggingEnabled = false;
+            delegate.disableLogging();
+        }
+    }
+
+    private void removeLevelChangeListener() {
+        if (levelChangeListenerRemover != null) {
+            levelChangeListenerRemover.run();
+            levelChangeListenerRemover = null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (loggingLock) {
+            // don't let the logging framework keep a reference to this connection
+            removeLevelChangeListener();
+        }
+        delegate.close();
+    }
+}
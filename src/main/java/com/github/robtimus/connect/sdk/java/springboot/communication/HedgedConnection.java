@@ -0,0 +1,286 @@
+/*
+ * HedgedConnection.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.slf4j.MDC;
+import com.worldline.connect.sdk.java.communication.CommunicationException;
+import com.worldline.connect.sdk.java.communication.Connection;
+import com.worldline.connect.sdk.java.communication.RequestHeader;
+import com.worldline.connect.sdk.java.communication.ResponseHandler;
+import com.worldline.connect.sdk.java.communication.ResponseHeader;
+
+/**
+ * A {@link Connection} that hedges idempotent requests.
+ * <p>
+ * All GET requests are considered to be idempotent. POST requests are considered to be idempotent only if their path template, as returned
+ * by {@link ApiPaths#toTemplate(String)}, is explicitly configured. This allows hedging of POST requests that only retrieve data, like
+ * {@code /v1/{merchantId}/services/getIINdetails}. Other requests are never hedged.
+ * <p>
+ * Each idempotent request is sent using an {@link Executor}. If no response has been received after the
+ * {@link HedgingPolicy#delay() hedging delay}, a second, identical request is sent using the same executor. The first response that arrives
+ * is used, and the other request is cancelled. If one of the requests fails, the response of the other request is used; only if both fail
+ * the failure of the request that failed last is thrown. The {@link MDC} of the calling thread is copied to both requests.
+ * <p>
+ * If the executor rejects the original request, it is sent on the calling thread without hedging. If the executor rejects the second
+ * request, the response of the original request is awaited. A bounded executor therefore limits the number of threads without failing
+ * requests.
+ * <p>
+ * Whether the second request uses another connection depends on the underlying connection. For connections that use a pool of HTTP/1.1
+ * connections, like the default connection, it does. For {@link JdkHttpClientConnection}, both requests are usually multiplexed over the
+ * same HTTP/2 connection.
+ * <p>
+ * Response bodies are buffered, so the response handler is called exactly once, on the calling thread. Cancellation interrupts the thread
+ * that performs the other request; whether that aborts the request depends on the underlying connection.
+ * {@link JdkHttpClientConnection} aborts requests when interrupted. The default connection, which uses Apache HttpClient 4, does not abort
+ * blocking I/O when interrupted; the cancelled request runs until it completes or times out, and keeps its pooled connection, its thread and
+ * any permit of a {@link ConcurrencyLimitedConnection} until then.
+ * <p>
+ * To keep the hedging delay from drifting, the latency of each request is recorded only once, for the original request. If the second
+ * request wins, the time until the original request was cancelled is recorded instead. That is a lower bound of the actual latency, but it
+ * keeps slow requests in the observed latencies.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public class HedgedConnection extends DelegatingConnection {
+
+    private final HedgingPolicy policy;
+    private final Set<String> idempotentPostTemplates;
+    private final Executor executor;
+
+    /**
+     * Creates a new hedged connection.
+     * <p>
+     * The given executor is not owned by the hedged connection; closing the hedged connection does not shut down the executor.
+     *
+     * @param delegate The connection to delegate all calls to.
+     * @param policy The hedging policy to use.
+     * @param idempotentPostTemplates The path templates of POST requests that are idempotent.
+     * @param executor The executor to send requests with.
+     */
+    public HedgedConnection(Connection delegate, HedgingPolicy policy, Collection<String> idempotentPostTemplates, Executor executor) {
+        super(delegate);
+        this.policy = Objects.requireNonNull(policy);
+        this.idempotentPostTemplates = Set.copyOf(idempotentPostTemplates);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * Returns the hedging policy that is used.
+     *
+     * @return The hedging policy that is used.
+     */
+    public HedgingPolicy policy() {
+        return policy;
+    }
+
+    /**
+     * Returns the path templates of POST requests that are idempotent.
+     *
+     * @return An unmodifiable set with the path templates of POST requests that are idempotent.
+     */
+    public Set<String> idempotentPostTemplates() {
+        return idempotentPostTemplates;
+    }
+
+    @Override
+    public <R> R get(URI uri, List<RequestHeader> requestHeaders, ResponseHandler<R> responseHandler) {
+        return hedge(responseHandler, handler -> super.get(uri, requestHeaders, handler));
+    }
+
+    @Override
+    public <R> R post(URI uri, List<RequestHeader> requestHeaders, String body, ResponseHandler<R> responseHandler) {
+        if (idempotentPostTemplates.contains(ApiPaths.toTemplate(uri.getRawPath()))) {
+            return hedge(responseHandler, handler -> super.post(uri, requestHeaders, body, handler));
+        }
+        return super.post(uri, requestHeaders, body, responseHandler);
+    }
+
+    private <R> R hedge(ResponseHandler<R> responseHandler, Function<ResponseHandler<BufferedResponse>, BufferedResponse> call) {
+        policy.recordRequest();
+
+        HedgedRequest request = new HedgedRequest(call);
+        BufferedResponse response = request.execute();
+        return responseHandler.handleResponse(response.statusCode, new ByteArrayInputStream(response.body), response.headers);
+    }
+
+    private final class HedgedRequest {
+
+        private final Function<ResponseHandler<BufferedResponse>, BufferedResponse> call;
+
+        private final Map<String, String> contextMap;
+
+        private final CompletableFuture<BufferedResponse> result;
+        private final AtomicInteger running;
+
+        private FutureTask<?> primary;
+        private FutureTask<?> hedge;
+
+        private HedgedRequest(Function<ResponseHandler<BufferedResponse>, BufferedResponse> call) {
+            this.call = call;
+            this.contextMap = MDC.getCopyOfContextMap();
+
+            this.result = new CompletableFuture<>();
+            this.running = new AtomicInteger();
+        }
+
+        private BufferedResponse execute() {
+            long start = System.nanoTime();
+            try {
+                primary = start(false);
+                if (primary == null) {
+                    // the executor is saturated; send the request without hedging
+                    BufferedResponse response = call.apply(HedgedConnection::bufferPrimary);
+                    policy.recordLatency(System.nanoTime() - start);
+                    return response;
+                }
+                BufferedResponse response;
+                try {
+                    response = result.get(policy.delayNanos(), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    // no response within the hedging delay
+                    hedge = start(true);
+                    if (hedge != null) {
+                        policy.recordHedge();
+                    }
+                    response = result.get();
+                    if (response.fromHedge) {
+                        policy.recordHedgeWin();
+                    }
+                }
+                // record the latency of the original request; if it lost, record the time until it's cancelled as a censored sample
+                policy.recordLatency(response.fromHedge ? System.nanoTime() - start : response.latencyNanos);
+                return response;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CommunicationException(e);
+            } catch (ExecutionException e) {
+                throw unwrap(e);
+            } finally {
+                // cancel any request that is still running; this is a no-op for completed requests
+                cancel(primary);
+                cancel(hedge);
+            }
+        }
+
+        private FutureTask<?> start(boolean fromHedge) {
+            FutureTask<?> task = new FutureTask<>(() -> run(fromHedge), null);
+            running.incrementAndGet();
+            try {
+                executor.execute(task);
+                return task;
+            } catch (RejectedExecutionException e) {
+                running.decrementAndGet();
+                return null;
+            }
+        }
+
+        private void run(boolean fromHedge) {
+            Map<String, String> previousContextMap = MDC.getCopyOfContextMap();
+            setContextMap(contextMap);
+            long start = System.nanoTime();
+            try {
+                BufferedResponse response = call.apply((statusCode, bodyStream, headers) -> new BufferedResponse(statusCode,
+                        readBody(bodyStream), headers, fromHedge, System.nanoTime() - start));
+                result.complete(response);
+            } catch (RuntimeException | Error e) {
+                if (running.decrementAndGet() == 0) {
+                    result.completeExceptionally(e);
+                }
+            } finally {
+                setContextMap(previousContextMap);
+            }
+        }
+
+        private void cancel(FutureTask<?> future) {
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+
+        private RuntimeException unwrap(ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                return runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            return new CommunicationException(e);
+        }
+    }
+
+    private static void setContextMap(Map<String, String> contextMap) {
+        if (contextMap != null) {
+            MDC.setContextMap(contextMap);
+        } else {
+            MDC.clear();
+        }
+    }
+
+    private static BufferedResponse bufferPrimary(int statusCode, InputStream bodyStream, List<ResponseHeader> headers) {
+        return new BufferedResponse(statusCode, readBody(bodyStream), headers, false, 0);
+    }
+
+    private static byte[] readBody(InputStream bodyStream) {
+        if (bodyStream == null) {
+            return new byte[0];
+        }
+        try {
+            return bodyStream.readAllBytes();
+        } catch (IOException e) {
+            throw new CommunicationException(e);
+        }
+    }
+
+    private static final class BufferedResponse {
+
+        private final int statusCode;
+        private final byte[] body;
+        private final List<ResponseHeader> headers;
+        private final boolean fromHedge;
+        private final long latencyNanos;
+
+        private BufferedResponse(int statusCode, byte[] body, List<ResponseHeader> headers, boolean fromHedge, long latencyNanos) {
+            this.statusCode = statusCode;
+            this.body = body;
+            this.headers = headers;
+            this.fromHedge = fromHedge;
+            this.latencyNanos = latencyNanos;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * HedgingPolicy.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A policy for hedging requests, used by {@link HedgedConnection}.
+ * <p>
+ * The hedging delay is derived from the observed latencies of requests. The latencies of the most recent {@value #SAMPLE_SIZE} requests
+ * are kept, and every {@value #RECALCULATION_INTERVAL} requests the hedging delay is recalculated as the configured percentile of these
+ * latencies, but not less than the minimum delay. Until {@value #RECALCULATION_INTERVAL} latencies have been recorded, the initial delay
+ * is used.
+ * <p>
+ * With a percentile of 95, roughly 5% of all requests are hedged.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public class HedgingPolicy {
+
+    /** The number of latencies that are kept. */
+    public static final int SAMPLE_SIZE = 1024;
+    /** The number of recorded latencies after which the hedging delay is recalculated. */
+    public static final int RECALCULATION_INTERVAL = 64;
+
+    private final double percentile;
+    private final long minDelayNanos;
+
+    // a ring buffer with the most recent latencies
+    private final AtomicLongArray latencies;
+    private final AtomicLong latencyCount;
+
+    private volatile long delayNanos;
+
+    private final LongAdder requestCount;
+    private final LongAdder hedgeCount;
+    private final LongAdder hedgeWinCount;
+
+    /**
+     * Creates a new hedging policy.
+     *
+     * @param percentile The percentile of observed latencies to use as hedging delay, between 0 (exclusive) and 100 (exclusive).
+     * @param minDelay The minimum hedging delay.
+     * @param initialDelay The hedging delay to use until enough latencies have been recorded.
+     * @throws IllegalArgumentException If the percentile is not between 0 and 100, or if either delay is negative.
+     */
+    public HedgingPolicy(double percentile, Duration minDelay, Duration initialDelay) {
+        if (!(percentile > 0 && percentile < 100)) {
+            throw new IllegalArgumentException("percentile must be > 0 and < 100, is " + percentile);
+        }
+        if (minDelay.isNegative()) {
+            throw new IllegalArgumentException("minDelay must be >= 0, is " + minDelay);
+        }
+        if (initialDelay.isNegative()) {
+            throw new IllegalArgumentException("initialDelay must be >= 0, is " + initialDelay);
+        }
+
+        this.percentile = percentile;
+        this.minDelayNanos = minDelay.toNanos();
+
+        this.latencies = new AtomicLongArray(SAMPLE_SIZE);
+        this.latencyCount = new AtomicLong();
+
+        this.delayNanos = Math.max(minDelayNanos, initialDelay.toNanos());
+
+        this.requestCount = new LongAdder();
+        this.hedgeCount = new LongAdder();
+        this.hedgeWinCount = new LongAdder();
+    }
+
+    /**
+     * Returns the current hedging delay.
+     *
+     * @return The current hedging delay.
+     */
+    public Duration delay() {
+        return Duration.ofNanos(delayNanos);
+    }
+
+    long delayNanos() {
+        return delayNanos;
+    }
+
+    /**
+     * Returns the percentile of observed latencies that is used as hedging delay.
+     *
+     * @return The percentile of observed latencies that is used as hedging delay.
+     */
+    public double percentile() {
+        return percentile;
+    }
+
+    /**
+     * Records the latency of a single successful request.
+     * <p>
+     * Only the latency of original requests should be recorded, not that of hedged requests; these start later and would lower the
+     * hedging delay. If an original request is cancelled because its hedged request returned a response first, the time until the original
+     * request was cancelled should be recorded. That time is a lower bound of the actual latency, but it's at least the hedging delay.
+     * Not recording it at all would leave out exactly the slow requests, and the hedging delay would keep drifting down.
+     *
+     * @param latencyNanos The latency of the request, in nanoseconds.
+     */
+    public void recordLatency(long latencyNanos) {
+        long index = latencyCount.getAndIncrement();
+        latencies.set((int) (index % SAMPLE_SIZE), latencyNanos);
+        if ((index + 1) % RECALCULATION_INTERVAL == 0) {
+            recalculateDelay(Math.min(index + 1, SAMPLE_SIZE));
+        }
+    }
+
+    private void recalculateDelay(long count) {
+        long[] sorted = new long[(int) count];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = latencies.get(i);
+        }
+        Arrays.sort(sorted);
+
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        delayNanos = Math.max(minDelayNanos, sorted[Math.max(0, rank)]);
+    }
+
+    void recordRequest() {
+        requestCount.increment();
+    }
+
+    void recordHedge() {
+        hedgeCount.increment();
+    }
+
+    void recordHedgeWin() {
+        hedgeWinCount.increment();
+    }
+
+    /**
+     * Returns the total number of requests that were eligible for hedging.
+     *
+     * @return The total number of requests that were eligible for hedging.
+     */
+    public long requestCount() {
+        return requestCount.sum();
+    }
+
+    /**
+     * Returns the total number of requests for which a hedged request was sent.
+     *
+     * @return The total number of requests for which a hedged request was sent.
+     */
+    public long hedgeCount() {
+        return hedgeCount.sum();
+    }
+
+    /**
+     * Returns the total number of hedged requests that returned a response before the original request.
+     *
+     * @return The total number of hedged requests that returned a response before the original request.
+     */
+    public long hedgeWinCount() {
+        return hedgeWinCount.sum();
+    }
+}
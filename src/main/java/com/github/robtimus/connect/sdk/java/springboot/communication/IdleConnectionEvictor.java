@@ -0,0 +1,187 @@
+/*
+ * IdleConnectionEvictor.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.pool.ConnPoolControl;
+import org.apache.http.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.worldline.connect.sdk.java.communication.PooledConnection;
+
+/**
+ * An object that periodically closes idle and expired connections of a {@link PooledConnection}, on its own daemon thread.
+ * <p>
+ * The idle time adapts to the observed traffic. If the connection has an Apache HttpClient connection pool (see
+ * {@link ConnectionPools#findPool(com.worldline.connect.sdk.java.communication.Connection)}), the utilization of this pool is sampled on each
+ * run. The higher the utilization, the closer the idle time is to the maximum idle time, so more connections are kept open during peaks.
+ * The utilization increases immediately but decreases gradually, so the idle time only shrinks towards the minimum idle time after a
+ * quiet period. For connections without such a pool, the maximum idle time is always used.
+ * <p>
+ * The connection pool is only looked up if the minimum idle time is smaller than the maximum idle time, on the first run. If it cannot be looked
+ * up, for instance because reflective access to the connection's fields is not allowed, the maximum idle time is always used as well.
+ * <p>
+ * Expired connections are closed on each run as well. A connection expires when the time-out from the server's {@code Keep-Alive} response
+ * header has passed, so servers that close connections earlier than the idle time are respected.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public class IdleConnectionEvictor implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IdleConnectionEvictor.class);
+
+    // The weight of a new sample when the utilization decreases
+    private static final double DECAY = 0.2;
+
+    private final PooledConnection connection;
+
+    private final long minIdleTime;
+    private final long maxIdleTime;
+    private final long interval;
+
+    private final ScheduledExecutorService executor;
+
+    // only updated by the evictor thread
+    private ConnPoolControl<?> pool;
+    private boolean poolResolved;
+    private double utilization;
+    private volatile long currentIdleTime;
+
+    /**
+     * Creates a new evictor.
+     * The evictor is not started until {@link #start()} is called.
+     *
+     * @param connection The connection to close idle and expired connections of.
+     * @param minIdleTime The minimum time that connections can be idle before they are closed.
+     *                        Use the maximum idle time to disable adapting the idle time to the traffic.
+     * @param maxIdleTime The maximum time that connections can be idle before they are closed.
+     *                        Use {@link Duration#ZERO} to close all idle connections on each run.
+     * @param interval The interval between checks for idle and expired connections.
+     * @throws IllegalArgumentException If any of the idle times is negative, if the interval is not positive,
+     *                                      or if the minimum idle time is larger than the maximum idle time.
+     */
+    public IdleConnectionEvictor(PooledConnection connection, Duration minIdleTime, Duration maxIdleTime, Duration interval) {
+        this.connection = Objects.requireNonNull(connection);
+
+        this.minIdleTime = toNonNegativeMillis(minIdleTime, "minIdleTime");
+        this.maxIdleTime = toNonNegativeMillis(maxIdleTime, "maxIdleTime");
+        this.interval = toPositiveMillis(interval, "interval");
+        if (this.minIdleTime > this.maxIdleTime) {
+            throw new IllegalArgumentException("minIdleTime must be <= maxIdleTime, is " + minIdleTime + " > " + maxIdleTime);
+        }
+
+        ScheduledThreadPoolExecutor scheduledExecutor = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread thread = new Thread(r, "connect-sdk-idle-connection-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduledExecutor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.executor = scheduledExecutor;
+
+        this.currentIdleTime = this.maxIdleTime;
+    }
+
+    private static long toNonNegativeMillis(Duration duration, String name) {
+        long millis = duration.toMillis();
+        if (millis < 0) {
+            throw new IllegalArgumentException(name + " must be >= 0, is " + duration);
+        }
+        return millis;
+    }
+
+    private static long toPositiveMillis(Duration duration, String name) {
+        long millis = duration.toMillis();
+        if (millis <= 0) {
+            throw new IllegalArgumentException(name + " must be > 0, is " + duration);
+        }
+        return millis;
+    }
+
+    /**
+     * Starts evicting idle and expired connections.
+     */
+    public void start() {
+        executor.scheduleWithFixedDelay(this::evict, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops evicting idle and expired connections. The connection itself is not closed.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    void evict() {
+        try {
+            long idleTime = updateIdleTime();
+            connection.closeExpiredConnections();
+            connection.closeIdleConnections(idleTime, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            // don't let the exception propagate, that would cancel any further runs
+            LOGGER.warn("Failed to close idle connections", e);
+        }
+    }
+
+    long updateIdleTime() {
+        if (minIdleTime == maxIdleTime) {
+            // the idle time is fixed, so there is no need to look up the pool
+            return currentIdleTime;
+        }
+        ConnPoolControl<?> pool = pool();
+        if (pool != null) {
+            PoolStats stats = pool.getTotalStats();
+            double sample = stats.getMax() > 0
+                    ? Math.min(1.0, (double) (stats.getLeased() + stats.getPending()) / stats.getMax())
+                    : 0;
+            utilization = sample >= utilization
+                    ? sample
+                    : utilization + DECAY * (sample - utilization);
+            currentIdleTime = minIdleTime + Math.round((maxIdleTime - minIdleTime) * utilization);
+        }
+        return currentIdleTime;
+    }
+
+    private ConnPoolControl<?> pool() {
+        if (!poolResolved) {
+            poolResolved = true;
+            try {
+                pool = ConnectionPools.findPool(connection);
+            } catch (RuntimeException e) {
+                // this includes InaccessibleObjectException if the connection's class is in a module that is not open for reflection
+                LOGGER.warn("Failed to find the connection pool of {}; using a fixed idle time of {} ms", connection, maxIdleTime, e);
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Returns the current idle time.
+     *
+     * @return The current time that connections can be idle before they are closed.
+     */
+    public Duration currentIdleTime() {
+        return Duration.ofMillis(currentIdleTime);
+    }
+}
@@ -0,0 +1,405 @@
+/*
+ * JdkHttpClientConnection.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import com.github.robtimus.connect.sdk.java.springboot.logging.LevelAwareCommunicatorLogger;
+import com.worldline.connect.sdk.java.communication.CommunicationException;
+import com.worldline.connect.sdk.java.communication.MultipartFormDataObject;
+import com.worldline.connect.sdk.java.communication.PooledConnection;
+import com.worldline.connect.sdk.java.communication.RequestHeader;
+import com.worldline.connect.sdk.java.communication.ResponseHandler;
+import com.worldline.connect.sdk.java.communication.ResponseHeader;
+import com.worldline.connect.sdk.java.domain.UploadableFile;
+import com.worldline.connect.sdk.java.logging.BodyObfuscator;
+import com.worldline.connect.sdk.java.logging.CommunicatorLogger;
+import com.worldline.connect.sdk.java.logging.HeaderObfuscator;
+import com.worldline.connect.sdk.java.logging.RequestLogMessageBuilder;
+import com.worldline.connect.sdk.java.logging.ResponseLogMessageBuilder;
+
+/**
+ * A {@link PooledConnection} implementation that is backed by a {@link HttpClient java.net.http.HttpClient}.
+ * <p>
+ * If the {@link HttpClient} is configured to use {@link HttpClient.Version#HTTP_2 HTTP/2}, concurrent requests are multiplexed over a single
+ * connection per host. That means that there is no connection pool to manage; {@link #closeIdleConnections(long, TimeUnit)} and
+ * {@link #closeExpiredConnections()} do nothing. Idle connections are instead closed by the {@link HttpClient} itself, using the timeout
+ * that is configured by system property {@code jdk.httpclient.keepalive.timeout}.
+ * <p>
+ * This class is suitable for use with virtual threads. Sending requests and reading responses block by waiting on locks and queues from
+ * {@link java.util.concurrent}, which unmount virtual threads instead of pinning them to their carrier threads.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public class JdkHttpClientConnection implements PooledConnection {
+
+    private static final String CONTENT_TYPE_HEADER = "Content-Type";
+
+    private static final String BINARY_CONTENT = "<binary content>";
+
+    // headers that HttpClient does not allow to be set
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final AutoCloseable executor;
+
+    private final AtomicReference<BodyObfuscator> bodyObfuscator = new AtomicReference<>(BodyObfuscator.defaultObfuscator());
+    private final AtomicReference<HeaderObfuscator> headerObfuscator = new AtomicReference<>(HeaderObfuscator.defaultObfuscator());
+    private final AtomicReference<CommunicatorLogger> communicatorLogger = new AtomicReference<>();
+
+    /**
+     * Creates a new connection.
+     *
+     * @param httpClient The backing HTTP client.
+     * @param requestTimeout The timeout for receiving the response headers of a request, or {@code null} to not use any timeout.
+     *                           Unlike a socket timeout, this covers the entire time between sending the request and receiving the response
+     *                           headers. It does not apply to reading the response body.
+     */
+    public JdkHttpClientConnection(HttpClient httpClient, Duration requestTimeout) {
+        this(httpClient, requestTimeout, null);
+    }
+
+    /**
+     * Creates a new connection.
+     *
+     * @param httpClient The backing HTTP client.
+     * @param requestTimeout The timeout for receiving the response headers of a request, or {@code null} to not use any timeout.
+     *                           Unlike a socket timeout, this covers the entire time between sending the request and receiving the response
+     *                           headers. It does not apply to reading the response body.
+     * @param executor The executor used by the backing HTTP client, or {@code null} if the HTTP client uses its default executor.
+     *                     If not {@code null}, it will be closed when this connection is closed, after the HTTP client has been closed.
+     */
+    public JdkHttpClientConnection(HttpClient httpClient, Duration requestTimeout, AutoCloseable executor) {
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.requestTimeout = requestTimeout;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the backing HTTP client.
+     *
+     * @return The backing HTTP client.
+     */
+    public HttpClient httpClient() {
+        return httpClient;
+    }
+
+    @Override
+    public <R> R get(URI uri, List<RequestHeader> requestHeaders, ResponseHandler<R> responseHandler) {
+        return execute("GET", uri, requestHeaders, BodyPublishers.noBody(), null, responseHandler);
+    }
+
+    @Override
+    public <R> R delete(URI uri, List<RequestHeader> requestHeaders, ResponseHandler<R> responseHandler) {
+        return execute("DELETE", uri, requestHeaders, BodyPublishers.noBody(), null, responseHandler);
+    }
+
+    @Override
+    public <R> R post(URI uri, List<RequestHeader> requestHeaders, String body, ResponseHandler<R> responseHandler) {
+        return execute("POST", uri, requestHeaders, createBodyPublisher(body), body, responseHandler);
+    }
+
+    @Override
+    public <R> R post(URI uri, List<RequestHeader> requestHeaders, MultipartFormDataObject multipart, ResponseHandler<R> responseHandler) {
+        return execute("POST", uri, requestHeaders, createBodyPublisher(multipart), BINARY_CONTENT, responseHandler);
+    }
+
+    @Override
+    public <R> R put(URI uri, List<RequestHeader> requestHeaders, String body, ResponseHandler<R> responseHandler) {
+        return execute("PUT", uri, requestHeaders, createBodyPublisher(body), body, responseHandler);
+    }
+
+    @Override
+    public <R> R put(URI uri, List<RequestHeader> requestHeaders, MultipartFormDataObject multipart, ResponseHandler<R> responseHandler) {
+        return execute("PUT", uri, requestHeaders, createBodyPublisher(multipart), BINARY_CONTENT, responseHandler);
+    }
+
+    private BodyPublisher createBodyPublisher(String body) {
+        return body != null
+                ? BodyPublishers.ofString(body, StandardCharsets.UTF_8)
+                : BodyPublishers.noBody();
+    }
+
+    private BodyPublisher createBodyPublisher(MultipartFormDataObject multipart) {
+        String boundary = multipart.getBoundary();
+
+        List<BodyPublisher> publishers = new ArrayList<>();
+        for (Map.Entry<String, String> entry : multipart.getValues().entrySet()) {
+            String part = "--" + boundary + "\r\n"
+                    + "Content-Disposition: form-data; name=\"" + entry.getKey() + "\"\r\n"
+                    + "\r\n"
+                    + entry.getValue() + "\r\n";
+            publishers.add(BodyPublishers.ofString(part, StandardCharsets.UTF_8));
+        }
+        for (Map.Entry<String, UploadableFile> entry : multipart.getFiles().entrySet()) {
+            UploadableFile file = entry.getValue();
+            String partHeader = "--" + boundary + "\r\n"
+                    + "Content-Disposition: form-data; name=\"" + entry.getKey() + "\"; filename=\"" + file.getFileName() + "\"\r\n"
+                    + "Content-Type: " + file.getContentType() + "\r\n"
+                    + "\r\n";
+            publishers.add(BodyPublishers.ofString(partHeader, StandardCharsets.UTF_8));
+            publishers.add(BodyPublishers.ofInputStream(file::getContent));
+            publishers.add(BodyPublishers.ofString("\r\n", StandardCharsets.UTF_8));
+        }
+        publishers.add(BodyPublishers.ofString("--" + boundary + "--\r\n", StandardCharsets.UTF_8));
+
+        return BodyPublishers.concat(publishers.toArray(BodyPublisher[]::new));
+    }
+
+    private <R> R execute(String method, URI uri, List<RequestHeader> requestHeaders, BodyPublisher bodyPublisher, String bodyForLogging,
+            ResponseHandler<R> responseHandler) {
+
+        HttpRequest request = createRequest(method, uri, requestHeaders, bodyPublisher);
+
+        CommunicatorLogger logger = enabledLogger();
+        // if the logger will discard messages, don't build them, and don't read the response body into memory
+        boolean logMessages = logger != null && LevelAwareCommunicatorLogger.isEnabled(logger);
+        String requestId = logger != null ? UUID.randomUUID().toString() : null;
+        long startTime = System.currentTimeMillis();
+
+        if (logMessages) {
+            logRequest(logger, requestId, method, uri, requestHeaders, bodyForLogging);
+        }
+
+        HttpResponse<InputStream> response = send(request, logger, requestId, startTime);
+
+        try (InputStream bodyStream = response.body()) {
+            int statusCode = response.statusCode();
+            List<ResponseHeader> headers = toResponseHeaders(response.headers());
+
+            if (!logMessages) {
+                return responseHandler.handleResponse(statusCode, bodyStream, headers);
+            }
+
+            // read the entire body so it can be logged, then let the response handler read it from memory
+            byte[] body = bodyStream.readAllBytes();
+            long duration = System.currentTimeMillis() - startTime;
+            logResponse(logger, requestId, statusCode, duration, headers, body);
+            return responseHandler.handleResponse(statusCode, new ByteArrayInputStream(body), headers);
+        } catch (IOException e) {
+            logError(logger, requestId, e, startTime);
+            throw new CommunicationException(e);
+        }
+    }
+
+    private CommunicatorLogger enabledLogger() {
+        CommunicatorLogger logger = communicatorLogger.get();
+        return logger != null && (LevelAwareCommunicatorLogger.isEnabled(logger) || LevelAwareCommunicatorLogger.isErrorEnabled(logger))
+                ? logger
+                : null;
+    }
+
+    private HttpRequest createRequest(String method, URI uri, List<RequestHeader> requestHeaders, BodyPublisher bodyPublisher) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .method(method, bodyPublisher);
+        if (requestTimeout != null) {
+            builder.timeout(requestTimeout);
+        }
+        if (requestHeaders != null) {
+            for (RequestHeader header : requestHeaders) {
+                if (!RESTRICTED_HEADERS.contains(header.getName().toLowerCase(Locale.ROOT))) {
+                    builder.header(header.getName(), header.getValue());
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    private HttpResponse<InputStream> send(HttpRequest request, CommunicatorLogger logger, String requestId, long startTime) {
+        try {
+            return httpClient.send(request, BodyHandlers.ofInputStream());
+        } catch (IOException e) {
+            logError(logger, requestId, e, startTime);
+            throw new CommunicationException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logError(logger, requestId, e, startTime);
+            throw new CommunicationException(e);
+        }
+    }
+
+    private List<ResponseHeader> toResponseHeaders(HttpHeaders headers) {
+        Map<String, List<String>> headerMap = headers.map();
+        List<ResponseHeader> result = new ArrayList<>(headerMap.size());
+        for (Map.Entry<String, List<String>> entry : headerMap.entrySet()) {
+            String name = entry.getKey();
+            // HTTP/2 pseudo headers like :status are not actual headers
+            if (!name.startsWith(":")) {
+                for (String value : entry.getValue()) {
+                    result.add(new ResponseHeader(name, value));
+                }
+            }
+        }
+        return result;
+    }
+
+    private void logRequest(CommunicatorLogger logger, String requestId, String method, URI uri, List<RequestHeader> requestHeaders,
+            String body) {
+
+        try {
+            RequestLogMessageBuilder logMessageBuilder = new RequestLogMessageBuilder(requestId, method, toLoggableUri(uri),
+                    bodyObfuscator.get(), headerObfuscator.get());
+
+            String contentType = null;
+            if (requestHeaders != null) {
+                for (RequestHeader header : requestHeaders) {
+                    logMessageBuilder.addHeader(header.getName(), header.getValue());
+                    if (CONTENT_TYPE_HEADER.equalsIgnoreCase(header.getName())) {
+                        contentType = header.getValue();
+                    }
+                }
+            }
+            if (body != null) {
+                logMessageBuilder.setBody(body, contentType);
+            }
+
+            logger.log(logMessageBuilder.getMessage());
+        } catch (RuntimeException e) {
+            logger.log(String.format("An error occurred trying to log request '%s'", requestId), e);
+        }
+    }
+
+    private void logResponse(CommunicatorLogger logger, String requestId, int statusCode, long duration, List<ResponseHeader> headers,
+            byte[] body) {
+
+        try {
+            ResponseLogMessageBuilder logMessageBuilder = new ResponseLogMessageBuilder(requestId, statusCode, duration,
+                    bodyObfuscator.get(), headerObfuscator.get());
+
+            String contentType = null;
+            for (ResponseHeader header : headers) {
+                logMessageBuilder.addHeader(header.getName(), header.getValue());
+                if (CONTENT_TYPE_HEADER.equalsIgnoreCase(header.getName())) {
+                    contentType = header.getValue();
+                }
+            }
+            if (body.length > 0) {
+                String bodyToLog = isBinaryContent(contentType)
+                        ? BINARY_CONTENT
+                        : new String(body, StandardCharsets.UTF_8);
+                logMessageBuilder.setBody(bodyToLog, contentType);
+            }
+
+            logger.log(logMessageBuilder.getMessage());
+        } catch (RuntimeException e) {
+            logger.log(String.format("An error occurred trying to log response '%s'", requestId), e);
+        }
+    }
+
+    private void logError(CommunicatorLogger logger, String requestId, Exception error, long startTime) {
+        if (logger != null && LevelAwareCommunicatorLogger.isErrorEnabled(logger)) {
+            long duration = System.currentTimeMillis() - startTime;
+            logger.log(String.format("Error occurred for outgoing request (requestId='%s', %d ms)", requestId, duration), error);
+        }
+    }
+
+    private String toLoggableUri(URI uri) {
+        String path = uri.getRawPath();
+        String query = uri.getRawQuery();
+        return query != null
+                ? path + "?" + query
+                : path;
+    }
+
+    private boolean isBinaryContent(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String lowerCaseContentType = contentType.toLowerCase(Locale.ROOT);
+        return !lowerCaseContentType.startsWith("text/")
+                && !lowerCaseContentType.contains("json")
+                && !lowerCaseContentType.contains("xml");
+    }
+
+    @Override
+    public void closeIdleConnections(long idleTime, TimeUnit timeUnit) {
+        // HttpClient does not provide any way to close idle connections
+    }
+
+    @Override
+    public void closeExpiredConnections() {
+        // HttpClient does not provide any way to close expired connections
+    }
+
+    @Override
+    public void setBodyObfuscator(BodyObfuscator bodyObfuscator) {
+        this.bodyObfuscator.set(Objects.requireNonNull(bodyObfuscator));
+    }
+
+    @Override
+    public void setHeaderObfuscator(HeaderObfuscator headerObfuscator) {
+        this.headerObfuscator.set(Objects.requireNonNull(headerObfuscator));
+    }
+
+    @Override
+    public void enableLogging(CommunicatorLogger communicatorLogger) {
+        this.communicatorLogger.set(Objects.requireNonNull(communicatorLogger));
+    }
+
+    @Override
+    public void disableLogging() {
+        communicatorLogger.set(null);
+    }
+
+    @Override
+    public void close() {
+        try {
+            // HttpClient only implements AutoCloseable as of Java 21
+            if (httpClient instanceof AutoCloseable closeable) {
+                close(closeable);
+            }
+        } finally {
+            if (executor != null) {
+                close(executor);
+            }
+        }
+    }
+
+    private void close(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * RateLimitedConnection.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import com.worldline.connect.sdk.java.communication.CommunicationException;
+import com.worldline.connect.sdk.java.communication.Connection;
+import com.worldline.connect.sdk.java.communication.MultipartFormDataObject;
+import com.worldline.connect.sdk.java.communication.RequestHeader;
+import com.worldline.connect.sdk.java.communication.ResponseHandler;
+
+/**
+ * A {@link Connection} that limits the rate of requests using {@link RateLimits}.
+ * <p>
+ * For each request, a permit is first reserved from the rate limiter for the request's operation group, if any, and then from the global
+ * rate limiter, if any. The operation group is determined by the request's HTTP method and path template, using
+ * {@link RateLimits#forOperation(String, String)}. If both permits are reserved, the current thread waits until both are valid before the
+ * request is sent. If either permit cannot be reserved within the rate limiter's maximum wait time, a {@link CommunicationException} is thrown
+ * with a {@link RejectedExecutionException} as cause, without sending the request. A permit that was already reserved from the operation
+ * group's rate limiter is cancelled in that case.
+ * <p>
+ * If the current thread is interrupted while waiting, a {@link CommunicationException} is thrown with the {@link InterruptedException} as
+ * cause, and the thread's interrupted flag is set again.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public class RateLimitedConnection extends DelegatingConnection {
+
+    private final RateLimits rateLimits;
+
+    /**
+     * Creates a new rate limited connection.
+     *
+     * @param delegate The connection to delegate all calls to.
+     * @param rateLimits The rate limits to apply.
+     */
+    public RateLimitedConnection(Connection delegate, RateLimits rateLimits) {
+        super(delegate);
+        this.rateLimits = Objects.requireNonNull(rateLimits);
+    }
+
+    /**
+     * Returns the rate limits that are applied.
+     *
+     * @return The rate limits that are applied.
+     */
+    public RateLimits rateLimits() {
+        return rateLimits;
+    }
+
+    @Override
+    public <R> R get(URI uri, List<RequestHeader> requestHeaders, ResponseHandler<R> responseHandler) {
+        return limit("GET", uri, () -> super.get(uri, requestHeaders, responseHandler));
+    }
+
+    @Override
+    public <R> R delete(URI uri, List<RequestHeader> requestHeaders, ResponseHandler<R> responseHandler) {
+        return limit("DELETE", uri, () -> super.delete(uri, requestHeaders, responseHandler));
+    }
+
+    @Override
+    public <R> R post(URI uri, List<RequestHeader> requestHeaders, String body, ResponseHandler<R> responseHandler) {
+        return limit("POST", uri, () -> super.post(uri, requestHeaders, body, responseHandler));
+    }
+
+    @Override
+    public <R> R post(URI uri, List<RequestHeader> requestHeaders, MultipartFormDataObject multipart, ResponseHandler<R> responseHandler) {
+        return limit("POST", uri, () -> super.post(uri, requestHeaders, multipart, responseHandler));
+    }
+
+    @Override
+    public <R> R put(URI uri, List<RequestHeader> requestHeaders, String body, ResponseHandler<R> responseHandler) {
+        return limit("PUT", uri, () -> super.put(uri, requestHeaders, body, responseHandler));
+    }
+
+    @Override
+    public <R> R put(URI uri, List<RequestHeader> requestHeaders, MultipartFormDataObject multipart, ResponseHandler<R> responseHandler) {
+        return limit("PUT", uri, () -> super.put(uri, requestHeaders, multipart, responseHandler));
+    }
+
+    private <R> R limit(String method, URI uri, Supplier<R> call) {
+        String template = ApiPaths.toTemplate(uri.getRawPath());
+
+        RateLimiter groupRateLimiter = rateLimits.forOperation(method, template);
+        long groupWait = reserve(groupRateLimiter);
+        if (groupWait < 0) {
+            throw rateLimitExceeded(method + " " + template);
+        }
+
+        RateLimiter globalRateLimiter = rateLimits.global();
+        long globalWait = reserve(globalRateLimiter);
+        if (globalWait < 0) {
+            // the request is not sent, so the permit of the operation group must not be used up
+            if (groupRateLimiter != null) {
+                groupRateLimiter.cancel(groupWait);
+            }
+            throw rateLimitExceeded("all requests");
+        }
+
+        await(Math.max(groupWait, globalWait));
+
+        return call.get();
+    }
+
+    private long reserve(RateLimiter rateLimiter) {
+        return rateLimiter != null ? rateLimiter.reserve() : 0;
+    }
+
+    private CommunicationException rateLimitExceeded(String description) {
+        return new CommunicationException(new RejectedExecutionException("Rate limit exceeded for " + description));
+    }
+
+    private void await(long waitNanos) {
+        if (waitNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommunicationException(e);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * RateLimiter.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * A token bucket rate limiter.
+ * <p>
+ * This class implements the generic cell rate algorithm (GCRA), which is equivalent to a token bucket that is refilled at a fixed rate and
+ * that holds at most a configurable number of tokens (the burst). Instead of tracking tokens, it only tracks the time at which the bucket
+ * would be full again, in a single {@link AtomicLong}. Reserving a permit is a compare-and-set on that value, so no locks are involved.
+ * <p>
+ * Permits are reserved ahead of time: if no permit is available right now, the caller is given a time to wait until its permit becomes
+ * valid. If that time exceeds the maximum wait time, the request is rejected and no permit is reserved.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public class RateLimiter {
+
+    private final double permitsPerSecond;
+    private final int burst;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final long maxWaitNanos;
+
+    private final LongSupplier nanoClock;
+
+    // the theoretical arrival time of the next request if requests arrive at exactly the configured rate
+    private final AtomicLong theoreticalArrivalTime;
+
+    private final LongAdder permitCount;
+    private final LongAdder rejectedCount;
+    private final LongAdder waitCount;
+    private final LongAdder waitTimeNanos;
+
+    /**
+     * Creates a new rate limiter. The rate limiter starts with a full bucket.
+     *
+     * @param permitsPerSecond The number of permits that become available per second.
+     * @param burst The maximum number of permits that can be acquired at once, after a period without requests.
+     * @param maxWait The maximum time to wait for a permit; {@link Duration#ZERO} to reject requests if no permit is available immediately.
+     * @throws IllegalArgumentException If {@code permitsPerSecond} or {@code burst} is not positive, or if {@code maxWait} is negative.
+     */
+    public RateLimiter(double permitsPerSecond, int burst, Duration maxWait) {
+        this(permitsPerSecond, burst, maxWait, System::nanoTime);
+    }
+
+    RateLimiter(double permitsPerSecond, int burst, Duration maxWait, LongSupplier nanoClock) {
+        if (!(permitsPerSecond > 0) || Double.isInfinite(permitsPerSecond)) {
+            throw new IllegalArgumentException("permitsPerSecond must be > 0, is " + permitsPerSecond);
+        }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("burst must be > 0, is " + burst);
+        }
+        if (maxWait.isNegative()) {
+            throw new IllegalArgumentException("maxWait must be >= 0, is " + maxWait);
+        }
+
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.intervalNanos = Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.toleranceNanos = (burst - 1) * intervalNanos;
+        this.maxWaitNanos = maxWait.toNanos();
+
+        this.nanoClock = nanoClock;
+
+        this.theoreticalArrivalTime = new AtomicLong(nanoClock.getAsLong() - toleranceNanos);
+
+        this.permitCount = new LongAdder();
+        this.rejectedCount = new LongAdder();
+        this.waitCount = new LongAdder();
+        this.waitTimeNanos = new LongAdder();
+    }
+
+    /**
+     * Tries to reserve a permit.
+     *
+     * @return The time in nanoseconds the caller should wait before its permit becomes valid; {@code 0} if the permit is valid immediately,
+     *         or {@code -1} if the wait time would exceed the maximum wait time. In the latter case, no permit is reserved.
+     */
+    public long reserve() {
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long tat = theoreticalArrivalTime.get();
+            long earliest = now - toleranceNanos;
+            // compare using subtraction to be safe against numerical overflow of nanoTime values
+            long start = tat - earliest > 0 ? tat : earliest;
+            long wait = start - now;
+            if (wait > maxWaitNanos) {
+                rejectedCount.increment();
+                return -1;
+            }
+            if (theoreticalArrivalTime.compareAndSet(tat, start + intervalNanos)) {
+                permitCount.increment();
+                if (wait > 0) {
+                    waitCount.increment();
+                    waitTimeNanos.add(wait);
+                    return wait;
+                }
+                return 0;
+            }
+            // another thread reserved a permit in the mean time; try again
+        }
+    }
+
+    /**
+     * Cancels a permit that was reserved using {@link #reserve()}, returning it to the bucket.
+     * This should be called if a request is not sent after all, for instance because another rate limiter rejected it.
+     *
+     * @param wait The wait time that was returned by {@link #reserve()}; must not be negative.
+     */
+    public void cancel(long wait) {
+        // Moving the theoretical arrival time back by one interval frees one slot. If permits were reserved after the cancelled one, this
+        // frees the last of these slots instead of the cancelled one, which has the same effect on the rate.
+        theoreticalArrivalTime.addAndGet(-intervalNanos);
+        permitCount.decrement();
+        if (wait > 0) {
+            waitCount.decrement();
+            waitTimeNanos.add(-wait);
+        }
+    }
+
+    /**
+     * Returns the number of permits that become available per second.
+     *
+     * @return The number of permits that become available per second.
+     */
+    public double permitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    /**
+     * Returns the maximum number of permits that can be acquired at once.
+     *
+     * @return The maximum number of permits that can be acquired at once.
+     */
+    public int burst() {
+        return burst;
+    }
+
+    /**
+     * Returns the maximum time to wait for a permit.
+     *
+     * @return The maximum time to wait for a permit.
+     */
+    public Duration maxWait() {
+        return Duration.ofNanos(maxWaitNanos);
+    }
+
+    /**
+     * Returns the total number of reserved permits.
+     *
+     * @return The total number of reserved permits.
+     */
+    public long permitCount() {
+        return permitCount.sum();
+    }
+
+    /**
+     * Returns the total number of rejected requests.
+     *
+     * @return The total number of rejected requests.
+     */
+    public long rejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * Returns the total number of reserved permits that required waiting.
+     *
+     * @return The total number of reserved permits that required waiting.
+     */
+    public long waitCount() {
+        return waitCount.sum();
+    }
+
+    /**
+     * Returns the total time that callers were told to wait for their permits.
+     *
+     * @param unit The time unit to return the total wait time in.
+     * @return The total time that callers were told to wait for their permits.
+     */
+    public double totalWaitTime(TimeUnit unit) {
+        return (double) waitTimeNanos.sum() / unit.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimiter[permitsPerSecond=" + permitsPerSecond + ", burst=" + burst + "]";
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * RateLimits.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A combination of an optional global {@link RateLimiter} and {@link RateLimiter}s per operation group.
+ * An operation group consists of one or more operations. Each operation is identified by its HTTP method and path template, as returned
+ * by {@link ApiPaths#toTemplate(String)}; for instance, {@code POST /v1/{merchantId}/payments/{paymentId}/refund}.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public final class RateLimits {
+
+    private final RateLimiter global;
+    private final Map<String, RateLimiter> groups;
+    private final Map<String, String> operations;
+
+    // path template -> HTTP method -> rate limiter, so lookups don't need to combine the method and template
+    private final Map<String, Map<String, RateLimiter>> operationRateLimiters;
+
+    /**
+     * Creates a new rate limits object.
+     *
+     * @param global The rate limiter for all requests, or {@code null} to not limit all requests.
+     * @param groups The rate limiters per operation group.
+     * @param operations The operation group per operation. Operations are specified as HTTP method and path template, separated by a space.
+     * @throws IllegalArgumentException If an operation is not a valid HTTP method and path template,
+     *                                      or if an operation's group has no rate limiter.
+     */
+    public RateLimits(RateLimiter global, Map<String, RateLimiter> groups, Map<String, String> operations) {
+        this.global = global;
+        this.groups = Map.copyOf(groups);
+        this.operations = Map.copyOf(operations);
+
+        Map<String, Map<String, RateLimiter>> rateLimiters = new HashMap<>();
+        this.operations.forEach((operation, group) -> {
+            RateLimiter rateLimiter = this.groups.get(group);
+            if (rateLimiter == null) {
+                throw new IllegalArgumentException("No rate limiter for operation group '" + group + "' of operation '" + operation + "'");
+            }
+            int index = operation.indexOf(' ');
+            if (index <= 0 || !operation.startsWith("/", index + 1)) {
+                throw new IllegalArgumentException("Operation '" + operation + "' is not an HTTP method and path template");
+            }
+            String method = operation.substring(0, index).toUpperCase(Locale.ROOT);
+            String template = operation.substring(index + 1).trim();
+            rateLimiters.computeIfAbsent(template, t -> new HashMap<>()).put(method, rateLimiter);
+        });
+        rateLimiters.replaceAll((template, methods) -> Map.copyOf(methods));
+        this.operationRateLimiters = Map.copyOf(rateLimiters);
+    }
+
+    /**
+     * Returns the rate limiter for all requests.
+     *
+     * @return The rate limiter for all requests, or {@code null} if all requests are not limited.
+     */
+    public RateLimiter global() {
+        return global;
+    }
+
+    /**
+     * Returns the rate limiters per operation group.
+     *
+     * @return An unmodifiable map with the rate limiters per operation group.
+     */
+    public Map<String, RateLimiter> groups() {
+        return groups;
+    }
+
+    /**
+     * Returns the operation group per operation.
+     *
+     * @return An unmodifiable map with the operation group per operation.
+     */
+    public Map<String, String> operations() {
+        return operations;
+    }
+
+    /**
+     * Returns the rate limiter for a specific operation group.
+     *
+     * @param group The operation group to return the rate limiter for.
+     * @return The rate limiter for the given operation group, or {@code null} if the operation group is not limited.
+     */
+    public RateLimiter forGroup(String group) {
+        return group != null ? groups.get(group) : null;
+    }
+
+    /**
+     * Returns the rate limiter for a specific operation.
+     *
+     * @param method The HTTP method of the operation, in upper case.
+     * @param template The path template of the operation, as returned by {@link ApiPaths#toTemplate(String)}.
+     * @return The rate limiter for the operation group of the given operation, or {@code null} if the operation is not limited.
+     */
+    public RateLimiter forOperation(String method, String template) {
+        Map<String, RateLimiter> rateLimiters = operationRateLimiters.get(template);
+        return rateLimiters != null ? rateLimiters.get(method) : null;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * StatusCapturingResponseHandler.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Objects;
+import com.worldline.connect.sdk.java.communication.Connection;
+import com.worldline.connect.sdk.java.communication.ResponseHandler;
+import com.worldline.connect.sdk.java.communication.ResponseHeader;
+
+/**
+ * A {@link ResponseHandler} that captures the status code of the response before delegating to another {@link ResponseHandler}.
+ * This allows {@link Connection} decorators to inspect the status code after a call, even if the delegate response handler threw an
+ * exception for an error response.
+ * <p>
+ * Instances of this class should be used for only one call.
+ *
+ * @author Rob Spoor
+ * @param <R> The response type.
+ * @since 5.1
+ */
+public final class StatusCapturingResponseHandler<R> implements ResponseHandler<R> {
+
+    private final ResponseHandler<R> delegate;
+    private int statusCode;
+
+    /**
+     * Creates a new status capturing response handler.
+     *
+     * @param delegate The response handler to delegate to.
+     */
+    public StatusCapturingResponseHandler(ResponseHandler<R> delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    @Override
+    public R handleResponse(int statusCode, InputStream bodyStream, List<ResponseHeader> headers) {
+        this.statusCode = statusCode;
+        return delegate.handleResponse(statusCode, bodyStream, headers);
+    }
+
+    /**
+     * Returns the captured status code.
+     *
+     * @return The captured status code, or {@code 0} if no response was received.
+     */
+    public int statusCode() {
+        return statusCode;
+    }
+}
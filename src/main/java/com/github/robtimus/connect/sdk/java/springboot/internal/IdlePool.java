@@ -0,0 +1,123 @@
+/*
+ * IdlePool.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.robtimus.connect.sdk.java.springboot.internal;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free pool of idle objects, shared by
+ * {@link com.github.robtimus.connect.sdk.java.springboot.PooledV1HMACAuthenticator PooledV1HMACAuthenticator},
+ * {@link com.github.robtimus.connect.sdk.java.springboot.json.PooledGsonMarshaller PooledGsonMarshaller} and
+ * {@link com.github.robtimus.connect.sdk.java.springboot.logging.StructuredCommunicatorLogger StructuredCommunicatorLogger}.
+ * <p>
+ * Objects are not bound to threads, so pooling works just as well with virtual threads as with platform threads. Each search starts at a
+ * random slot, so concurrent callers seldom contend for the same slot. If no object is idle, callers create a new one. If the pool is full when
+ * an object is returned, the object is not kept and can be garbage collected.
+ *
+ * @author Rob Spoor
+ * @param <T> The type of pooled objects.
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public final class IdlePool<T> {
+
+    private final AtomicReferenceArray<T> idle;
+
+    /**
+     * Creates a new pool.
+     *
+     * @param maxIdle The maximum number of idle objects to keep.
+     * @throws IllegalArgumentException If the maximum number of idle objects is not positive.
+     */
+    public IdlePool(int maxIdle) {
+        if (maxIdle <= 0) {
+            throw new IllegalArgumentException("maxIdle must be > 0, is " + maxIdle);
+        }
+        this.idle = new AtomicReferenceArray<>(maxIdle);
+    }
+
+    /**
+     * Returns the maximum number of idle objects to keep.
+     *
+     * @return The maximum number of idle objects to keep.
+     */
+    public int maxIdle() {
+        return idle.length();
+    }
+
+    /**
+     * Returns the number of objects that are currently idle.
+     *
+     * @return The number of objects that are currently idle.
+     */
+    public int idleCount() {
+        int count = 0;
+        for (int i = 0, length = idle.length(); i < length; i++) {
+            if (idle.get(i) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Takes an idle object from this pool.
+     *
+     * @return An idle object, or {@code null} if no object is idle; the caller should then create a new object.
+     */
+    public T acquire() {
+        int length = idle.length();
+        int start = start(length);
+        for (int i = 0; i < length; i++) {
+            T object = idle.getAndSet((start + i) % length, null);
+            if (object != null) {
+                return object;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns an object to this pool.
+     * The caller must not use the object anymore afterwards.
+     *
+     * @param object The object to return.
+     * @return {@code true} if the object was kept, or {@code false} if the pool is full and the object was discarded.
+     */
+    public boolean release(T object) {
+        int length = idle.length();
+        int start = start(length);
+        for (int i = 0; i < length; i++) {
+            if (idle.compareAndSet((start + i) % length, null, object)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int start(int length) {
+        return length == 1 ? 0 : ThreadLocalRandom.current().nextInt(length);
+    }
+
+    @Override
+    public String toString() {
+        return "IdlePool[maxIdle=" + maxIdle() + ", idle=" + idleCount() + "]";
+    }
+}
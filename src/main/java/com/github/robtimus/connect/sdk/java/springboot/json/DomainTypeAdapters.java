@@ -0,0 +1,137 @@
+/*
+ * DomainTypeAdapters.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.json;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
+import com.worldline.connect.sdk.java.json.DefaultMarshaller;
+
+/**
+ * Provides access to {@link TypeAdapter TypeAdapters} for the SDK's domain classes that are generated when this library is built.
+ * These type adapters call the domain classes' getters and setters instead of using reflection, but produce the same JSON as
+ * {@link DefaultMarshaller}.
+ * <p>
+ * The type adapters are generated for a specific version of connect-sdk-java. If a domain class has different fields at runtime,
+ * for instance because a newer version of connect-sdk-java is used, the {@link Gson} instance falls back to reflection for that class.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public final class DomainTypeAdapters {
+
+    private static final String REFLECTIVE_ADAPTER_PREFIX = "com.google.gson.internal.bind.ReflectiveTypeAdapterFactory$";
+
+    private DomainTypeAdapters() {
+    }
+
+    /**
+     * Returns a {@link TypeAdapterFactory} for the SDK's domain classes.
+     * It can be registered with a {@link GsonBuilder} returned by {@link PooledGsonMarshaller#gsonBuilder()}.
+     *
+     * @return A {@link TypeAdapterFactory} for the SDK's domain classes.
+     */
+    public static TypeAdapterFactory factory() {
+        return GeneratedDomainTypeAdapterFactory.INSTANCE;
+    }
+
+    // The following methods are used by the generated code
+
+    static boolean hasFields(Class<?> type, String... expectedFields) {
+        return Arrays.equals(fields(type), expectedFields);
+    }
+
+    // Returns the fields that Gson serializes, in the same order, as name:type
+    private static String[] fields(Class<?> type) {
+        List<String> fields = new ArrayList<>();
+        for (Class<?> c = type; c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic()) {
+                    fields.add(field.getName() + ":" + field.getGenericType().getTypeName());
+                }
+            }
+        }
+        return fields.toArray(new String[0]);
+    }
+
+    static Type parameterized(Class<?> rawType, Type... typeArguments) {
+        return new ParameterizedTypeImpl(rawType, typeArguments);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> TypeAdapter<T> getAdapter(Gson gson, Type type) {
+        return (TypeAdapter<T>) gson.getAdapter(TypeToken.get(type));
+    }
+
+    // Like Gson's own reflection based type adapters, prefer the adapter for the runtime type unless that uses reflection
+    @SuppressWarnings("unchecked")
+    static <T> void write(JsonWriter out, Gson gson, TypeAdapter<T> adapter, Class<T> declaredType, T value) throws IOException {
+        TypeAdapter<T> chosen = adapter;
+        if (value != null && value.getClass() != declaredType) {
+            TypeAdapter<T> runtimeTypeAdapter = (TypeAdapter<T>) gson.getAdapter(value.getClass());
+            if (!isReflective(runtimeTypeAdapter) || isReflective(adapter)) {
+                chosen = runtimeTypeAdapter;
+            }
+        }
+        chosen.write(out, value);
+    }
+
+    private static boolean isReflective(TypeAdapter<?> adapter) {
+        return adapter.getClass().getName().startsWith(REFLECTIVE_ADAPTER_PREFIX);
+    }
+
+    // Gson canonicalizes types passed to TypeToken.get, so this class does not need to implement equals or hashCode
+    private static final class ParameterizedTypeImpl implements ParameterizedType {
+
+        private final Class<?> rawType;
+        private final Type[] typeArguments;
+
+        private ParameterizedTypeImpl(Class<?> rawType, Type[] typeArguments) {
+            this.rawType = rawType;
+            this.typeArguments = typeArguments;
+        }
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return typeArguments.clone();
+        }
+
+        @Override
+        public Type getRawType() {
+            return rawType;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return rawType.getDeclaringClass();
+        }
+    }
+}
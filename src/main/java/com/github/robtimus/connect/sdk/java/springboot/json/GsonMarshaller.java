@@ -0,0 +1,93 @@
+/*
+ * GsonMarshaller.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.json;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.worldline.connect.sdk.java.json.DefaultMarshaller;
+import com.worldline.connect.sdk.java.json.Marshaller;
+import com.worldline.connect.sdk.java.json.MarshallerSyntaxException;
+
+/**
+ * A {@link Marshaller} implementation that works like {@link DefaultMarshaller}, but with a custom {@link Gson} instance.
+ * This allows type adapters to be registered, something that {@link DefaultMarshaller} does not support.
+ * <p>
+ * Unlike {@link PooledGsonMarshaller}, this class wraps each response stream in a new {@link InputStreamReader}, like {@link DefaultMarshaller}.
+ * This class is thread-safe.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public class GsonMarshaller implements Marshaller {
+
+    private final Gson gson;
+
+    /**
+     * Creates a new marshaller.
+     * To remain compatible with {@link DefaultMarshaller}, the {@link Gson} instance should be created from
+     * {@link PooledGsonMarshaller#gsonBuilder()}.
+     *
+     * @param gson The {@link Gson} instance to use.
+     * @throws NullPointerException If the given {@link Gson} instance is {@code null}.
+     */
+    public GsonMarshaller(Gson gson) {
+        this.gson = Objects.requireNonNull(gson);
+    }
+
+    /**
+     * Returns the {@link Gson} instance that is used.
+     *
+     * @return The {@link Gson} instance that is used.
+     */
+    public Gson gson() {
+        return gson;
+    }
+
+    @Override
+    public String marshal(Object requestObject) {
+        return gson.toJson(requestObject);
+    }
+
+    @Override
+    public <T> T unmarshal(String responseJson, Class<T> type) {
+        try {
+            return gson.fromJson(responseJson, type);
+        } catch (JsonSyntaxException e) {
+            throw new MarshallerSyntaxException(e);
+        }
+    }
+
+    @Override
+    public <T> T unmarshal(InputStream responseJson, Class<T> type) {
+        try {
+            return gson.fromJson(new InputStreamReader(responseJson, StandardCharsets.UTF_8), type);
+        } catch (JsonSyntaxException e) {
+            throw new MarshallerSyntaxException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "GsonMarshaller";
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * JacksonMarshaller.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.json;
+
+import java.io.InputStream;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.worldline.connect.sdk.java.json.DefaultMarshaller;
+import com.worldline.connect.sdk.java.json.Marshaller;
+import com.worldline.connect.sdk.java.json.MarshallerSyntaxException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.PropertyNamingStrategies;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * A {@link Marshaller} that uses <a href="https://github.com/FasterXML/jackson">Jackson</a>.
+ * <p>
+ * The SDK's domain classes are written for Gson, which serializes fields and not properties. To be compatible with {@link DefaultMarshaller},
+ * the {@link JsonMapper} that is used is configured as follows:
+ * <ul>
+ *   <li>Only fields are serialized and deserialized; getters and setters are ignored.
+ *       This matters for fields like {@code isRecurring}, for which the getter and setter would lead to property name {@code recurring}.</li>
+ *   <li>{@code null} values are not serialized.</li>
+ *   <li>Unknown properties and {@code null} values for primitives are ignored when deserializing.</li>
+ *   <li>Properties are serialized in the order of declaration, and use the field names as-is.</li>
+ *   <li>Root values are neither wrapped nor unwrapped.</li>
+ *   <li>Empty JSON content is unmarshalled as {@code null}.</li>
+ * </ul>
+ * All other configuration is taken from the {@link JsonMapper} this marshaller is created with, which itself is not modified.
+ * This allows another {@link JsonMapper} to be used as basis, but only if it has no settings that the above does not reset and that change
+ * the JSON for the SDK's domain classes, like mix-ins, default typing or custom serializers for JDK types.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+public class JacksonMarshaller implements Marshaller {
+
+    private final JsonMapper jsonMapper;
+
+    /**
+     * Creates a new Jackson based marshaller with a default {@link JsonMapper} as basis.
+     */
+    public JacksonMarshaller() {
+        this(JsonMapper.builder());
+    }
+
+    /**
+     * Creates a new Jackson based marshaller.
+     *
+     * @param jsonMapper The {@link JsonMapper} to use as basis. It will not be modified.
+     */
+    public JacksonMarshaller(JsonMapper jsonMapper) {
+        this(jsonMapper.rebuild());
+    }
+
+    private JacksonMarshaller(JsonMapper.Builder builder) {
+        this.jsonMapper = configure(builder).build();
+    }
+
+    /**
+     * Configures a {@link JsonMapper.Builder} so the resulting {@link JsonMapper} is compatible with the SDK's domain classes.
+     *
+     * @param builder The builder to configure.
+     * @return The given builder.
+     */
+    public static JsonMapper.Builder configure(JsonMapper.Builder builder) {
+        return builder
+                .changeDefaultVisibility(visibility -> visibility
+                        .withVisibility(PropertyAccessor.GETTER, Visibility.NONE)
+                        .withVisibility(PropertyAccessor.IS_GETTER, Visibility.NONE)
+                        .withVisibility(PropertyAccessor.SETTER, Visibility.NONE)
+                        .withVisibility(PropertyAccessor.FIELD, Visibility.ANY))
+                .changeDefaultPropertyInclusion(inclusion -> inclusion
+                        .withValueInclusion(JsonInclude.Include.NON_NULL)
+                        .withContentInclusion(JsonInclude.Include.NON_NULL))
+                .propertyNamingStrategy(PropertyNamingStrategies.LOWER_CAMEL_CASE)
+                .disable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                .disable(SerializationFeature.WRAP_ROOT_VALUE)
+                .disable(DeserializationFeature.UNWRAP_ROOT_VALUE)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES);
+    }
+
+    /**
+     * Returns the {@link JsonMapper} that is used.
+     *
+     * @return The {@link JsonMapper} that is used.
+     */
+    public JsonMapper jsonMapper() {
+        return jsonMapper;
+    }
+
+    @Override
+    public String marshal(Object requestObject) {
+        return jsonMapper.writeValueAsString(requestObject);
+    }
+
+    @Override
+    public <T> T unmarshal(String responseJson, Class<T> type) {
+        Objects.requireNonNull(type);
+        if (responseJson == null) {
+            return null;
+        }
+        try (JsonParser parser = jsonMapper.createParser(responseJson)) {
+            return unmarshal(parser, type);
+        } catch (JacksonException e) {
+            throw new MarshallerSyntaxException(e);
+        }
+    }
+
+    @Override
+    public <T> T unmarshal(InputStream responseJson, Class<T> type) {
+        Objects.requireNonNull(type);
+        try (JsonParser parser = jsonMapper.createParser(responseJson)) {
+            return unmarshal(parser, type);
+        } catch (JacksonException e) {
+            throw new MarshallerSyntaxException(e);
+        }
+    }
+
+    private <T> T unmarshal(JsonParser parser, Class<T> type) {
+        // Like Gson, return null for empty content instead of failing
+        if (parser.nextToken() == null) {
+            return null;
+        }
+        return jsonMapper.readValue(parser, type);
+    }
+}
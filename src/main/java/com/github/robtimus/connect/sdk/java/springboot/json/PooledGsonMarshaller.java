@@ -0,0 +1,248 @@
+/*
+ * PooledGsonMarshaller.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import com.github.robtimus.connect.sdk.java.springboot.internal.IdlePool;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import com.worldline.connect.sdk.java.json.DefaultMarshaller;
+import com.worldline.connect.sdk.java.json.Marshaller;
+import com.worldline.connect.sdk.java.json.MarshallerSyntaxException;
+
+/**
+ * A {@link Marshaller} implementation that produces the same results as {@link DefaultMarshaller}, but with fewer allocations when
+ * unmarshalling from an {@link InputStream}.
+ * <p>
+ * Where {@link DefaultMarshaller} wraps each response stream in a new {@link java.io.InputStreamReader}, which creates a new UTF-8 decoder and
+ * byte buffer for each call, this class keeps a pool of readers. Each reader has a UTF-8 decoder and buffers that are reused between calls.
+ * Response bodies are parsed directly from the stream; they are never read into a string first.
+ * <p>
+ * Readers are pooled using an {@link IdlePool}. If all pooled readers are in use, a new reader is created. At most a configurable number of
+ * readers is kept for reuse afterwards.
+ * This class is thread-safe.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public class PooledGsonMarshaller implements Marshaller {
+
+    /** The default maximum number of idle readers: twice the number of available processors. */
+    public static final int DEFAULT_MAX_IDLE = Runtime.getRuntime().availableProcessors() * 2;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Gson gson;
+
+    private final IdlePool<PooledReader> idleReaders;
+
+    /**
+     * Creates a new pooled marshaller that keeps at most {@link #DEFAULT_MAX_IDLE} idle readers.
+     */
+    public PooledGsonMarshaller() {
+        this(DEFAULT_MAX_IDLE);
+    }
+
+    /**
+     * Creates a new pooled marshaller.
+     *
+     * @param maxIdle The maximum number of idle readers to keep.
+     * @throws IllegalArgumentException If the maximum number of idle readers is not positive.
+     */
+    public PooledGsonMarshaller(int maxIdle) {
+        this(gsonBuilder().create(), maxIdle);
+    }
+
+    /**
+     * Creates a new pooled marshaller with a custom {@link Gson} instance.
+     * This allows type adapters to be registered, for instance pre-compiled adapters that avoid reflection for the SDK's domain classes.
+     * To remain compatible with {@link DefaultMarshaller}, the {@link Gson} instance should be created from {@link #gsonBuilder()}.
+     *
+     * @param gson The {@link Gson} instance to use.
+     * @param maxIdle The maximum number of idle readers to keep.
+     * @throws NullPointerException If the given {@link Gson} instance is {@code null}.
+     * @throws IllegalArgumentException If the maximum number of idle readers is not positive.
+     */
+    public PooledGsonMarshaller(Gson gson, int maxIdle) {
+        this.idleReaders = new IdlePool<>(maxIdle);
+        this.gson = Objects.requireNonNull(gson);
+    }
+
+    /**
+     * Returns a new {@link GsonBuilder} that is configured the same way as the {@link Gson} instance of {@link DefaultMarshaller}.
+     *
+     * @return A new {@link GsonBuilder} that is configured the same way as the {@link Gson} instance of {@link DefaultMarshaller}.
+     */
+    public static GsonBuilder gsonBuilder() {
+        return new GsonBuilder();
+    }
+
+    /**
+     * Returns the {@link Gson} instance that is used.
+     *
+     * @return The {@link Gson} instance that is used.
+     */
+    public Gson gson() {
+        return gson;
+    }
+
+    /**
+     * Returns the maximum number of idle readers to keep.
+     *
+     * @return The maximum number of idle readers to keep.
+     */
+    public int maxIdle() {
+        return idleReaders.maxIdle();
+    }
+
+    /**
+     * Returns the number of readers that are currently idle.
+     *
+     * @return The number of readers that are currently idle.
+     */
+    public int idleCount() {
+        return idleReaders.idleCount();
+    }
+
+    @Override
+    public String marshal(Object requestObject) {
+        return gson.toJson(requestObject);
+    }
+
+    @Override
+    public <T> T unmarshal(String responseJson, Class<T> type) {
+        try {
+            return gson.fromJson(responseJson, type);
+        } catch (JsonSyntaxException e) {
+            throw new MarshallerSyntaxException(e);
+        }
+    }
+
+    @Override
+    public <T> T unmarshal(InputStream responseJson, Class<T> type) {
+        PooledReader reader = idleReaders.acquire();
+        if (reader == null) {
+            reader = new PooledReader();
+        }
+        reader.reset(responseJson);
+        try {
+            return gson.fromJson(reader, type);
+        } catch (JsonSyntaxException e) {
+            throw new MarshallerSyntaxException(e);
+        } finally {
+            // the reader's state is reset when it's acquired again; only drop the reference to the stream
+            reader.reset(null);
+            idleReaders.release(reader);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PooledGsonMarshaller[maxIdle=" + maxIdle() + "]";
+    }
+
+    // A reader that decodes UTF-8 like InputStreamReader, including replacing malformed input, but that can be reused for different streams
+    static final class PooledReader extends Reader {
+
+        private final CharsetDecoder decoder;
+        // both buffers are kept in read mode: the data between position and limit is available
+        private final ByteBuffer bytes;
+        private final CharBuffer chars;
+
+        private InputStream input;
+        private boolean endOfInput;
+        private boolean flushed;
+
+        PooledReader() {
+            this.decoder = StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            this.bytes = ByteBuffer.allocate(BUFFER_SIZE);
+            this.chars = CharBuffer.allocate(BUFFER_SIZE);
+        }
+
+        void reset(InputStream newInput) {
+            input = newInput;
+            decoder.reset();
+            bytes.clear().flip();
+            chars.clear().flip();
+            endOfInput = false;
+            flushed = false;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            Objects.checkFromIndexSize(off, len, cbuf.length);
+            if (len == 0) {
+                return 0;
+            }
+            if (!chars.hasRemaining() && !fillChars()) {
+                return -1;
+            }
+            int count = Math.min(len, chars.remaining());
+            chars.get(cbuf, off, count);
+            return count;
+        }
+
+        private boolean fillChars() throws IOException {
+            chars.clear();
+            // the char buffer is at least as large as the byte buffer, and UTF-8 never produces more chars than bytes,
+            // so decoding into an empty char buffer cannot overflow before producing anything
+            while (chars.position() == 0 && !flushed) {
+                if (endOfInput) {
+                    decoder.decode(bytes, chars, true);
+                    decoder.flush(chars);
+                    flushed = true;
+                } else {
+                    decoder.decode(bytes, chars, false);
+                    if (chars.position() == 0) {
+                        readBytes();
+                    }
+                }
+            }
+            chars.flip();
+            return chars.hasRemaining();
+        }
+
+        private void readBytes() throws IOException {
+            bytes.compact();
+            int count = input.read(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+            if (count < 0) {
+                endOfInput = true;
+            } else {
+                bytes.position(bytes.position() + count);
+            }
+            bytes.flip();
+        }
+
+        @Override
+        public void close() {
+            // the stream is owned and closed by the connection
+        }
+    }
+}
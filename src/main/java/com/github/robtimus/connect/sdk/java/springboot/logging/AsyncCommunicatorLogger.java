@@ -0,0 +1,320 @@
+/*
+ * AsyncCommunicatorLogger.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.logging;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.worldline.connect.sdk.java.logging.CommunicatorLogger;
+
+/**
+ * A communicator logger that hands off messages to another communicator logger on a separate thread.
+ * This prevents the threads that perform requests from being slowed down by the appenders of the backing logger.
+ * <p>
+ * Messages are stored in a bounded lock-free ring buffer, from which a single background thread passes them to the backing communicator
+ * logger in order. If messages are logged faster than the backing logger can handle them, the buffer fills up, and the
+ * {@link OverflowPolicy overflow policy} determines what happens.
+ * <p>
+ * Instances should be {@link #close() closed} when no longer needed. This logs all remaining messages, and stops the background thread.
+ * Messages that are logged after an instance is closed are passed to the backing communicator logger directly.
+ * <p>
+ * If the backing communicator logger is a {@link LevelAwareCommunicatorLogger}, messages that it would discard are not added to the buffer at all.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public class AsyncCommunicatorLogger implements LevelAwareCommunicatorLogger, AutoCloseable {
+
+    /** The default capacity. */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /** The default sample rate. */
+    public static final int DEFAULT_SAMPLE_RATE = 10;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncCommunicatorLogger.class);
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final AtomicLong THREAD_COUNTER = new AtomicLong();
+
+    private final CommunicatorLogger delegate;
+    private final RingBuffer<Entry> buffer;
+    private final OverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final int sampleThreshold;
+
+    private final Thread consumer;
+    private volatile boolean consumerWaiting;
+    private volatile boolean closed;
+
+    private final AtomicLong sampleCounter = new AtomicLong();
+    private final LongAdder droppedCount = new LongAdder();
+
+    /**
+     * Creates a new async communicator logger that drops messages if its buffer is full.
+     *
+     * @param delegate The communicator logger to hand off messages to.
+     * @param capacity The minimum capacity of the buffer; the actual capacity is the nearest power of two that is at least this value and at least 2.
+     */
+    public AsyncCommunicatorLogger(CommunicatorLogger delegate, int capacity) {
+        this(delegate, capacity, OverflowPolicy.DROP, DEFAULT_SAMPLE_RATE);
+    }
+
+    /**
+     * Creates a new async communicator logger.
+     *
+     * @param delegate The communicator logger to hand off messages to.
+     * @param capacity The minimum capacity of the buffer; the actual capacity is the nearest power of two that is at least this value and at least 2.
+     * @param overflowPolicy The overflow policy to use.
+     * @param sampleRate For overflow policy {@link OverflowPolicy#SAMPLE}, one in how many messages is kept if the buffer is at least half full.
+     * @throws IllegalArgumentException If the given capacity or sample rate is not positive.
+     */
+    public AsyncCommunicatorLogger(CommunicatorLogger delegate, int capacity, OverflowPolicy overflowPolicy, int sampleRate) {
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException("sampleRate must be > 0, is " + sampleRate);
+        }
+        this.delegate = Objects.requireNonNull(delegate);
+        this.buffer = new RingBuffer<>(capacity);
+        this.overflowPolicy = Objects.requireNonNull(overflowPolicy);
+        this.sampleRate = sampleRate;
+        this.sampleThreshold = buffer.capacity() / 2;
+
+        consumer = new Thread(this::consume, "connect-sdk-async-logger-" + THREAD_COUNTER.incrementAndGet());
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return LevelAwareCommunicatorLogger.isEnabled(delegate);
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+        return LevelAwareCommunicatorLogger.isErrorEnabled(delegate);
+    }
+
+    @Override
+    public Runnable addLevelChangeListener(Runnable listener) {
+        return LevelAwareCommunicatorLogger.addLevelChangeListener(delegate, listener);
+    }
+
+    @Override
+    public void log(String message) {
+        if (isEnabled()) {
+            log(new Entry(message, null, false));
+        }
+    }
+
+    @Override
+    public void log(String message, Throwable thrown) {
+        if (isErrorEnabled()) {
+            log(new Entry(message, thrown, true));
+        }
+    }
+
+    private void log(Entry entry) {
+        if (closed) {
+            entry.logTo(delegate);
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.SAMPLE && buffer.size() >= sampleThreshold && !sample()) {
+            droppedCount.increment();
+            return;
+        }
+        if (buffer.offer(entry) || overflowPolicy == OverflowPolicy.BLOCK && offerBlocking(entry)) {
+            if (consumerWaiting) {
+                LockSupport.unpark(consumer);
+            }
+        } else {
+            droppedCount.increment();
+        }
+    }
+
+    private boolean sample() {
+        return sampleCounter.incrementAndGet() % sampleRate == 0;
+    }
+
+    private boolean offerBlocking(Entry entry) {
+        do {
+            LockSupport.unpark(consumer);
+            LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+            if (Thread.currentThread().isInterrupted() || closed) {
+                return false;
+            }
+        } while (!buffer.offer(entry));
+        return true;
+    }
+
+    private void consume() {
+        while (!closed) {
+            Entry entry = buffer.poll();
+            if (entry != null) {
+                logToDelegate(entry);
+            } else {
+                consumerWaiting = true;
+                // check again after publishing the flag; either the producer sees the flag, or this thread sees the entry
+                if (buffer.size() == 0 && !closed) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                consumerWaiting = false;
+            }
+        }
+        drain();
+    }
+
+    private void drain() {
+        Entry entry;
+        while ((entry = buffer.poll()) != null) {
+            logToDelegate(entry);
+        }
+    }
+
+    private void logToDelegate(Entry entry) {
+        try {
+            entry.logTo(delegate);
+        } catch (RuntimeException e) {
+            // don't let a failing delegate stop the consumer thread
+            LOGGER.warn("Failed to log message", e);
+        }
+    }
+
+    /**
+     * Returns the communicator logger that messages are handed off to.
+     *
+     * @return The communicator logger that messages are handed off to.
+     */
+    public CommunicatorLogger delegate() {
+        return delegate;
+    }
+
+    /**
+     * Returns the overflow policy that is used.
+     *
+     * @return The overflow policy that is used.
+     */
+    public OverflowPolicy overflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Returns the capacity of the buffer.
+     *
+     * @return The capacity of the buffer.
+     */
+    public int capacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Returns the number of messages in the buffer that have not yet been logged.
+     *
+     * @return The number of messages in the buffer that have not yet been logged.
+     */
+    public int pendingCount() {
+        return buffer.size();
+    }
+
+    /**
+     * Returns the total number of messages that were dropped, either because the buffer was full, or because they were not sampled.
+     *
+     * @return The total number of messages that were dropped.
+     */
+    public long droppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * Logs all remaining messages, and stops the background thread.
+     * This method waits at most 10 seconds for the remaining messages to be logged.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join(CLOSE_TIMEOUT.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (!consumer.isAlive()) {
+            // log messages of threads that offered them while the consumer thread was finishing; this thread is now the only consumer
+            drain();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncCommunicatorLogger[delegate=" + delegate + ", overflowPolicy=" + overflowPolicy + ", capacity=" + capacity() + "]";
+    }
+
+    /**
+     * The possible policies for when messages are logged faster than the backing communicator logger can handle them.
+     *
+     * @author Rob Spoor
+     * @since 5.1
+     */
+    public enum OverflowPolicy {
+        /** Drop messages if the buffer is full. This never blocks the logging thread. */
+        DROP,
+
+        /**
+         * Keep only one in every <em>sample rate</em> messages if the buffer is at least half full, and drop messages if the buffer is full.
+         * This never blocks the logging thread, and keeps logging a part of the messages during sustained overload.
+         * Note that a request message may be kept while the matching response message is dropped, or the other way around.
+         */
+        SAMPLE,
+
+        /**
+         * Wait until there is room in the buffer if it is full. This never drops messages, unless the logging thread is interrupted, but it
+         * slows down the logging thread during sustained overload.
+         */
+        BLOCK,
+    }
+
+    private static final class Entry {
+
+        private final String message;
+        private final Throwable thrown;
+        // log(String, Throwable) may be called with a null Throwable, and may use a different level than log(String)
+        private final boolean withThrown;
+
+        private Entry(String message, Throwable thrown, boolean withThrown) {
+            this.message = message;
+            this.thrown = thrown;
+            this.withThrown = withThrown;
+        }
+
+        private void logTo(CommunicatorLogger logger) {
+            if (withThrown) {
+                logger.log(message, thrown);
+            } else {
+                logger.log(message);
+            }
+        }
+    }
+}
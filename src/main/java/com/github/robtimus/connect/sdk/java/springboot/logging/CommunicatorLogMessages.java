@@ -0,0 +1,171 @@
+/*
+ * CommunicatorLogMessages.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.logging;
+
+/**
+ * Utility methods for parsing the messages that the SDK logs through communicator loggers.
+ * <p>
+ * Request messages have the following format, where the content type and body are only present if the request has a body:
+ * <pre>
+ * Outgoing request (requestId='&lt;requestId&gt;'):
+ *   method:       '&lt;method&gt;'
+ *   uri:          '&lt;uri&gt;'
+ *   headers:      '&lt;headers&gt;'
+ *   content-type: '&lt;content type&gt;'
+ *   body:         '&lt;body&gt;'
+ * </pre>
+ * Response messages have the following format, where the content type and body are only present if the response has a body:
+ * <pre>
+ * Incoming response (requestId='&lt;requestId&gt;', &lt;duration&gt; ms):
+ *   status-code:  '&lt;status code&gt;'
+ *   headers:      '&lt;headers&gt;'
+ *   content-type: '&lt;content type&gt;'
+ *   body:         '&lt;body&gt;'
+ * </pre>
+ * Error messages have the following format:
+ * <pre>
+ * Error occurred for outgoing request (requestId='&lt;requestId&gt;', &lt;duration&gt; ms)
+ * </pre>
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("nls")
+final class CommunicatorLogMessages {
+
+    static final String REQUEST_PREFIX = "Outgoing request (requestId='";
+    static final String RESPONSE_PREFIX = "Incoming response (requestId='";
+    static final String ERROR_PREFIX = "Error occurred for outgoing request (requestId='";
+
+    // fields start on a new line; headers and other single-line values cannot contain line breaks, so these cannot match inside another field
+    static final String METHOD_FIELD = "\n  method:";
+    static final String URI_FIELD = "\n  uri:";
+    static final String STATUS_CODE_FIELD = "\n  status-code:";
+    static final String CONTENT_TYPE_FIELD = "\n  content-type:";
+    static final String BODY_FIELD = "\n  body:";
+
+    private CommunicatorLogMessages() {
+    }
+
+    static String requestId(String message, String prefix) {
+        if (!message.startsWith(prefix)) {
+            return null;
+        }
+        int end = message.indexOf('\'', prefix.length());
+        return end == -1 ? null : message.substring(prefix.length(), end);
+    }
+
+    // messages have format <prefix><requestId>', <duration> ms)
+    static long duration(String message, int requestIdEnd) {
+        int start = requestIdEnd + 3;
+        return parseNumber(message, start);
+    }
+
+    // messages contain status-code:  '<status code>'
+    static int statusCode(String message) {
+        int index = message.indexOf(STATUS_CODE_FIELD);
+        if (index == -1) {
+            return -1;
+        }
+        index = message.indexOf('\'', index + STATUS_CODE_FIELD.length());
+        return index == -1 ? -1 : (int) parseNumber(message, index + 1);
+    }
+
+    // single-line fields have format <field> <padding>'<value>'; the value itself may contain quotes
+    static String field(String message, String field) {
+        int index = message.indexOf(field);
+        if (index == -1) {
+            return null;
+        }
+        int start = message.indexOf('\'', index + field.length());
+        if (start == -1) {
+            return null;
+        }
+        int lineEnd = message.indexOf('\n', start);
+        int end = message.lastIndexOf('\'', lineEnd == -1 ? message.length() - 1 : lineEnd - 1);
+        return end > start ? message.substring(start + 1, end) : null;
+    }
+
+    // the body is the last field, and may span multiple lines; returns the index of its first character, or -1 if there is no body
+    static int bodyStart(String message) {
+        int index = message.indexOf(BODY_FIELD);
+        if (index == -1 || !message.endsWith("'")) {
+            return -1;
+        }
+        int start = message.indexOf('\'', index + BODY_FIELD.length());
+        return start == -1 || start == message.length() - 1 ? -1 : start + 1;
+    }
+
+    // the body ends right before the closing quote
+    static int bodyEnd(String message) {
+        return message.length() - 1;
+    }
+
+    static long parseNumber(String message, int start) {
+        long result = 0;
+        int index = start;
+        while (index < message.length()) {
+            char c = message.charAt(index);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            result = result * 10 + c - '0';
+            index++;
+        }
+        return index == start ? -1 : result;
+    }
+
+    static long utf8Length(String s, int start, int end) {
+        long length = 0;
+        int index = start;
+        while (index < end) {
+            int charLength = utf8Length(s, index, end, s.charAt(index));
+            length += charLength;
+            index += charLength == 4 ? 2 : 1;
+        }
+        return length;
+    }
+
+    // returns the end index of the longest part of s starting at start that is at most maxLength UTF-8 bytes, without splitting surrogate pairs
+    static int utf8Prefix(String s, int start, int end, long maxLength) {
+        long length = 0;
+        int index = start;
+        while (index < end) {
+            int charLength = utf8Length(s, index, end, s.charAt(index));
+            if (length + charLength > maxLength) {
+                break;
+            }
+            length += charLength;
+            index += charLength == 4 ? 2 : 1;
+        }
+        return index;
+    }
+
+    private static int utf8Length(String s, int index, int end, char c) {
+        if (c < 0x80) {
+            return 1;
+        }
+        if (c < 0x800) {
+            return 2;
+        }
+        if (Character.isHighSurrogate(c) && index + 1 < end && Character.isLowSurrogate(s.charAt(index + 1))) {
+            // a surrogate pair is a single code point
+            return 4;
+        }
+        return 3;
+    }
+}
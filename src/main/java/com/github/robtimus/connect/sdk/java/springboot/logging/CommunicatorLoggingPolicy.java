@@ -0,0 +1,157 @@
+/*
+ * CommunicatorLoggingPolicy.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.robtimus.connect.sdk.java.springboot.logging;
+
+import java.time.Duration;
+import java.util.Objects;
+import com.worldline.connect.sdk.java.logging.CommunicatorLogger;
+
+/**
+ * A policy that determines which calls are logged by a {@link CommunicatorLogger}.
+ * <p>
+ * Policies other than {@link Type#ALL} recognize the request, response and error messages of
+ * <a href="https://github.com/Worldline-Global-Collect/connect-sdk-java/">connect-sdk-java</a> by their request id.
+ * Messages that are not recognized are always logged.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public final class CommunicatorLoggingPolicy {
+
+    /** The default sample rate. */
+    public static final int DEFAULT_SAMPLE_RATE = 100;
+
+    /** The default threshold for slow calls. */
+    public static final Duration DEFAULT_SLOW_THRESHOLD = Duration.ofSeconds(1);
+
+    private static final CommunicatorLoggingPolicy ALL = new CommunicatorLoggingPolicy(Type.ALL, DEFAULT_SAMPLE_RATE, DEFAULT_SLOW_THRESHOLD);
+
+    private final Type type;
+    private final int sampleRate;
+    private final Duration slowThreshold;
+
+    private CommunicatorLoggingPolicy(Type type, int sampleRate, Duration slowThreshold) {
+        this.type = type;
+        this.sampleRate = sampleRate;
+        this.slowThreshold = slowThreshold;
+    }
+
+    /**
+     * Returns a policy that logs all calls.
+     *
+     * @return A policy that logs all calls.
+     */
+    public static CommunicatorLoggingPolicy all() {
+        return ALL;
+    }
+
+    /**
+     * Returns a policy.
+     *
+     * @param type The policy type.
+     * @param sampleRate For policy type {@link Type#SAMPLE}, one in how many calls is logged.
+     * @param slowThreshold For policy types {@link Type#SLOW} and {@link Type#TAIL}, the minimum duration of calls that are logged.
+     * @return The policy.
+     * @throws IllegalArgumentException If the sample rate is not positive, or if the slow threshold is negative.
+     */
+    public static CommunicatorLoggingPolicy of(Type type, int sampleRate, Duration slowThreshold) {
+        Objects.requireNonNull(type);
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException("sampleRate must be > 0, is " + sampleRate);
+        }
+        if (slowThreshold.isNegative()) {
+            throw new IllegalArgumentException("slowThreshold must be >= 0, is " + slowThreshold);
+        }
+        return new CommunicatorLoggingPolicy(type, sampleRate, slowThreshold);
+    }
+
+    /**
+     * Returns the policy type.
+     *
+     * @return The policy type.
+     */
+    public Type type() {
+        return type;
+    }
+
+    /**
+     * Returns one in how many calls is logged, for policy type {@link Type#SAMPLE}.
+     *
+     * @return One in how many calls is logged.
+     */
+    public int sampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Returns the minimum duration of calls that are logged, for policy types {@link Type#SLOW} and {@link Type#TAIL}.
+     *
+     * @return The minimum duration of calls that are logged.
+     */
+    public Duration slowThreshold() {
+        return slowThreshold;
+    }
+
+    /**
+     * Returns a communicator logger that applies this policy.
+     *
+     * @param logger The communicator logger to pass the messages that are logged according to this policy to.
+     * @return A communicator logger that applies this policy; {@code logger} itself for policy type {@link Type#ALL}.
+     */
+    public CommunicatorLogger apply(CommunicatorLogger logger) {
+        Objects.requireNonNull(logger);
+        return type == Type.ALL ? logger : new PolicyCommunicatorLogger(logger, this);
+    }
+
+    @Override
+    public String toString() {
+        return switch (type) {
+            case SAMPLE -> type + "[sampleRate=" + sampleRate + "]";
+            case SLOW, TAIL -> type + "[slowThreshold=" + slowThreshold + "]";
+            default -> type.toString();
+        };
+    }
+
+    /**
+     * The possible policy types.
+     *
+     * @author Rob Spoor
+     * @since 5.1
+     */
+    public enum Type {
+        /** Log all calls. */
+        ALL,
+
+        /** Log the requests and responses of one in every <em>sample rate</em> calls. */
+        SAMPLE,
+
+        /** Log only the responses and errors of calls that take at least the slow threshold. */
+        SLOW,
+
+        /** Log only responses with a non-2xx status code, and errors. */
+        ERRORS,
+
+        /**
+         * Keep request messages until the call has finished, and log them with the response or error only if the call takes at least the slow
+         * threshold, the response has a non-2xx status code, or an error occurs.
+         */
+        TAIL,
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * LevelAwareCommunicatorLogger.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.logging;
+
+import java.util.Objects;
+import com.worldline.connect.sdk.java.logging.CommunicatorLogger;
+
+/**
+ * A communicator logger that can tell whether or not messages will actually be logged.
+ * This allows callers to skip building messages that would be discarded anyway.
+ * <p>
+ * The result of the methods of this interface may change over time, for instance if log levels are changed at runtime.
+ * Callers should therefore not cache these results, unless they {@link #addLevelChangeListener(Runnable) listen} for such changes.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+public interface LevelAwareCommunicatorLogger extends CommunicatorLogger {
+
+    /**
+     * Returns whether or not messages logged through {@link #log(String)} will be logged.
+     *
+     * @return {@code true} if messages logged through {@link #log(String)} will be logged, or {@code false} if they will be discarded.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns whether or not messages logged through {@link #log(String, Throwable)} will be logged.
+     * <p>
+     * The default implementation returns the result of {@link #isEnabled()}.
+     *
+     * @return {@code true} if messages logged through {@link #log(String, Throwable)} will be logged, or {@code false} if they will be discarded.
+     */
+    default boolean isErrorEnabled() {
+        return isEnabled();
+    }
+
+    /**
+     * Adds a listener that is called when the results of {@link #isEnabled()} and {@link #isErrorEnabled()} may have changed.
+     * The listener may be called when these results have not actually changed.
+     * <p>
+     * The default implementation never calls the listener.
+     *
+     * @param listener The listener to add.
+     * @return A {@link Runnable} that removes the listener when run.
+     */
+    default Runnable addLevelChangeListener(Runnable listener) {
+        Objects.requireNonNull(listener);
+        return () -> { /* nothing to remove */ };
+    }
+
+    /**
+     * Returns whether or not messages logged through {@link CommunicatorLogger#log(String)} will be logged by a communicator logger.
+     *
+     * @param logger The communicator logger to check.
+     * @return {@code false} if the given communicator logger is a {@code LevelAwareCommunicatorLogger} that is not {@link #isEnabled() enabled},
+     *         or {@code true} otherwise.
+     */
+    static boolean isEnabled(CommunicatorLogger logger) {
+        return !(logger instanceof LevelAwareCommunicatorLogger levelAwareLogger) || levelAwareLogger.isEnabled();
+    }
+
+    /**
+     * Returns whether or not messages logged through {@link CommunicatorLogger#log(String, Throwable)} will be logged by a communicator logger.
+     *
+     * @param logger The communicator logger to check.
+     * @return {@code false} if the given communicator logger is a {@code LevelAwareCommunicatorLogger} that is not
+     *         {@link #isErrorEnabled() enabled for errors}, or {@code true} otherwise.
+     */
+    static boolean isErrorEnabled(CommunicatorLogger logger) {
+        return !(logger instanceof LevelAwareCommunicatorLogger levelAwareLogger) || levelAwareLogger.isErrorEnabled();
+    }
+
+    /**
+     * Adds a listener to a communicator logger that is called when the results of {@link #isEnabled(CommunicatorLogger)} and
+     * {@link #isErrorEnabled(CommunicatorLogger)} may have changed.
+     *
+     * @param logger The communicator logger to add the listener to.
+     * @param listener The listener to add.
+     * @return A {@link Runnable} that removes the listener when run.
+     *         If the given communicator logger is not a {@code LevelAwareCommunicatorLogger} the listener is never called.
+     */
+    static Runnable addLevelChangeListener(CommunicatorLogger logger, Runnable listener) {
+        if (logger instanceof LevelAwareCommunicatorLogger levelAwareLogger) {
+            return levelAwareLogger.addLevelChangeListener(listener);
+        }
+        Objects.requireNonNull(listener);
+        return () -> { /* nothing to remove */ };
+    }
+}
@@ -24,10 +24,13 @@ import ch.qos.logback.classic.Logger;
 
 /**
  * A communicator logger that is backed by a {@link Logger}.
+ * <p>
+ * Whether or not this communicator logger is {@link #isEnabled() enabled} is determined by the effective level of the backing logger.
+ * Changes to the level of the backing logger or any of its ancestors, including changes made at runtime, are therefore picked up immediately.
  *
  * @author Rob Spoor
  */
-public class LogbackCommunicatorLogger implements CommunicatorLogger {
+public class LogbackCommunicatorLogger implements LevelAwareCommunicatorLogger {
 
     private final Logger logger;
     private final Level logLevel;
@@ -56,6 +59,43 @@ public class LogbackCommunicatorLogger implements CommunicatorLogger {
         this.errorLogLevel = Objects.requireNonNull(errorLogLevel);
     }
 
+    /**
+     * Returns whether or not the backing logger is enabled for the level to use when logging through {@link #log(String)}.
+     *
+     * @return {@code true} if the backing logger is enabled for the level to use when logging through {@link #log(String)},
+     *         or {@code false} otherwise.
+     * @since 5.1
+     */
+    @Override
+    public boolean isEnabled() {
+        return logger.isEnabledFor(logLevel);
+    }
+
+    /**
+     * Returns whether or not the backing logger is enabled for the level to use when logging through {@link #log(String, Throwable)}.
+     *
+     * @return {@code true} if the backing logger is enabled for the level to use when logging through {@link #log(String, Throwable)},
+     *         or {@code false} otherwise.
+     * @since 5.1
+     */
+    @Override
+    public boolean isErrorEnabled() {
+        return logger.isEnabledFor(errorLogLevel);
+    }
+
+    /**
+     * Adds a listener that is called when the level of any logger in the backing logger's context changes, or when that context is reset.
+     * Such changes may change the effective level of the backing logger.
+     *
+     * @param listener The listener to add.
+     * @return A {@link Runnable} that removes the listener when run.
+     * @since 5.1
+     */
+    @Override
+    public Runnable addLevelChangeListener(Runnable listener) {
+        return LogbackLevelChangeListener.register(logger, listener);
+    }
+
     @Override
     public void log(String message) {
         logger.log(null, Logger.FQCN, Level.toLocationAwareLoggerInteger(logLevel), message, null, null);
@@ -0,0 +1,75 @@
+/*
+ * LogbackLevelChangeListener.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.logging;
+
+import java.util.Objects;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggerContextListener;
+
+/**
+ * A {@link LoggerContextListener} that calls a {@link LevelAwareCommunicatorLogger#addLevelChangeListener(Runnable) level change listener}
+ * when the level of any logger changes, or when the logger context is reset.
+ * Logback does not report changes to effective levels; a change to the level of any ancestor of a logger can change its effective level.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+final class LogbackLevelChangeListener implements LoggerContextListener {
+
+    private final Runnable listener;
+
+    private LogbackLevelChangeListener(Runnable listener) {
+        this.listener = Objects.requireNonNull(listener);
+    }
+
+    static Runnable register(Logger logger, Runnable listener) {
+        LoggerContext loggerContext = logger.getLoggerContext();
+        LogbackLevelChangeListener contextListener = new LogbackLevelChangeListener(listener);
+        loggerContext.addListener(contextListener);
+        return () -> loggerContext.removeListener(contextListener);
+    }
+
+    @Override
+    public boolean isResetResistant() {
+        // Spring Boot resets the logger context when it configures logging
+        return true;
+    }
+
+    @Override
+    public void onStart(LoggerContext context) {
+        // levels are not changed when the context is started
+    }
+
+    @Override
+    public void onReset(LoggerContext context) {
+        // resetting resets all levels without calling onLevelChange
+        listener.run();
+    }
+
+    @Override
+    public void onStop(LoggerContext context) {
+        // levels are not changed when the context is stopped
+    }
+
+    @Override
+    public void onLevelChange(Logger logger, Level level) {
+        listener.run();
+    }
+}
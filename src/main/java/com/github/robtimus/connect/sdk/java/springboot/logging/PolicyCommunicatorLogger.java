@@ -0,0 +1,198 @@
+/*
+ * PolicyCommunicatorLogger.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.logging;
+
+import static com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLogMessages.ERROR_PREFIX;
+import static com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLogMessages.REQUEST_PREFIX;
+import static com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLogMessages.RESPONSE_PREFIX;
+import static com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLogMessages.duration;
+import static com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLogMessages.requestId;
+import static com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLogMessages.statusCode;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import com.worldline.connect.sdk.java.logging.CommunicatorLogger;
+
+/**
+ * A communicator logger that passes messages to another communicator logger according to a {@link CommunicatorLoggingPolicy}.
+ * <p>
+ * If the request id, duration or status code cannot be determined from a message, the message is logged.
+ * <p>
+ * Messages that the backing communicator logger would discard are ignored without being parsed.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("nls")
+final class PolicyCommunicatorLogger implements LevelAwareCommunicatorLogger {
+
+    /** The maximum number of request messages that are kept for policy type {@link CommunicatorLoggingPolicy.Type#TAIL}. */
+    static final int MAX_PENDING_REQUESTS = 1024;
+
+    private final CommunicatorLogger delegate;
+    private final CommunicatorLoggingPolicy policy;
+    private final long slowThresholdMillis;
+
+    // insertion ordered, so when the limit is reached the request that has been pending the longest is evicted
+    private final Map<String, String> pendingRequests = new LinkedHashMap<>();
+
+    PolicyCommunicatorLogger(CommunicatorLogger delegate, CommunicatorLoggingPolicy policy) {
+        this.delegate = delegate;
+        this.policy = policy;
+        this.slowThresholdMillis = policy.slowThreshold().toMillis();
+    }
+
+    CommunicatorLogger delegate() {
+        return delegate;
+    }
+
+    CommunicatorLoggingPolicy policy() {
+        return policy;
+    }
+
+    int pendingRequestCount() {
+        synchronized (pendingRequests) {
+            return pendingRequests.size();
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return LevelAwareCommunicatorLogger.isEnabled(delegate);
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+        return LevelAwareCommunicatorLogger.isErrorEnabled(delegate);
+    }
+
+    @Override
+    public Runnable addLevelChangeListener(Runnable listener) {
+        return LevelAwareCommunicatorLogger.addLevelChangeListener(delegate, listener);
+    }
+
+    @Override
+    public void log(String message) {
+        if (!isEnabled()) {
+            return;
+        }
+        String requestId = requestId(message, REQUEST_PREFIX);
+        if (requestId != null) {
+            logRequest(message, requestId);
+            return;
+        }
+        requestId = requestId(message, RESPONSE_PREFIX);
+        if (requestId != null) {
+            logResponse(message, requestId);
+            return;
+        }
+        delegate.log(message);
+    }
+
+    @Override
+    public void log(String message, Throwable thrown) {
+        if (!isErrorEnabled()) {
+            return;
+        }
+        String requestId = requestId(message, ERROR_PREFIX);
+        if (requestId != null) {
+            logError(message, thrown, requestId);
+        } else {
+            delegate.log(message, thrown);
+        }
+    }
+
+    private void logRequest(String message, String requestId) {
+        switch (policy.type()) {
+            case SAMPLE -> {
+                if (isSampled(requestId)) {
+                    delegate.log(message);
+                }
+            }
+            case TAIL -> addPendingRequest(requestId, message);
+            case SLOW, ERRORS -> {
+                // only responses and errors are logged
+            }
+            default -> delegate.log(message);
+        }
+    }
+
+    private void logResponse(String message, String requestId) {
+        boolean log = switch (policy.type()) {
+            case SAMPLE -> isSampled(requestId);
+            case SLOW -> isSlow(duration(message, RESPONSE_PREFIX.length() + requestId.length()));
+            case ERRORS -> !isSuccess(statusCode(message));
+            case TAIL -> logPendingRequest(requestId,
+                    isSlow(duration(message, RESPONSE_PREFIX.length() + requestId.length())) || !isSuccess(statusCode(message)));
+            default -> true;
+        };
+        if (log) {
+            delegate.log(message);
+        }
+    }
+
+    private void logError(String message, Throwable thrown, String requestId) {
+        boolean log = switch (policy.type()) {
+            case SAMPLE -> isSampled(requestId);
+            case SLOW -> isSlow(duration(message, ERROR_PREFIX.length() + requestId.length()));
+            case TAIL -> logPendingRequest(requestId, true);
+            default -> true;
+        };
+        if (log) {
+            delegate.log(message, thrown);
+        }
+    }
+
+    private boolean isSampled(String requestId) {
+        // based on the request id so the request and response of the same call are either both logged or both not logged
+        return Math.floorMod(requestId.hashCode(), policy.sampleRate()) == 0;
+    }
+
+    private boolean isSlow(long duration) {
+        return duration < 0 || duration >= slowThresholdMillis;
+    }
+
+    private static boolean isSuccess(int statusCode) {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    private void addPendingRequest(String requestId, String message) {
+        synchronized (pendingRequests) {
+            if (pendingRequests.size() >= MAX_PENDING_REQUESTS) {
+                // calls for which no response or error is logged, for instance because logging was disabled in the mean time, must not cause leaks;
+                // evict the oldest request, as that is the one least likely to still get a response
+                pendingRequests.remove(pendingRequests.keySet().iterator().next());
+            }
+            pendingRequests.put(requestId, message);
+        }
+    }
+
+    private boolean logPendingRequest(String requestId, boolean log) {
+        String request;
+        synchronized (pendingRequests) {
+            request = pendingRequests.remove(requestId);
+        }
+        if (log && request != null) {
+            delegate.log(request);
+        }
+        return log;
+    }
+
+    @Override
+    public String toString() {
+        return "PolicyCommunicatorLogger[delegate=" + delegate + ", policy=" + policy + "]";
+    }
+}
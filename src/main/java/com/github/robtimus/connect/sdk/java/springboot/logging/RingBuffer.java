@@ -0,0 +1,136 @@
+/*
+ * RingBuffer.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded lock-free ring buffer for multiple producers and a single consumer.
+ * <p>
+ * Each slot has a sequence number that tells producers and the consumer whose turn it is:
+ * <ul>
+ *   <li>If the sequence number equals a producer's position, the slot is free for that producer.</li>
+ *   <li>If the sequence number equals the consumer's position plus one, the slot contains an element for the consumer.</li>
+ * </ul>
+ * Producers claim positions using a CAS on a shared counter; the consumer owns its position, so it needs no CAS.
+ *
+ * @author Rob Spoor
+ * @param <E> The type of elements in the buffer.
+ */
+@SuppressWarnings("nls")
+final class RingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+
+    private final AtomicLong producerPosition;
+    // only updated by the consumer; volatile so size() can be called from any thread
+    private volatile long consumerPosition;
+
+    /**
+     * Creates a new ring buffer.
+     *
+     * @param capacity The minimum capacity; the actual capacity is the nearest power of two that is at least this value and at least 2.
+     * @throws IllegalArgumentException If the given capacity is not positive, or larger than {@code 2^30}.
+     */
+    RingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30, is " + capacity);
+        }
+        // with a single slot, a published element has the same sequence number as a free slot for the next producer
+        int actualCapacity = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+
+        mask = actualCapacity - 1;
+        elements = new AtomicReferenceArray<>(actualCapacity);
+        sequences = new AtomicLongArray(actualCapacity);
+        for (int i = 0; i < actualCapacity; i++) {
+            sequences.set(i, i);
+        }
+
+        producerPosition = new AtomicLong();
+        consumerPosition = 0;
+    }
+
+    /**
+     * Adds an element if the buffer is not full. This method can be called from any thread.
+     *
+     * @param element The element to add.
+     * @return {@code true} if the element was added, or {@code false} if the buffer is full.
+     */
+    boolean offer(E element) {
+        while (true) {
+            long position = producerPosition.get();
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (producerPosition.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    // publishes the element to the consumer
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                // the slot still contains the element of the previous round
+                return false;
+            }
+            // else another producer claimed the position; retry with the next one
+        }
+    }
+
+    /**
+     * Removes the next element. This method must only be called from the consumer thread.
+     *
+     * @return The next element, or {@code null} if the buffer is empty.
+     */
+    E poll() {
+        long position = consumerPosition;
+        int index = (int) position & mask;
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        E element = elements.get(index);
+        elements.lazySet(index, null);
+        // frees the slot for the producer of the next round
+        sequences.set(index, position + mask + 1);
+        consumerPosition = position + 1;
+        return element;
+    }
+
+    /**
+     * Returns the number of elements in the buffer. This is an estimate if other threads are adding or removing elements.
+     *
+     * @return The number of elements in the buffer.
+     */
+    int size() {
+        long size = producerPosition.get() - consumerPosition;
+        // the consumer updates its position after freeing the slot, so the difference can briefly exceed the capacity
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    /**
+     * Returns the capacity of the buffer.
+     *
+     * @return The capacity of the buffer.
+     */
+    int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * StructuredCommunicatorLogger.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.logging;
+
+import static com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLogMessages.CONTENT_TYPE_FIELD;
+import static com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLogMessages.ERROR_PREFIX;
+import static com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLogMessages.METHOD_FIELD;
+import static com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLogMessages.REQUEST_PREFIX;
+import static com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLogMessages.RESPONSE_PREFIX;
+import static com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLogMessages.URI_FIELD;
+import static com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLogMessages.bodyEnd;
+import static com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLogMessages.bodyStart;
+import static com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLogMessages.duration;
+import static com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLogMessages.field;
+import static com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLogMessages.requestId;
+import static com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLogMessages.statusCode;
+import static com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLogMessages.utf8Length;
+import static com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLogMessages.utf8Prefix;
+import java.util.Objects;
+import org.slf4j.spi.LoggingEventBuilder;
+import com.github.robtimus.connect.sdk.java.springboot.internal.IdlePool;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+
+/**
+ * A communicator logger that is backed by a {@link Logger}, and that logs structured logging events.
+ * <p>
+ * The messages that the SDK logs for requests and responses contain the entire request or response, including headers and body.
+ * Instead of logging these as-is, this class logs a short message with the following key/value pairs:
+ * <ul>
+ *   <li>{@code requestId}: the id that links requests to their responses or errors.</li>
+ *   <li>{@code method} and {@code uri}: for requests only, the HTTP method and URI.</li>
+ *   <li>{@code statusCode}: for responses only, the HTTP status code.</li>
+ *   <li>{@code duration}: for responses and errors only, the duration of the call in milliseconds.</li>
+ *   <li>{@code contentType}: for requests and responses with a body only, the content type of the body.</li>
+ *   <li>{@code bodySize}: for requests and responses with a body only, the size of the body in UTF-8 bytes.</li>
+ *   <li>{@code body}: for requests and responses with a body only, and only if the maximum body size is not 0, the body.
+ *       If the body is larger than the maximum body size, it is truncated, and key/value pair {@code bodyTruncated} is added with value
+ *       {@code true}.</li>
+ * </ul>
+ * Appenders and encoders that support key/value pairs, like the ones for Spring Boot's structured logging, can output these as separate fields.
+ * Note that the SDK obfuscates sensitive headers and body fields before messages are passed to communicator loggers; bodies are logged obfuscated.
+ * <p>
+ * Other messages are logged as-is.
+ * <p>
+ * Like {@link LogbackCommunicatorLogger}, whether or not this communicator logger is {@link #isEnabled() enabled} is determined by the effective
+ * level of the backing logger.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public class StructuredCommunicatorLogger implements LevelAwareCommunicatorLogger {
+
+    /** The default maximum size of logged bodies in UTF-8 bytes. */
+    public static final int DEFAULT_MAX_BODY_SIZE = 4096;
+
+    private static final int MAX_IDLE_BUILDERS = Runtime.getRuntime().availableProcessors() * 2;
+    // builders that grew larger than this, for instance because of a very long URI, are not kept for reuse
+    private static final int MAX_BUILDER_CAPACITY = 1024;
+
+    private final Logger logger;
+    private final Level logLevel;
+    private final Level errorLogLevel;
+    private final org.slf4j.event.Level slf4jLogLevel;
+    private final org.slf4j.event.Level slf4jErrorLogLevel;
+    private final int maxBodySize;
+
+    private final IdlePool<StringBuilder> idleBuilders = new IdlePool<>(MAX_IDLE_BUILDERS);
+
+    /**
+     * Creates a new structured communicator logger.
+     *
+     * @param logger The backing logger.
+     * @param logLevel The level to use when logging through {@link #log(String)}.
+     * @param errorLogLevel The level to use when logging through {@link #log(String, Throwable)}.
+     * @param maxBodySize The maximum size of logged bodies in UTF-8 bytes, or 0 to not log bodies at all.
+     * @throws IllegalArgumentException If the maximum body size is negative,
+     *             or if either level is {@link Level#OFF} or {@link Level#ALL} and therefore cannot be used to log messages.
+     */
+    public StructuredCommunicatorLogger(Logger logger, Level logLevel, Level errorLogLevel, int maxBodySize) {
+        if (maxBodySize < 0) {
+            throw new IllegalArgumentException("maxBodySize must be >= 0, is " + maxBodySize);
+        }
+        this.logger = Objects.requireNonNull(logger);
+        this.logLevel = Objects.requireNonNull(logLevel);
+        this.errorLogLevel = Objects.requireNonNull(errorLogLevel);
+        this.slf4jLogLevel = org.slf4j.event.Level.intToLevel(Level.toLocationAwareLoggerInteger(logLevel));
+        this.slf4jErrorLogLevel = org.slf4j.event.Level.intToLevel(Level.toLocationAwareLoggerInteger(errorLogLevel));
+        this.maxBodySize = maxBodySize;
+    }
+
+    /**
+     * Returns the maximum size of logged bodies in UTF-8 bytes.
+     *
+     * @return The maximum size of logged bodies in UTF-8 bytes, or 0 if bodies are not logged at all.
+     */
+    public int maxBodySize() {
+        return maxBodySize;
+    }
+
+    /**
+     * Returns whether or not the backing logger is enabled for the level to use when logging through {@link #log(String)}.
+     *
+     * @return {@code true} if the backing logger is enabled for the level to use when logging through {@link #log(String)},
+     *         or {@code false} otherwise.
+     */
+    @Override
+    public boolean isEnabled() {
+        return logger.isEnabledFor(logLevel);
+    }
+
+    /**
+     * Returns whether or not the backing logger is enabled for the level to use when logging through {@link #log(String, Throwable)}.
+     *
+     * @return {@code true} if the backing logger is enabled for the level to use when logging through {@link #log(String, Throwable)},
+     *         or {@code false} otherwise.
+     */
+    @Override
+    public boolean isErrorEnabled() {
+        return logger.isEnabledFor(errorLogLevel);
+    }
+
+    /**
+     * Adds a listener that is called when the level of any logger in the backing logger's context changes, or when that context is reset.
+     * Such changes may change the effective level of the backing logger.
+     *
+     * @param listener The listener to add.
+     * @return A {@link Runnable} that removes the listener when run.
+     */
+    @Override
+    public Runnable addLevelChangeListener(Runnable listener) {
+        return LogbackLevelChangeListener.register(logger, listener);
+    }
+
+    @Override
+    public void log(String message) {
+        if (!isEnabled()) {
+            return;
+        }
+        String requestId = requestId(message, REQUEST_PREFIX);
+        if (requestId != null) {
+            logRequest(message, requestId);
+            return;
+        }
+        requestId = requestId(message, RESPONSE_PREFIX);
+        if (requestId != null) {
+            logResponse(message, requestId);
+            return;
+        }
+        logger.log(null, Logger.FQCN, Level.toLocationAwareLoggerInteger(logLevel), message, null, null);
+    }
+
+    @Override
+    public void log(String message, Throwable thrown) {
+        if (!isErrorEnabled()) {
+            return;
+        }
+        String requestId = requestId(message, ERROR_PREFIX);
+        if (requestId != null) {
+            // error messages contain no request or response data, so they can be logged as-is
+            logger.atLevel(slf4jErrorLogLevel)
+                    .addKeyValue("requestId", requestId)
+                    .addKeyValue("duration", duration(message, ERROR_PREFIX.length() + requestId.length()))
+                    .setCause(thrown)
+                    .setMessage(message)
+                    .log();
+        } else {
+            logger.log(null, Logger.FQCN, Level.toLocationAwareLoggerInteger(errorLogLevel), message, null, thrown);
+        }
+    }
+
+    private void logRequest(String message, String requestId) {
+        String method = field(message, METHOD_FIELD);
+        String uri = field(message, URI_FIELD);
+
+        LoggingEventBuilder event = logger.atLevel(slf4jLogLevel)
+                .addKeyValue("requestId", requestId);
+        if (method != null) {
+            event.addKeyValue("method", method);
+        }
+        if (uri != null) {
+            event.addKeyValue("uri", uri);
+        }
+        addBody(event, message);
+
+        // Outgoing request (requestId='<requestId>'): <method> <uri>
+        StringBuilder builder = acquireBuilder();
+        try {
+            builder.append(message, 0, Math.min(REQUEST_PREFIX.length() + requestId.length() + 2, message.length()));
+            if (method != null && uri != null) {
+                builder.append(": ").append(method).append(' ').append(uri);
+            }
+            event.setMessage(builder.toString());
+        } finally {
+            releaseBuilder(builder);
+        }
+        event.log();
+    }
+
+    private void logResponse(String message, String requestId) {
+        int requestIdEnd = RESPONSE_PREFIX.length() + requestId.length();
+        long duration = duration(message, requestIdEnd);
+        int statusCode = statusCode(message);
+
+        LoggingEventBuilder event = logger.atLevel(slf4jLogLevel)
+                .addKeyValue("requestId", requestId);
+        if (statusCode != -1) {
+            event.addKeyValue("statusCode", statusCode);
+        }
+        if (duration != -1) {
+            event.addKeyValue("duration", duration);
+        }
+        addBody(event, message);
+
+        // Incoming response (requestId='<requestId>', <duration> ms): <status code>
+        StringBuilder builder = acquireBuilder();
+        try {
+            int headerEnd = message.indexOf(')', requestIdEnd);
+            builder.append(message, 0, headerEnd == -1 ? requestIdEnd + 1 : headerEnd + 1);
+            if (statusCode != -1) {
+                builder.append(": ").append(statusCode);
+            }
+            event.setMessage(builder.toString());
+        } finally {
+            releaseBuilder(builder);
+        }
+        event.log();
+    }
+
+    private void addBody(LoggingEventBuilder event, String message) {
+        int start = bodyStart(message);
+        if (start == -1) {
+            return;
+        }
+        int end = bodyEnd(message);
+
+        String contentType = field(message, CONTENT_TYPE_FIELD);
+        if (contentType != null) {
+            event.addKeyValue("contentType", contentType);
+        }
+        event.addKeyValue("bodySize", utf8Length(message, start, end));
+        if (maxBodySize > 0) {
+            // only the part of the body that is logged is copied out of the message
+            int truncatedEnd = utf8Prefix(message, start, end, maxBodySize);
+            event.addKeyValue("body", message.substring(start, truncatedEnd));
+            if (truncatedEnd < end) {
+                event.addKeyValue("bodyTruncated", true);
+            }
+        }
+    }
+
+    private StringBuilder acquireBuilder() {
+        StringBuilder builder = idleBuilders.acquire();
+        if (builder == null) {
+            return new StringBuilder(128);
+        }
+        builder.setLength(0);
+        return builder;
+    }
+
+    private void releaseBuilder(StringBuilder builder) {
+        if (builder.capacity() <= MAX_BUILDER_CAPACITY) {
+            idleBuilders.release(builder);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "StructuredCommunicatorLogger[logger=" + logger.getName() + ", maxBodySize=" + maxBodySize + "]";
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * ConcurrencyLimiterMetrics.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.metrics;
+
+import java.util.Objects;
+import com.github.robtimus.connect.sdk.java.springboot.communication.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * A {@link MeterBinder} for an {@link AdaptiveConcurrencyLimiter}.
+ * This registers the following meters:
+ * <ul>
+ *   <li>{@code connect.sdk.concurrency.limit}: a gauge for the current limit.</li>
+ *   <li>{@code connect.sdk.concurrency.in.flight}: a gauge for the number of requests that currently hold a permit.</li>
+ *   <li>{@code connect.sdk.concurrency.rejected}: a counter for the number of rejected requests.</li>
+ * </ul>
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public class ConcurrencyLimiterMetrics implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "connect.sdk.concurrency.";
+    private static final String BASE_UNIT = "requests";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Iterable<Tag> tags;
+
+    /**
+     * Creates a new meter binder.
+     *
+     * @param limiter The limiter to register meters for.
+     * @param tags The tags to add to each meter.
+     */
+    public ConcurrencyLimiterMetrics(AdaptiveConcurrencyLimiter limiter, Iterable<Tag> tags) {
+        this.limiter = Objects.requireNonNull(limiter);
+        this.tags = Tags.of(tags);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + "limit", limiter, AdaptiveConcurrencyLimiter::limit)
+                .description("The current limit for the number of concurrent requests")
+                .baseUnit(BASE_UNIT)
+                .tags(tags)
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + "in.flight", limiter, AdaptiveConcurrencyLimiter::inFlight)
+                .description("The number of concurrent requests")
+                .baseUnit(BASE_UNIT)
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + "rejected", limiter, AdaptiveConcurrencyLimiter::rejectedCount)
+                .description("The number of requests that were rejected because the concurrency limit was reached")
+                .baseUnit(BASE_UNIT)
+                .tags(tags)
+                .register(registry);
+    }
+}
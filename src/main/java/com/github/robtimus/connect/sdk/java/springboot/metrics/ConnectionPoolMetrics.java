@@ -0,0 +1,96 @@
+/*
+ * ConnectionPoolMetrics.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.metrics;
+
+import java.util.function.ToIntFunction;
+import org.apache.http.pool.ConnPoolControl;
+import org.apache.http.pool.PoolStats;
+import com.github.robtimus.connect.sdk.java.springboot.communication.ConnectionPools;
+import com.worldline.connect.sdk.java.communication.DefaultConnection;
+import com.worldline.connect.sdk.java.communication.PooledConnection;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * A {@link MeterBinder} for the connection pool of a {@link PooledConnection}.
+ * This registers the following gauges:
+ * <ul>
+ *   <li>{@code connect.sdk.connection.pool.leased}: the number of connections that are currently in use.</li>
+ *   <li>{@code connect.sdk.connection.pool.available}: the number of idle connections in the pool.</li>
+ *   <li>{@code connect.sdk.connection.pool.pending}: the number of requests that are waiting for a connection.</li>
+ *   <li>{@code connect.sdk.connection.pool.max}: the maximum number of connections in the pool.</li>
+ * </ul>
+ * These gauges are only available for connections that use an Apache HttpClient connection pool, like {@link DefaultConnection}.
+ * For other connections no meters are registered.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public class ConnectionPoolMetrics implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "connect.sdk.connection.pool.";
+    private static final String BASE_UNIT = "connections";
+
+    private final ConnPoolControl<?> pool;
+    private final Iterable<Tag> tags;
+
+    /**
+     * Creates a new meter binder.
+     *
+     * @param connection The connection to register meters for.
+     * @param tags The tags to add to each meter.
+     */
+    public ConnectionPoolMetrics(PooledConnection connection, Iterable<Tag> tags) {
+        this.pool = ConnectionPools.findPool(connection);
+        this.tags = Tags.of(tags);
+    }
+
+    /**
+     * Returns whether or not this meter binder supports the connection it was created for.
+     * If not, {@link #bindTo(MeterRegistry)} does not register any meters.
+     *
+     * @return {@code true} if the connection uses a connection pool that can be monitored, or {@code false} otherwise.
+     */
+    public boolean isSupported() {
+        return pool != null;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (pool == null) {
+            return;
+        }
+
+        registerGauge(registry, "leased", "The number of connections that are currently in use", PoolStats::getLeased);
+        registerGauge(registry, "available", "The number of idle connections in the pool", PoolStats::getAvailable);
+        registerGauge(registry, "pending", "The number of requests that are waiting for a connection", PoolStats::getPending);
+        registerGauge(registry, "max", "The maximum number of connections in the pool", PoolStats::getMax);
+    }
+
+    private void registerGauge(MeterRegistry registry, String name, String description, ToIntFunction<PoolStats> statistic) {
+        Gauge.builder(METRIC_PREFIX + name, pool, p -> statistic.applyAsInt(p.getTotalStats()))
+                .description(description)
+                .baseUnit(BASE_UNIT)
+                .tags(tags)
+                .register(registry);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * HedgingMetrics.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.metrics;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import com.github.robtimus.connect.sdk.java.springboot.communication.HedgingPolicy;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * A {@link MeterBinder} for a {@link HedgingPolicy}.
+ * This registers the following meters:
+ * <ul>
+ *   <li>{@code connect.sdk.hedging.requests}: a counter for the number of requests that were eligible for hedging.</li>
+ *   <li>{@code connect.sdk.hedging.hedged}: a counter for the number of requests for which a hedged request was sent.</li>
+ *   <li>{@code connect.sdk.hedging.wins}: a counter for the number of hedged requests that returned a response first.</li>
+ *   <li>{@code connect.sdk.hedging.delay}: a gauge for the current hedging delay.</li>
+ * </ul>
+ * The hedge rate is the rate of {@code connect.sdk.hedging.hedged} divided by the rate of {@code connect.sdk.hedging.requests}.
+ * The win rate is the rate of {@code connect.sdk.hedging.wins} divided by the rate of {@code connect.sdk.hedging.hedged}.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public class HedgingMetrics implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "connect.sdk.hedging.";
+    private static final String BASE_UNIT = "requests";
+
+    private final HedgingPolicy policy;
+    private final Iterable<Tag> tags;
+
+    /**
+     * Creates a new meter binder.
+     *
+     * @param policy The hedging policy to register meters for.
+     * @param tags The tags to add to each meter.
+     */
+    public HedgingMetrics(HedgingPolicy policy, Iterable<Tag> tags) {
+        this.policy = Objects.requireNonNull(policy);
+        this.tags = Tags.of(tags);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METRIC_PREFIX + "requests", policy, HedgingPolicy::requestCount)
+                .description("The number of requests that were eligible for hedging")
+                .baseUnit(BASE_UNIT)
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + "hedged", policy, HedgingPolicy::hedgeCount)
+                .description("The number of requests for which a hedged request was sent")
+                .baseUnit(BASE_UNIT)
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + "wins", policy, HedgingPolicy::hedgeWinCount)
+                .description("The number of hedged requests that returned a response before the original request")
+                .baseUnit(BASE_UNIT)
+                .tags(tags)
+                .register(registry);
+        TimeGauge.builder(METRIC_PREFIX + "delay", policy, TimeUnit.MILLISECONDS, p -> p.delay().toNanos() / 1_000_000.0)
+                .description("The current hedging delay")
+                .tags(tags)
+                .register(registry);
+    }
+}
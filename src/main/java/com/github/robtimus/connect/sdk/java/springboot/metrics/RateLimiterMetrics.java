@@ -0,0 +1,97 @@
+/*
+ * RateLimiterMetrics.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.metrics;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import com.github.robtimus.connect.sdk.java.springboot.communication.RateLimiter;
+import com.github.robtimus.connect.sdk.java.springboot.communication.RateLimits;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * A {@link MeterBinder} for {@link RateLimits}.
+ * This registers the following meters for each {@link RateLimiter}:
+ * <ul>
+ *   <li>{@code connect.sdk.rate.limit.permits}: a counter for the number of reserved permits.</li>
+ *   <li>{@code connect.sdk.rate.limit.rejected}: a counter for the number of rejected requests.</li>
+ *   <li>{@code connect.sdk.rate.limit.waits}: a timer for the permits that required waiting, and the total time waited.</li>
+ * </ul>
+ * Each meter is tagged with {@code group}, which is the operation group, or {@value #GLOBAL_GROUP} for the global rate limiter.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public class RateLimiterMetrics implements MeterBinder {
+
+    /** The value of the {@code group} tag for the global rate limiter. */
+    public static final String GLOBAL_GROUP = "global";
+
+    private static final String METRIC_PREFIX = "connect.sdk.rate.limit.";
+    private static final String BASE_UNIT = "requests";
+
+    private final RateLimits rateLimits;
+    private final Iterable<Tag> tags;
+
+    /**
+     * Creates a new meter binder.
+     *
+     * @param rateLimits The rate limits to register meters for.
+     * @param tags The tags to add to each meter.
+     */
+    public RateLimiterMetrics(RateLimits rateLimits, Iterable<Tag> tags) {
+        this.rateLimits = Objects.requireNonNull(rateLimits);
+        this.tags = Tags.of(tags);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (rateLimits.global() != null) {
+            bindTo(registry, rateLimits.global(), GLOBAL_GROUP);
+        }
+        for (Map.Entry<String, RateLimiter> entry : rateLimits.groups().entrySet()) {
+            bindTo(registry, entry.getValue(), entry.getKey());
+        }
+    }
+
+    private void bindTo(MeterRegistry registry, RateLimiter rateLimiter, String group) {
+        Tags meterTags = Tags.of(tags).and("group", group);
+
+        FunctionCounter.builder(METRIC_PREFIX + "permits", rateLimiter, RateLimiter::permitCount)
+                .description("The number of permits that were reserved")
+                .baseUnit(BASE_UNIT)
+                .tags(meterTags)
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + "rejected", rateLimiter, RateLimiter::rejectedCount)
+                .description("The number of requests that were rejected because the rate limit was exceeded")
+                .baseUnit(BASE_UNIT)
+                .tags(meterTags)
+                .register(registry);
+        FunctionTimer.builder(METRIC_PREFIX + "waits", rateLimiter, RateLimiter::waitCount, r -> r.totalWaitTime(TimeUnit.NANOSECONDS),
+                        TimeUnit.NANOSECONDS)
+                .description("The time that requests had to wait for a permit")
+                .tags(meterTags)
+                .register(registry);
+    }
+}
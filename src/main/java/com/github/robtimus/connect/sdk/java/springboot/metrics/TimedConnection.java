@@ -0,0 +1,228 @@
+/*
+ * TimedConnection.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.metrics;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import com.github.robtimus.connect.sdk.java.springboot.communication.ApiPaths;
+import com.github.robtimus.connect.sdk.java.springboot.communication.DelegatingConnection;
+import com.github.robtimus.connect.sdk.java.springboot.communication.StatusCapturingResponseHandler;
+import com.worldline.connect.sdk.java.communication.Connection;
+import com.worldline.connect.sdk.java.communication.MultipartFormDataObject;
+import com.worldline.connect.sdk.java.communication.RequestHeader;
+import com.worldline.connect.sdk.java.communication.ResponseHandler;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.http.Outcome;
+
+/**
+ * A {@link Connection} that records the duration of each request in {@link Timer} {@code connect.sdk.requests}.
+ * Each request is tagged with the following low cardinality tags:
+ * <ul>
+ *   <li>{@code method}: the HTTP method.</li>
+ *   <li>{@code uri}: the path template, as returned by {@link ApiPaths#toTemplate(String)}.</li>
+ *   <li>{@code status}: the HTTP status code, or {@code CLIENT_ERROR} if no response was received.</li>
+ *   <li>{@code exception}: the simple class name of the exception that was thrown, or {@code none} if no exception was thrown.
+ *       For error responses this is {@code ResponseException}; the API specific exception like {@code DeclinedPaymentException} or
+ *       {@code ValidationException} is created from it afterwards, based on the status code and response body.</li>
+ *   <li>{@code outcome}: the {@link Outcome} of the status code.</li>
+ * </ul>
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public class TimedConnection extends DelegatingConnection {
+
+    /** The name of the timer that is used for requests. */
+    public static final String METRIC_NAME = "connect.sdk.requests";
+
+    private static final String NO_EXCEPTION = "none";
+    private static final String NO_STATUS = "CLIENT_ERROR";
+
+    // the maximum number of timers that are cached per URI template; this is more than the number of methods, statuses and exceptions that
+    // are normally used for a single template
+    private static final int TIMERS_PER_TEMPLATE = 16;
+
+    private final Clock clock;
+    private final Meter.MeterProvider<Timer> timers;
+
+    // timers are cached per URI template, so recording a request does not need to create any Tags or Meter.Id
+    private final ConcurrentMap<String, AtomicReferenceArray<CachedTimer>> timerCache = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new timed connection.
+     *
+     * @param delegate The connection to delegate all calls to.
+     * @param registry The registry to register timers with.
+     */
+    public TimedConnection(Connection delegate, MeterRegistry registry) {
+        super(delegate);
+        this.clock = registry.config().clock();
+        this.timers = Timer.builder(METRIC_NAME)
+                .description("Duration of requests to the Worldline Connect Server API")
+                .withRegistry(registry);
+    }
+
+    // The calls are not wrapped in lambdas, as these would capture the arguments and therefore be created for each call.
+    // The status capturing response handler is the only object that is created for each call, as that is the only way to get the status code.
+
+    @Override
+    public <R> R get(URI uri, List<RequestHeader> requestHeaders, ResponseHandler<R> responseHandler) {
+        StatusCapturingResponseHandler<R> handler = new StatusCapturingResponseHandler<>(responseHandler);
+        long startTime = clock.monotonicTime();
+        try {
+            R result = super.get(uri, requestHeaders, handler);
+            record("GET", uri, handler.statusCode(), NO_EXCEPTION, startTime);
+            return result;
+        } catch (RuntimeException | Error e) {
+            record("GET", uri, handler.statusCode(), e.getClass().getSimpleName(), startTime);
+            throw e;
+        }
+    }
+
+    @Override
+    public <R> R delete(URI uri, List<RequestHeader> requestHeaders, ResponseHandler<R> responseHandler) {
+        StatusCapturingResponseHandler<R> handler = new StatusCapturingResponseHandler<>(responseHandler);
+        long startTime = clock.monotonicTime();
+        try {
+            R result = super.delete(uri, requestHeaders, handler);
+            record("DELETE", uri, handler.statusCode(), NO_EXCEPTION, startTime);
+            return result;
+        } catch (RuntimeException | Error e) {
+            record("DELETE", uri, handler.statusCode(), e.getClass().getSimpleName(), startTime);
+            throw e;
+        }
+    }
+
+    @Override
+    public <R> R post(URI uri, List<RequestHeader> requestHeaders, String body, ResponseHandler<R> responseHandler) {
+        StatusCapturingResponseHandler<R> handler = new StatusCapturingResponseHandler<>(responseHandler);
+        long startTime = clock.monotonicTime();
+        try {
+            R result = super.post(uri, requestHeaders, body, handler);
+            record("POST", uri, handler.statusCode(), NO_EXCEPTION, startTime);
+            return result;
+        } catch (RuntimeException | Error e) {
+            record("POST", uri, handler.statusCode(), e.getClass().getSimpleName(), startTime);
+            throw e;
+        }
+    }
+
+    @Override
+    public <R> R post(URI uri, List<RequestHeader> requestHeaders, MultipartFormDataObject multipart, ResponseHandler<R> responseHandler) {
+        StatusCapturingResponseHandler<R> handler = new StatusCapturingResponseHandler<>(responseHandler);
+        long startTime = clock.monotonicTime();
+        try {
+            R result = super.post(uri, requestHeaders, multipart, handler);
+            record("POST", uri, handler.statusCode(), NO_EXCEPTION, startTime);
+            return result;
+        } catch (RuntimeException | Error e) {
+            record("POST", uri, handler.statusCode(), e.getClass().getSimpleName(), startTime);
+            throw e;
+        }
+    }
+
+    @Override
+    public <R> R put(URI uri, List<RequestHeader> requestHeaders, String body, ResponseHandler<R> responseHandler) {
+        StatusCapturingResponseHandler<R> handler = new StatusCapturingResponseHandler<>(responseHandler);
+        long startTime = clock.monotonicTime();
+        try {
+            R result = super.put(uri, requestHeaders, body, handler);
+            record("PUT", uri, handler.statusCode(), NO_EXCEPTION, startTime);
+            return result;
+        } catch (RuntimeException | Error e) {
+            record("PUT", uri, handler.statusCode(), e.getClass().getSimpleName(), startTime);
+            throw e;
+        }
+    }
+
+    @Override
+    public <R> R put(URI uri, List<RequestHeader> requestHeaders, MultipartFormDataObject multipart, ResponseHandler<R> responseHandler) {
+        StatusCapturingResponseHandler<R> handler = new StatusCapturingResponseHandler<>(responseHandler);
+        long startTime = clock.monotonicTime();
+        try {
+            R result = super.put(uri, requestHeaders, multipart, handler);
+            record("PUT", uri, handler.statusCode(), NO_EXCEPTION, startTime);
+            return result;
+        } catch (RuntimeException | Error e) {
+            record("PUT", uri, handler.statusCode(), e.getClass().getSimpleName(), startTime);
+            throw e;
+        }
+    }
+
+    private void record(String method, URI uri, int statusCode, String exception, long startTime) {
+        long duration = clock.monotonicTime() - startTime;
+        timer(method, ApiPaths.toTemplate(uri.getRawPath()), statusCode, exception).record(duration, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(String method, String template, int statusCode, String exception) {
+        AtomicReferenceArray<CachedTimer> cachedTimers = timerCache.get(template);
+        if (cachedTimers == null) {
+            cachedTimers = timerCache.computeIfAbsent(template, t -> new AtomicReferenceArray<>(TIMERS_PER_TEMPLATE));
+        }
+        for (int i = 0; i < TIMERS_PER_TEMPLATE; i++) {
+            CachedTimer cachedTimer = cachedTimers.get(i);
+            if (cachedTimer == null) {
+                Timer timer = timers.withTags(tags(method, template, statusCode, exception));
+                // if another thread claimed this slot first, the timer is cached in a later slot by the next call
+                cachedTimers.compareAndSet(i, null, new CachedTimer(method, statusCode, exception, timer));
+                return timer;
+            }
+            if (cachedTimer.matches(method, statusCode, exception)) {
+                return cachedTimer.timer;
+            }
+        }
+        return timers.withTags(tags(method, template, statusCode, exception));
+    }
+
+    private Tags tags(String method, String template, int statusCode, String exception) {
+        return Tags.of(
+                "method", method,
+                "uri", template,
+                "status", statusCode > 0 ? Integer.toString(statusCode) : NO_STATUS,
+                "exception", exception,
+                "outcome", statusCode > 0 ? Outcome.forStatus(statusCode).name() : Outcome.UNKNOWN.name());
+    }
+
+    private static final class CachedTimer {
+
+        private final String method;
+        private final int statusCode;
+        private final String exception;
+        private final Timer timer;
+
+        private CachedTimer(String method, int statusCode, String exception, Timer timer) {
+            this.method = method;
+            this.statusCode = statusCode;
+            this.exception = exception;
+            this.timer = timer;
+        }
+
+        private boolean matches(String method, int statusCode, String exception) {
+            return this.statusCode == statusCode && this.method.equals(method) && this.exception.equals(exception);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * AsyncMerchantClientTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import com.worldline.connect.sdk.java.v1.domain.TestConnection;
+import com.worldline.connect.sdk.java.v1.merchant.MerchantClient;
+import com.worldline.connect.sdk.java.v1.merchant.services.ServicesClient;
+
+@SuppressWarnings("nls")
+class AsyncMerchantClientTest {
+
+    @Test
+    void testSubmit() {
+        MerchantClient merchantClient = mock(MerchantClient.class);
+        ServicesClient servicesClient = mock(ServicesClient.class);
+
+        TestConnection testConnection = new TestConnection();
+        testConnection.setResult("OK");
+
+        when(servicesClient.testconnection()).thenReturn(testConnection);
+        when(merchantClient.services()).thenReturn(servicesClient);
+
+        AtomicReference<Thread> executingThread = new AtomicReference<>();
+        Executor executor = command -> {
+            Thread thread = new Thread(command);
+            executingThread.set(thread);
+            thread.start();
+        };
+
+        AsyncMerchantClient asyncMerchantClient = new AsyncMerchantClient(merchantClient, executor);
+
+        CompletableFuture<TestConnection> future = asyncMerchantClient.submit(client -> client.services().testconnection());
+
+        assertThat(future.join()).isSameAs(testConnection);
+        assertThat(executingThread.get()).isNotNull().isNotSameAs(Thread.currentThread());
+    }
+
+    @Test
+    void testSubmitWithException() {
+        MerchantClient merchantClient = mock(MerchantClient.class);
+        ServicesClient servicesClient = mock(ServicesClient.class);
+
+        IllegalStateException exception = new IllegalStateException();
+
+        when(servicesClient.testconnection()).thenThrow(exception);
+        when(merchantClient.services()).thenReturn(servicesClient);
+
+        AsyncMerchantClient asyncMerchantClient = new AsyncMerchantClient(merchantClient, Runnable::run);
+
+        CompletableFuture<TestConnection> future = asyncMerchantClient.submit(client -> client.services().testconnection());
+
+        assertThat(future)
+                .isCompletedExceptionally()
+                .failsWithin(Duration.ZERO)
+                .withThrowableOfType(ExecutionException.class)
+                .withCause(exception);
+    }
+
+    @Test
+    void testExecute() {
+        MerchantClient merchantClient = mock(MerchantClient.class);
+        ServicesClient servicesClient = mock(ServicesClient.class);
+
+        when(merchantClient.services()).thenReturn(servicesClient);
+
+        AsyncMerchantClient asyncMerchantClient = new AsyncMerchantClient(merchantClient, Runnable::run);
+
+        CompletableFuture<Void> future = asyncMerchantClient.execute(client -> client.services().testconnection());
+
+        assertThat(future).isCompleted();
+        verify(servicesClient).testconnection();
+    }
+
+    @Test
+    void testExecuteWithException() {
+        MerchantClient merchantClient = mock(MerchantClient.class);
+
+        IllegalStateException exception = new IllegalStateException();
+
+        AsyncMerchantClient asyncMerchantClient = new AsyncMerchantClient(merchantClient, Runnable::run);
+
+        CompletableFuture<Void> future = asyncMerchantClient.execute(client -> {
+            throw exception;
+        });
+
+        assertThat(future)
+                .isCompletedExceptionally()
+                .failsWithin(Duration.ZERO)
+                .withThrowableOfType(ExecutionException.class)
+                .withCause(exception);
+    }
+}
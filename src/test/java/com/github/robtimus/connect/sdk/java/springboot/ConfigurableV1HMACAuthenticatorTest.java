@@ -18,13 +18,33 @@
 package com.github.robtimus.connect.sdk.java.springboot;
 
 import static com.github.robtimus.connect.sdk.java.springboot.util.AuthenticatorTestUtil.assertSignatureCalculation;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
+import com.github.robtimus.connect.sdk.java.springboot.ConfigurableV1HMACAuthenticator.ApiKey;
 import com.worldline.connect.sdk.java.authentication.Authenticator;
+import com.worldline.connect.sdk.java.authentication.V1HMACAuthenticator;
+import com.worldline.connect.sdk.java.communication.RequestHeader;
 
 @SuppressWarnings("nls")
 class ConfigurableV1HMACAuthenticatorTest {
 
+    private static final URI RESOURCE_URI = URI.create("http://localhost/v1/test/services/testconnection");
+
     @Test
     void testSignatureWithInitialApiKey() {
         String apiKeyId = UUID.randomUUID().toString();
@@ -45,4 +65,145 @@ class ConfigurableV1HMACAuthenticatorTest {
 
         assertSignatureCalculation(authenticator, apiKeyId, secretApiKey);
     }
+
+    @Test
+    void testPooledSignatureWithInitialApiKey() {
+        String apiKeyId = UUID.randomUUID().toString();
+        String secretApiKey = UUID.randomUUID().toString();
+
+        ConfigurableV1HMACAuthenticator authenticator = new ConfigurableV1HMACAuthenticator(apiKeyId, secretApiKey, true);
+
+        assertTrue(authenticator.isPooled());
+        assertSignatureCalculation(authenticator, apiKeyId, secretApiKey);
+    }
+
+    @Test
+    void testPooledSignatureWithNewApiKey() {
+        String apiKeyId = UUID.randomUUID().toString();
+        String secretApiKey = UUID.randomUUID().toString();
+
+        ConfigurableV1HMACAuthenticator authenticator = new ConfigurableV1HMACAuthenticator("x", "x", true);
+        authenticator.setApiKey(apiKeyId, secretApiKey);
+
+        assertTrue(authenticator.isPooled());
+        assertSignatureCalculation(authenticator, apiKeyId, secretApiKey);
+    }
+
+    @Test
+    void testNotPooledByDefault() {
+        ConfigurableV1HMACAuthenticator authenticator = new ConfigurableV1HMACAuthenticator("x", "x");
+
+        assertFalse(authenticator.isPooled());
+    }
+
+    @Test
+    void testRotateApiKey() {
+        Instant now = Instant.parse("2026-10-17T10:15:30Z");
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(now);
+
+        ConfigurableV1HMACAuthenticator authenticator = new ConfigurableV1HMACAuthenticator("old", "oldSecret", false, clock);
+
+        assertEquals("old", authenticator.currentApiKey().apiKeyId());
+        assertNull(authenticator.previousApiKey());
+        assertNull(authenticator.overlapEnd());
+
+        ApiKey oldApiKey = authenticator.currentApiKey();
+
+        String apiKeyId = UUID.randomUUID().toString();
+        String secretApiKey = UUID.randomUUID().toString();
+
+        authenticator.rotateApiKey(apiKeyId, secretApiKey, Duration.ofMinutes(5));
+
+        assertSignatureCalculation(authenticator, apiKeyId, secretApiKey);
+        assertEquals(apiKeyId, authenticator.currentApiKey().apiKeyId());
+        assertSame(oldApiKey, authenticator.previousApiKey());
+        assertEquals(now.plus(Duration.ofMinutes(5)), authenticator.overlapEnd());
+
+        String httpMethod = "GET";
+        URI resourceUri = URI.create("http://localhost/v1/test/services/testconnection");
+        List<RequestHeader> headers = List.of(new RequestHeader("Date", "Sat, 17 Oct 2026 10:15:30 GMT"));
+
+        assertEquals(new V1HMACAuthenticator("old", "oldSecret").getAuthorization(httpMethod, resourceUri, headers),
+                authenticator.getPreviousAuthorization(httpMethod, resourceUri, headers));
+
+        when(clock.instant()).thenReturn(now.plus(Duration.ofMinutes(5)));
+
+        assertNull(authenticator.previousApiKey());
+        assertNull(authenticator.overlapEnd());
+        assertNull(authenticator.getPreviousAuthorization(httpMethod, resourceUri, headers));
+    }
+
+    @Test
+    void testRotateApiKeyTwice() {
+        ConfigurableV1HMACAuthenticator authenticator = new ConfigurableV1HMACAuthenticator("first", "firstSecret");
+
+        authenticator.rotateApiKey("second", "secondSecret", Duration.ofMinutes(5));
+        authenticator.rotateApiKey("third", "thirdSecret", Duration.ofMinutes(5));
+
+        assertEquals("third", authenticator.currentApiKey().apiKeyId());
+        assertEquals("second", authenticator.previousApiKey().apiKeyId());
+    }
+
+    @Test
+    void testSetApiKeyDiscardsPreviousApiKey() {
+        ConfigurableV1HMACAuthenticator authenticator = new ConfigurableV1HMACAuthenticator("first", "firstSecret");
+
+        authenticator.rotateApiKey("second", "secondSecret", Duration.ofMinutes(5));
+        assertNotNull(authenticator.previousApiKey());
+
+        authenticator.setApiKey("third", "thirdSecret");
+
+        assertEquals("third", authenticator.currentApiKey().apiKeyId());
+        assertNull(authenticator.previousApiKey());
+        assertNull(authenticator.overlapEnd());
+    }
+
+    @Test
+    void testRotateApiKeyWithNegativeOverlap() {
+        ConfigurableV1HMACAuthenticator authenticator = new ConfigurableV1HMACAuthenticator("x", "x");
+
+        Duration overlap = Duration.ofMinutes(-1);
+        assertThrows(IllegalArgumentException.class, () -> authenticator.rotateApiKey("y", "y", overlap));
+        assertEquals("x", authenticator.currentApiKey().apiKeyId());
+    }
+
+    @Test
+    void testRecordResponse() {
+        ConfigurableV1HMACAuthenticator authenticator = new ConfigurableV1HMACAuthenticator("old", "oldSecret");
+        authenticator.rotateApiKey("new", "newSecret", Duration.ofMinutes(5));
+
+        authenticator.recordResponse("GET", RESOURCE_URI, Collections.emptyList(), "GCS v1HMAC:new:signature", true);
+        authenticator.recordResponse("GET", RESOURCE_URI, Collections.emptyList(), "GCS v1HMAC:new:signature", true);
+        authenticator.recordResponse("GET", RESOURCE_URI, Collections.emptyList(), "GCS v1HMAC:new:signature", false);
+        authenticator.recordResponse("GET", RESOURCE_URI, Collections.emptyList(), "GCS v1HMAC:old:signature", true);
+        authenticator.recordResponse("GET", RESOURCE_URI, Collections.emptyList(), "GCS v1HMAC:unknown:signature", true);
+
+        assertEquals(2, authenticator.currentApiKey().successCount());
+        assertEquals(1, authenticator.currentApiKey().failureCount());
+        assertEquals(1, authenticator.previousApiKey().successCount());
+        assertEquals(0, authenticator.previousApiKey().failureCount());
+    }
+
+    @Test
+    void testRecordResponseAfterSecretRotation() {
+        ConfigurableV1HMACAuthenticator authenticator = new ConfigurableV1HMACAuthenticator("apiKeyId", "oldSecret");
+        authenticator.rotateApiKey("apiKeyId", "newSecret", Duration.ofMinutes(5));
+
+        List<RequestHeader> headers = List.of(new RequestHeader("Date", "Sat, 17 Oct 2026 10:15:30 GMT"));
+        String oldAuthorization = new V1HMACAuthenticator("apiKeyId", "oldSecret").getAuthorization("GET", RESOURCE_URI, headers);
+        String newAuthorization = new V1HMACAuthenticator("apiKeyId", "newSecret").getAuthorization("GET", RESOURCE_URI, headers);
+        String otherAuthorization = new V1HMACAuthenticator("apiKeyId", "otherSecret").getAuthorization("GET", RESOURCE_URI, headers);
+
+        // the API key ids are the same, so the API keys can only be told apart by the signature
+        authenticator.recordResponse("GET", RESOURCE_URI, headers, newAuthorization, true);
+        authenticator.recordResponse("GET", RESOURCE_URI, headers, oldAuthorization, false);
+        authenticator.recordResponse("GET", RESOURCE_URI, headers, oldAuthorization, false);
+        authenticator.recordResponse("GET", RESOURCE_URI, headers, otherAuthorization, true);
+
+        assertEquals(1, authenticator.currentApiKey().successCount());
+        assertEquals(0, authenticator.currentApiKey().failureCount());
+        assertEquals(0, authenticator.previousApiKey().successCount());
+        assertEquals(2, authenticator.previousApiKey().failureCount());
+    }
 }
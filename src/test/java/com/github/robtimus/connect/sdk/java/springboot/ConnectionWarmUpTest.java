@@ -0,0 +1,113 @@
+/*
+ * ConnectionWarmUpTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import com.worldline.connect.sdk.java.v1.domain.TestConnection;
+import com.worldline.connect.sdk.java.v1.merchant.MerchantClient;
+import com.worldline.connect.sdk.java.v1.merchant.services.ServicesClient;
+
+@SuppressWarnings("nls")
+class ConnectionWarmUpTest {
+
+    @Test
+    void testInvalidConnections() {
+        MerchantClient merchantClient = mock(MerchantClient.class);
+        Duration timeout = Duration.ofSeconds(1);
+
+        assertThatThrownBy(() -> new ConnectionWarmUp(merchantClient, 0, timeout))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testWarmUp() {
+        MerchantClient merchantClient = mock(MerchantClient.class);
+        ServicesClient servicesClient = mock(ServicesClient.class);
+
+        // all calls must be in progress at the same time, otherwise they could reuse each other's connections
+        CountDownLatch latch = new CountDownLatch(3);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        when(merchantClient.services()).thenReturn(servicesClient);
+        when(servicesClient.testconnection()).thenAnswer(i -> {
+            threads.add(Thread.currentThread());
+            latch.countDown();
+            latch.await(5, TimeUnit.SECONDS);
+            return new TestConnection();
+        });
+
+        ConnectionWarmUp warmUp = new ConnectionWarmUp(merchantClient, 3, Duration.ofSeconds(10));
+
+        assertThat(warmUp.duration()).isNull();
+        assertThat(warmUp.successCount()).isZero();
+
+        warmUp.warmUp();
+
+        verify(servicesClient, times(3)).testconnection();
+        assertThat(threads).hasSize(3);
+        assertThat(warmUp.duration()).isNotNull();
+        assertThat(warmUp.successCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testWarmUpWithFailures() {
+        MerchantClient merchantClient = mock(MerchantClient.class);
+        ServicesClient servicesClient = mock(ServicesClient.class);
+
+        when(merchantClient.services()).thenReturn(servicesClient);
+        when(servicesClient.testconnection())
+                .thenReturn(new TestConnection())
+                .thenThrow(new IllegalStateException());
+
+        ConnectionWarmUp warmUp = new ConnectionWarmUp(merchantClient, 2, Duration.ofSeconds(10));
+        warmUp.warmUp();
+
+        verify(servicesClient, times(2)).testconnection();
+        assertThat(warmUp.duration()).isNotNull();
+        assertThat(warmUp.successCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testWarmUpWithTimeout() {
+        MerchantClient merchantClient = mock(MerchantClient.class);
+        ServicesClient servicesClient = mock(ServicesClient.class);
+
+        when(merchantClient.services()).thenReturn(servicesClient);
+        when(servicesClient.testconnection()).thenAnswer(i -> {
+            Thread.sleep(10_000);
+            return new TestConnection();
+        });
+
+        ConnectionWarmUp warmUp = new ConnectionWarmUp(merchantClient, 1, Duration.ofMillis(100));
+        warmUp.warmUp();
+
+        assertThat(warmUp.duration()).isLessThan(Duration.ofSeconds(5));
+        assertThat(warmUp.successCount()).isZero();
+    }
+}
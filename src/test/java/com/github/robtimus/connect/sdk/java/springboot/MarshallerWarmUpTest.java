@@ -0,0 +1,148 @@
+/*
+ * MarshallerWarmUpTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import com.worldline.connect.sdk.java.json.DefaultMarshaller;
+import com.worldline.connect.sdk.java.json.Marshaller;
+import com.worldline.connect.sdk.java.v1.domain.AmountOfMoney;
+import com.worldline.connect.sdk.java.v1.domain.CreatePaymentRequest;
+import com.worldline.connect.sdk.java.v1.domain.CreatePaymentResponse;
+
+@SuppressWarnings("nls")
+class MarshallerWarmUpTest {
+
+    @Test
+    void testInvalidTypes() {
+        Marshaller marshaller = mock(Marshaller.class);
+        List<Class<?>> types = List.of();
+        Duration timeout = Duration.ofSeconds(1);
+
+        assertThatThrownBy(() -> new MarshallerWarmUp(marshaller, types, timeout))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testWarmUp() {
+        MarshallerWarmUp warmUp = new MarshallerWarmUp(DefaultMarshaller.INSTANCE, Duration.ofSeconds(10));
+
+        assertThat(warmUp.types()).isEqualTo(MarshallerWarmUp.DEFAULT_TYPES);
+        assertThat(warmUp.duration()).isNull();
+        assertThat(warmUp.successCount()).isZero();
+
+        warmUp.warmUp();
+
+        assertThat(warmUp.duration()).isNotNull();
+        assertThat(warmUp.successCount()).isEqualTo(MarshallerWarmUp.DEFAULT_TYPES.size());
+    }
+
+    @Test
+    void testWarmUpInParallel() {
+        Marshaller marshaller = mock(Marshaller.class);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        when(marshaller.unmarshal(anyString(), any())).thenAnswer(i -> {
+            threads.add(Thread.currentThread());
+            return i.getArgument(1, Class.class).getDeclaredConstructor().newInstance();
+        });
+
+        List<Class<?>> types = List.of(CreatePaymentRequest.class, CreatePaymentResponse.class, AmountOfMoney.class);
+        MarshallerWarmUp warmUp = new MarshallerWarmUp(marshaller, types, Duration.ofSeconds(10));
+        warmUp.warmUp();
+
+        verify(marshaller).unmarshal("{}", CreatePaymentRequest.class);
+        verify(marshaller).unmarshal("{}", CreatePaymentResponse.class);
+        verify(marshaller).unmarshal("{}", AmountOfMoney.class);
+        verify(marshaller, times(3)).marshal(any());
+        assertThat(threads)
+                .isNotEmpty()
+                .doesNotContain(Thread.currentThread());
+        assertThat(warmUp.successCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testWarmUpWithFailures() {
+        Marshaller marshaller = mock(Marshaller.class);
+
+        when(marshaller.unmarshal("{}", CreatePaymentRequest.class)).thenReturn(new CreatePaymentRequest());
+        when(marshaller.unmarshal("{}", CreatePaymentResponse.class)).thenThrow(new IllegalStateException());
+
+        List<Class<?>> types = List.of(CreatePaymentRequest.class, CreatePaymentResponse.class);
+        MarshallerWarmUp warmUp = new MarshallerWarmUp(marshaller, types, Duration.ofSeconds(10));
+        warmUp.warmUp();
+
+        assertThat(warmUp.duration()).isNotNull();
+        assertThat(warmUp.successCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testWarmUpWithTimeout() {
+        Marshaller marshaller = mock(Marshaller.class);
+
+        when(marshaller.unmarshal(anyString(), any())).thenAnswer(i -> {
+            Thread.sleep(10_000);
+            return new CreatePaymentRequest();
+        });
+
+        MarshallerWarmUp warmUp = new MarshallerWarmUp(marshaller, List.of(CreatePaymentRequest.class), Duration.ofMillis(100));
+        warmUp.warmUp();
+
+        assertThat(warmUp.duration()).isLessThan(Duration.ofSeconds(5));
+        assertThat(warmUp.successCount()).isZero();
+    }
+
+    @Test
+    void testStartedDuringRefreshAndAwaitedWhenReady() {
+        Marshaller marshaller = mock(Marshaller.class);
+
+        MarshallerWarmUp warmUp = new MarshallerWarmUp(marshaller, List.of(CreatePaymentRequest.class), Duration.ofSeconds(10));
+
+        warmUp.afterSingletonsInstantiated();
+        assertThat(warmUp.duration()).isNull();
+
+        warmUp.onApplicationEvent(mock(ApplicationReadyEvent.class));
+        verify(marshaller).unmarshal("{}", CreatePaymentRequest.class);
+        assertThat(warmUp.duration()).isNotNull();
+        assertThat(warmUp.successCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testAwaitWithoutStart() {
+        Marshaller marshaller = mock(Marshaller.class);
+
+        MarshallerWarmUp warmUp = new MarshallerWarmUp(marshaller, Duration.ofSeconds(10));
+        warmUp.await();
+
+        verifyNoInteractions(marshaller);
+        assertThat(warmUp.duration()).isNull();
+    }
+}
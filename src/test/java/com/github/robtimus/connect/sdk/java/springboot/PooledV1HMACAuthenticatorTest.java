@@ -0,0 +1,215 @@
+/*
+ * PooledV1HMACAuthenticatorTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot;
+
+import static com.github.robtimus.connect.sdk.java.springboot.util.AuthenticatorTestUtil.assertDifferentSignatureCalculation;
+import static com.github.robtimus.connect.sdk.java.springboot.util.AuthenticatorTestUtil.assertSignatureCalculation;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import com.worldline.connect.sdk.java.authentication.Authenticator;
+import com.worldline.connect.sdk.java.authentication.V1HMACAuthenticator;
+import com.worldline.connect.sdk.java.communication.RequestHeader;
+
+@SuppressWarnings("nls")
+class PooledV1HMACAuthenticatorTest {
+
+    private static final String DATE = "Sat, 17 Oct 2026 10:15:30 GMT";
+
+    @Test
+    void testSignature() {
+        String apiKeyId = UUID.randomUUID().toString();
+        String secretApiKey = UUID.randomUUID().toString();
+
+        Authenticator authenticator = new PooledV1HMACAuthenticator(apiKeyId, secretApiKey);
+
+        assertSignatureCalculation(authenticator, apiKeyId, secretApiKey);
+    }
+
+    @Test
+    void testSignatureWithDifferentApiKey() {
+        String apiKeyId = UUID.randomUUID().toString();
+        String secretApiKey = UUID.randomUUID().toString();
+
+        Authenticator authenticator = new PooledV1HMACAuthenticator(apiKeyId, "x");
+
+        assertDifferentSignatureCalculation(authenticator, apiKeyId, secretApiKey);
+    }
+
+    @Nested
+    class SameAsV1HMACAuthenticator {
+
+        private final String apiKeyId = UUID.randomUUID().toString();
+        private final String secretApiKey = "sécret-" + UUID.randomUUID();
+
+        private final Authenticator expectedAuthenticator = new V1HMACAuthenticator(apiKeyId, secretApiKey);
+        private final Authenticator authenticator = new PooledV1HMACAuthenticator(apiKeyId, secretApiKey);
+
+        @ParameterizedTest
+        @ValueSource(strings = { "GET", "POST", "PUT", "DELETE", "get" })
+        void testHttpMethod(String httpMethod) {
+            List<RequestHeader> headers = List.of(new RequestHeader("Date", DATE));
+
+            assertSameSignature(httpMethod, URI.create("https://localhost/v1/test/payments/1"), headers);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "https://localhost/v1/test/payments",
+                "https://localhost/v1/test/products?countryCode=NL&currencyCode=EUR",
+                "https://localhost/v1/test/products?locale=en_GB&hide=fields%2Caccounts",
+                "https://localhost/v1/test/payments/%C3%A9"
+        })
+        void testResourceUri(String uri) {
+            List<RequestHeader> headers = List.of(new RequestHeader("Date", DATE));
+
+            assertSameSignature("GET", URI.create(uri), headers);
+        }
+
+        @Test
+        void testContentType() {
+            List<RequestHeader> headers = List.of(
+                    new RequestHeader("Content-Type", "application/json"),
+                    new RequestHeader("Date", DATE));
+
+            assertSameSignature("POST", URI.create("https://localhost/v1/test/payments"), headers);
+        }
+
+        @Test
+        void testXgcsHeaders() {
+            List<RequestHeader> headers = List.of(
+                    new RequestHeader("X-GCS-ServerMetaInfo", "serverMetaInfo"),
+                    new RequestHeader("Date", DATE),
+                    new RequestHeader("x-gcs-idempotence-key", "  idempotenceKey  "),
+                    new RequestHeader("X-GCS-ClientMetaInfo", "clientMetaInfo"),
+                    new RequestHeader("Accept", "application/json"));
+
+            assertSameSignature("POST", URI.create("https://localhost/v1/test/payments"), headers);
+        }
+
+        @Test
+        void testFoldedXgcsHeader() {
+            List<RequestHeader> headers = List.of(
+                    new RequestHeader("Date", DATE),
+                    new RequestHeader("X-GCS-ClientMetaInfo", " first line\r\n   second line\n\tthird line "));
+
+            assertSameSignature("GET", URI.create("https://localhost/v1/test/payments"), headers);
+        }
+
+        @Test
+        void testNonAsciiXgcsHeader() {
+            List<RequestHeader> headers = List.of(
+                    new RequestHeader("Date", DATE),
+                    new RequestHeader("X-GCS-ClientMetaInfo", "é€😀"));
+
+            assertSameSignature("GET", URI.create("https://localhost/v1/test/payments"), headers);
+        }
+
+        @Test
+        void testLargeXgcsHeader() {
+            List<RequestHeader> headers = List.of(
+                    new RequestHeader("Date", DATE),
+                    new RequestHeader("X-GCS-ClientMetaInfo", "x".repeat(10_000)));
+
+            assertSameSignature("GET", URI.create("https://localhost/v1/test/payments"), headers);
+            // the buffers have grown; also check a smaller request
+            assertSameSignature("GET", URI.create("https://localhost/v1/test/payments"), List.of(new RequestHeader("Date", DATE)));
+        }
+
+        @Test
+        void testRepeatedCalls() {
+            for (int i = 0; i < 100; i++) {
+                List<RequestHeader> headers = List.of(
+                        new RequestHeader("Date", DATE),
+                        new RequestHeader("X-GCS-Idempotence-Key", "key-" + i));
+
+                assertSameSignature("POST", URI.create("https://localhost/v1/test/payments/" + i), headers);
+            }
+        }
+
+        @Test
+        void testConcurrentCalls() throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < 1000; i++) {
+                    int index = i;
+                    futures.add(executor.submit(() -> {
+                        List<RequestHeader> headers = List.of(
+                                new RequestHeader("Date", DATE),
+                                new RequestHeader("X-GCS-Idempotence-Key", "key-" + index));
+
+                        assertSameSignature("POST", URI.create("https://localhost/v1/test/payments/" + index), headers);
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        private void assertSameSignature(String httpMethod, URI resourceUri, List<RequestHeader> headers) {
+            assertEquals(expectedAuthenticator.getAuthorization(httpMethod, resourceUri, headers),
+                    authenticator.getAuthorization(httpMethod, resourceUri, headers));
+        }
+    }
+
+    @Test
+    void testSignersAreReused() {
+        PooledV1HMACAuthenticator authenticator = new PooledV1HMACAuthenticator("apiKeyId", "secretApiKey", 4);
+
+        assertEquals(4, authenticator.maxIdle());
+        assertEquals(1, authenticator.idleCount());
+
+        List<RequestHeader> headers = List.of(new RequestHeader("Date", DATE));
+        for (int i = 0; i < 10; i++) {
+            authenticator.getAuthorization("GET", URI.create("https://localhost/v1/test/services/testconnection"), headers);
+
+            assertEquals(1, authenticator.idleCount());
+        }
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new PooledV1HMACAuthenticator(null, "secretApiKey"));
+        assertThrows(IllegalArgumentException.class, () -> new PooledV1HMACAuthenticator(" ", "secretApiKey"));
+        assertThrows(IllegalArgumentException.class, () -> new PooledV1HMACAuthenticator("apiKeyId", null));
+        assertThrows(IllegalArgumentException.class, () -> new PooledV1HMACAuthenticator("apiKeyId", " "));
+        assertThrows(IllegalArgumentException.class, () -> new PooledV1HMACAuthenticator("apiKeyId", "secretApiKey", 0));
+
+        Authenticator authenticator = new PooledV1HMACAuthenticator("apiKeyId", "secretApiKey");
+        URI uri = URI.create("https://localhost/v1/test/services/testconnection");
+        List<RequestHeader> headers = List.of(new RequestHeader("Date", DATE));
+
+        assertThrows(IllegalArgumentException.class, () -> authenticator.getAuthorization(null, uri, headers));
+        assertThrows(IllegalArgumentException.class, () -> authenticator.getAuthorization("", uri, headers));
+        assertThrows(IllegalArgumentException.class, () -> authenticator.getAuthorization("GET", null, headers));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * WarmUpTasksTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("nls")
+class WarmUpTasksTest {
+
+    @Test
+    void testAwait() {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        List<Runnable> tasks = List.of(
+                () -> threads.add(Thread.currentThread()),
+                () -> {
+                    throw new IllegalStateException("failed");
+                },
+                () -> threads.add(Thread.currentThread()));
+
+        Map<Integer, Exception> failures = new ConcurrentHashMap<>();
+
+        WarmUpTasks warmUpTasks = new WarmUpTasks("test-warm-up-", 3, tasks);
+        int successCount = warmUpTasks.await(Duration.ofSeconds(10), (e, i) -> failures.put(i, e));
+
+        assertThat(successCount).isEqualTo(2);
+        assertThat(failures).containsOnlyKeys(1);
+        assertThat(failures.get(1))
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+        assertThat(threads)
+                .isNotEmpty()
+                .allSatisfy(thread -> {
+                    assertThat(thread.getName()).startsWith("test-warm-up-");
+                    assertThat(thread.isDaemon()).isTrue();
+                });
+        assertThat(warmUpTasks.elapsed()).isPositive();
+    }
+
+    @Test
+    void testAwaitWithTimeout() {
+        List<Runnable> tasks = List.of(() -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        List<Exception> failures = new ArrayList<>();
+
+        WarmUpTasks warmUpTasks = new WarmUpTasks("test-warm-up-", 1, tasks);
+        int successCount = warmUpTasks.await(Duration.ofMillis(50), (e, i) -> failures.add(e));
+
+        assertThat(successCount).isZero();
+        assertThat(failures).singleElement().isInstanceOf(TimeoutException.class);
+        assertThat(warmUpTasks.elapsed()).isLessThan(Duration.ofSeconds(10));
+    }
+}
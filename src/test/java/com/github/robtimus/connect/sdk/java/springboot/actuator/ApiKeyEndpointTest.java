@@ -18,13 +18,22 @@
 package com.github.robtimus.connect.sdk.java.springboot.actuator;
 
 import static com.github.robtimus.connect.sdk.java.springboot.util.AuthenticatorTestUtil.assertSignatureCalculation;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import com.github.robtimus.connect.sdk.java.springboot.ConfigurableV1HMACAuthenticator;
+import com.github.robtimus.connect.sdk.java.springboot.actuator.ApiKeyEndpoint.ApiKeys;
 
 @SuppressWarnings("nls")
 class ApiKeyEndpointTest {
 
+    private static final URI RESOURCE_URI = URI.create("http://localhost/v1/test/services/testconnection");
+
     @Test
     void testSetApiKey() {
         String apiKeyId = UUID.randomUUID().toString();
@@ -34,8 +43,76 @@ class ApiKeyEndpointTest {
 
         ApiKeyEndpoint endpoint = new ApiKeyEndpoint(authenticator);
         endpoint.setApiKey(apiKeyId, secretApiKey);
-        authenticator.setApiKey(apiKeyId, secretApiKey);
 
         assertSignatureCalculation(authenticator, apiKeyId, secretApiKey);
+        assertNull(authenticator.previousApiKey());
+    }
+
+    @Test
+    void testSetApiKeyUsesConfiguredDefaultOverlap() {
+        String apiKeyId = UUID.randomUUID().toString();
+        String secretApiKey = UUID.randomUUID().toString();
+
+        ConfigurableV1HMACAuthenticator authenticator = new ConfigurableV1HMACAuthenticator("x", "x");
+
+        ApiKeyEndpoint endpoint = new ApiKeyEndpoint(authenticator, Duration.ofMinutes(5));
+        endpoint.setApiKey(apiKeyId, secretApiKey);
+
+        assertSignatureCalculation(authenticator, apiKeyId, secretApiKey);
+        assertEquals("x", authenticator.previousApiKey().apiKeyId());
+    }
+
+    @Test
+    void testSetApiKeyWithDefaultOverlap() {
+        String apiKeyId = UUID.randomUUID().toString();
+        String secretApiKey = UUID.randomUUID().toString();
+
+        ConfigurableV1HMACAuthenticator authenticator = new ConfigurableV1HMACAuthenticator("x", "x");
+
+        ApiKeyEndpoint endpoint = new ApiKeyEndpoint(authenticator, Duration.ofMinutes(5));
+        endpoint.setApiKey(apiKeyId, secretApiKey, null);
+
+        assertSignatureCalculation(authenticator, apiKeyId, secretApiKey);
+        assertEquals("x", authenticator.previousApiKey().apiKeyId());
+    }
+
+    @Test
+    void testSetApiKeyWithOverlap() {
+        String apiKeyId = UUID.randomUUID().toString();
+        String secretApiKey = UUID.randomUUID().toString();
+
+        ConfigurableV1HMACAuthenticator authenticator = new ConfigurableV1HMACAuthenticator("x", "x");
+
+        ApiKeyEndpoint endpoint = new ApiKeyEndpoint(authenticator);
+        endpoint.setApiKey(apiKeyId, secretApiKey, Duration.ofMinutes(5));
+
+        assertSignatureCalculation(authenticator, apiKeyId, secretApiKey);
+        assertEquals("x", authenticator.previousApiKey().apiKeyId());
+    }
+
+    @Test
+    void testApiKeys() {
+        ConfigurableV1HMACAuthenticator authenticator = new ConfigurableV1HMACAuthenticator("old", "oldSecret");
+
+        ApiKeyEndpoint endpoint = new ApiKeyEndpoint(authenticator);
+
+        ApiKeys apiKeys = endpoint.apiKeys();
+        assertEquals("old", apiKeys.getCurrent().getApiKeyId());
+        assertNull(apiKeys.getPrevious());
+        assertNull(apiKeys.getOverlapEnd());
+
+        endpoint.setApiKey("new", "newSecret", Duration.ofMinutes(5));
+        authenticator.recordResponse("GET", RESOURCE_URI, Collections.emptyList(), "GCS v1HMAC:new:signature", true);
+        authenticator.recordResponse("GET", RESOURCE_URI, Collections.emptyList(), "GCS v1HMAC:new:signature", false);
+        authenticator.recordResponse("GET", RESOURCE_URI, Collections.emptyList(), "GCS v1HMAC:old:signature", true);
+
+        apiKeys = endpoint.apiKeys();
+        assertEquals("new", apiKeys.getCurrent().getApiKeyId());
+        assertEquals(1, apiKeys.getCurrent().getSuccessCount());
+        assertEquals(1, apiKeys.getCurrent().getFailureCount());
+        assertEquals("old", apiKeys.getPrevious().getApiKeyId());
+        assertEquals(1, apiKeys.getPrevious().getSuccessCount());
+        assertEquals(0, apiKeys.getPrevious().getFailureCount());
+        assertNotNull(apiKeys.getOverlapEnd());
     }
 }
@@ -0,0 +1,47 @@
+/*
+ * ConcurrencyLimitEndpointTest.java
+ * Copyright 2019 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.actuator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.connect.sdk.java.springboot.actuator.ConcurrencyLimitEndpoint.ConcurrencyLimit;
+import com.github.robtimus.connect.sdk.java.springboot.communication.AdaptiveConcurrencyLimiter;
+
+@SuppressWarnings("nls")
+class ConcurrencyLimitEndpointTest {
+
+    @Test
+    void testConcurrencyLimit() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 10, Duration.ofSeconds(5), Duration.ofMillis(10));
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        ConcurrencyLimitEndpoint endpoint = new ConcurrencyLimitEndpoint(limiter);
+
+        ConcurrencyLimit concurrencyLimit = endpoint.concurrencyLimit();
+
+        assertThat(concurrencyLimit.getLimit()).isEqualTo(1);
+        assertThat(concurrencyLimit.getMinLimit()).isEqualTo(1);
+        assertThat(concurrencyLimit.getMaxLimit()).isEqualTo(10);
+        assertThat(concurrencyLimit.getInFlight()).isEqualTo(1);
+        assertThat(concurrencyLimit.getRejected()).isEqualTo(1);
+        assertThat(concurrencyLimit.getLatencyThreshold()).isEqualTo(Duration.ofSeconds(5));
+        assertThat(concurrencyLimit.getMaxWait()).isEqualTo(Duration.ofMillis(10));
+    }
+}
@@ -22,6 +22,7 @@ import static com.github.robtimus.connect.sdk.java.springboot.util.Authenticator
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -59,6 +60,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.RequestEntity;
 import org.springframework.http.ResponseEntity;
+import com.github.robtimus.connect.sdk.java.springboot.actuator.ApiKeyEndpoint.ApiKeys;
 import com.github.robtimus.connect.sdk.java.springboot.actuator.ConnectionsEndpoint.CloseableBeans;
 import com.github.robtimus.connect.sdk.java.springboot.actuator.EndpointsTest.TestApplication;
 import com.github.robtimus.connect.sdk.java.springboot.actuator.LoggingEndpoint.LoggingCapableAndLoggerBeans;
@@ -139,8 +141,48 @@ class EndpointsTest {
             assertSignatureCalculation(authenticator, apiKeyId, secretApiKey);
         }
 
+        @Test
+        void testSetApiKeyWithOverlap() {
+            String apiKeyId = UUID.randomUUID().toString();
+            String secretApiKey = UUID.randomUUID().toString();
+
+            String requestBody = String.format("{\"apiKeyId\": \"%s\", \"secretApiKey\": \"%s\", \"overlap\": \"5m\"}", apiKeyId, secretApiKey);
+
+            RequestEntity<String> request = RequestEntity
+                    .post(getActuatorURI())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(requestBody);
+
+            ResponseEntity<Void> response = restTemplateBuilder
+                    .build()
+                    .exchange(request, Void.class);
+
+            assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+
+            assertSignatureCalculation(authenticator, apiKeyId, secretApiKey);
+
+            RequestEntity<Void> readRequest = RequestEntity
+                    .get(getActuatorURI())
+                    .build();
+
+            ResponseEntity<ApiKeys> readResponse = restTemplateBuilder
+                    .build()
+                    .exchange(readRequest, ApiKeys.class);
+
+            assertEquals(HttpStatus.OK, readResponse.getStatusCode());
+
+            ApiKeys apiKeys = readResponse.getBody();
+
+            assertEquals(apiKeyId, apiKeys.getCurrent().getApiKeyId());
+            assertNotNull(apiKeys.getPrevious());
+            assertNotNull(apiKeys.getOverlapEnd());
+        }
+
         @ParameterizedTest
-        @ValueSource(strings = "{\"apiKeyId\": \"myApiKeyId\", \"secretApiKey\": \"mySecretKeyId\"}")
+        @ValueSource(strings = {
+                "{\"apiKeyId\": \"myApiKeyId\", \"secretApiKey\": \"mySecretKeyId\"}",
+                "{\"apiKeyId\": \"myApiKeyId\", \"secretApiKey\": \"mySecretKeyId\", \"overlap\": \"5m\"}"
+        })
         void testExample(String requestBody) {
             RequestEntity<String> request = RequestEntity
                     .post(getActuatorURI())
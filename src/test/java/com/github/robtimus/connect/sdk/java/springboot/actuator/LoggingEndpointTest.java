@@ -19,13 +19,20 @@ package com.github.robtimus.connect.sdk.java.springboot.actuator;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.springframework.beans.factory.BeanNotOfRequiredTypeException;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
@@ -36,7 +43,12 @@ import com.github.robtimus.connect.sdk.java.springboot.actuator.BeanProviders.Co
 import com.github.robtimus.connect.sdk.java.springboot.actuator.BeanProviders.ConnectionProvider;
 import com.github.robtimus.connect.sdk.java.springboot.actuator.BeanProviders.LoggerProvider;
 import com.github.robtimus.connect.sdk.java.springboot.actuator.LoggingEndpoint.CompoundCommunicatorLogger;
+import com.github.robtimus.connect.sdk.java.springboot.actuator.LoggingEndpoint.CountingCommunicatorLogger;
 import com.github.robtimus.connect.sdk.java.springboot.actuator.LoggingEndpoint.LoggingCapableAndLoggerBeans;
+import com.github.robtimus.connect.sdk.java.springboot.actuator.LoggingEndpoint.LoggingSession;
+import com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLoggingPolicy;
+import com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLoggingPolicy.Type;
+import com.github.robtimus.connect.sdk.java.springboot.logging.LevelAwareCommunicatorLogger;
 import com.worldline.connect.sdk.java.Client;
 import com.worldline.connect.sdk.java.Communicator;
 import com.worldline.connect.sdk.java.communication.Connection;
@@ -50,6 +62,7 @@ class LoggingEndpointTest {
     private final ApplicationContextRunner contextRunner = new ApplicationContextRunner();
 
     @Nested
+    @SuppressWarnings("resource")
     class ListLoggingCapableAndLoggerBeans {
 
         @Test
@@ -615,6 +628,107 @@ class LoggingEndpointTest {
                         });
             }
         }
+
+        @Nested
+        class WithPolicy {
+
+            private static final String REQUEST = "Outgoing request (requestId='1'):\n  method:       'GET'";
+            private static final String RESPONSE = "Incoming response (requestId='1', 100 ms):\n  status-code:  '%d'";
+
+            private static final CommunicatorLoggingPolicy SLOW_POLICY = CommunicatorLoggingPolicy.of(Type.SLOW, 1, Duration.ofMillis(50));
+
+            @Test
+            void testWithPolicy() {
+                contextRunner
+                        .withUserConfiguration(ConnectionProvider.class, LoggerProvider.class)
+                        .run(context -> {
+                            LoggingEndpoint endpoint = new LoggingEndpoint(context);
+
+                            endpoint.enableLogging(null, Type.ERRORS, null, null, null);
+
+                            CommunicatorLogger logger = context.getBean(LoggerProvider.class).logger();
+                            CommunicatorLogger policyLogger = captureLogger(context.getBean(ConnectionProvider.class).connection());
+                            assertThat(policyLogger).isNotSameAs(logger);
+
+                            policyLogger.log(REQUEST);
+                            policyLogger.log(String.format(RESPONSE, 200));
+                            verifyNoInteractions(logger);
+
+                            policyLogger.log(String.format(RESPONSE, 404));
+                            verify(logger).log(String.format(RESPONSE, 404));
+                            verifyNoMoreInteractions(logger);
+                        });
+            }
+
+            @Test
+            void testWithDefaultPolicy() {
+                contextRunner
+                        .withUserConfiguration(ConnectionProvider.class, LoggerProvider.class)
+                        .run(context -> {
+                            LoggingEndpoint endpoint = new LoggingEndpoint(context, SLOW_POLICY);
+
+                            endpoint.enableLogging(null);
+
+                            CommunicatorLogger logger = context.getBean(LoggerProvider.class).logger();
+                            CommunicatorLogger policyLogger = captureLogger(context.getBean(ConnectionProvider.class).connection());
+
+                            policyLogger.log(REQUEST);
+                            policyLogger.log(String.format(RESPONSE, 200));
+                            verify(logger).log(String.format(RESPONSE, 200));
+                            verifyNoMoreInteractions(logger);
+                        });
+            }
+
+            @Test
+            void testWithDefaultPolicyAndSlowThreshold() {
+                contextRunner
+                        .withUserConfiguration(ConnectionProvider.class, LoggerProvider.class)
+                        .run(context -> {
+                            LoggingEndpoint endpoint = new LoggingEndpoint(context, SLOW_POLICY);
+
+                            endpoint.enableLogging(null, null, null, Duration.ofMillis(200), null);
+
+                            CommunicatorLogger logger = context.getBean(LoggerProvider.class).logger();
+                            CommunicatorLogger policyLogger = captureLogger(context.getBean(ConnectionProvider.class).connection());
+
+                            policyLogger.log(REQUEST);
+                            policyLogger.log(String.format(RESPONSE, 200));
+                            verifyNoInteractions(logger);
+                        });
+            }
+
+            @Test
+            void testWithAllPolicy() {
+                contextRunner
+                        .withUserConfiguration(ConnectionProvider.class, LoggerProvider.class)
+                        .run(context -> {
+                            LoggingEndpoint endpoint = new LoggingEndpoint(context, SLOW_POLICY);
+
+                            endpoint.enableLogging(null, Type.ALL, null, null, null);
+
+                            Connection connection = context.getBean(ConnectionProvider.class).connection();
+                            CommunicatorLogger logger = context.getBean(LoggerProvider.class).logger();
+
+                            verify(connection).enableLogging(logger);
+                            verifyNoMoreInteractions(connection);
+                        });
+            }
+
+            @Test
+            void testWithInvalidSampleRate() {
+                contextRunner
+                        .withUserConfiguration(ConnectionProvider.class, LoggerProvider.class)
+                        .run(context -> {
+                            LoggingEndpoint endpoint = new LoggingEndpoint(context);
+
+                            assertThatThrownBy(() -> endpoint.enableLogging(null, Type.SAMPLE, 0, null, null))
+                                    .isInstanceOf(IllegalArgumentException.class);
+
+                            Connection connection = context.getBean(ConnectionProvider.class).connection();
+                            verifyNoInteractions(connection);
+                        });
+            }
+        }
     }
 
     @Nested
@@ -1170,6 +1284,40 @@ class LoggingEndpointTest {
                         });
             }
         }
+
+        @Nested
+        class WithPolicy {
+
+            private static final String REQUEST = "Outgoing request (requestId='1'):\n  method:       'GET'";
+            private static final String RESPONSE = "Incoming response (requestId='1', 100 ms):\n  status-code:  '%d'";
+
+            @Test
+            void testWithPolicy() {
+                contextRunner
+                        .withUserConfiguration(ConnectionProvider.class, CommunicatorProvider.class, LoggerProvider.class)
+                        .run(context -> {
+                            LoggingEndpoint endpoint = new LoggingEndpoint(context);
+
+                            endpoint.enableLoggingOnBean("connection", null, Type.TAIL, null, Duration.ofSeconds(1), null);
+
+                            Communicator communicator = context.getBean(CommunicatorProvider.class).communicator();
+                            CommunicatorLogger logger = context.getBean(LoggerProvider.class).logger();
+                            CommunicatorLogger policyLogger = captureLogger(context.getBean(ConnectionProvider.class).connection());
+                            verifyNoInteractions(communicator);
+
+                            policyLogger.log(REQUEST);
+                            policyLogger.log(String.format(RESPONSE, 200));
+                            verifyNoInteractions(logger);
+
+                            policyLogger.log(REQUEST);
+                            policyLogger.log(String.format(RESPONSE, 500));
+                            InOrder inOrder = inOrder(logger);
+                            inOrder.verify(logger).log(REQUEST);
+                            inOrder.verify(logger).log(String.format(RESPONSE, 500));
+                            verifyNoMoreInteractions(logger);
+                        });
+            }
+        }
     }
 
     @Nested
@@ -1390,6 +1538,148 @@ class LoggingEndpointTest {
         }
     }
 
+    @Nested
+    class Sessions {
+
+        @Test
+        void testWithoutDuration() {
+            contextRunner
+                    .withUserConfiguration(ConnectionProvider.class, LoggerProvider.class)
+                    .run(context -> {
+                        try (LoggingEndpoint endpoint = new LoggingEndpoint(context)) {
+                            endpoint.enableLogging(null);
+
+                            assertThat(endpoint.listLoggingCapableAndLoggerBeans().getSessions()).isEmpty();
+                        }
+                    });
+        }
+
+        @Test
+        void testWithDuration() {
+            contextRunner
+                    .withUserConfiguration(ConnectionProvider.class, CommunicatorProvider.class, LoggerProvider.class)
+                    .run(context -> {
+                        try (LoggingEndpoint endpoint = new LoggingEndpoint(context)) {
+                            endpoint.enableLogging(null, Type.ERRORS, null, null, Duration.ofMinutes(5));
+
+                            Connection connection = context.getBean(ConnectionProvider.class).connection();
+                            CommunicatorLogger logger = context.getBean(LoggerProvider.class).logger();
+                            CommunicatorLogger sessionLogger = captureLogger(connection);
+
+                            sessionLogger.log("message 1");
+                            sessionLogger.log("message \u00e9", new IllegalStateException());
+                            verify(logger).log("message 1");
+
+                            List<LoggingSession> sessions = endpoint.listLoggingCapableAndLoggerBeans().getSessions();
+                            assertThat(sessions).hasSize(1);
+
+                            LoggingSession session = sessions.get(0);
+                            assertThat(session.getBeans()).containsExactlyInAnyOrder("connection", "communicator");
+                            assertThat(session.getLogger()).isNull();
+                            assertThat(session.getPolicy()).isEqualTo("ERRORS");
+                            assertThat(session.getEnd()).isEqualTo(session.getStart().plus(Duration.ofMinutes(5)));
+                            assertThat(session.getRemaining()).isPositive().isLessThanOrEqualTo(Duration.ofMinutes(5));
+                            assertThat(session.getMessageCount()).isEqualTo(2);
+                            assertThat(session.getByteCount()).isEqualTo(19);
+
+                            endpoint.disableLogging();
+
+                            assertThat(endpoint.listLoggingCapableAndLoggerBeans().getSessions()).isEmpty();
+                        }
+                    });
+        }
+
+        @Test
+        void testExpiration() {
+            contextRunner
+                    .withUserConfiguration(ConnectionProvider.class, CommunicatorProvider.class, LoggerProvider.class)
+                    .run(context -> {
+                        try (LoggingEndpoint endpoint = new LoggingEndpoint(context)) {
+                            endpoint.enableLoggingOnBean("connection", "logger", null, null, null, Duration.ofMillis(100));
+
+                            Connection connection = context.getBean(ConnectionProvider.class).connection();
+                            Communicator communicator = context.getBean(CommunicatorProvider.class).communicator();
+
+                            verify(connection, timeout(5000)).disableLogging();
+                            verifyNoInteractions(communicator);
+
+                            assertThat(endpoint.listLoggingCapableAndLoggerBeans().getSessions()).isEmpty();
+                        }
+                    });
+        }
+
+        @Test
+        void testDefaultDuration() {
+            contextRunner
+                    .withUserConfiguration(ConnectionProvider.class, LoggerProvider.class)
+                    .run(context -> {
+                        try (LoggingEndpoint endpoint = new LoggingEndpoint(context, CommunicatorLoggingPolicy.all(), Duration.ofMillis(100))) {
+                            endpoint.enableLogging(null);
+
+                            Connection connection = context.getBean(ConnectionProvider.class).connection();
+
+                            verify(connection, timeout(5000)).disableLogging();
+                        }
+                    });
+        }
+
+        @Test
+        void testReplacedSession() {
+            contextRunner
+                    .withUserConfiguration(ConnectionProvider.class, CommunicatorProvider.class, LoggerProvider.class)
+                    .run(context -> {
+                        try (LoggingEndpoint endpoint = new LoggingEndpoint(context)) {
+                            endpoint.enableLogging(null, null, null, null, Duration.ofMinutes(5));
+                            endpoint.enableLoggingOnBean("connection", "logger", null, null, null, Duration.ofMinutes(1));
+
+                            List<LoggingSession> sessions = endpoint.listLoggingCapableAndLoggerBeans().getSessions();
+                            assertThat(sessions).hasSize(2);
+                            assertThat(sessions.get(0).getBeans()).containsExactly("communicator");
+                            assertThat(sessions.get(1).getBeans()).containsExactly("connection");
+                            assertThat(sessions.get(1).getLogger()).isEqualTo("logger");
+
+                            endpoint.disableLoggingOnBean("communicator");
+
+                            sessions = endpoint.listLoggingCapableAndLoggerBeans().getSessions();
+                            assertThat(sessions).hasSize(1);
+                            assertThat(sessions.get(0).getBeans()).containsExactly("connection");
+
+                            // enabling logging without a duration ends the session
+                            endpoint.enableLoggingOnBean("connection", null);
+
+                            assertThat(endpoint.listLoggingCapableAndLoggerBeans().getSessions()).isEmpty();
+                        }
+                    });
+        }
+
+        @Test
+        void testWithNegativeDuration() {
+            contextRunner
+                    .withUserConfiguration(ConnectionProvider.class, LoggerProvider.class)
+                    .run(context -> {
+                        try (LoggingEndpoint endpoint = new LoggingEndpoint(context)) {
+                            Duration duration = Duration.ofSeconds(-1);
+
+                            assertThatThrownBy(() -> endpoint.enableLogging(null, null, null, null, duration))
+                                    .isInstanceOf(IllegalArgumentException.class);
+
+                            Connection connection = context.getBean(ConnectionProvider.class).connection();
+                            verifyNoInteractions(connection);
+                        }
+                    });
+        }
+    }
+
+    @Test
+    void testUtf8Length() {
+        assertThat(CountingCommunicatorLogger.utf8Length("")).isZero();
+        assertThat(CountingCommunicatorLogger.utf8Length("abc")).isEqualTo(3);
+        assertThat(CountingCommunicatorLogger.utf8Length("\u00e9")).isEqualTo(2);
+        assertThat(CountingCommunicatorLogger.utf8Length("\u20ac")).isEqualTo(3);
+        assertThat(CountingCommunicatorLogger.utf8Length("\ud83d\ude00")).isEqualTo(4);
+        assertThat(CountingCommunicatorLogger.utf8Length("\ud83d")).isEqualTo(3);
+    }
+
     @Test
     void testCompoundCommunicatorLogger() {
         CommunicatorLogger logger1 = mock(CommunicatorLogger.class);
@@ -1411,6 +1701,46 @@ class LoggingEndpointTest {
         verifyNoMoreInteractions(logger1, logger2, logger3);
     }
 
+    @Test
+    void testCompoundCommunicatorLoggerEnabled() {
+        LevelAwareCommunicatorLogger logger1 = mock(LevelAwareCommunicatorLogger.class);
+        LevelAwareCommunicatorLogger logger2 = mock(LevelAwareCommunicatorLogger.class);
+        CompoundCommunicatorLogger compoundLogger = new CompoundCommunicatorLogger(Arrays.asList(logger1, logger2));
+
+        assertThat(compoundLogger.isEnabled()).isFalse();
+        assertThat(compoundLogger.isErrorEnabled()).isFalse();
+
+        when(logger2.isErrorEnabled()).thenReturn(true);
+
+        assertThat(compoundLogger.isEnabled()).isFalse();
+        assertThat(compoundLogger.isErrorEnabled()).isTrue();
+
+        // loggers that are not level-aware are always enabled
+        compoundLogger = new CompoundCommunicatorLogger(Arrays.asList(logger1, mock(CommunicatorLogger.class)));
+
+        assertThat(compoundLogger.isEnabled()).isTrue();
+        assertThat(compoundLogger.isErrorEnabled()).isTrue();
+    }
+
+    @Test
+    void testCountingCommunicatorLoggerWithDisabledDelegate() {
+        LevelAwareCommunicatorLogger delegate = mock(LevelAwareCommunicatorLogger.class);
+        CountingCommunicatorLogger countingLogger = new CountingCommunicatorLogger(delegate);
+
+        countingLogger.log("message");
+
+        assertThat(countingLogger.messageCount()).isZero();
+        assertThat(countingLogger.byteCount()).isZero();
+
+        when(delegate.isEnabled()).thenReturn(true);
+
+        countingLogger.log("message");
+
+        assertThat(countingLogger.messageCount()).isEqualTo(1);
+        assertThat(countingLogger.byteCount()).isEqualTo(7);
+        verify(delegate).log("message");
+    }
+
     private void verifyEnableLogging(LoggingCapable loggingCapable, CommunicatorLogger... loggers) {
         ArgumentCaptor<CommunicatorLogger> loggerCaptor = ArgumentCaptor.forClass(CommunicatorLogger.class);
         verify(loggingCapable).enableLogging(loggerCaptor.capture());
@@ -1420,4 +1750,11 @@ class LoggingEndpointTest {
         CompoundCommunicatorLogger compoundLogger = (CompoundCommunicatorLogger) logger;
         assertThat(compoundLogger.loggers).containsExactlyInAnyOrder(loggers);
     }
+
+    private CommunicatorLogger captureLogger(LoggingCapable loggingCapable) {
+        ArgumentCaptor<CommunicatorLogger> loggerCaptor = ArgumentCaptor.forClass(CommunicatorLogger.class);
+        verify(loggingCapable).enableLogging(loggerCaptor.capture());
+        verifyNoMoreInteractions(loggingCapable);
+        return loggerCaptor.getValue();
+    }
 }
@@ -0,0 +1,180 @@
+/*
+ * ConnectSdkAsyncMerchantClientAutoConfigurationTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.github.robtimus.connect.sdk.java.springboot.AsyncMerchantClient;
+import com.worldline.connect.sdk.java.v1.merchant.MerchantClient;
+
+@SuppressWarnings("nls")
+class ConnectSdkAsyncMerchantClientAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ConnectSdkAsyncMerchantClientAutoConfiguration.class));
+
+    @Test
+    void testNoAutoConfigurationWithExistingBean() {
+        contextRunner
+                .withUserConfiguration(ExistingBeanProvider.class, MerchantClientProvider.class)
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean("connectSdkAsyncMerchantClient");
+                    assertThat(context).doesNotHaveBean("connectSdkAsyncMerchantClientExecutor");
+                    assertThat(context).hasSingleBean(AsyncMerchantClient.class);
+                    assertThat(context).getBean(AsyncMerchantClient.class)
+                            .isSameAs(context.getBean(ExistingBeanProvider.class).asyncMerchantClient());
+                });
+    }
+
+    @Test
+    void testNoAutoConfigurationWithMissingMerchantClient() {
+        contextRunner
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(AsyncMerchantClient.class);
+                    assertThat(context).doesNotHaveBean("connectSdkAsyncMerchantClientExecutor");
+                });
+    }
+
+    @Test
+    void testAutoConfiguration() {
+        contextRunner
+                .withUserConfiguration(MerchantClientProvider.class)
+                .run(context -> {
+                    assertThat(context).hasBean("connectSdkAsyncMerchantClient");
+                    assertThat(context).hasBean("connectSdkAsyncMerchantClientExecutor");
+                    assertThat(context).hasSingleBean(AsyncMerchantClient.class);
+                    assertThat(context).getBean(AsyncMerchantClient.class).extracting("merchantClient")
+                            .isSameAs(context.getBean(MerchantClient.class));
+                    assertThat(context).getBean(AsyncMerchantClient.class).extracting("executor")
+                            .isSameAs(context.getBean(ConnectSdkAsyncMerchantClientAutoConfiguration.ASYNC_MERCHANT_CLIENT_EXECUTOR))
+                            .asInstanceOf(InstanceOfAssertFactories.type(ThreadPoolExecutor.class))
+                            .satisfies(executor -> {
+                                // the default of connect.api.max-connections
+                                assertThat(executor.getMaximumPoolSize()).isEqualTo(10);
+                                assertThat(executor.getQueue().remainingCapacity()).isZero();
+                            });
+                });
+    }
+
+    @Test
+    void testMaxThreadsFromMaxConnections() {
+        contextRunner
+                .withUserConfiguration(MerchantClientProvider.class)
+                .withPropertyValues("connect.api.max-connections=50")
+                .run(context -> {
+                    assertThat(context).getBean("connectSdkAsyncMerchantClientExecutor")
+                            .asInstanceOf(InstanceOfAssertFactories.type(ThreadPoolExecutor.class))
+                            .satisfies(executor -> assertThat(executor.getMaximumPoolSize()).isEqualTo(50));
+                });
+    }
+
+    @Test
+    void testInvalidMaxConnections() {
+        contextRunner
+                .withUserConfiguration(MerchantClientProvider.class)
+                .withPropertyValues("connect.api.max-connections=0")
+                .run(context -> {
+                    assertThat(context).hasFailed();
+                    assertThat(context).getFailure()
+                            .rootCause()
+                            .isInstanceOf(IllegalStateException.class)
+                            .hasMessage("connect.api.max-connections must be > 0, is 0");
+                });
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void testVirtualThreads() {
+        contextRunner
+                .withUserConfiguration(MerchantClientProvider.class)
+                .withPropertyValues("spring.threads.virtual.enabled=true", "connect.api.max-connections=50")
+                .run(context -> {
+                    assertThat(context).getBean("connectSdkAsyncMerchantClientExecutor")
+                            .asInstanceOf(InstanceOfAssertFactories.type(ThreadPoolExecutor.class))
+                            .satisfies(executor -> {
+                                assertThat(executor.getMaximumPoolSize()).isEqualTo(Integer.MAX_VALUE);
+                                Thread thread = executor.getThreadFactory().newThread(() -> { /* nothing */ });
+                                assertThat(thread.getClass().getSimpleName()).isEqualTo("VirtualThread");
+                                assertThat(thread.getName()).startsWith("connect-sdk-async-");
+                            });
+                });
+    }
+
+    @Test
+    void testCustomExecutor() {
+        contextRunner
+                .withUserConfiguration(MerchantClientProvider.class, ExecutorProvider.class)
+                .run(context -> {
+                    assertThat(context).getBean(AsyncMerchantClient.class).extracting("executor")
+                            .isSameAs(context.getBean(ExecutorProvider.class).connectSdkAsyncMerchantClientExecutor());
+                });
+    }
+
+    @Test
+    void testExecutorIsShutDown() {
+        contextRunner
+                .withUserConfiguration(MerchantClientProvider.class)
+                .run(context -> {
+                    ThreadPoolExecutor executor = context.getBean("connectSdkAsyncMerchantClientExecutor", ThreadPoolExecutor.class);
+                    assertThat(executor.isShutdown()).isFalse();
+
+                    context.close();
+
+                    assertThat(executor.isShutdown()).isTrue();
+                });
+    }
+
+    @Configuration
+    static class ExistingBeanProvider {
+
+        @Bean
+        AsyncMerchantClient asyncMerchantClient() {
+            return mock(AsyncMerchantClient.class);
+        }
+    }
+
+    @Configuration
+    static class MerchantClientProvider {
+
+        @Bean
+        MerchantClient merchantClient() {
+            return mock(MerchantClient.class);
+        }
+    }
+
+    @Configuration
+    static class ExecutorProvider {
+
+        private final Executor executor = Runnable::run;
+
+        @Bean
+        Executor connectSdkAsyncMerchantClientExecutor() {
+            return executor;
+        }
+    }
+}
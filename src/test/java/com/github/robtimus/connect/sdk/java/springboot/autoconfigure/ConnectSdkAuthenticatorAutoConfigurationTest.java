@@ -29,7 +29,10 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import com.github.robtimus.connect.sdk.java.springboot.ConfigurableV1HMACAuthenticator;
 import com.github.robtimus.connect.sdk.java.springboot.actuator.ApiKeyEndpoint;
+import com.github.robtimus.connect.sdk.java.springboot.actuator.ApiKeyEndpoint.ApiKeys;
+import com.github.robtimus.connect.sdk.java.springboot.communication.ApiKeyRotationConnection;
 import com.worldline.connect.sdk.java.authentication.Authenticator;
+import com.worldline.connect.sdk.java.communication.Connection;
 
 @SuppressWarnings("nls")
 class ConnectSdkAuthenticatorAutoConfigurationTest {
@@ -50,6 +53,7 @@ class ConnectSdkAuthenticatorAutoConfigurationTest {
                     assertThat(context).hasSingleBean(Authenticator.class);
                     assertThat(context).getBean(Authenticator.class).isSameAs(context.getBean(ExistingBeanProvider.class).authenticator());
                     assertThat(context).doesNotHaveBean(ConfigurableV1HMACAuthenticator.class);
+                    assertThat(context).doesNotHaveBean(ConnectionDecorator.class);
                     assertThat(context).doesNotHaveBean(ApiKeyEndpoint.class);
                 });
     }
@@ -87,7 +91,32 @@ class ConnectSdkAuthenticatorAutoConfigurationTest {
                     assertThat(context).hasSingleBean(Authenticator.class);
                     assertThat(context).getBean(Authenticator.class).isExactlyInstanceOf(ConfigurableV1HMACAuthenticator.class);
                     assertThat(context).hasSingleBean(ConfigurableV1HMACAuthenticator.class);
+                    assertThat(context).getBean(ConfigurableV1HMACAuthenticator.class)
+                            .extracting(ConfigurableV1HMACAuthenticator::isPooled)
+                            .isEqualTo(false);
+                    assertThat(context).hasBean("connectSdkApiKeyRotationDecorator");
                     assertThat(context).doesNotHaveBean(ApiKeyEndpoint.class);
+
+                    Connection connection = mock(Connection.class);
+                    assertThat(context.getBean(ConnectionDecorator.class).decorate(connection))
+                            .isInstanceOf(ApiKeyRotationConnection.class)
+                            .satisfies(c -> assertThat(((ApiKeyRotationConnection) c).delegate()).isSameAs(connection))
+                            .satisfies(c -> assertThat(((ApiKeyRotationConnection) c).authenticator())
+                                    .isSameAs(context.getBean(ConfigurableV1HMACAuthenticator.class)));
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithPooling() {
+        contextRunner
+                .withPropertyValues("connect.api.authorization-id=keyId", "connect.api.authorization-secret=secret",
+                        "connect.api.authorization-pooling=true")
+                .run(context -> {
+                    assertThat(context).hasBean("connectSdkV1HMACAuthenticator");
+                    assertThat(context).hasSingleBean(ConfigurableV1HMACAuthenticator.class);
+                    assertThat(context).getBean(ConfigurableV1HMACAuthenticator.class)
+                            .extracting(ConfigurableV1HMACAuthenticator::isPooled)
+                            .isEqualTo(true);
                 });
     }
 
@@ -120,6 +149,25 @@ class ConnectSdkAuthenticatorAutoConfigurationTest {
                 });
     }
 
+    @Test
+    void testEndpointWithRotationOverlap() {
+        contextRunner
+                .withPropertyValues("connect.api.authorization-id=keyId", "connect.api.authorization-secret=secret",
+                        "connect.api.authorization-rotation-overlap=300000",
+                        "management.endpoint.connectSdkApiKey.access=UNRESTRICTED", "spring.jmx.enabled=true",
+                        "management.endpoints.jmx.exposure.include=connectSdkApiKey")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(ApiKeyEndpoint.class);
+
+                    ApiKeyEndpoint endpoint = context.getBean(ApiKeyEndpoint.class);
+                    endpoint.setApiKey("newKeyId", "newSecret", null);
+
+                    ApiKeys apiKeys = endpoint.apiKeys();
+                    assertThat(apiKeys.getCurrent().getApiKeyId()).isEqualTo("newKeyId");
+                    assertThat(apiKeys.getPrevious().getApiKeyId()).isEqualTo("keyId");
+                });
+    }
+
     @Test
     void testNoEndpointWithMissingClass() throws IOException {
         try (FilteredClassLoader classLoader = new FilteredClassLoader(Endpoint.class)) {
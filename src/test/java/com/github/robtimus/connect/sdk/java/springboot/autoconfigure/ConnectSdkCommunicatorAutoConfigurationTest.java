@@ -36,12 +36,16 @@ import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import com.github.robtimus.connect.sdk.java.springboot.DateCachingCommunicator;
+import com.github.robtimus.connect.sdk.java.springboot.communication.ApiKeyRotationConnection;
+import com.github.robtimus.connect.sdk.java.springboot.communication.CachedDateHeader;
+import com.github.robtimus.connect.sdk.java.springboot.communication.DelegatingConnection;
 import com.worldline.connect.sdk.java.Communicator;
 import com.worldline.connect.sdk.java.authentication.Authenticator;
 import com.worldline.connect.sdk.java.authentication.V1HMACAuthenticator;
 import com.worldline.connect.sdk.java.communication.Connection;
 import com.worldline.connect.sdk.java.communication.MetadataProvider;
-import com.worldline.connect.sdk.java.json.DefaultMarshaller;
 import com.worldline.connect.sdk.java.json.Marshaller;
 
 @SuppressWarnings("nls")
@@ -142,17 +146,20 @@ class ConnectSdkCommunicatorAutoConfigurationTest {
                     assertThat(context).hasBean("connectSdkCommunicator");
                     assertThat(context).hasSingleBean(Communicator.class);
                     Communicator communicator = context.getBean(Communicator.class);
-                    assertThat(communicator).isExactlyInstanceOf(Communicator.class);
+                    assertThat(communicator).isExactlyInstanceOf(DateCachingCommunicator.class);
                     assertThat(getFieldValue(communicator, "apiEndpoint"))
                             .isEqualTo(URI.create("https://api.preprod.connect.worldline-solutions.com"));
                     assertThat(getFieldValue(communicator, "authenticator"))
-                            .isSameAs(context.getBean(ConnectSdkAuthenticatorAutoConfiguration.class).connectSdkV1HMACAuthenticator());
+                            .isSameAs(context.getBean(ConnectSdkAuthenticatorAutoConfiguration.class).connectSdkV1HMACAuthenticator(false));
+                    // the auto-configured authenticator comes with a decorator for API key rotation
                     assertThat(getFieldValue(communicator, "connection"))
+                            .isExactlyInstanceOf(ApiKeyRotationConnection.class)
+                            .extracting("delegate")
                             .isSameAs(context.getBean(ConnectSdkConnectionAutoConfiguration.class).connectSdkConnection(null, null));
                     List<MetadataProviderBuilderCustomizer> customizers = Collections.emptyList();
                     assertThat(getFieldValue(communicator, "metadataProvider"))
                             .isSameAs(context.getBean(ConnectSdkMetadataProviderAutoConfiguration.class).connectSdkMetadataProvider(customizers));
-                    assertThat(communicator.getMarshaller()).isSameAs(DefaultMarshaller.INSTANCE);
+                    assertThat(communicator.getMarshaller()).isSameAs(context.getBean(Marshaller.class));
                 });
         contextRunner
                 .withUserConfiguration(CommunicatorComponentProvider.class)
@@ -161,7 +168,7 @@ class ConnectSdkCommunicatorAutoConfigurationTest {
                     assertThat(context).hasBean("connectSdkCommunicator");
                     assertThat(context).hasSingleBean(Communicator.class);
                     Communicator communicator = context.getBean(Communicator.class);
-                    assertThat(communicator).isExactlyInstanceOf(Communicator.class);
+                    assertThat(communicator).isExactlyInstanceOf(DateCachingCommunicator.class);
                     assertThat(communicator.getMarshaller()).isSameAs(context.getBean(CommunicatorComponentProvider.class).marshaller());
 
                     // verify that the provided connection is used
@@ -173,6 +180,46 @@ class ConnectSdkCommunicatorAutoConfigurationTest {
                 });
     }
 
+    @Test
+    void testAutoConfigurationWithDateHeaderCaching() {
+        contextRunner
+                .withUserConfiguration(CommunicatorComponentProvider.class)
+                .withPropertyValues("connect.api.endpoint.host=api.preprod.connect.worldline-solutions.com", "connect.api.cache-date-header=true")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(Communicator.class);
+                    assertThat(context).getBean(Communicator.class)
+                            .isExactlyInstanceOf(DateCachingCommunicator.class)
+                            .extracting(communicator -> ((DateCachingCommunicator) communicator).dateHeader())
+                            .isSameAs(CachedDateHeader.systemUTC());
+                });
+        contextRunner
+                .withUserConfiguration(CommunicatorComponentProvider.class)
+                .withPropertyValues("connect.api.endpoint.host=api.preprod.connect.worldline-solutions.com", "connect.api.cache-date-header=false")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(Communicator.class);
+                    assertThat(context).getBean(Communicator.class).isExactlyInstanceOf(Communicator.class);
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithConnectionDecorators() {
+        contextRunner
+                .withUserConfiguration(CommunicatorComponentProvider.class, ConnectionDecoratorProvider.class)
+                .withPropertyValues("connect.api.endpoint.host=api.preprod.connect.worldline-solutions.com")
+                .run(context -> {
+                    assertThat(context).hasBean("connectSdkCommunicator");
+                    Communicator communicator = context.getBean(Communicator.class);
+                    Connection connection = context.getBean(Connection.class);
+
+                    assertThat(getFieldValue(communicator, "connection"))
+                            .isExactlyInstanceOf(OuterConnection.class)
+                            .extracting("delegate")
+                            .isExactlyInstanceOf(DelegatingConnection.class)
+                            .extracting("delegate")
+                            .isSameAs(connection);
+                });
+    }
+
     private Object getFieldValue(Communicator communicator, String fieldName) {
         return assertDoesNotThrow(() -> {
             Field field = Communicator.class.getDeclaredField(fieldName);
@@ -213,4 +260,27 @@ class ConnectSdkCommunicatorAutoConfigurationTest {
             return mock(Marshaller.class);
         }
     }
+
+    @Configuration
+    static class ConnectionDecoratorProvider {
+
+        @Bean
+        @Order(2)
+        ConnectionDecorator outerConnectionDecorator() {
+            return OuterConnection::new;
+        }
+
+        @Bean
+        @Order(1)
+        ConnectionDecorator innerConnectionDecorator() {
+            return DelegatingConnection::new;
+        }
+    }
+
+    static final class OuterConnection extends DelegatingConnection {
+
+        OuterConnection(Connection delegate) {
+            super(delegate);
+        }
+    }
 }
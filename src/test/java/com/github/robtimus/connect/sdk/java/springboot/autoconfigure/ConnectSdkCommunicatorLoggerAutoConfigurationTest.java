@@ -27,11 +27,18 @@ import org.mockito.MockedStatic;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.FilteredClassLoader;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import com.github.robtimus.connect.sdk.java.springboot.logging.AsyncCommunicatorLogger;
+import com.github.robtimus.connect.sdk.java.springboot.logging.AsyncCommunicatorLogger.OverflowPolicy;
 import com.github.robtimus.connect.sdk.java.springboot.logging.LogbackCommunicatorLogger;
+import com.github.robtimus.connect.sdk.java.springboot.logging.StructuredCommunicatorLogger;
 import com.worldline.connect.sdk.java.logging.CommunicatorLogger;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @SuppressWarnings("nls")
 class ConnectSdkCommunicatorLoggerAutoConfigurationTest {
@@ -74,6 +81,71 @@ class ConnectSdkCommunicatorLoggerAutoConfigurationTest {
                     assertThat(context).hasBean("connectSdkCommunicatorLogger");
                     assertThat(context).hasSingleBean(CommunicatorLogger.class);
                     assertThat(context).getBean(CommunicatorLogger.class).isInstanceOf(LogbackCommunicatorLogger.class);
+                    assertThat(context).doesNotHaveBean("connectSdkCommunicatorLoggerMetrics");
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithAsync() {
+        contextRunner
+                .withPropertyValues("connect.api.logger.async.enabled=true", "connect.api.logger.async.capacity=100",
+                        "connect.api.logger.async.overflow-policy=sample", "connect.api.logger.async.sample-rate=5")
+                .run(context -> {
+                    assertThat(context).hasBean("connectSdkCommunicatorLogger");
+                    assertThat(context).hasSingleBean(CommunicatorLogger.class);
+                    assertThat(context).getBean(CommunicatorLogger.class).isInstanceOf(AsyncCommunicatorLogger.class);
+
+                    AsyncCommunicatorLogger logger = context.getBean(AsyncCommunicatorLogger.class);
+                    assertThat(logger.delegate()).isInstanceOf(LogbackCommunicatorLogger.class);
+                    assertThat(logger.capacity()).isEqualTo(128);
+                    assertThat(logger.overflowPolicy()).isEqualTo(OverflowPolicy.SAMPLE);
+
+                    assertThat(context).hasBean("connectSdkCommunicatorLoggerMetrics");
+
+                    MeterRegistry registry = new SimpleMeterRegistry();
+                    context.getBean("connectSdkCommunicatorLoggerMetrics", MeterBinder.class).bindTo(registry);
+                    assertThat(registry.find("connect.sdk.logger.dropped").functionCounter()).isNotNull();
+                    assertThat(registry.find("connect.sdk.logger.pending").gauge()).isNotNull();
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithStructured() {
+        contextRunner
+                .withPropertyValues("connect.api.logger.structured.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasBean("connectSdkCommunicatorLogger");
+                    assertThat(context).hasSingleBean(CommunicatorLogger.class);
+                    assertThat(context).getBean(CommunicatorLogger.class).isInstanceOf(StructuredCommunicatorLogger.class);
+
+                    StructuredCommunicatorLogger logger = context.getBean(StructuredCommunicatorLogger.class);
+                    assertThat(logger.maxBodySize()).isEqualTo(StructuredCommunicatorLogger.DEFAULT_MAX_BODY_SIZE);
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithStructuredAndAsync() {
+        contextRunner
+                .withPropertyValues("connect.api.logger.structured.enabled=true", "connect.api.logger.structured.max-body-size=100",
+                        "connect.api.logger.async.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(CommunicatorLogger.class);
+                    assertThat(context).getBean(CommunicatorLogger.class).isInstanceOf(AsyncCommunicatorLogger.class);
+
+                    AsyncCommunicatorLogger logger = context.getBean(AsyncCommunicatorLogger.class);
+                    assertThat(logger.delegate()).isInstanceOf(StructuredCommunicatorLogger.class);
+                    assertThat(((StructuredCommunicatorLogger) logger.delegate()).maxBodySize()).isEqualTo(100);
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithAsyncWithoutMicrometer() {
+        contextRunner
+                .withClassLoader(new FilteredClassLoader(MeterBinder.class))
+                .withPropertyValues("connect.api.logger.async.enabled=true")
+                .run(context -> {
+                    assertThat(context).getBean(CommunicatorLogger.class).isInstanceOf(AsyncCommunicatorLogger.class);
+                    assertThat(context).doesNotHaveBean("connectSdkCommunicatorLoggerMetrics");
                 });
     }
 
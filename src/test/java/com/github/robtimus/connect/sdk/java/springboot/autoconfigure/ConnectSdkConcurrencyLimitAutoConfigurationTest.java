@@ -0,0 +1,126 @@
+/*
+ * ConnectSdkConcurrencyLimitAutoConfigurationTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.github.robtimus.connect.sdk.java.springboot.communication.AdaptiveConcurrencyLimiter;
+import com.github.robtimus.connect.sdk.java.springboot.communication.ConcurrencyLimitedConnection;
+import com.github.robtimus.connect.sdk.java.springboot.metrics.ConcurrencyLimiterMetrics;
+import com.worldline.connect.sdk.java.communication.Connection;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@SuppressWarnings("nls")
+class ConnectSdkConcurrencyLimitAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ConnectSdkConcurrencyLimitAutoConfiguration.class));
+
+    @Test
+    void testNoAutoConfigurationByDefault() {
+        contextRunner
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(AdaptiveConcurrencyLimiter.class);
+                    assertThat(context).doesNotHaveBean(ConnectionDecorator.class);
+                    assertThat(context).doesNotHaveBean(ConcurrencyLimiterMetrics.class);
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithDefaults() {
+        contextRunner
+                .withPropertyValues("connect.api.concurrency-limit.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasBean("connectSdkConcurrencyLimiter");
+                    assertThat(context).hasBean("connectSdkConcurrencyLimitDecorator");
+                    assertThat(context).hasBean("connectSdkConcurrencyLimiterMetrics");
+
+                    AdaptiveConcurrencyLimiter limiter = context.getBean(AdaptiveConcurrencyLimiter.class);
+                    assertThat(limiter.limit()).isEqualTo(20);
+                    assertThat(limiter.minLimit()).isEqualTo(1);
+                    assertThat(limiter.maxLimit()).isEqualTo(200);
+                    assertThat(limiter.latencyThreshold()).isEqualTo(Duration.ofSeconds(5));
+                    assertThat(limiter.maxWait()).isEqualTo(Duration.ZERO);
+
+                    Connection connection = mock(Connection.class);
+                    assertThat(context.getBean(ConnectionDecorator.class).decorate(connection))
+                            .isInstanceOf(ConcurrencyLimitedConnection.class)
+                            .satisfies(c -> assertThat(((ConcurrencyLimitedConnection) c).delegate()).isSameAs(connection))
+                            .satisfies(c -> assertThat(((ConcurrencyLimitedConnection) c).limiter()).isSameAs(limiter));
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithProperties() {
+        contextRunner
+                .withPropertyValues("connect.api.concurrency-limit.enabled=true",
+                        "connect.api.concurrency-limit.initial-limit=5",
+                        "connect.api.concurrency-limit.min-limit=2",
+                        "connect.api.concurrency-limit.max-limit=50",
+                        "connect.api.concurrency-limit.latency-threshold=1000",
+                        "connect.api.concurrency-limit.max-wait=100")
+                .run(context -> {
+                    AdaptiveConcurrencyLimiter limiter = context.getBean(AdaptiveConcurrencyLimiter.class);
+                    assertThat(limiter.limit()).isEqualTo(5);
+                    assertThat(limiter.minLimit()).isEqualTo(2);
+                    assertThat(limiter.maxLimit()).isEqualTo(50);
+                    assertThat(limiter.latencyThreshold()).isEqualTo(Duration.ofSeconds(1));
+                    assertThat(limiter.maxWait()).isEqualTo(Duration.ofMillis(100));
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithExistingLimiter() {
+        contextRunner
+                .withPropertyValues("connect.api.concurrency-limit.enabled=true")
+                .withUserConfiguration(ExistingLimiterProvider.class)
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean("connectSdkConcurrencyLimiter");
+                    assertThat(context).getBean(AdaptiveConcurrencyLimiter.class)
+                            .isSameAs(context.getBean(ExistingLimiterProvider.class).limiter());
+                    assertThat(context).hasSingleBean(ConnectionDecorator.class);
+                });
+    }
+
+    @Test
+    void testNoMetricsWithoutMicrometer() {
+        contextRunner
+                .withClassLoader(new FilteredClassLoader(MeterBinder.class))
+                .withPropertyValues("connect.api.concurrency-limit.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(AdaptiveConcurrencyLimiter.class);
+                    assertThat(context).doesNotHaveBean("connectSdkConcurrencyLimiterMetrics");
+                });
+    }
+
+    @Configuration
+    static class ExistingLimiterProvider {
+
+        @Bean
+        AdaptiveConcurrencyLimiter limiter() {
+            return new AdaptiveConcurrencyLimiter(10, 1, 10, Duration.ofSeconds(1), Duration.ZERO);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * ConnectSdkConcurrencyLimitEndpointAutoConfigurationTest.java
+ * Copyright 2019 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.github.robtimus.connect.sdk.java.springboot.actuator.ConcurrencyLimitEndpoint;
+import com.github.robtimus.connect.sdk.java.springboot.communication.AdaptiveConcurrencyLimiter;
+
+@SuppressWarnings("nls")
+class ConnectSdkConcurrencyLimitEndpointAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ConnectSdkConcurrencyLimitEndpointAutoConfiguration.class))
+            .withPropertyValues("management.endpoint.connectSdkConcurrencyLimit.access=READ_ONLY",
+                    "management.endpoints.web.exposure.include=connectSdkConcurrencyLimit");
+
+    @Test
+    void testNoAutoConfigurationWithoutLimiter() {
+        contextRunner
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(ConcurrencyLimitEndpoint.class);
+                });
+    }
+
+    @Test
+    void testNoAutoConfigurationWithoutAvailableEndpoint() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(ConnectSdkConcurrencyLimitEndpointAutoConfiguration.class))
+                .withUserConfiguration(LimiterProvider.class)
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(ConcurrencyLimitEndpoint.class);
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithAvailableEndpoint() {
+        contextRunner
+                .withUserConfiguration(LimiterProvider.class)
+                .run(context -> {
+                    assertThat(context).hasBean("connectSdkConcurrencyLimitEndpoint");
+                    assertThat(context).hasSingleBean(ConcurrencyLimitEndpoint.class);
+                });
+    }
+
+    @Configuration
+    static class LimiterProvider {
+
+        @Bean
+        AdaptiveConcurrencyLimiter limiter() {
+            return new AdaptiveConcurrencyLimiter(10, 1, 10, Duration.ofSeconds(1), Duration.ZERO);
+        }
+    }
+}
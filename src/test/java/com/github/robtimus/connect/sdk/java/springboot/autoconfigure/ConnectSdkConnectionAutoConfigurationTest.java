@@ -20,21 +20,35 @@ package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.InstanceOfAssertFactories.atomicReference;
 import static org.mockito.Mockito.mock;
+import java.net.http.HttpClient;
+import java.time.Duration;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import com.github.robtimus.connect.sdk.java.springboot.communication.IdleConnectionEvictor;
+import com.github.robtimus.connect.sdk.java.springboot.communication.JdkHttpClientConnection;
+import com.worldline.connect.sdk.java.CommunicatorConfiguration;
 import com.worldline.connect.sdk.java.communication.Connection;
 import com.worldline.connect.sdk.java.communication.DefaultConnection;
 import com.worldline.connect.sdk.java.communication.PooledConnection;
 import com.worldline.connect.sdk.java.logging.BodyObfuscator;
 import com.worldline.connect.sdk.java.logging.HeaderObfuscator;
 
+@ExtendWith(OutputCaptureExtension.class)
 @SuppressWarnings("nls")
 class ConnectSdkConnectionAutoConfigurationTest {
 
+    private static final String VIRTUAL_THREADS_WARNING = "Virtual threads are enabled but no connection type is configured";
+
     private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
             .withConfiguration(AutoConfigurations.of(ConnectSdkConnectionAutoConfiguration.class));
 
@@ -72,7 +86,7 @@ class ConnectSdkConnectionAutoConfigurationTest {
                                 .asInstanceOf(atomicReference(HeaderObfuscator.class))
                                 .doesNotHaveValue(null)
                                 .doesNotHaveValue(HeaderObfuscatorProvider.HEADER_OBFUSCATOR);
-                        assertThat(context).hasSingleBean(ConnectSdkConnectionAutoConfiguration.ConnectionManager.class);
+                        assertThat(context).hasSingleBean(IdleConnectionEvictor.class);
                     });
         }
 
@@ -93,7 +107,7 @@ class ConnectSdkConnectionAutoConfigurationTest {
                                 .asInstanceOf(atomicReference(HeaderObfuscator.class))
                                 .doesNotHaveValue(null)
                                 .doesNotHaveValue(HeaderObfuscatorProvider.HEADER_OBFUSCATOR);
-                        assertThat(context).hasSingleBean(ConnectSdkConnectionAutoConfiguration.ConnectionManager.class);
+                        assertThat(context).hasSingleBean(IdleConnectionEvictor.class);
                     });
         }
 
@@ -114,7 +128,190 @@ class ConnectSdkConnectionAutoConfigurationTest {
                         assertThat(context).getBean(Connection.class).extracting("headerObfuscator")
                                 .asInstanceOf(atomicReference(HeaderObfuscator.class))
                                 .hasValue(HeaderObfuscatorProvider.HEADER_OBFUSCATOR);
-                        assertThat(context).hasSingleBean(ConnectSdkConnectionAutoConfiguration.ConnectionManager.class);
+                        assertThat(context).hasSingleBean(IdleConnectionEvictor.class);
+                    });
+        }
+
+        @Test
+        void testJdkHttpClient() {
+            contextRunner
+                    .withPropertyValues("connect.api.connection-type=jdk-http-client", "connect.api.proxy.uri=http://proxy-host:8080",
+                            "connect.api.proxy.username=proxy-user", "connect.api.proxy.password=proxy-pass",
+                            "connect.api.request-timeout=1000")
+                    .withSystemProperties("jdk.http.auth.tunneling.disabledSchemes=")
+                    .withUserConfiguration(BodyObfuscatorProvider.class, HeaderObfuscatorProvider.class)
+                    .run(context -> {
+                        assertThat(context).hasBean("connectSdkConnection");
+                        assertThat(context).hasSingleBean(Connection.class);
+                        assertThat(context).hasSingleBean(PooledConnection.class);
+                        assertThat(context).getBean(Connection.class).isExactlyInstanceOf(JdkHttpClientConnection.class);
+                        assertThat(context).getBean(Connection.class).isSameAs(context.getBean(PooledConnection.class));
+                        assertThat(context).getBean(Connection.class).extracting("bodyObfuscator")
+                                .asInstanceOf(atomicReference(BodyObfuscator.class))
+                                .hasValue(BodyObfuscatorProvider.BODY_OBFUSCATOR);
+                        assertThat(context).getBean(Connection.class).extracting("headerObfuscator")
+                                .asInstanceOf(atomicReference(HeaderObfuscator.class))
+                                .hasValue(HeaderObfuscatorProvider.HEADER_OBFUSCATOR);
+
+                        HttpClient httpClient = context.getBean(JdkHttpClientConnection.class).httpClient();
+                        assertThat(httpClient.version()).isEqualTo(HttpClient.Version.HTTP_2);
+                        assertThat(httpClient.executor()).isEmpty();
+                        assertThat(httpClient.connectTimeout()).hasValue(Duration.ofSeconds(5));
+                        assertThat(httpClient.proxy()).isPresent();
+                        assertThat(httpClient.authenticator()).isPresent();
+                        assertThat(httpClient.sslParameters().getProtocols())
+                                .containsExactlyInAnyOrderElementsOf(CommunicatorConfiguration.DEFAULT_HTTPS_PROTOCOLS);
+                        assertThat(context).getBean(Connection.class).extracting("requestTimeout").isEqualTo(Duration.ofSeconds(1));
+
+                        assertThat(context).hasSingleBean(IdleConnectionEvictor.class);
+                    });
+        }
+
+        @Test
+        void testJdkHttpClientWithProxyAuthenticationWithBasicTunnelingDisabled() {
+            contextRunner
+                    .withPropertyValues("connect.api.connection-type=jdk-http-client", "connect.api.proxy.uri=http://proxy-host:8080",
+                            "connect.api.proxy.username=proxy-user", "connect.api.proxy.password=proxy-pass")
+                    .withSystemProperties("jdk.http.auth.tunneling.disabledSchemes=Digest, basic")
+                    .run(context -> {
+                        assertThat(context).hasFailed();
+                        assertThat(context).getFailure()
+                                .rootCause()
+                                .isInstanceOf(IllegalStateException.class)
+                                .hasMessageContaining("jdk.http.auth.tunneling.disabledSchemes");
+                    });
+        }
+
+        @Test
+        void testJdkHttpClientWithSocketTimeout() {
+            contextRunner
+                    .withPropertyValues("connect.api.connection-type=jdk-http-client", "connect.api.socket-timeout=1000")
+                    .run(context -> {
+                        assertThat(context).hasFailed();
+                        assertThat(context).getFailure()
+                                .rootCause()
+                                .isInstanceOf(IllegalStateException.class)
+                                .hasMessage("Property 'connect.api.socket-timeout' is not supported for connection type jdk-http-client");
+                    });
+        }
+
+        @Test
+        void testJdkHttpClientWithMaxConnections() {
+            contextRunner
+                    .withPropertyValues("connect.api.connection-type=jdk-http-client", "connect.api.max-connections=20")
+                    .run(context -> {
+                        assertThat(context).hasFailed();
+                        assertThat(context).getFailure()
+                                .rootCause()
+                                .isInstanceOf(IllegalStateException.class)
+                                .hasMessage("Property 'connect.api.max-connections' is not supported for connection type jdk-http-client");
+                    });
+        }
+
+        @Test
+        void testJdkHttpClientWithConnectionReuse() {
+            contextRunner
+                    .withPropertyValues("connect.api.connection-type=jdk-http-client", "connect.api.connection-reuse=false")
+                    .run(context -> {
+                        assertThat(context).hasFailed();
+                        assertThat(context).getFailure()
+                                .rootCause()
+                                .isInstanceOf(IllegalStateException.class)
+                                .hasMessage("Property 'connect.api.connection-reuse' is not supported for connection type jdk-http-client");
+                    });
+        }
+
+        @Test
+        @EnabledForJreRange(min = JRE.JAVA_21)
+        void testVirtualThreads(CapturedOutput output) {
+            contextRunner
+                    .withPropertyValues("spring.threads.virtual.enabled=true")
+                    .run(context -> {
+                        assertThat(context).hasBean("connectSdkConnection");
+                        assertThat(context).hasSingleBean(Connection.class);
+                        assertThat(context).getBean(Connection.class).isExactlyInstanceOf(DefaultConnection.class);
+                    });
+
+            assertThat(output).contains(VIRTUAL_THREADS_WARNING);
+        }
+
+        @Test
+        @EnabledForJreRange(min = JRE.JAVA_21)
+        void testVirtualThreadsWithDefault(CapturedOutput output) {
+            contextRunner
+                    .withPropertyValues("spring.threads.virtual.enabled=true", "connect.api.connection-type=default")
+                    .run(context -> {
+                        assertThat(context).hasBean("connectSdkConnection");
+                        assertThat(context).hasSingleBean(Connection.class);
+                        assertThat(context).getBean(Connection.class).isExactlyInstanceOf(DefaultConnection.class);
+                    });
+
+            assertThat(output).doesNotContain(VIRTUAL_THREADS_WARNING);
+        }
+
+        @Test
+        void testAutoWithoutVirtualThreads(CapturedOutput output) {
+            contextRunner
+                    .withPropertyValues("connect.api.connection-type=auto")
+                    .run(context -> {
+                        assertThat(context).hasBean("connectSdkConnection");
+                        assertThat(context).hasSingleBean(Connection.class);
+                        assertThat(context).hasSingleBean(PooledConnection.class);
+                        assertThat(context).getBean(Connection.class).isExactlyInstanceOf(DefaultConnection.class);
+                    });
+
+            assertThat(output).doesNotContain(VIRTUAL_THREADS_WARNING);
+        }
+
+        @Test
+        @EnabledForJreRange(min = JRE.JAVA_21)
+        void testAutoWithVirtualThreads(CapturedOutput output) {
+            contextRunner
+                    .withPropertyValues("spring.threads.virtual.enabled=true", "connect.api.connection-type=auto")
+                    .run(context -> {
+                        assertThat(context).hasBean("connectSdkConnection");
+                        assertThat(context).hasSingleBean(Connection.class);
+                        assertThat(context).hasSingleBean(PooledConnection.class);
+                        assertThat(context).getBean(Connection.class).isExactlyInstanceOf(JdkHttpClientConnection.class);
+
+                        HttpClient httpClient = context.getBean(JdkHttpClientConnection.class).httpClient();
+                        assertThat(httpClient.executor()).containsInstanceOf(SimpleAsyncTaskExecutor.class);
+                        assertThat(httpClient.executor().get()).extracting("virtualThreadDelegate").isNotNull();
+                    });
+
+            assertThat(output).doesNotContain(VIRTUAL_THREADS_WARNING);
+        }
+
+        @Test
+        @EnabledForJreRange(min = JRE.JAVA_21)
+        void testAutoWithVirtualThreadsAndMaxConnections() {
+            contextRunner
+                    .withPropertyValues("spring.threads.virtual.enabled=true", "connect.api.connection-type=auto", "connect.api.max-connections=20")
+                    .run(context -> {
+                        assertThat(context).hasFailed();
+                        assertThat(context).getFailure()
+                                .rootCause()
+                                .isInstanceOf(IllegalStateException.class)
+                                .hasMessage("Property 'connect.api.max-connections' is not supported for connection type jdk-http-client");
+                    });
+        }
+
+        @Test
+        @EnabledForJreRange(min = JRE.JAVA_21)
+        void testVirtualThreadsWithJdkHttpClient() {
+            contextRunner
+                    .withPropertyValues("spring.threads.virtual.enabled=true", "connect.api.connection-type=jdk-http-client")
+                    .run(context -> {
+                        assertThat(context).hasBean("connectSdkConnection");
+                        assertThat(context).hasSingleBean(Connection.class);
+                        assertThat(context).hasSingleBean(PooledConnection.class);
+                        assertThat(context).getBean(Connection.class).isExactlyInstanceOf(JdkHttpClientConnection.class);
+                        assertThat(context).getBean(Connection.class).isSameAs(context.getBean(PooledConnection.class));
+
+                        HttpClient httpClient = context.getBean(JdkHttpClientConnection.class).httpClient();
+                        assertThat(httpClient.executor()).containsInstanceOf(SimpleAsyncTaskExecutor.class);
+                        assertThat(httpClient.executor().get()).extracting("virtualThreadDelegate").isNotNull();
+                        assertThat(context).getBean(Connection.class).extracting("executor").isSameAs(httpClient.executor().get());
                     });
         }
 
@@ -122,15 +319,29 @@ class ConnectSdkConnectionAutoConfigurationTest {
         void testCloseIdleConnectionsEnabled() {
             contextRunner
                     .withPropertyValues("connect.api.close-idle-connections.enabled=true", "connect.api.close-idle-connections.idle-time=10",
-                            "connect.api.close-idle-connections.interval=10")
+                            "connect.api.close-idle-connections.min-idle-time=5", "connect.api.close-idle-connections.interval=10")
                     .run(context -> {
                         assertThat(context).hasBean("connectSdkConnection");
                         assertThat(context).hasSingleBean(Connection.class);
                         assertThat(context).hasSingleBean(PooledConnection.class);
                         assertThat(context).getBean(Connection.class).isExactlyInstanceOf(DefaultConnection.class);
                         assertThat(context).getBean(Connection.class).isSameAs(context.getBean(PooledConnection.class));
-                        assertThat(context).hasSingleBean(ConnectSdkConnectionAutoConfiguration.ConnectionManager.class);
-                        // Note: it's currently not possible to test that idle connections have been closed after 10 seconds
+                        assertThat(context).hasSingleBean(IdleConnectionEvictor.class);
+                        assertThat(context).getBean(IdleConnectionEvictor.class).extracting("minIdleTime").isEqualTo(5L);
+                        assertThat(context).getBean(IdleConnectionEvictor.class).extracting("maxIdleTime").isEqualTo(10L);
+                        assertThat(context).getBean(IdleConnectionEvictor.class).extracting("interval").isEqualTo(10L);
+                        // Note: it's currently not possible to test that idle connections have been closed after 10 milliseconds
+                    });
+        }
+
+        @Test
+        void testCloseIdleConnectionsWithDefaultMinIdleTime() {
+            contextRunner
+                    .withPropertyValues("connect.api.close-idle-connections.idle-time=0")
+                    .run(context -> {
+                        assertThat(context).hasSingleBean(IdleConnectionEvictor.class);
+                        assertThat(context).getBean(IdleConnectionEvictor.class).extracting("minIdleTime").isEqualTo(0L);
+                        assertThat(context).getBean(IdleConnectionEvictor.class).extracting("maxIdleTime").isEqualTo(0L);
                     });
         }
 
@@ -144,7 +355,7 @@ class ConnectSdkConnectionAutoConfigurationTest {
                         assertThat(context).hasSingleBean(PooledConnection.class);
                         assertThat(context).getBean(Connection.class).isExactlyInstanceOf(DefaultConnection.class);
                         assertThat(context).getBean(Connection.class).isSameAs(context.getBean(PooledConnection.class));
-                        assertThat(context).doesNotHaveBean(ConnectSdkConnectionAutoConfiguration.ConnectionManager.class);
+                        assertThat(context).doesNotHaveBean(IdleConnectionEvictor.class);
                     });
         }
     }
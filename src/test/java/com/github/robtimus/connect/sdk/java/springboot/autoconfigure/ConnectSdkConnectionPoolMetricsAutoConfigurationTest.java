@@ -0,0 +1,100 @@
+/*
+ * ConnectSdkConnectionPoolMetricsAutoConfigurationTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.github.robtimus.connect.sdk.java.springboot.metrics.ConnectionPoolMetrics;
+import com.worldline.connect.sdk.java.communication.Connection;
+import com.worldline.connect.sdk.java.communication.PooledConnection;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@SuppressWarnings("nls")
+class ConnectSdkConnectionPoolMetricsAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ConnectSdkConnectionAutoConfiguration.class,
+                    ConnectSdkConnectionPoolMetricsAutoConfiguration.class));
+
+    @Test
+    void testNoAutoConfigurationWithExistingBean() {
+        contextRunner
+                .withUserConfiguration(ExistingBeanProvider.class)
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean("connectSdkConnectionPoolMetrics");
+                    assertThat(context).hasSingleBean(ConnectionPoolMetrics.class);
+                    assertThat(context).getBean(ConnectionPoolMetrics.class)
+                            .isSameAs(context.getBean(ExistingBeanProvider.class).connectionPoolMetrics());
+                });
+    }
+
+    @Test
+    void testNoAutoConfigurationWithoutMicrometer() {
+        contextRunner
+                .withClassLoader(new FilteredClassLoader(MeterBinder.class))
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(ConnectionPoolMetrics.class);
+                });
+    }
+
+    @Test
+    void testNoAutoConfigurationWithNonPooledConnection() {
+        contextRunner
+                .withUserConfiguration(ConnectionProvider.class)
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(ConnectionPoolMetrics.class);
+                });
+    }
+
+    @Test
+    void testAutoConfiguration() {
+        contextRunner
+                .run(context -> {
+                    assertThat(context).hasBean("connectSdkConnectionPoolMetrics");
+                    assertThat(context).hasSingleBean(ConnectionPoolMetrics.class);
+                    assertThat(context).getBean(ConnectionPoolMetrics.class)
+                            .extracting(ConnectionPoolMetrics::isSupported)
+                            .isEqualTo(true);
+                });
+    }
+
+    @Configuration
+    static class ExistingBeanProvider {
+
+        @Bean
+        ConnectionPoolMetrics connectionPoolMetrics() {
+            return new ConnectionPoolMetrics(mock(PooledConnection.class), Collections.emptyList());
+        }
+    }
+
+    @Configuration
+    static class ConnectionProvider {
+
+        @Bean
+        Connection connection() {
+            return mock(Connection.class);
+        }
+    }
+}
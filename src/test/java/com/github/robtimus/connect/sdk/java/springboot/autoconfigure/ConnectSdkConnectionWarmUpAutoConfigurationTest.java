@@ -0,0 +1,124 @@
+/*
+ * ConnectSdkConnectionWarmUpAutoConfigurationTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.github.robtimus.connect.sdk.java.springboot.ConnectionWarmUp;
+import com.worldline.connect.sdk.java.v1.merchant.MerchantClient;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@SuppressWarnings("nls")
+class ConnectSdkConnectionWarmUpAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ConnectSdkConnectionWarmUpAutoConfiguration.class));
+
+    @Test
+    void testNoAutoConfigurationWithExistingBean() {
+        contextRunner
+                .withUserConfiguration(ExistingBeanProvider.class, MerchantClientProvider.class)
+                .withPropertyValues("connect.api.warm-up.connections=2")
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean("connectSdkConnectionWarmUp");
+                    assertThat(context).hasSingleBean(ConnectionWarmUp.class);
+                    assertThat(context).getBean(ConnectionWarmUp.class)
+                            .isSameAs(context.getBean(ExistingBeanProvider.class).connectionWarmUp());
+                });
+    }
+
+    @Test
+    void testNoAutoConfigurationWithMissingProperty() {
+        contextRunner
+                .withUserConfiguration(MerchantClientProvider.class)
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(ConnectionWarmUp.class);
+                });
+    }
+
+    @Test
+    void testNoAutoConfigurationWithZeroConnections() {
+        contextRunner
+                .withUserConfiguration(MerchantClientProvider.class)
+                .withPropertyValues("connect.api.warm-up.connections=0")
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    assertThat(context).doesNotHaveBean(ConnectionWarmUp.class);
+                });
+    }
+
+    @Test
+    void testNoAutoConfigurationWithMissingMerchantClient() {
+        contextRunner
+                .withPropertyValues("connect.api.warm-up.connections=2")
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(ConnectionWarmUp.class);
+                });
+    }
+
+    @Test
+    void testAutoConfiguration() {
+        contextRunner
+                .withUserConfiguration(MerchantClientProvider.class)
+                .withPropertyValues("connect.api.warm-up.connections=2", "connect.api.warm-up.timeout=5000")
+                .run(context -> {
+                    assertThat(context).hasBean("connectSdkConnectionWarmUp");
+                    assertThat(context).hasSingleBean(ConnectionWarmUp.class);
+                    assertThat(context).getBean(ConnectionWarmUp.class).extracting("connections").isEqualTo(2);
+                    assertThat(context).getBean(ConnectionWarmUp.class).extracting("timeout").isEqualTo(Duration.ofSeconds(5));
+                    assertThat(context).hasBean("connectSdkConnectionWarmUpMetrics");
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithoutMicrometer() {
+        contextRunner
+                .withClassLoader(new FilteredClassLoader(MeterBinder.class))
+                .withUserConfiguration(MerchantClientProvider.class)
+                .withPropertyValues("connect.api.warm-up.connections=2")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(ConnectionWarmUp.class);
+                    assertThat(context).doesNotHaveBean("connectSdkConnectionWarmUpMetrics");
+                });
+    }
+
+    @Configuration
+    static class ExistingBeanProvider {
+
+        @Bean
+        ConnectionWarmUp connectionWarmUp() {
+            return mock(ConnectionWarmUp.class);
+        }
+    }
+
+    @Configuration
+    static class MerchantClientProvider {
+
+        @Bean
+        MerchantClient merchantClient() {
+            return mock(MerchantClient.class);
+        }
+    }
+}
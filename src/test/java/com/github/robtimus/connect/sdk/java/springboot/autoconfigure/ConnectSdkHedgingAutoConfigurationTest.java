@@ -0,0 +1,212 @@
+/*
+ * ConnectSdkHedgingAutoConfigurationTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import com.github.robtimus.connect.sdk.java.springboot.communication.HedgedConnection;
+import com.github.robtimus.connect.sdk.java.springboot.communication.HedgingPolicy;
+import com.github.robtimus.connect.sdk.java.springboot.metrics.HedgingMetrics;
+import com.worldline.connect.sdk.java.communication.Connection;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@SuppressWarnings("nls")
+class ConnectSdkHedgingAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ConnectSdkHedgingAutoConfiguration.class))
+            .withBean(Connection.class, () -> mock(Connection.class));
+
+    @Test
+    void testNoAutoConfigurationByDefault() {
+        contextRunner
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(HedgingPolicy.class);
+                    assertThat(context).doesNotHaveBean(ConnectionDecorator.class);
+                    assertThat(context).doesNotHaveBean(HedgingMetrics.class);
+                    assertThat(context).doesNotHaveBean("connectSdkHedgingExecutor");
+                });
+    }
+
+    @Test
+    void testNoAutoConfigurationWithoutConnection() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(ConnectSdkHedgingAutoConfiguration.class))
+                .withPropertyValues("connect.api.hedging.enabled=true")
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(HedgingPolicy.class);
+                    assertThat(context).doesNotHaveBean(ConnectionDecorator.class);
+                    assertThat(context).doesNotHaveBean("connectSdkHedgingExecutor");
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithDefaults() {
+        contextRunner
+                .withPropertyValues("connect.api.hedging.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasBean("connectSdkHedgingPolicy");
+                    assertThat(context).hasBean("connectSdkHedgingDecorator");
+                    assertThat(context).hasBean("connectSdkHedgingExecutor");
+                    assertThat(context).hasBean("connectSdkHedgingMetrics");
+
+                    HedgingPolicy policy = context.getBean(HedgingPolicy.class);
+                    assertThat(policy.percentile()).isEqualTo(95);
+                    assertThat(policy.delay()).isEqualTo(Duration.ofSeconds(1));
+
+                    Connection connection = mock(Connection.class);
+                    try (HedgedConnection hedgedConnection = (HedgedConnection) context.getBean(ConnectionDecorator.class).decorate(connection)) {
+                        assertThat(hedgedConnection.delegate()).isSameAs(connection);
+                        assertThat(hedgedConnection.policy()).isSameAs(policy);
+                        assertThat(hedgedConnection.idempotentPostTemplates()).containsExactly("/v1/{merchantId}/services/getIINdetails");
+                        assertThat(hedgedConnection).extracting("executor")
+                                .isSameAs(context.getBean("connectSdkHedgingExecutor"))
+                                .asInstanceOf(InstanceOfAssertFactories.type(ThreadPoolExecutor.class))
+                                .satisfies(executor -> {
+                                    assertThat(executor.getMaximumPoolSize()).isEqualTo(20);
+                                    assertThat(executor.getQueue().remainingCapacity()).isZero();
+                                    assertThat(executor.getThreadFactory().newThread(() -> { /* nothing */ }).isDaemon()).isTrue();
+                                });
+                    }
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithProperties() {
+        contextRunner
+                .withPropertyValues("connect.api.hedging.enabled=true",
+                        "connect.api.hedging.percentile=99",
+                        "connect.api.hedging.min-delay=500",
+                        "connect.api.hedging.initial-delay=200",
+                        "connect.api.hedging.idempotent-posts=/v1/{merchantId}/services/convert/amount,/v1/{merchantId}/services/getIINdetails",
+                        "connect.api.hedging.max-threads=5")
+                .run(context -> {
+                    HedgingPolicy policy = context.getBean(HedgingPolicy.class);
+                    assertThat(policy.percentile()).isEqualTo(99);
+                    // the initial delay is less than the minimum delay
+                    assertThat(policy.delay()).isEqualTo(Duration.ofMillis(500));
+
+                    Connection connection = mock(Connection.class);
+                    try (HedgedConnection hedgedConnection = (HedgedConnection) context.getBean(ConnectionDecorator.class).decorate(connection)) {
+                        assertThat(hedgedConnection.idempotentPostTemplates())
+                                .containsExactlyInAnyOrder("/v1/{merchantId}/services/convert/amount", "/v1/{merchantId}/services/getIINdetails");
+                        assertThat(hedgedConnection).extracting("executor")
+                                .isSameAs(context.getBean("connectSdkHedgingExecutor"))
+                                .asInstanceOf(InstanceOfAssertFactories.type(ThreadPoolExecutor.class))
+                                .satisfies(executor -> {
+                                    assertThat(executor.getMaximumPoolSize()).isEqualTo(5);
+                                    assertThat(executor.getQueue().remainingCapacity()).isZero();
+                                    assertThat(executor.getThreadFactory().newThread(() -> { /* nothing */ }).isDaemon()).isTrue();
+                                });
+                    }
+                });
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void testVirtualThreads() {
+        contextRunner
+                .withPropertyValues("connect.api.hedging.enabled=true", "spring.threads.virtual.enabled=true")
+                .run(context -> {
+                    assertThat(context).getBean("connectSdkHedgingExecutor")
+                            .asInstanceOf(InstanceOfAssertFactories.type(ThreadPoolExecutor.class))
+                            .satisfies(executor -> {
+                                // virtual threads are bounded as well
+                                assertThat(executor.getMaximumPoolSize()).isEqualTo(20);
+                                assertThat(executor.getQueue().remainingCapacity()).isZero();
+                                Thread thread = executor.getThreadFactory().newThread(() -> { /* nothing */ });
+                                assertThat(thread.getClass().getSimpleName()).isEqualTo("VirtualThread");
+                                assertThat(thread.getName()).startsWith("connect-sdk-hedging-");
+                            });
+                });
+    }
+
+    @Test
+    void testCustomExecutor() {
+        Executor customExecutor = Runnable::run;
+        contextRunner
+                .withPropertyValues("connect.api.hedging.enabled=true")
+                .withBean("connectSdkHedgingExecutor", Executor.class, () -> customExecutor)
+                .run(context -> {
+                    assertThat(context).getBean("connectSdkHedgingExecutor").isSameAs(customExecutor);
+
+                    Connection connection = mock(Connection.class);
+                    try (HedgedConnection hedgedConnection = (HedgedConnection) context.getBean(ConnectionDecorator.class).decorate(connection)) {
+                        assertThat(hedgedConnection).extracting("executor").isSameAs(customExecutor);
+                    }
+                });
+    }
+
+    @Test
+    void testExecutorIsShutDownBeforeConnectionIsClosed() {
+        AtomicBoolean executorShutDownOnClose = new AtomicBoolean();
+        contextRunner
+                .withPropertyValues("connect.api.hedging.enabled=true")
+                .run(context -> {
+                    ThreadPoolExecutor executor = context.getBean("connectSdkHedgingExecutor", ThreadPoolExecutor.class);
+                    Connection connection = context.getBean(Connection.class);
+                    doAnswer(i -> {
+                        executorShutDownOnClose.set(executor.isShutdown());
+                        return null;
+                    }).when(connection).close();
+
+                    context.close();
+
+                    assertThat(executor.isShutdown()).isTrue();
+                    verify(connection).close();
+                    assertThat(executorShutDownOnClose).isTrue();
+                });
+    }
+
+    @Test
+    void testInvalidMaxThreads() {
+        contextRunner
+                .withPropertyValues("connect.api.hedging.enabled=true", "connect.api.hedging.max-threads=0")
+                .run(context -> {
+                    assertThat(context).hasFailed();
+                    assertThat(context).getFailure()
+                            .rootCause()
+                            .isInstanceOf(IllegalStateException.class)
+                            .hasMessage("connect.api.hedging.max-threads must be > 0, is 0");
+                });
+    }
+
+    @Test
+    void testNoMetricsWithoutMicrometer() {
+        contextRunner
+                .withClassLoader(new FilteredClassLoader(MeterBinder.class))
+                .withPropertyValues("connect.api.hedging.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(HedgingPolicy.class);
+                    assertThat(context).doesNotHaveBean("connectSdkHedgingMetrics");
+                });
+    }
+}
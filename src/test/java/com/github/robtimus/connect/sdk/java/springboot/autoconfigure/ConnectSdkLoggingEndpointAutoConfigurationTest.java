@@ -19,6 +19,7 @@ package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import java.io.IOException;
+import java.time.Duration;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
@@ -29,6 +30,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import com.github.robtimus.connect.sdk.java.springboot.actuator.LoggingEndpoint;
+import com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLoggingPolicy;
 
 @SuppressWarnings("nls")
 class ConnectSdkLoggingEndpointAutoConfigurationTest {
@@ -98,6 +100,40 @@ class ConnectSdkLoggingEndpointAutoConfigurationTest {
                 });
     }
 
+    @Test
+    void testAutoConfigurationWithDefaultPolicy() {
+        contextRunner
+                .withPropertyValues("management.endpoint.connectSdkLogging.access=UNRESTRICTED", "spring.jmx.enabled=true",
+                        "management.endpoints.jmx.exposure.include=connectSdkLogging")
+                .run(context -> {
+                    assertThat(context).getBean(LoggingEndpoint.class).extracting("defaultPolicy")
+                            .isInstanceOfSatisfying(CommunicatorLoggingPolicy.class, policy -> {
+                                assertThat(policy.type()).isEqualTo(CommunicatorLoggingPolicy.Type.ALL);
+                                assertThat(policy.sampleRate()).isEqualTo(CommunicatorLoggingPolicy.DEFAULT_SAMPLE_RATE);
+                                assertThat(policy.slowThreshold()).isEqualTo(CommunicatorLoggingPolicy.DEFAULT_SLOW_THRESHOLD);
+                            });
+                    assertThat(context).getBean(LoggingEndpoint.class).extracting("defaultDuration").isEqualTo(Duration.ZERO);
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithPolicy() {
+        contextRunner
+                .withPropertyValues("management.endpoint.connectSdkLogging.access=UNRESTRICTED", "spring.jmx.enabled=true",
+                        "management.endpoints.jmx.exposure.include=connectSdkLogging",
+                        "connect.api.logger.policy.type=tail", "connect.api.logger.policy.sample-rate=50",
+                        "connect.api.logger.policy.slow-threshold=2000", "connect.api.logger.default-duration=300000")
+                .run(context -> {
+                    assertThat(context).getBean(LoggingEndpoint.class).extracting("defaultPolicy")
+                            .isInstanceOfSatisfying(CommunicatorLoggingPolicy.class, policy -> {
+                                assertThat(policy.type()).isEqualTo(CommunicatorLoggingPolicy.Type.TAIL);
+                                assertThat(policy.sampleRate()).isEqualTo(50);
+                                assertThat(policy.slowThreshold()).isEqualTo(Duration.ofSeconds(2));
+                            });
+                    assertThat(context).getBean(LoggingEndpoint.class).extracting("defaultDuration").isEqualTo(Duration.ofMinutes(5));
+                });
+    }
+
     @Configuration
     static class ExistingBeanProvider {
 
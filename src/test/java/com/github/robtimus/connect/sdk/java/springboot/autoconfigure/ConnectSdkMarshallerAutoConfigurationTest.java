@@ -19,13 +19,28 @@ package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import java.io.IOException;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.FilteredClassLoader;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import com.github.robtimus.connect.sdk.java.springboot.json.DomainTypeAdapters;
+import com.github.robtimus.connect.sdk.java.springboot.json.GsonMarshaller;
+import com.github.robtimus.connect.sdk.java.springboot.json.JacksonMarshaller;
+import com.github.robtimus.connect.sdk.java.springboot.json.PooledGsonMarshaller;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import com.worldline.connect.sdk.java.json.DefaultMarshaller;
 import com.worldline.connect.sdk.java.json.Marshaller;
+import com.worldline.connect.sdk.java.v1.domain.AmountOfMoney;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
 
 @SuppressWarnings("nls")
 class ConnectSdkMarshallerAutoConfigurationTest {
@@ -47,11 +62,209 @@ class ConnectSdkMarshallerAutoConfigurationTest {
     @Test
     void testAutoConfiguration() {
         contextRunner
+                .run(context -> {
+                    assertThat(context).hasBean("connectSdkMarshaller");
+                    assertThat(context).hasSingleBean(Marshaller.class);
+                    assertThat(context).getBean(Marshaller.class).isExactlyInstanceOf(GsonMarshaller.class);
+                    assertUsesDomainTypeAdapters(context.getBean(GsonMarshaller.class).gson());
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithGson() {
+        contextRunner
+                .withPropertyValues("connect.api.marshaller=gson")
+                .run(context -> {
+                    assertThat(context).hasBean("connectSdkMarshaller");
+                    assertThat(context).hasSingleBean(Marshaller.class);
+                    assertThat(context).getBean(Marshaller.class).isExactlyInstanceOf(GsonMarshaller.class);
+                    assertUsesDomainTypeAdapters(context.getBean(GsonMarshaller.class).gson());
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithPooling() {
+        contextRunner
+                .withPropertyValues("connect.api.marshaller-pooling=true")
+                .run(context -> {
+                    assertThat(context).hasBean("connectSdkMarshaller");
+                    assertThat(context).hasSingleBean(Marshaller.class);
+                    assertThat(context).getBean(Marshaller.class).isExactlyInstanceOf(PooledGsonMarshaller.class);
+                    assertUsesDomainTypeAdapters(context.getBean(PooledGsonMarshaller.class).gson());
+                });
+        contextRunner
+                .withPropertyValues("connect.api.marshaller=gson", "connect.api.marshaller-pooling=false")
+                .run(context -> {
+                    assertThat(context).hasBean("connectSdkMarshaller");
+                    assertThat(context).getBean(Marshaller.class).isExactlyInstanceOf(GsonMarshaller.class);
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithoutTypeAdapters() {
+        contextRunner
+                .withPropertyValues("connect.api.marshaller-type-adapters=false")
                 .run(context -> {
                     assertThat(context).hasBean("connectSdkMarshaller");
                     assertThat(context).hasSingleBean(Marshaller.class);
                     assertThat(context).getBean(Marshaller.class).isSameAs(DefaultMarshaller.INSTANCE);
                 });
+        contextRunner
+                .withPropertyValues("connect.api.marshaller-type-adapters=false", "connect.api.marshaller-pooling=true")
+                .run(context -> {
+                    assertThat(context).hasBean("connectSdkMarshaller");
+                    assertThat(context).getBean(Marshaller.class).isExactlyInstanceOf(PooledGsonMarshaller.class);
+
+                    Gson gson = context.getBean(PooledGsonMarshaller.class).gson();
+                    assertThat(gson.getAdapter(AmountOfMoney.class)).isNotExactlyInstanceOf(domainTypeAdapterClass(gson));
+                });
+        contextRunner
+                .withUserConfiguration(CustomizerProvider.class)
+                .withPropertyValues("connect.api.marshaller-type-adapters=false")
+                .run(context -> {
+                    assertThat(context).hasBean("connectSdkMarshaller");
+                    assertThat(context).getBean(Marshaller.class).isExactlyInstanceOf(GsonMarshaller.class);
+
+                    Gson gson = context.getBean(GsonMarshaller.class).gson();
+                    assertThat(gson.serializeNulls()).isTrue();
+                    assertThat(gson.getAdapter(AmountOfMoney.class)).isNotExactlyInstanceOf(domainTypeAdapterClass(gson));
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithCustomizer() {
+        contextRunner
+                .withUserConfiguration(CustomizerProvider.class)
+                .run(context -> {
+                    assertThat(context).hasBean("connectSdkMarshaller");
+                    assertThat(context).hasSingleBean(Marshaller.class);
+                    assertThat(context).getBean(Marshaller.class).isExactlyInstanceOf(GsonMarshaller.class);
+
+                    GsonMarshaller marshaller = context.getBean(GsonMarshaller.class);
+                    assertThat(marshaller.gson().serializeNulls()).isTrue();
+                    assertUsesDomainTypeAdapters(marshaller.gson());
+
+                    AmountOfMoney amountOfMoney = new AmountOfMoney();
+                    amountOfMoney.setAmount(100L);
+                    assertThat(marshaller.marshal(amountOfMoney)).isEqualTo("{\"amount\":100,\"currencyCode\":null}");
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithCustomizerAndPooling() {
+        contextRunner
+                .withUserConfiguration(CustomizerProvider.class)
+                .withPropertyValues("connect.api.marshaller-pooling=true")
+                .run(context -> {
+                    assertThat(context).hasBean("connectSdkMarshaller");
+                    assertThat(context).hasSingleBean(Marshaller.class);
+                    assertThat(context).getBean(Marshaller.class).isExactlyInstanceOf(PooledGsonMarshaller.class);
+
+                    PooledGsonMarshaller marshaller = context.getBean(PooledGsonMarshaller.class);
+                    assertThat(marshaller.gson().serializeNulls()).isTrue();
+
+                    AmountOfMoney amountOfMoney = new AmountOfMoney();
+                    amountOfMoney.setAmount(100L);
+                    assertThat(marshaller.marshal(amountOfMoney)).isEqualTo("{\"amount\":100,\"currencyCode\":null}");
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithCustomizerTypeAdapter() {
+        contextRunner
+                .withUserConfiguration(TypeAdapterCustomizerProvider.class)
+                .run(context -> {
+                    assertThat(context).hasBean("connectSdkMarshaller");
+                    assertThat(context).getBean(Marshaller.class).isExactlyInstanceOf(GsonMarshaller.class);
+
+                    GsonMarshaller marshaller = context.getBean(GsonMarshaller.class);
+
+                    // the customizer's type adapter takes precedence over the generated one
+                    assertThat(marshaller.marshal(new AmountOfMoney())).isEqualTo("\"custom\"");
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithJackson() {
+        contextRunner
+                .withPropertyValues("connect.api.marshaller=jackson")
+                .run(context -> {
+                    assertThat(context).hasBean("connectSdkJacksonMarshaller");
+                    assertThat(context).hasSingleBean(Marshaller.class);
+                    assertThat(context).getBean(Marshaller.class).isExactlyInstanceOf(JacksonMarshaller.class);
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithJacksonAndJsonMapper() {
+        contextRunner
+                .withUserConfiguration(JsonMapperProvider.class)
+                .withPropertyValues("connect.api.marshaller=jackson")
+                .run(context -> {
+                    assertThat(context).hasBean("connectSdkJacksonMarshaller");
+                    assertThat(context).hasSingleBean(Marshaller.class);
+
+                    JsonMapper applicationJsonMapper = context.getBean(JsonMapper.class);
+                    JacksonMarshaller marshaller = context.getBean(JacksonMarshaller.class);
+
+                    // the application's JsonMapper is neither used nor modified
+                    assertThat(marshaller.jsonMapper()).isNotSameAs(applicationJsonMapper);
+                    assertThat(marshaller.jsonMapper().isEnabled(SerializationFeature.INDENT_OUTPUT)).isFalse();
+                    assertThat(applicationJsonMapper.isEnabled(SerializationFeature.INDENT_OUTPUT)).isTrue();
+                    assertThat(applicationJsonMapper.writeValueAsString(new GetterBean()))
+                            .contains("\"property\"")
+                            .doesNotContain("\"field\"");
+                    assertThat(marshaller.marshal(new GetterBean()))
+                            .contains("\"field\"")
+                            .doesNotContain("\"property\"");
+                });
+    }
+
+    @Test
+    void testJacksonWithCustomizer() {
+        contextRunner
+                .withUserConfiguration(CustomizerProvider.class)
+                .withPropertyValues("connect.api.marshaller=jackson")
+                .run(context -> {
+                    assertThat(context).hasFailed();
+                    assertThat(context).getFailure()
+                            .rootCause()
+                            .isInstanceOf(IllegalStateException.class)
+                            .hasMessage("Beans of type MarshallerGsonBuilderCustomizer are not supported "
+                                    + "if property 'connect.api.marshaller' is set to jackson");
+                });
+    }
+
+    @Test
+    void testJacksonWithoutJacksonAvailable() {
+        contextRunner
+                .withClassLoader(new FilteredClassLoader(JsonMapper.class))
+                .withPropertyValues("connect.api.marshaller=jackson")
+                .run(context -> {
+                    assertThat(context).hasFailed();
+                    assertThat(context).getFailure()
+                            .rootCause()
+                            .isInstanceOf(IllegalStateException.class)
+                            .hasMessageContaining("Jackson 3 is not available");
+                });
+    }
+
+    @Test
+    void testGsonWithoutJacksonAvailable() {
+        contextRunner
+                .withClassLoader(new FilteredClassLoader(JsonMapper.class))
+                .run(context -> {
+                    assertThat(context).hasBean("connectSdkMarshaller");
+                    assertThat(context).getBean(Marshaller.class).isExactlyInstanceOf(GsonMarshaller.class);
+                });
+    }
+
+    private static void assertUsesDomainTypeAdapters(Gson gson) {
+        assertThat(gson.getAdapter(AmountOfMoney.class)).isExactlyInstanceOf(domainTypeAdapterClass(gson));
+    }
+
+    private static Class<?> domainTypeAdapterClass(Gson gson) {
+        return DomainTypeAdapters.factory().create(gson, TypeToken.get(AmountOfMoney.class)).getClass();
     }
 
     @Configuration
@@ -62,4 +275,54 @@ class ConnectSdkMarshallerAutoConfigurationTest {
             return mock(Marshaller.class);
         }
     }
+
+    @Configuration
+    static class CustomizerProvider {
+
+        @Bean
+        MarshallerGsonBuilderCustomizer marshallerGsonBuilderCustomizer() {
+            return GsonBuilder::serializeNulls;
+        }
+    }
+
+    @Configuration
+    static class TypeAdapterCustomizerProvider {
+
+        @Bean
+        MarshallerGsonBuilderCustomizer marshallerGsonBuilderCustomizer() {
+            return builder -> builder.registerTypeAdapter(AmountOfMoney.class, new TypeAdapter<AmountOfMoney>() {
+
+                @Override
+                public void write(JsonWriter out, AmountOfMoney value) throws IOException {
+                    out.value("custom");
+                }
+
+                @Override
+                public AmountOfMoney read(JsonReader in) throws IOException {
+                    throw new UnsupportedOperationException();
+                }
+            });
+        }
+    }
+
+    @Configuration
+    static class JsonMapperProvider {
+
+        @Bean
+        JsonMapper jsonMapper() {
+            return JsonMapper.builder()
+                    .enable(SerializationFeature.INDENT_OUTPUT)
+                    .build();
+        }
+    }
+
+    static final class GetterBean {
+
+        @SuppressWarnings("unused")
+        private final String field = "value";
+
+        public String getProperty() {
+            return "value";
+        }
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * ConnectSdkMarshallerWarmUpAutoConfigurationTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.github.robtimus.connect.sdk.java.springboot.MarshallerWarmUp;
+import com.worldline.connect.sdk.java.json.DefaultMarshaller;
+import com.worldline.connect.sdk.java.json.Marshaller;
+
+@SuppressWarnings("nls")
+class ConnectSdkMarshallerWarmUpAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ConnectSdkMarshallerWarmUpAutoConfiguration.class));
+
+    @Test
+    void testNoAutoConfigurationWithExistingBean() {
+        contextRunner
+                .withUserConfiguration(ExistingBeanProvider.class, MarshallerProvider.class)
+                .withPropertyValues("connect.api.warm-up.marshaller=true")
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean("connectSdkMarshallerWarmUp");
+                    assertThat(context).hasSingleBean(MarshallerWarmUp.class);
+                    assertThat(context).getBean(MarshallerWarmUp.class)
+                            .isSameAs(context.getBean(ExistingBeanProvider.class).marshallerWarmUp());
+                });
+    }
+
+    @Test
+    void testNoAutoConfigurationWithMissingProperty() {
+        contextRunner
+                .withUserConfiguration(MarshallerProvider.class)
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(MarshallerWarmUp.class);
+                });
+    }
+
+    @Test
+    void testNoAutoConfigurationWithPropertyDisabled() {
+        contextRunner
+                .withUserConfiguration(MarshallerProvider.class)
+                .withPropertyValues("connect.api.warm-up.marshaller=false")
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(MarshallerWarmUp.class);
+                });
+    }
+
+    @Test
+    void testNoAutoConfigurationWithMissingMarshaller() {
+        contextRunner
+                .withPropertyValues("connect.api.warm-up.marshaller=true")
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(MarshallerWarmUp.class);
+                });
+    }
+
+    @Test
+    void testAutoConfiguration() {
+        contextRunner
+                .withUserConfiguration(MarshallerProvider.class)
+                .withPropertyValues("connect.api.warm-up.marshaller=true", "connect.api.warm-up.timeout=5000")
+                .run(context -> {
+                    assertThat(context).hasBean("connectSdkMarshallerWarmUp");
+                    assertThat(context).hasSingleBean(MarshallerWarmUp.class);
+                    assertThat(context).getBean(MarshallerWarmUp.class).extracting("marshaller").isSameAs(DefaultMarshaller.INSTANCE);
+                    assertThat(context).getBean(MarshallerWarmUp.class).extracting("timeout").isEqualTo(Duration.ofSeconds(5));
+                    assertThat(context).getBean(MarshallerWarmUp.class).extracting(MarshallerWarmUp::types)
+                            .isEqualTo(MarshallerWarmUp.DEFAULT_TYPES);
+                });
+    }
+
+    @Configuration
+    static class ExistingBeanProvider {
+
+        @Bean
+        MarshallerWarmUp marshallerWarmUp() {
+            return mock(MarshallerWarmUp.class);
+        }
+    }
+
+    @Configuration
+    static class MarshallerProvider {
+
+        @Bean
+        Marshaller marshaller() {
+            return DefaultMarshaller.INSTANCE;
+        }
+    }
+}
@@ -18,6 +18,7 @@
 package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import java.util.Collection;
 import org.junit.jupiter.api.Test;
@@ -83,6 +84,28 @@ class ConnectSdkMetadataProviderAutoConfigurationTest {
                 });
     }
 
+    @Test
+    void testServerMetadataHeadersArePrecomputed() {
+        contextRunner
+                .withUserConfiguration(CustomizerConfiguration.class, SecondCustomizerConfiguration.class)
+                .withPropertyValues("connect.api.integrator=Integrator")
+                .run(context -> {
+                    MetadataProvider metadataProvider = context.getBean(MetadataProvider.class);
+                    Collection<RequestHeader> metadataHeaders = metadataProvider.getServerMetadataHeaders();
+
+                    assertThat(metadataHeaders)
+                            .extracting(RequestHeader::getName)
+                            .containsExactly("X-GCS-ServerMetaInfo", "custom-name", "other-name");
+
+                    // the same headers are returned for each call, without computing them again
+                    assertThat(metadataProvider.getServerMetadataHeaders()).isSameAs(metadataHeaders);
+
+                    RequestHeader header = new RequestHeader("name", "value");
+                    assertThatThrownBy(() -> metadataHeaders.add(header)).isInstanceOf(UnsupportedOperationException.class);
+                    assertThatThrownBy(metadataHeaders::clear).isInstanceOf(UnsupportedOperationException.class);
+                });
+    }
+
     @Configuration
     static class ExistingBeanProvider {
 
@@ -100,4 +123,13 @@ class ConnectSdkMetadataProviderAutoConfigurationTest {
             return builder -> builder.withAdditionalRequestHeader(new RequestHeader("custom-name", "custom-value"));
         }
     }
+
+    @Configuration
+    static class SecondCustomizerConfiguration {
+
+        @Bean
+        MetadataProviderBuilderCustomizer secondCustomizer() {
+            return builder -> builder.withAdditionalRequestHeader(new RequestHeader("other-name", "other-value"));
+        }
+    }
 }
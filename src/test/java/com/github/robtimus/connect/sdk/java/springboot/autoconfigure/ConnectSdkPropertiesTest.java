@@ -42,6 +42,7 @@ class ConnectSdkPropertiesTest {
                     assertThat(properties.getSocketTimeout()).isEqualTo(300_000);
                     assertThat(properties.getMaxConnections()).isEqualTo(10);
                     assertThat(properties.isConnectionReuse()).isTrue();
+                    assertThat(properties.getConnectionType()).isNull();
                     assertThat(properties.getAuthorizationType()).isEqualTo(AuthorizationType.V1HMAC);
                     assertThat(properties.getAuthorizationId()).isNull();
                     assertThat(properties.getAuthorizationSecret()).isNull();
@@ -59,6 +60,7 @@ class ConnectSdkPropertiesTest {
                         "connect.api.endpoint.host=localhost", "connect.api.endpoint.scheme=http", "connect.api.endpoint.port=80",
                         "connect.api.connect-timeout=1000", "connect.api.socket-timeout=10000",
                         "connect.api.max-connections=1", "connect.api.connection-reuse=false",
+                        "connect.api.connection-type=jdk-http-client",
                         "connect.api.authorization-type=V1HMAC",
                         "connect.api.authorization-id=myKeyId", "connect.api.authorization-secret=mySecretApiKey",
                         "connect.api.proxy.uri=http://proxy-host", "connect.api.proxy.username=proxy-user", "connect.api.proxy.password=proxy-pass",
@@ -78,6 +80,7 @@ class ConnectSdkPropertiesTest {
                     assertThat(properties.getSocketTimeout()).isEqualTo(10_000);
                     assertThat(properties.getMaxConnections()).isEqualTo(1);
                     assertThat(properties.isConnectionReuse()).isFalse();
+                    assertThat(properties.getConnectionType()).isEqualTo(ConnectSdkProperties.ConnectionType.JDK_HTTP_CLIENT);
                     assertThat(properties.getAuthorizationType()).isEqualTo(AuthorizationType.V1HMAC);
                     assertThat(properties.getAuthorizationId()).isEqualTo("myKeyId");
                     assertThat(properties.getAuthorizationSecret()).isEqualTo("mySecretApiKey");
@@ -103,6 +106,7 @@ class ConnectSdkPropertiesTest {
                         "connect.api.endpoint.host=localhost", "connect.api.endpoint.scheme=http", "connect.api.endpoint.port=80",
                         "connect.api.connectTimeout=1000", "connect.api.socketTimeout=10000",
                         "connect.api.maxConnections=1", "connect.api.connectionReuse=false",
+                        "connect.api.connectionType=JDK_HTTP_CLIENT",
                         "connect.api.authorizationType=V1HMAC",
                         "connect.api.authorizationId=myKeyId", "connect.api.authorizationSecret=mySecretApiKey",
                         "connect.api.proxy.uri=http://proxy-host", "connect.api.proxy.username=proxy-user", "connect.api.proxy.password=proxy-pass",
@@ -122,6 +126,7 @@ class ConnectSdkPropertiesTest {
                     assertThat(properties.getSocketTimeout()).isEqualTo(10_000);
                     assertThat(properties.getMaxConnections()).isEqualTo(1);
                     assertThat(properties.isConnectionReuse()).isFalse();
+                    assertThat(properties.getConnectionType()).isEqualTo(ConnectSdkProperties.ConnectionType.JDK_HTTP_CLIENT);
                     assertThat(properties.getAuthorizationType()).isEqualTo(AuthorizationType.V1HMAC);
                     assertThat(properties.getAuthorizationId()).isEqualTo("myKeyId");
                     assertThat(properties.getAuthorizationSecret()).isEqualTo("mySecretApiKey");
@@ -0,0 +1,160 @@
+/*
+ * ConnectSdkRateLimitAutoConfigurationTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.github.robtimus.connect.sdk.java.springboot.communication.RateLimitedConnection;
+import com.github.robtimus.connect.sdk.java.springboot.communication.RateLimiter;
+import com.github.robtimus.connect.sdk.java.springboot.communication.RateLimits;
+import com.github.robtimus.connect.sdk.java.springboot.metrics.RateLimiterMetrics;
+import com.worldline.connect.sdk.java.communication.Connection;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@SuppressWarnings("nls")
+class ConnectSdkRateLimitAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ConnectSdkRateLimitAutoConfiguration.class));
+
+    @Test
+    void testNoAutoConfigurationByDefault() {
+        contextRunner
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(RateLimits.class);
+                    assertThat(context).doesNotHaveBean(ConnectionDecorator.class);
+                    assertThat(context).doesNotHaveBean(RateLimiterMetrics.class);
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithDefaults() {
+        contextRunner
+                .withPropertyValues("connect.api.rate-limit.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasBean("connectSdkRateLimits");
+                    assertThat(context).hasBean("connectSdkRateLimitDecorator");
+                    assertThat(context).hasBean("connectSdkRateLimiterMetrics");
+
+                    RateLimits rateLimits = context.getBean(RateLimits.class);
+                    assertThat(rateLimits.global()).isNull();
+                    assertThat(rateLimits.groups()).isEmpty();
+
+                    Connection connection = mock(Connection.class);
+                    assertThat(context.getBean(ConnectionDecorator.class).decorate(connection))
+                            .isInstanceOf(RateLimitedConnection.class)
+                            .satisfies(c -> assertThat(((RateLimitedConnection) c).delegate()).isSameAs(connection))
+                            .satisfies(c -> assertThat(((RateLimitedConnection) c).rateLimits()).isSameAs(rateLimits));
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithProperties() {
+        contextRunner
+                .withPropertyValues("connect.api.rate-limit.enabled=true",
+                        "connect.api.rate-limit.permits-per-second=50",
+                        "connect.api.rate-limit.burst=10",
+                        "connect.api.rate-limit.max-wait=2000",
+                        "connect.api.rate-limit.groups.refunds.permits-per-second=5",
+                        "connect.api.rate-limit.groups.refunds.operations=POST /v1/{merchantId}/payments/{paymentId}/refund",
+                        "connect.api.rate-limit.groups.services.permits-per-second=0.5",
+                        "connect.api.rate-limit.groups.services.burst=2",
+                        "connect.api.rate-limit.groups.services.operations=GET /v1/{merchantId}/services/testconnection,"
+                                + "POST /v1/{merchantId}/services/getIINdetails")
+                .run(context -> {
+                    RateLimits rateLimits = context.getBean(RateLimits.class);
+
+                    RateLimiter global = rateLimits.global();
+                    assertThat(global).isNotNull();
+                    assertThat(global.permitsPerSecond()).isEqualTo(50);
+                    assertThat(global.burst()).isEqualTo(10);
+                    assertThat(global.maxWait()).isEqualTo(Duration.ofSeconds(2));
+
+                    assertThat(rateLimits.groups()).containsOnlyKeys("refunds", "services");
+
+                    RateLimiter refunds = rateLimits.forGroup("refunds");
+                    assertThat(refunds.permitsPerSecond()).isEqualTo(5);
+                    assertThat(refunds.burst()).isEqualTo(1);
+                    assertThat(refunds.maxWait()).isEqualTo(Duration.ofSeconds(2));
+
+                    RateLimiter services = rateLimits.forGroup("services");
+                    assertThat(services.permitsPerSecond()).isEqualTo(0.5);
+                    assertThat(services.burst()).isEqualTo(2);
+
+                    assertThat(rateLimits.forOperation("POST", "/v1/{merchantId}/payments/{paymentId}/refund")).isSameAs(refunds);
+                    assertThat(rateLimits.forOperation("GET", "/v1/{merchantId}/services/testconnection")).isSameAs(services);
+                    assertThat(rateLimits.forOperation("POST", "/v1/{merchantId}/services/getIINdetails")).isSameAs(services);
+                    assertThat(rateLimits.forOperation("GET", "/v1/{merchantId}/payments/{paymentId}")).isNull();
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithGroupWithoutOperations() {
+        contextRunner
+                .withPropertyValues("connect.api.rate-limit.enabled=true",
+                        "connect.api.rate-limit.groups.refunds.permits-per-second=5")
+                .run(context -> {
+                    assertThat(context).hasFailed();
+                    assertThat(context).getFailure()
+                            .rootCause()
+                            .isInstanceOf(IllegalStateException.class)
+                            .hasMessage("No operations specified for rate limit group 'refunds'");
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithExistingRateLimits() {
+        contextRunner
+                .withPropertyValues("connect.api.rate-limit.enabled=true")
+                .withUserConfiguration(ExistingRateLimitsProvider.class)
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean("connectSdkRateLimits");
+                    assertThat(context).getBean(RateLimits.class)
+                            .isSameAs(context.getBean(ExistingRateLimitsProvider.class).rateLimits());
+                    assertThat(context).hasSingleBean(ConnectionDecorator.class);
+                });
+    }
+
+    @Test
+    void testNoMetricsWithoutMicrometer() {
+        contextRunner
+                .withClassLoader(new FilteredClassLoader(MeterBinder.class))
+                .withPropertyValues("connect.api.rate-limit.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(RateLimits.class);
+                    assertThat(context).doesNotHaveBean("connectSdkRateLimiterMetrics");
+                });
+    }
+
+    @Configuration
+    static class ExistingRateLimitsProvider {
+
+        @Bean
+        RateLimits rateLimits() {
+            return new RateLimits(new RateLimiter(1, 1, Duration.ZERO), Map.of(), Map.of());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * ConnectSdkRequestMetricsAutoConfigurationTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.github.robtimus.connect.sdk.java.springboot.metrics.TimedConnection;
+import com.worldline.connect.sdk.java.communication.Connection;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SuppressWarnings("nls")
+class ConnectSdkRequestMetricsAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ConnectSdkRequestMetricsAutoConfiguration.class));
+
+    @Test
+    void testNoAutoConfigurationWithoutMicrometer() {
+        contextRunner
+                .withClassLoader(new FilteredClassLoader(MeterRegistry.class))
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(ConnectionDecorator.class);
+                });
+    }
+
+    @Test
+    void testNoAutoConfigurationWhenDisabled() {
+        contextRunner
+                .withPropertyValues("connect.api.metrics.requests.enabled=false")
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(ConnectionDecorator.class);
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithoutMeterRegistry() {
+        contextRunner
+                .run(context -> {
+                    assertThat(context).hasBean("connectSdkTimedConnectionDecorator");
+                    assertThat(context).hasSingleBean(ConnectionDecorator.class);
+
+                    Connection connection = mock(Connection.class);
+                    assertThat(context.getBean(ConnectionDecorator.class).decorate(connection)).isSameAs(connection);
+                });
+    }
+
+    @Test
+    void testAutoConfigurationWithMeterRegistry() {
+        contextRunner
+                .withUserConfiguration(MeterRegistryProvider.class)
+                .run(context -> {
+                    assertThat(context).hasBean("connectSdkTimedConnectionDecorator");
+                    assertThat(context).hasSingleBean(ConnectionDecorator.class);
+
+                    Connection connection = mock(Connection.class);
+                    assertThat(context.getBean(ConnectionDecorator.class).decorate(connection))
+                            .isInstanceOf(TimedConnection.class)
+                            .extracting("delegate")
+                            .isSameAs(connection);
+                });
+    }
+
+    @Configuration
+    static class MeterRegistryProvider {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * ApiKeyRotationConnectionTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import com.github.robtimus.connect.sdk.java.springboot.ConfigurableV1HMACAuthenticator;
+import com.worldline.connect.sdk.java.communication.Connection;
+import com.worldline.connect.sdk.java.communication.MultipartFormDataObject;
+import com.worldline.connect.sdk.java.communication.RequestHeader;
+import com.worldline.connect.sdk.java.communication.ResponseHandler;
+
+@SuppressWarnings("nls")
+class ApiKeyRotationConnectionTest {
+
+    private static final URI PAYMENTS_URI = URI.create("https://localhost/v1/1234/payments");
+
+    private final ResponseHandler<String> responseHandler = (statusCode, bodyStream, responseHeaders) -> statusCode + ":" + read(bodyStream);
+
+    @Test
+    void testNoRetryWithoutPreviousApiKey() {
+        ConfigurableV1HMACAuthenticator authenticator = new ConfigurableV1HMACAuthenticator("old", "oldSecret");
+        authenticator.setApiKey("new", "newSecret");
+
+        Connection delegate = mock(Connection.class);
+        when(delegate.get(any(URI.class), anyList(), any())).thenAnswer(ApiKeyRotationConnectionTest::acceptOldApiKeyOnly);
+
+        Connection connection = new ApiKeyRotationConnection(delegate, authenticator);
+
+        List<RequestHeader> headers = signedHeaders(authenticator, "GET");
+        assertThat(connection.get(PAYMENTS_URI, headers, responseHandler)).isEqualTo("401:new");
+
+        // without previous API key the request is passed as-is, and its response is not recorded
+        verify(delegate, times(1)).get(same(PAYMENTS_URI), same(headers), same(responseHandler));
+        assertThat(authenticator.currentApiKey().successCount()).isZero();
+        assertThat(authenticator.currentApiKey().failureCount()).isZero();
+    }
+
+    @Test
+    void testRetryWithPreviousApiKey() {
+        ConfigurableV1HMACAuthenticator authenticator = new ConfigurableV1HMACAuthenticator("old", "oldSecret");
+        authenticator.rotateApiKey("new", "newSecret", Duration.ofHours(1));
+
+        Connection delegate = mock(Connection.class);
+        when(delegate.get(any(URI.class), anyList(), any())).thenAnswer(ApiKeyRotationConnectionTest::acceptOldApiKeyOnly);
+
+        Connection connection = new ApiKeyRotationConnection(delegate, authenticator);
+
+        List<RequestHeader> headers = signedHeaders(authenticator, "GET");
+        assertThat(connection.get(PAYMENTS_URI, headers, responseHandler)).isEqualTo("200:old");
+
+        verify(delegate, times(2)).get(any(URI.class), anyList(), any());
+        assertThat(authenticator.currentApiKey().successCount()).isZero();
+        assertThat(authenticator.currentApiKey().failureCount()).isEqualTo(1);
+        assertThat(authenticator.previousApiKey().successCount()).isEqualTo(1);
+        assertThat(authenticator.previousApiKey().failureCount()).isZero();
+
+        // the original headers are not modified
+        assertThat(toStrings(headers)).isEqualTo(toStrings(signedHeaders(authenticator, "GET")));
+    }
+
+    @Test
+    void testRetryAfterSecretRotation() {
+        ConfigurableV1HMACAuthenticator authenticator = new ConfigurableV1HMACAuthenticator("old", "oldSecret");
+        ConfigurableV1HMACAuthenticator oldAuthenticator = new ConfigurableV1HMACAuthenticator("old", "oldSecret");
+        authenticator.rotateApiKey("old", "newSecret", Duration.ofHours(1));
+
+        String oldAuthorization = findAuthorization(signedHeaders(oldAuthenticator, "GET"));
+
+        Connection delegate = mock(Connection.class);
+        when(delegate.get(any(URI.class), anyList(), any())).thenAnswer(i -> {
+            ResponseHandler<?> handler = i.getArgument(2);
+            return oldAuthorization.equals(findAuthorization(i.getArgument(1)))
+                    ? handle(handler, 200, "old")
+                    : handle(handler, 401, "new");
+        });
+
+        Connection connection = new ApiKeyRotationConnection(delegate, authenticator);
+
+        assertThat(connection.get(PAYMENTS_URI, signedHeaders(authenticator, "GET"), responseHandler)).isEqualTo("200:old");
+
+        // both API keys have the same id, but the responses are still recorded for the right API key
+        verify(delegate, times(2)).get(any(URI.class), anyList(), any());
+        assertThat(authenticator.currentApiKey().successCount()).isZero();
+        assertThat(authenticator.currentApiKey().failureCount()).isEqualTo(1);
+        assertThat(authenticator.previousApiKey().successCount()).isEqualTo(1);
+        assertThat(authenticator.previousApiKey().failureCount()).isZero();
+    }
+
+    @Test
+    void testRetryIsSignedLikeCommunicator() {
+        ConfigurableV1HMACAuthenticator authenticator = new ConfigurableV1HMACAuthenticator("old", "oldSecret");
+        authenticator.rotateApiKey("new", "newSecret", Duration.ofHours(1));
+
+        List<List<RequestHeader>> sentHeaders = new ArrayList<>();
+
+        Connection delegate = mock(Connection.class);
+        when(delegate.post(any(URI.class), anyList(), anyString(), any())).thenAnswer(i -> {
+            sentHeaders.add(i.getArgument(1));
+            return acceptOldApiKeyOnly(i);
+        });
+
+        Connection connection = new ApiKeyRotationConnection(delegate, authenticator);
+
+        assertThat(connection.post(PAYMENTS_URI, signedHeaders(authenticator, "POST"), "{}", responseHandler)).isEqualTo("200:old");
+
+        ConfigurableV1HMACAuthenticator oldAuthenticator = new ConfigurableV1HMACAuthenticator("old", "oldSecret");
+        assertThat(sentHeaders).hasSize(2);
+        assertThat(toStrings(sentHeaders.get(0))).isEqualTo(toStrings(signedHeaders(authenticator, "POST")));
+        assertThat(toStrings(sentHeaders.get(1))).isEqualTo(toStrings(signedHeaders(oldAuthenticator, "POST")));
+    }
+
+    @Test
+    void testNoRetryForSuccess() {
+        ConfigurableV1HMACAuthenticator authenticator = new ConfigurableV1HMACAuthenticator("old", "oldSecret");
+        authenticator.rotateApiKey("new", "newSecret", Duration.ofHours(1));
+
+        Connection delegate = mock(Connection.class);
+        when(delegate.delete(any(URI.class), anyList(), any())).thenAnswer(i -> handle(i.getArgument(2), 204, "new"));
+
+        Connection connection = new ApiKeyRotationConnection(delegate, authenticator);
+
+        assertThat(connection.delete(PAYMENTS_URI, signedHeaders(authenticator, "DELETE"), responseHandler)).isEqualTo("204:new");
+
+        verify(delegate, times(1)).delete(any(URI.class), anyList(), any());
+        assertThat(authenticator.currentApiKey().successCount()).isEqualTo(1);
+        assertThat(authenticator.currentApiKey().failureCount()).isZero();
+        assertThat(authenticator.previousApiKey().successCount()).isZero();
+    }
+
+    @Test
+    void testRetryOnlyOnce() {
+        ConfigurableV1HMACAuthenticator authenticator = new ConfigurableV1HMACAuthenticator("old", "oldSecret");
+        authenticator.rotateApiKey("new", "newSecret", Duration.ofHours(1));
+
+        Connection delegate = mock(Connection.class);
+        when(delegate.put(any(URI.class), anyList(), anyString(), any())).thenAnswer(i -> handle(i.getArgument(3), 401, "rejected"));
+
+        Connection connection = new ApiKeyRotationConnection(delegate, authenticator);
+
+        assertThat(connection.put(PAYMENTS_URI, signedHeaders(authenticator, "PUT"), "{}", responseHandler)).isEqualTo("401:rejected");
+
+        verify(delegate, times(2)).put(any(URI.class), anyList(), anyString(), any());
+        assertThat(authenticator.currentApiKey().failureCount()).isEqualTo(1);
+        assertThat(authenticator.previousApiKey().failureCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testNoRetryForMultipart() {
+        ConfigurableV1HMACAuthenticator authenticator = new ConfigurableV1HMACAuthenticator("old", "oldSecret");
+        authenticator.rotateApiKey("new", "newSecret", Duration.ofHours(1));
+
+        Connection delegate = mock(Connection.class);
+        when(delegate.post(any(URI.class), anyList(), any(MultipartFormDataObject.class), any()))
+                .thenAnswer(i -> handle(i.getArgument(3), 401, "rejected"));
+
+        Connection connection = new ApiKeyRotationConnection(delegate, authenticator);
+
+        MultipartFormDataObject multipart = new MultipartFormDataObject();
+        assertThat(connection.post(PAYMENTS_URI, signedHeaders(authenticator, "POST"), multipart, responseHandler)).isEqualTo("401:rejected");
+
+        verify(delegate, times(1)).post(any(URI.class), anyList(), any(MultipartFormDataObject.class), any());
+        assertThat(authenticator.currentApiKey().failureCount()).isEqualTo(1);
+        assertThat(authenticator.previousApiKey().failureCount()).isZero();
+    }
+
+    @Test
+    void testNoAuthorizationHeader() {
+        ConfigurableV1HMACAuthenticator authenticator = new ConfigurableV1HMACAuthenticator("old", "oldSecret");
+        authenticator.rotateApiKey("new", "newSecret", Duration.ofHours(1));
+
+        Connection delegate = mock(Connection.class);
+        when(delegate.get(any(URI.class), anyList(), any())).thenAnswer(i -> handle(i.getArgument(2), 401, "rejected"));
+
+        Connection connection = new ApiKeyRotationConnection(delegate, authenticator);
+
+        assertThat(connection.get(PAYMENTS_URI, Collections.emptyList(), responseHandler)).isEqualTo("401:rejected");
+
+        verify(delegate, times(1)).get(any(URI.class), anyList(), any());
+        assertThat(authenticator.currentApiKey().failureCount()).isZero();
+    }
+
+    private static List<RequestHeader> signedHeaders(ConfigurableV1HMACAuthenticator authenticator, String httpMethod) {
+        List<RequestHeader> headers = new ArrayList<>();
+        headers.add(new RequestHeader("Date", "Sat, 17 Oct 2026 10:15:30 GMT"));
+        if ("POST".equals(httpMethod) || "PUT".equals(httpMethod)) {
+            headers.add(new RequestHeader("Content-Type", "application/json"));
+        }
+        headers.add(new RequestHeader("Authorization", authenticator.getAuthorization(httpMethod, PAYMENTS_URI, headers)));
+        return headers;
+    }
+
+    private static List<String> toStrings(List<RequestHeader> headers) {
+        return headers.stream()
+                .map(h -> h.getName() + ": " + h.getValue())
+                .toList();
+    }
+
+    private static String findAuthorization(List<RequestHeader> headers) {
+        return headers.stream()
+                .filter(h -> "Authorization".equals(h.getName()))
+                .map(RequestHeader::getValue)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static Object acceptOldApiKeyOnly(InvocationOnMock invocation) {
+        ResponseHandler<?> handler = invocation.getArgument(invocation.getArguments().length - 1);
+        String authorization = findAuthorization(invocation.getArgument(1));
+        return authorization.startsWith("GCS v1HMAC:old:")
+                ? handle(handler, 200, "old")
+                : handle(handler, 401, "new");
+    }
+
+    private static <R> R handle(ResponseHandler<R> responseHandler, int statusCode, String body) {
+        InputStream bodyStream = new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+        return responseHandler.handleResponse(statusCode, bodyStream, Collections.emptyList());
+    }
+
+    private static String read(InputStream bodyStream) {
+        try {
+            return new String(bodyStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * ApiPathsTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@SuppressWarnings("nls")
+class ApiPathsTest {
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({
+            "/v1/1234, /v1/{merchantId}",
+            "/v1/1234/payments, /v1/{merchantId}/payments",
+            "/v1/1234/payments/000000123410000595980000100001, /v1/{merchantId}/payments/{paymentId}",
+            "/v1/1234/payments/000000123410000595980000100001/approve, /v1/{merchantId}/payments/{paymentId}/approve",
+            "/v1/1234/payments/000000123410000595980000100001/refunds, /v1/{merchantId}/payments/{paymentId}/refunds",
+            "/v1/1234/captures/000000123410000595980000100001, /v1/{merchantId}/captures/{captureId}",
+            "/v1/1234/hostedcheckouts/8915-28e5b79c889641c8ba770f1ba576c1fe, /v1/{merchantId}/hostedcheckouts/{hostedCheckoutId}",
+            "/v1/1234/products/1/directory, /v1/{merchantId}/products/{paymentProductId}/directory",
+            "/v1/1234/services/testconnection, /v1/{merchantId}/services/testconnection",
+            "/v1/1234/services/convert/amount, /v1/{merchantId}/services/convert/amount",
+            "/v1/1234/sessions, /v1/{merchantId}/sessions",
+            "/v1/1234/payments/, /v1/{merchantId}/payments",
+            "/files/v1/1234/files/5678, /files/v1/{merchantId}/files/{fileId}",
+            "/files/v1/1234/files/5678/, /files/v1/{merchantId}/files/{fileId}",
+    })
+    void testToTemplate(String path, String expected) {
+        assertThat(ApiPaths.toTemplate(path)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({
+            "/v1/1234/payments/000000123410000595980000100001",
+            "/v1/1234/payments",
+            "/v1/1234/services/testconnection",
+            "/files/v1/1234/files/000000123410000595980000100001",
+    })
+    void testToTemplateIgnoresMerchantId(String path) {
+        String template = ApiPaths.toTemplate(path);
+        assertThat(ApiPaths.toTemplate(path.replace("1234", "5678"))).isEqualTo(template);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @NullAndEmptySource
+    @ValueSource(strings = { "/", "/v1", "/other/path", "/files", "/files/v1", "/files/other/path" })
+    void testToTemplateForUnknownPath(String path) {
+        assertThat(ApiPaths.toTemplate(path)).isEqualTo(ApiPaths.UNKNOWN);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * CachedDateHeaderTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@SuppressWarnings("nls")
+class CachedDateHeaderTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "0, 'Thu, 01 Jan 1970 00:00:00 GMT'",
+            "999, 'Thu, 01 Jan 1970 00:00:00 GMT'",
+            "-1, 'Wed, 31 Dec 1969 23:59:59 GMT'",
+            "1791886530123, 'Tue, 13 Oct 2026 10:15:30 GMT'",
+            "1783066530000, 'Fri, 03 Jul 2026 08:15:30 GMT'",
+    })
+    void testValue(long millis, String expected) {
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(millis);
+
+        CachedDateHeader dateHeader = new CachedDateHeader(clock);
+
+        assertThat(dateHeader.value()).isEqualTo(expected);
+    }
+
+    @Test
+    void testSameAsSdkFormat() {
+        // the formatting used by the SDK's Communicator
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US);
+
+        Instant instant = Instant.parse("2026-02-01T00:00:01Z");
+        Clock clock = Clock.fixed(instant, ZoneId.of("UTC"));
+
+        CachedDateHeader dateHeader = new CachedDateHeader(clock);
+
+        assertThat(dateHeader.value()).isEqualTo(ZonedDateTime.ofInstant(instant, ZoneId.of("GMT")).format(formatter));
+    }
+
+    @Test
+    void testCachedPerSecond() {
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(1_000L, 1_500L, 1_999L, 2_000L, 2_001L);
+
+        CachedDateHeader dateHeader = new CachedDateHeader(clock);
+
+        String first = dateHeader.value();
+        assertThat(first).isEqualTo("Thu, 01 Jan 1970 00:00:01 GMT");
+        assertThat(dateHeader.value()).isSameAs(first);
+        assertThat(dateHeader.value()).isSameAs(first);
+
+        String second = dateHeader.value();
+        assertThat(second).isEqualTo("Thu, 01 Jan 1970 00:00:02 GMT");
+        assertThat(dateHeader.value()).isSameAs(second);
+
+        verify(clock, times(5)).millis();
+    }
+
+    @Test
+    void testClockGoingBackwards() {
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(2_000L, 1_000L, 2_500L);
+
+        CachedDateHeader dateHeader = new CachedDateHeader(clock);
+
+        String first = dateHeader.value();
+        assertThat(first).isEqualTo("Thu, 01 Jan 1970 00:00:02 GMT");
+        assertThat(dateHeader.value()).isEqualTo("Thu, 01 Jan 1970 00:00:01 GMT");
+        // the older value did not replace the cached value
+        assertThat(dateHeader.value()).isSameAs(first);
+    }
+
+    @Test
+    void testSystemUTC() {
+        assertThat(CachedDateHeader.systemUTC()).isSameAs(CachedDateHeader.systemUTC());
+        assertThat(CachedDateHeader.systemUTC().value()).endsWith(" GMT");
+    }
+}
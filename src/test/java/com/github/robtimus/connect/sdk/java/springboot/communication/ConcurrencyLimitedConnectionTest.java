@@ -0,0 +1,124 @@
+/*
+ * ConcurrencyLimitedConnectionTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.Test;
+import com.worldline.connect.sdk.java.communication.CommunicationException;
+import com.worldline.connect.sdk.java.communication.Connection;
+import com.worldline.connect.sdk.java.communication.RequestHeader;
+import com.worldline.connect.sdk.java.communication.ResponseHandler;
+
+@SuppressWarnings("nls")
+class ConcurrencyLimitedConnectionTest {
+
+    private static final URI TEST_URI = URI.create("https://localhost/v1/1234/services/testconnection");
+
+    private final List<RequestHeader> headers = Collections.emptyList();
+
+    @Test
+    void testSuccess() {
+        Connection delegate = mock(Connection.class);
+        when(delegate.get(any(URI.class), anyList(), any())).thenAnswer(i -> handle(i.getArgument(2), 200));
+
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, Duration.ofSeconds(10), Duration.ZERO);
+        ConcurrencyLimitedConnection connection = new ConcurrencyLimitedConnection(delegate, limiter);
+
+        String result = connection.get(TEST_URI, headers, (statusCode, bodyStream, responseHeaders) -> "result");
+
+        assertThat(result).isEqualTo("result");
+        assertThat(limiter.inFlight()).isZero();
+        assertThat(limiter.limit()).isEqualTo(3);
+    }
+
+    @Test
+    void testOverloadedResponse() {
+        Connection delegate = mock(Connection.class);
+        when(delegate.post(any(URI.class), anyList(), anyString(), any())).thenAnswer(i -> handle(i.getArgument(3), 503));
+
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 10, Duration.ofSeconds(10), Duration.ZERO);
+        ConcurrencyLimitedConnection connection = new ConcurrencyLimitedConnection(delegate, limiter);
+
+        IllegalStateException exception = new IllegalStateException("unavailable");
+        ResponseHandler<String> responseHandler = (statusCode, bodyStream, responseHeaders) -> {
+            throw exception;
+        };
+
+        assertThatThrownBy(() -> connection.post(TEST_URI, headers, "{}", responseHandler))
+                .isSameAs(exception);
+
+        assertThat(limiter.inFlight()).isZero();
+        assertThat(limiter.limit()).isEqualTo(9);
+    }
+
+    @Test
+    void testCommunicationException() {
+        Connection delegate = mock(Connection.class);
+        CommunicationException exception = new CommunicationException(new IOException("read timed out"));
+        when(delegate.delete(any(URI.class), anyList(), any())).thenThrow(exception);
+
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 10, Duration.ofSeconds(10), Duration.ZERO);
+        ConcurrencyLimitedConnection connection = new ConcurrencyLimitedConnection(delegate, limiter);
+
+        ResponseHandler<String> responseHandler = (statusCode, bodyStream, responseHeaders) -> "result";
+
+        assertThatThrownBy(() -> connection.delete(TEST_URI, headers, responseHandler))
+                .isSameAs(exception);
+
+        assertThat(limiter.inFlight()).isZero();
+        assertThat(limiter.limit()).isEqualTo(9);
+    }
+
+    @Test
+    void testRejected() throws InterruptedException {
+        Connection delegate = mock(Connection.class);
+
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 10, Duration.ofSeconds(10), Duration.ZERO);
+        ConcurrencyLimitedConnection connection = new ConcurrencyLimitedConnection(delegate, limiter);
+
+        // take the only permit
+        assertThat(limiter.tryAcquire()).isTrue();
+
+        ResponseHandler<String> responseHandler = (statusCode, bodyStream, responseHeaders) -> "result";
+
+        assertThatThrownBy(() -> connection.get(TEST_URI, headers, responseHandler))
+                .isInstanceOf(CommunicationException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+
+        assertThat(limiter.rejectedCount()).isEqualTo(1);
+        verifyNoInteractions(delegate);
+    }
+
+    private static <R> R handle(ResponseHandler<R> responseHandler, int statusCode) {
+        return responseHandler.handleResponse(statusCode, new ByteArrayInputStream(new byte[0]), Collections.emptyList());
+    }
+}
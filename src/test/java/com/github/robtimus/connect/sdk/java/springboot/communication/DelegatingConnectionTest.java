@@ -0,0 +1,212 @@
+/*
+ * DelegatingConnectionTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.slf4j.LoggerFactory;
+import com.github.robtimus.connect.sdk.java.springboot.logging.LevelAwareCommunicatorLogger;
+import com.github.robtimus.connect.sdk.java.springboot.logging.LogbackCommunicatorLogger;
+import com.worldline.connect.sdk.java.communication.CommunicationException;
+import com.worldline.connect.sdk.java.communication.Connection;
+import com.worldline.connect.sdk.java.communication.DefaultConnectionBuilder;
+import com.worldline.connect.sdk.java.communication.PooledConnection;
+import com.worldline.connect.sdk.java.communication.RequestHeader;
+import com.worldline.connect.sdk.java.communication.ResponseHandler;
+import com.worldline.connect.sdk.java.logging.CommunicatorLogger;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+
+@SuppressWarnings("nls")
+class DelegatingConnectionTest {
+
+    private static final URI TEST_URI = URI.create("https://localhost/v1/1234/services/testconnection");
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testDelegation() throws IOException {
+        PooledConnection delegate = mock(PooledConnection.class);
+        ResponseHandler<String> responseHandler = mock(ResponseHandler.class);
+        CommunicatorLogger logger = mock(CommunicatorLogger.class);
+        List<RequestHeader> headers = Collections.emptyList();
+
+        when(delegate.get(TEST_URI, headers, responseHandler)).thenReturn("get");
+        when(delegate.delete(TEST_URI, headers, responseHandler)).thenReturn("delete");
+        when(delegate.post(TEST_URI, headers, "body", responseHandler)).thenReturn("post");
+        when(delegate.put(TEST_URI, headers, "body", responseHandler)).thenReturn("put");
+
+        DelegatingConnection connection = new DelegatingConnection(delegate);
+
+        assertThat(connection.delegate()).isSameAs(delegate);
+        assertThat(connection.get(TEST_URI, headers, responseHandler)).isEqualTo("get");
+        assertThat(connection.delete(TEST_URI, headers, responseHandler)).isEqualTo("delete");
+        assertThat(connection.post(TEST_URI, headers, "body", responseHandler)).isEqualTo("post");
+        assertThat(connection.put(TEST_URI, headers, "body", responseHandler)).isEqualTo("put");
+
+        connection.closeIdleConnections(1, TimeUnit.SECONDS);
+        connection.closeExpiredConnections();
+        connection.enableLogging(logger);
+        connection.disableLogging();
+        connection.close();
+
+        verify(delegate).get(TEST_URI, headers, responseHandler);
+        verify(delegate).delete(TEST_URI, headers, responseHandler);
+        verify(delegate).post(TEST_URI, headers, "body", responseHandler);
+        verify(delegate).put(TEST_URI, headers, "body", responseHandler);
+        verify(delegate).closeIdleConnections(1, TimeUnit.SECONDS);
+        verify(delegate).closeExpiredConnections();
+        verify(delegate).enableLogging(logger);
+        verify(delegate).disableLogging();
+        verify(delegate).close();
+        verifyNoMoreInteractions(delegate);
+    }
+
+    @Test
+    void testNonPooledDelegate() {
+        Connection delegate = mock(Connection.class);
+
+        DelegatingConnection connection = new DelegatingConnection(delegate);
+
+        connection.closeIdleConnections(1, TimeUnit.SECONDS);
+        connection.closeExpiredConnections();
+
+        verifyNoMoreInteractions(delegate);
+    }
+
+    @Test
+    void testLevelAwareLogger() throws IOException {
+        Connection delegate = mock(Connection.class);
+        LevelAwareCommunicatorLogger logger = mock(LevelAwareCommunicatorLogger.class);
+        Runnable listenerRemover = mock(Runnable.class);
+        ArgumentCaptor<Runnable> listenerCaptor = ArgumentCaptor.forClass(Runnable.class);
+        when(logger.addLevelChangeListener(listenerCaptor.capture())).thenReturn(listenerRemover);
+
+        DelegatingConnection connection = new DelegatingConnection(delegate);
+
+        // the logger is enabled for neither messages nor errors
+        connection.enableLogging(logger);
+        verify(delegate).disableLogging();
+
+        Runnable listener = listenerCaptor.getValue();
+
+        when(logger.isErrorEnabled()).thenReturn(true);
+        listener.run();
+        verify(delegate).enableLogging(logger);
+
+        // no change
+        listener.run();
+
+        when(logger.isErrorEnabled()).thenReturn(false);
+        listener.run();
+        verify(delegate, times(2)).disableLogging();
+
+        when(logger.isEnabled()).thenReturn(true);
+        listener.run();
+        verify(delegate, times(2)).enableLogging(logger);
+
+        connection.disableLogging();
+        verify(listenerRemover).run();
+        verify(delegate, times(3)).disableLogging();
+
+        // the listener has been removed, but if it's still called it should not have any effect
+        listener.run();
+
+        connection.close();
+        verify(delegate).close();
+        verifyNoMoreInteractions(delegate, listenerRemover);
+    }
+
+    @Test
+    void testCloseRemovesLevelChangeListener() throws IOException {
+        Connection delegate = mock(Connection.class);
+        LevelAwareCommunicatorLogger logger = mock(LevelAwareCommunicatorLogger.class);
+        Runnable listenerRemover = mock(Runnable.class);
+        when(logger.addLevelChangeListener(any())).thenReturn(listenerRemover);
+        when(logger.isEnabled()).thenReturn(true);
+
+        DelegatingConnection connection = new DelegatingConnection(delegate);
+        connection.enableLogging(logger);
+        verify(delegate).enableLogging(logger);
+
+        connection.close();
+        verify(listenerRemover).run();
+        verify(delegate).close();
+        verifyNoMoreInteractions(delegate, listenerRemover);
+    }
+
+    @Test
+    void testLevelChangeWithDefaultConnection() throws IOException {
+        @SuppressWarnings("unchecked")
+        Appender<ILoggingEvent> appender = mock(Appender.class);
+
+        Logger logger = (Logger) LoggerFactory.getLogger(getClass());
+        logger.setLevel(Level.OFF);
+        logger.addAppender(appender);
+
+        CommunicatorLogger communicatorLogger = spy(new LogbackCommunicatorLogger(logger, Level.DEBUG));
+        // nothing listens on port 1, so every request fails after it has been logged
+        URI uri = URI.create("http://localhost:1/v1/1234/services/testconnection");
+        List<RequestHeader> headers = Collections.emptyList();
+        ResponseHandler<String> responseHandler = (statusCode, bodyStream, responseHeaders) -> String.valueOf(statusCode);
+
+        try (DelegatingConnection connection = new DelegatingConnection(new DefaultConnectionBuilder(1000, 1000).build())) {
+            connection.enableLogging(communicatorLogger);
+
+            assertThatThrownBy(() -> connection.get(uri, headers, responseHandler)).isInstanceOf(CommunicationException.class);
+            // the DefaultConnection has no logger, so it did not build any messages
+            verify(communicatorLogger, never()).log(anyString());
+            verify(communicatorLogger, never()).log(anyString(), any());
+
+            logger.setLevel(Level.DEBUG);
+
+            assertThatThrownBy(() -> connection.get(uri, headers, responseHandler)).isInstanceOf(CommunicationException.class);
+            verify(communicatorLogger, atLeastOnce()).log(anyString());
+            verify(appender, atLeastOnce()).doAppend(any());
+
+            clearInvocations(communicatorLogger);
+            logger.setLevel(Level.OFF);
+
+            assertThatThrownBy(() -> connection.get(uri, headers, responseHandler)).isInstanceOf(CommunicationException.class);
+            verify(communicatorLogger, never()).log(anyString());
+            verify(communicatorLogger, never()).log(anyString(), any());
+        } finally {
+            logger.detachAppender(appender);
+            logger.setLevel(null);
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * HedgedConnectionTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import com.worldline.connect.sdk.java.communication.CommunicationException;
+import com.worldline.connect.sdk.java.communication.Connection;
+import com.worldline.connect.sdk.java.communication.RequestHeader;
+import com.worldline.connect.sdk.java.communication.ResponseHandler;
+
+@SuppressWarnings("nls")
+class HedgedConnectionTest {
+
+    private static final URI PAYMENT_URI = URI.create("https://localhost/v1/1234/payments/000000123410000595980000100001");
+    private static final URI IIN_DETAILS_URI = URI.create("https://localhost/v1/1234/services/getIINdetails");
+    private static final String IIN_DETAILS_TEMPLATE = "/v1/{merchantId}/services/getIINdetails";
+
+    private final List<RequestHeader> headers = Collections.emptyList();
+    private final ResponseHandler<String> responseHandler = (statusCode, bodyStream, responseHeaders) -> statusCode + ":" + read(bodyStream);
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testNoHedgeForFastResponse() throws IOException {
+        Connection delegate = mock(Connection.class);
+        when(delegate.get(any(URI.class), anyList(), any())).thenAnswer(i -> handle(i.getArgument(2), "primary"));
+
+        HedgingPolicy policy = spy(new HedgingPolicy(95, Duration.ZERO, Duration.ofSeconds(10)));
+        try (HedgedConnection connection = new HedgedConnection(delegate, policy, Collections.emptyList(), executor)) {
+            assertThat(connection.get(PAYMENT_URI, headers, responseHandler)).isEqualTo("200:primary");
+        }
+
+        verify(delegate, times(1)).get(any(URI.class), anyList(), any());
+        verify(policy, times(1)).recordLatency(longThat(latency -> latency >= 0));
+        assertThat(policy.requestCount()).isEqualTo(1);
+        assertThat(policy.hedgeCount()).isZero();
+        assertThat(policy.hedgeWinCount()).isZero();
+    }
+
+    @Test
+    void testHedgeWins() throws IOException {
+        CountDownLatch primaryCancelled = new CountDownLatch(1);
+        AtomicInteger invocations = new AtomicInteger();
+
+        Connection delegate = mock(Connection.class);
+        when(delegate.get(any(URI.class), anyList(), any())).thenAnswer(i -> {
+            if (invocations.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+                    return handle(i.getArgument(2), "primary");
+                } catch (InterruptedException e) {
+                    primaryCancelled.countDown();
+                    throw new CommunicationException(e);
+                }
+            }
+            return handle(i.getArgument(2), "hedge");
+        });
+
+        HedgingPolicy policy = spy(new HedgingPolicy(95, Duration.ZERO, Duration.ofMillis(50)));
+        try (HedgedConnection connection = new HedgedConnection(delegate, policy, Collections.emptyList(), executor)) {
+            assertThat(connection.get(PAYMENT_URI, headers, responseHandler)).isEqualTo("200:hedge");
+        }
+
+        assertThat(awaitQuietly(primaryCancelled)).isTrue();
+        verify(delegate, times(2)).get(any(URI.class), anyList(), any());
+        // the cancelled original request is recorded with at least the hedging delay, the hedged request is not recorded
+        verify(policy, times(1)).recordLatency(longThat(latency -> latency >= TimeUnit.MILLISECONDS.toNanos(50)));
+        assertThat(policy.requestCount()).isEqualTo(1);
+        assertThat(policy.hedgeCount()).isEqualTo(1);
+        assertThat(policy.hedgeWinCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testPrimaryWinsAfterHedge() throws IOException {
+        CountDownLatch hedgeStarted = new CountDownLatch(1);
+        AtomicInteger invocations = new AtomicInteger();
+
+        Connection delegate = mock(Connection.class);
+        when(delegate.get(any(URI.class), anyList(), any())).thenAnswer(i -> {
+            if (invocations.incrementAndGet() == 1) {
+                awaitQuietly(hedgeStarted);
+                return handle(i.getArgument(2), "primary");
+            }
+            hedgeStarted.countDown();
+            Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+            return handle(i.getArgument(2), "hedge");
+        });
+
+        HedgingPolicy policy = spy(new HedgingPolicy(95, Duration.ZERO, Duration.ofMillis(50)));
+        try (HedgedConnection connection = new HedgedConnection(delegate, policy, Collections.emptyList(), executor)) {
+            assertThat(connection.get(PAYMENT_URI, headers, responseHandler)).isEqualTo("200:primary");
+        }
+
+        assertThat(policy.hedgeCount()).isEqualTo(1);
+        assertThat(policy.hedgeWinCount()).isZero();
+        verify(policy, times(1)).recordLatency(longThat(latency -> latency >= TimeUnit.MILLISECONDS.toNanos(50)));
+    }
+
+    @Test
+    void testBothFail() throws IOException {
+        CommunicationException primaryException = new CommunicationException(new IOException("primary"));
+        CommunicationException hedgeException = new CommunicationException(new IOException("hedge"));
+        CountDownLatch hedgeFailed = new CountDownLatch(1);
+        AtomicInteger invocations = new AtomicInteger();
+
+        Connection delegate = mock(Connection.class);
+        when(delegate.get(any(URI.class), anyList(), any())).thenAnswer(i -> {
+            if (invocations.incrementAndGet() == 1) {
+                awaitQuietly(hedgeFailed);
+                throw primaryException;
+            }
+            hedgeFailed.countDown();
+            throw hedgeException;
+        });
+
+        HedgingPolicy policy = new HedgingPolicy(95, Duration.ZERO, Duration.ofMillis(50));
+        try (HedgedConnection connection = new HedgedConnection(delegate, policy, Collections.emptyList(), executor)) {
+            assertThatThrownBy(() -> connection.get(PAYMENT_URI, headers, responseHandler))
+                    .isSameAs(primaryException);
+        }
+
+        assertThat(policy.hedgeCount()).isEqualTo(1);
+        assertThat(policy.hedgeWinCount()).isZero();
+    }
+
+    @Test
+    void testPrimaryRejected() throws IOException {
+        Connection delegate = mock(Connection.class);
+        when(delegate.get(any(URI.class), anyList(), any())).thenAnswer(i -> handle(i.getArgument(2), Thread.currentThread().getName()));
+
+        HedgingPolicy policy = new HedgingPolicy(95, Duration.ZERO, Duration.ZERO);
+        try (HedgedConnection connection = new HedgedConnection(delegate, policy, Collections.emptyList(), command -> {
+            throw new RejectedExecutionException();
+        })) {
+            assertThat(connection.get(PAYMENT_URI, headers, responseHandler)).isEqualTo("200:" + Thread.currentThread().getName());
+        }
+
+        verify(delegate, times(1)).get(any(URI.class), anyList(), any());
+        assertThat(policy.requestCount()).isEqualTo(1);
+        assertThat(policy.hedgeCount()).isZero();
+    }
+
+    @Test
+    void testHedgeRejected() throws IOException {
+        Connection delegate = mock(Connection.class);
+        when(delegate.get(any(URI.class), anyList(), any())).thenAnswer(i -> {
+            Thread.sleep(200);
+            return handle(i.getArgument(2), "primary");
+        });
+
+        HedgingPolicy policy = new HedgingPolicy(95, Duration.ZERO, Duration.ofMillis(10));
+        // only one thread and no queue, so the hedged request is rejected
+        ExecutorService boundedExecutor = new ThreadPoolExecutor(0, 1, 1, TimeUnit.SECONDS, new SynchronousQueue<>());
+        try (HedgedConnection connection = new HedgedConnection(delegate, policy, Collections.emptyList(), boundedExecutor)) {
+            assertThat(connection.get(PAYMENT_URI, headers, responseHandler)).isEqualTo("200:primary");
+        } finally {
+            boundedExecutor.shutdownNow();
+        }
+
+        verify(delegate, times(1)).get(any(URI.class), anyList(), any());
+        assertThat(policy.requestCount()).isEqualTo(1);
+        assertThat(policy.hedgeCount()).isZero();
+    }
+
+    @Test
+    void testContextIsPropagated() throws IOException {
+        Connection delegate = mock(Connection.class);
+        when(delegate.get(any(URI.class), anyList(), any())).thenAnswer(i -> handle(i.getArgument(2), MDC.get("requestId")));
+
+        HedgingPolicy policy = new HedgingPolicy(95, Duration.ZERO, Duration.ofSeconds(10));
+        MDC.put("requestId", "123");
+        try (HedgedConnection connection = new HedgedConnection(delegate, policy, Collections.emptyList(), executor)) {
+            assertThat(connection.get(PAYMENT_URI, headers, responseHandler)).isEqualTo("200:123");
+        } finally {
+            MDC.remove("requestId");
+        }
+    }
+
+    @Test
+    void testCloseDoesNotShutDownExecutor() throws IOException {
+        Connection delegate = mock(Connection.class);
+
+        HedgingPolicy policy = new HedgingPolicy(95, Duration.ZERO, Duration.ZERO);
+        try (HedgedConnection connection = new HedgedConnection(delegate, policy, Collections.emptyList(), executor)) {
+            assertThat(executor.isShutdown()).isFalse();
+        }
+
+        assertThat(executor.isShutdown()).isFalse();
+        verify(delegate).close();
+    }
+
+    @Test
+    void testPostNotHedgedByDefault() throws IOException {
+        Connection delegate = mock(Connection.class);
+        when(delegate.post(any(URI.class), anyList(), anyString(), any())).thenAnswer(i -> handle(i.getArgument(3), "post"));
+
+        HedgingPolicy policy = new HedgingPolicy(95, Duration.ZERO, Duration.ZERO);
+        try (HedgedConnection connection = new HedgedConnection(delegate, policy, Collections.emptyList(), executor)) {
+            assertThat(connection.post(IIN_DETAILS_URI, headers, "{}", responseHandler)).isEqualTo("200:post");
+        }
+
+        assertThat(policy.requestCount()).isZero();
+    }
+
+    @Test
+    void testIdempotentPost() throws IOException {
+        Connection delegate = mock(Connection.class);
+        when(delegate.post(any(URI.class), anyList(), anyString(), any())).thenAnswer(i -> handle(i.getArgument(3), "post"));
+
+        HedgingPolicy policy = new HedgingPolicy(95, Duration.ZERO, Duration.ofSeconds(10));
+        try (HedgedConnection connection = new HedgedConnection(delegate, policy, List.of(IIN_DETAILS_TEMPLATE), executor)) {
+            assertThat(connection.idempotentPostTemplates()).containsExactly(IIN_DETAILS_TEMPLATE);
+            assertThat(connection.post(IIN_DETAILS_URI, headers, "{}", responseHandler)).isEqualTo("200:post");
+        }
+
+        assertThat(policy.requestCount()).isEqualTo(1);
+    }
+
+    private static <R> R handle(ResponseHandler<R> responseHandler, String body) {
+        return responseHandler.handleResponse(200, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), Collections.emptyList());
+    }
+
+    private static String read(InputStream bodyStream) {
+        try {
+            return new String(bodyStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean awaitQuietly(CountDownLatch latch) {
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * HedgingPolicyTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("nls")
+class HedgingPolicyTest {
+
+    @Test
+    void testInvalidArguments() {
+        Duration second = Duration.ofSeconds(1);
+
+        assertThatThrownBy(() -> new HedgingPolicy(0, second, second))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HedgingPolicy(100, second, second))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HedgingPolicy(Double.NaN, second, second))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HedgingPolicy(95, Duration.ofMillis(-1), second))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HedgingPolicy(95, second, Duration.ofMillis(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testInitialDelay() {
+        HedgingPolicy policy = new HedgingPolicy(95, Duration.ofMillis(10), Duration.ofSeconds(1));
+
+        assertThat(policy.delay()).isEqualTo(Duration.ofSeconds(1));
+
+        for (int i = 1; i < HedgingPolicy.RECALCULATION_INTERVAL; i++) {
+            policy.recordLatency(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        assertThat(policy.delay()).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void testPercentileDelay() {
+        HedgingPolicy policy = new HedgingPolicy(95, Duration.ofMillis(10), Duration.ofSeconds(1));
+
+        // latencies 1 to 100 ms, in a different order
+        for (int i = 100; i > 0; i--) {
+            policy.recordLatency(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        for (int i = 1; i <= 28; i++) {
+            policy.recordLatency(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+
+        // 128 latencies: 1 to 100, and 50 another 28 times; the 95th percentile is the 122nd latency, which is 94
+        assertThat(policy.delay()).isEqualTo(Duration.ofMillis(94));
+    }
+
+    @Test
+    void testMinDelay() {
+        HedgingPolicy policy = new HedgingPolicy(95, Duration.ofMillis(10), Duration.ofSeconds(1));
+
+        for (int i = 0; i < HedgingPolicy.RECALCULATION_INTERVAL; i++) {
+            policy.recordLatency(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+
+        assertThat(policy.delay()).isEqualTo(Duration.ofMillis(10));
+    }
+
+    @Test
+    void testSlidingWindow() {
+        HedgingPolicy policy = new HedgingPolicy(50, Duration.ZERO, Duration.ofSeconds(1));
+
+        for (int i = 0; i < HedgingPolicy.SAMPLE_SIZE; i++) {
+            policy.recordLatency(TimeUnit.SECONDS.toNanos(1));
+        }
+        assertThat(policy.delay()).isEqualTo(Duration.ofSeconds(1));
+
+        // replace more than half of the latencies
+        for (int i = 0; i < HedgingPolicy.SAMPLE_SIZE / 2 + HedgingPolicy.RECALCULATION_INTERVAL; i++) {
+            policy.recordLatency(TimeUnit.MILLISECONDS.toNanos(100));
+        }
+        assertThat(policy.delay()).isEqualTo(Duration.ofMillis(100));
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * IdleConnectionEvictorTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import java.io.IOException;
+import java.lang.reflect.InaccessibleObjectException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.pool.ConnPoolControl;
+import org.apache.http.pool.PoolStats;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import com.worldline.connect.sdk.java.communication.Connection;
+import com.worldline.connect.sdk.java.communication.PooledConnection;
+
+@SuppressWarnings("nls")
+class IdleConnectionEvictorTest {
+
+    @Test
+    void testInvalidArguments() {
+        PooledConnection connection = mock(PooledConnection.class);
+        Duration zero = Duration.ZERO;
+        Duration second = Duration.ofSeconds(1);
+        Duration minute = Duration.ofMinutes(1);
+
+        Duration negative = Duration.ofSeconds(-1);
+
+        assertThatThrownBy(() -> new IdleConnectionEvictor(connection, negative, second, second)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new IdleConnectionEvictor(connection, second, negative, second)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new IdleConnectionEvictor(connection, second, second, zero)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new IdleConnectionEvictor(connection, minute, second, second)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testZeroIdleTime() {
+        PooledConnection connection = mock(PooledConnection.class);
+
+        try (IdleConnectionEvictor evictor = new IdleConnectionEvictor(connection, Duration.ZERO, Duration.ZERO, Duration.ofSeconds(10))) {
+            evictor.evict();
+
+            verify(connection).closeIdleConnections(0, TimeUnit.MILLISECONDS);
+            assertThat(evictor.currentIdleTime()).isEqualTo(Duration.ZERO);
+        }
+    }
+
+    @Test
+    void testEvictWithoutPool() {
+        PooledConnection connection = mock(PooledConnection.class);
+
+        try (IdleConnectionEvictor evictor = new IdleConnectionEvictor(connection, Duration.ofSeconds(5), Duration.ofSeconds(20),
+                Duration.ofSeconds(10))) {
+
+            evictor.evict();
+
+            assertThat(evictor.currentIdleTime()).isEqualTo(Duration.ofSeconds(20));
+            verify(connection).closeExpiredConnections();
+            verify(connection).closeIdleConnections(20_000, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Test
+    void testAdaptiveIdleTime() throws IOException {
+        @SuppressWarnings("unchecked")
+        ConnPoolControl<HttpRoute> pool = mock(ConnPoolControl.class);
+
+        try (PoolConnection connection = new PoolConnection(pool);
+                IdleConnectionEvictor evictor = new IdleConnectionEvictor(connection, Duration.ofSeconds(5), Duration.ofSeconds(25),
+                        Duration.ofSeconds(10))) {
+
+            // no traffic: minimum idle time
+            when(pool.getTotalStats()).thenReturn(new PoolStats(0, 0, 2, 10));
+            assertThat(evictor.updateIdleTime()).isEqualTo(5_000);
+
+            // peak: idle time increases immediately
+            when(pool.getTotalStats()).thenReturn(new PoolStats(10, 0, 0, 10));
+            assertThat(evictor.updateIdleTime()).isEqualTo(25_000);
+
+            // quiet again: idle time decreases gradually
+            when(pool.getTotalStats()).thenReturn(new PoolStats(0, 0, 10, 10));
+            long previous = 25_000;
+            for (int i = 0; i < 5; i++) {
+                long idleTime = evictor.updateIdleTime();
+                assertThat(idleTime).isLessThan(previous).isGreaterThan(5_000);
+                previous = idleTime;
+            }
+        }
+    }
+
+    @Test
+    void testFixedIdleTimeDoesNotLookUpPool() throws IOException {
+        @SuppressWarnings("unchecked")
+        ConnPoolControl<HttpRoute> pool = mock(ConnPoolControl.class);
+
+        try (MockedStatic<ConnectionPools> connectionPools = mockStatic(ConnectionPools.class);
+                PoolConnection connection = new PoolConnection(pool);
+                IdleConnectionEvictor evictor = new IdleConnectionEvictor(connection, Duration.ofSeconds(20), Duration.ofSeconds(20),
+                        Duration.ofSeconds(10))) {
+
+            evictor.evict();
+
+            assertThat(evictor.currentIdleTime()).isEqualTo(Duration.ofSeconds(20));
+            connectionPools.verify(() -> ConnectionPools.findPool(any(Connection.class)), never());
+            verifyNoInteractions(pool);
+        }
+    }
+
+    @Test
+    void testPoolLookupFailure() {
+        PooledConnection connection = mock(PooledConnection.class);
+
+        try (MockedStatic<ConnectionPools> connectionPools = mockStatic(ConnectionPools.class);
+                IdleConnectionEvictor evictor = new IdleConnectionEvictor(connection, Duration.ofSeconds(5), Duration.ofSeconds(20),
+                        Duration.ofSeconds(10))) {
+
+            connectionPools.when(() -> ConnectionPools.findPool(connection)).thenThrow(InaccessibleObjectException.class);
+
+            assertThat(evictor.updateIdleTime()).isEqualTo(20_000);
+            assertThat(evictor.updateIdleTime()).isEqualTo(20_000);
+
+            // the lookup is not retried
+            connectionPools.verify(() -> ConnectionPools.findPool(connection));
+        }
+    }
+
+    @Test
+    void testStartAndClose() {
+        PooledConnection connection = mock(PooledConnection.class);
+        doThrow(IllegalStateException.class).doNothing().when(connection).closeExpiredConnections();
+
+        try (IdleConnectionEvictor evictor = new IdleConnectionEvictor(connection, Duration.ofMillis(5), Duration.ofMillis(20),
+                Duration.ofMillis(10))) {
+
+            evictor.start();
+
+            // the exception of the first run should not prevent further runs
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+                verify(connection, atLeast(2)).closeExpiredConnections();
+                verify(connection, atLeast(1)).closeIdleConnections(anyLong(), eq(TimeUnit.MILLISECONDS));
+            });
+        }
+    }
+
+    private static final class PoolConnection extends DelegatingConnection {
+
+        @SuppressWarnings("unused")
+        private final ConnPoolControl<HttpRoute> pool;
+
+        private PoolConnection(ConnPoolControl<HttpRoute> pool) {
+            super(mock(PooledConnection.class));
+            this.pool = pool;
+        }
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * JdkHttpClientConnectionTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.connect.sdk.java.springboot.logging.LevelAwareCommunicatorLogger;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.worldline.connect.sdk.java.communication.CommunicationException;
+import com.worldline.connect.sdk.java.communication.RequestHeader;
+import com.worldline.connect.sdk.java.communication.ResponseHandler;
+import com.worldline.connect.sdk.java.communication.ResponseHeader;
+import com.worldline.connect.sdk.java.logging.CommunicatorLogger;
+
+@SuppressWarnings("nls")
+class JdkHttpClientConnectionTest {
+
+    private HttpServer server;
+    private URI baseUri;
+
+    private final AtomicReference<String> requestMethod = new AtomicReference<>();
+    private final AtomicReference<String> requestBody = new AtomicReference<>();
+    private final AtomicReference<String> requestHeader = new AtomicReference<>();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v1/merchant/services/testconnection", this::handleTestConnection);
+        server.createContext("/v1/merchant/payments", this::handleEcho);
+        server.createContext("/v1/merchant/not-found", this::handleNotFound);
+        server.start();
+
+        baseUri = URI.create("http://localhost:" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    private void handleTestConnection(HttpExchange exchange) throws IOException {
+        recordRequest(exchange);
+        sendResponse(exchange, 200, "{\"result\":\"OK\"}");
+    }
+
+    private void handleEcho(HttpExchange exchange) throws IOException {
+        recordRequest(exchange);
+        sendResponse(exchange, 201, requestBody.get());
+    }
+
+    private void handleNotFound(HttpExchange exchange) throws IOException {
+        recordRequest(exchange);
+        sendResponse(exchange, 404, "{\"errorId\":\"1\"}");
+    }
+
+    private void recordRequest(HttpExchange exchange) throws IOException {
+        requestMethod.set(exchange.getRequestMethod());
+        requestHeader.set(exchange.getRequestHeaders().getFirst("X-GCS-Test"));
+        try (InputStream input = exchange.getRequestBody()) {
+            requestBody.set(new String(input.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private void sendResponse(HttpExchange exchange, int statusCode, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.getResponseHeaders().add("X-GCS-Response", "value");
+        exchange.sendResponseHeaders(statusCode, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    private JdkHttpClientConnection createConnection() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        return new JdkHttpClientConnection(httpClient, Duration.ofSeconds(10));
+    }
+
+    private ResponseHandler<String> responseHandler(AtomicReference<Integer> statusCode, AtomicReference<List<ResponseHeader>> headers) {
+        return (status, bodyStream, responseHeaders) -> {
+            statusCode.set(status);
+            headers.set(responseHeaders);
+            try {
+                return new String(bodyStream.readAllBytes(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    @Test
+    void testGet() {
+        AtomicReference<Integer> statusCode = new AtomicReference<>();
+        AtomicReference<List<ResponseHeader>> headers = new AtomicReference<>();
+
+        try (JdkHttpClientConnection connection = createConnection()) {
+            String result = connection.get(baseUri.resolve("/v1/merchant/services/testconnection"),
+                    List.of(new RequestHeader("X-GCS-Test", "test"), new RequestHeader("Connection", "keep-alive")),
+                    responseHandler(statusCode, headers));
+
+            assertThat(result).isEqualTo("{\"result\":\"OK\"}");
+            assertThat(statusCode).hasValue(200);
+            assertThat(headers.get())
+                    .extracting(ResponseHeader::getName)
+                    .map(String::toLowerCase)
+                    .contains("content-type", "x-gcs-response");
+            assertThat(requestMethod).hasValue("GET");
+            assertThat(requestHeader).hasValue("test");
+        }
+    }
+
+    @Test
+    void testDelete() {
+        AtomicReference<Integer> statusCode = new AtomicReference<>();
+        AtomicReference<List<ResponseHeader>> headers = new AtomicReference<>();
+
+        try (JdkHttpClientConnection connection = createConnection()) {
+            String result = connection.delete(baseUri.resolve("/v1/merchant/not-found"), List.of(), responseHandler(statusCode, headers));
+
+            assertThat(result).isEqualTo("{\"errorId\":\"1\"}");
+            assertThat(statusCode).hasValue(404);
+            assertThat(requestMethod).hasValue("DELETE");
+        }
+    }
+
+    @Test
+    void testPost() {
+        AtomicReference<Integer> statusCode = new AtomicReference<>();
+        AtomicReference<List<ResponseHeader>> headers = new AtomicReference<>();
+
+        try (JdkHttpClientConnection connection = createConnection()) {
+            String body = "{\"order\":{}}";
+            String result = connection.post(baseUri.resolve("/v1/merchant/payments"),
+                    List.of(new RequestHeader("Content-Type", "application/json")), body, responseHandler(statusCode, headers));
+
+            assertThat(result).isEqualTo(body);
+            assertThat(statusCode).hasValue(201);
+            assertThat(requestMethod).hasValue("POST");
+            assertThat(requestBody).hasValue(body);
+        }
+    }
+
+    @Test
+    void testPut() {
+        AtomicReference<Integer> statusCode = new AtomicReference<>();
+        AtomicReference<List<ResponseHeader>> headers = new AtomicReference<>();
+
+        try (JdkHttpClientConnection connection = createConnection()) {
+            String body = "{\"order\":{}}";
+            String result = connection.put(baseUri.resolve("/v1/merchant/payments"),
+                    List.of(new RequestHeader("Content-Type", "application/json")), body, responseHandler(statusCode, headers));
+
+            assertThat(result).isEqualTo(body);
+            assertThat(statusCode).hasValue(201);
+            assertThat(requestMethod).hasValue("PUT");
+            assertThat(requestBody).hasValue(body);
+        }
+    }
+
+    @Test
+    void testWithLogging() {
+        CommunicatorLogger logger = mock(CommunicatorLogger.class);
+
+        AtomicReference<Integer> statusCode = new AtomicReference<>();
+        AtomicReference<List<ResponseHeader>> headers = new AtomicReference<>();
+
+        try (JdkHttpClientConnection connection = createConnection()) {
+            connection.enableLogging(logger);
+
+            String result = connection.get(baseUri.resolve("/v1/merchant/services/testconnection"), List.of(),
+                    responseHandler(statusCode, headers));
+
+            assertThat(result).isEqualTo("{\"result\":\"OK\"}");
+
+            verify(logger).log(startsWith("Outgoing request"));
+            verify(logger).log(startsWith("Incoming response"));
+            verifyNoMoreInteractions(logger);
+
+            connection.disableLogging();
+
+            connection.get(baseUri.resolve("/v1/merchant/services/testconnection"), List.of(), responseHandler(statusCode, headers));
+
+            verify(logger, times(2)).log(any(String.class));
+            verifyNoMoreInteractions(logger);
+        }
+    }
+
+    @Test
+    void testWithDisabledLogging() {
+        LevelAwareCommunicatorLogger logger = mock(LevelAwareCommunicatorLogger.class);
+
+        AtomicReference<Integer> statusCode = new AtomicReference<>();
+        AtomicReference<List<ResponseHeader>> headers = new AtomicReference<>();
+
+        try (JdkHttpClientConnection connection = createConnection()) {
+            connection.enableLogging(logger);
+
+            String result = connection.get(baseUri.resolve("/v1/merchant/services/testconnection"), List.of(),
+                    responseHandler(statusCode, headers));
+
+            assertThat(result).isEqualTo("{\"result\":\"OK\"}");
+
+            verify(logger, never()).log(any(String.class));
+            verify(logger, never()).log(any(String.class), any(Throwable.class));
+
+            when(logger.isEnabled()).thenReturn(true);
+
+            connection.get(baseUri.resolve("/v1/merchant/services/testconnection"), List.of(), responseHandler(statusCode, headers));
+
+            verify(logger).log(startsWith("Outgoing request"));
+            verify(logger).log(startsWith("Incoming response"));
+        }
+    }
+
+    @Test
+    void testConnectionFailure() {
+        server.stop(0);
+
+        CommunicatorLogger logger = mock(CommunicatorLogger.class);
+
+        AtomicReference<Integer> statusCode = new AtomicReference<>();
+        AtomicReference<List<ResponseHeader>> headers = new AtomicReference<>();
+
+        try (JdkHttpClientConnection connection = createConnection()) {
+            connection.enableLogging(logger);
+
+            URI uri = baseUri.resolve("/v1/merchant/services/testconnection");
+            ResponseHandler<String> responseHandler = responseHandler(statusCode, headers);
+            List<RequestHeader> requestHeaders = List.of();
+
+            assertThatThrownBy(() -> connection.get(uri, requestHeaders, responseHandler))
+                    .isInstanceOf(CommunicationException.class)
+                    .hasCauseInstanceOf(IOException.class);
+
+            verify(logger).log(startsWith("Error occurred for outgoing request"), any(IOException.class));
+        }
+    }
+
+    @Test
+    void testConnectionFailureWithOnlyErrorLoggingEnabled() {
+        server.stop(0);
+
+        LevelAwareCommunicatorLogger logger = mock(LevelAwareCommunicatorLogger.class);
+        when(logger.isErrorEnabled()).thenReturn(true);
+
+        AtomicReference<Integer> statusCode = new AtomicReference<>();
+        AtomicReference<List<ResponseHeader>> headers = new AtomicReference<>();
+
+        try (JdkHttpClientConnection connection = createConnection()) {
+            connection.enableLogging(logger);
+
+            URI uri = baseUri.resolve("/v1/merchant/services/testconnection");
+            ResponseHandler<String> responseHandler = responseHandler(statusCode, headers);
+            List<RequestHeader> requestHeaders = List.of();
+
+            assertThatThrownBy(() -> connection.get(uri, requestHeaders, responseHandler))
+                    .isInstanceOf(CommunicationException.class)
+                    .hasCauseInstanceOf(IOException.class);
+
+            verify(logger, never()).log(any(String.class));
+            verify(logger).log(startsWith("Error occurred for outgoing request"), any(IOException.class));
+        }
+    }
+
+    @Test
+    void testCloseClosesExecutor() throws Exception {
+        AutoCloseable executor = mock(AutoCloseable.class);
+        HttpClient httpClient = HttpClient.newHttpClient();
+
+        JdkHttpClientConnection connection = new JdkHttpClientConnection(httpClient, null, executor);
+        connection.close();
+
+        verify(executor).close();
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * RateLimitedConnectionTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.Test;
+import com.worldline.connect.sdk.java.communication.CommunicationException;
+import com.worldline.connect.sdk.java.communication.Connection;
+import com.worldline.connect.sdk.java.communication.RequestHeader;
+import com.worldline.connect.sdk.java.communication.ResponseHandler;
+
+@SuppressWarnings("nls")
+class RateLimitedConnectionTest {
+
+    private static final URI PAYMENT_URI = URI.create("https://localhost/v1/1234/payments/000000123410000595980000100001");
+    private static final URI REFUND_URI = URI.create("https://localhost/v1/1234/payments/000000123410000595980000100001/refund");
+    private static final String REFUND_OPERATION = "POST /v1/{merchantId}/payments/{paymentId}/refund";
+    private static final URI TEST_URI = URI.create("https://localhost/v1/1234/services/testconnection");
+
+    private final List<RequestHeader> headers = Collections.emptyList();
+    private final ResponseHandler<String> responseHandler = (statusCode, bodyStream, responseHeaders) -> "result";
+
+    @Test
+    void testGroupLimit() {
+        Connection delegate = mock(Connection.class);
+        when(delegate.post(any(URI.class), anyList(), anyString(), any())).thenReturn("post");
+        when(delegate.get(any(URI.class), anyList(), any())).thenReturn("get");
+
+        RateLimiter refunds = new RateLimiter(1, 1, Duration.ZERO);
+        RateLimits rateLimits = new RateLimits(null, Map.of("refunds", refunds), Map.of(REFUND_OPERATION, "refunds"));
+        RateLimitedConnection connection = new RateLimitedConnection(delegate, rateLimits);
+
+        assertThat(connection.post(REFUND_URI, headers, "{}", responseHandler)).isEqualTo("post");
+
+        assertThatThrownBy(() -> connection.post(REFUND_URI, headers, "{}", responseHandler))
+                .isInstanceOf(CommunicationException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class)
+                .hasRootCauseMessage("Rate limit exceeded for " + REFUND_OPERATION);
+
+        // other operations are not limited, including other operations on the same resource
+        assertThat(connection.get(PAYMENT_URI, headers, responseHandler)).isEqualTo("get");
+        assertThat(connection.get(PAYMENT_URI, headers, responseHandler)).isEqualTo("get");
+        assertThat(connection.get(TEST_URI, headers, responseHandler)).isEqualTo("get");
+        assertThat(connection.get(TEST_URI, headers, responseHandler)).isEqualTo("get");
+
+        assertThat(refunds.permitCount()).isEqualTo(1);
+        assertThat(refunds.rejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testGlobalLimit() {
+        Connection delegate = mock(Connection.class);
+        when(delegate.get(any(URI.class), anyList(), any())).thenReturn("get");
+
+        RateLimiter global = new RateLimiter(1, 1, Duration.ZERO);
+        RateLimits rateLimits = new RateLimits(global, Collections.emptyMap(), Collections.emptyMap());
+        RateLimitedConnection connection = new RateLimitedConnection(delegate, rateLimits);
+
+        assertThat(connection.get(TEST_URI, headers, responseHandler)).isEqualTo("get");
+
+        assertThatThrownBy(() -> connection.delete(REFUND_URI, headers, responseHandler))
+                .isInstanceOf(CommunicationException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class)
+                .hasRootCauseMessage("Rate limit exceeded for all requests");
+
+        verify(delegate, never()).delete(any(URI.class), anyList(), any());
+    }
+
+    @Test
+    void testGlobalLimitCancelsGroupPermit() {
+        Connection delegate = mock(Connection.class);
+        when(delegate.post(any(URI.class), anyList(), anyString(), any())).thenReturn("post");
+        when(delegate.get(any(URI.class), anyList(), any())).thenReturn("get");
+
+        RateLimiter global = new RateLimiter(1, 1, Duration.ZERO);
+        RateLimiter refunds = new RateLimiter(1, 1, Duration.ZERO);
+        RateLimits rateLimits = new RateLimits(global, Map.of("refunds", refunds), Map.of(REFUND_OPERATION, "refunds"));
+        RateLimitedConnection connection = new RateLimitedConnection(delegate, rateLimits);
+
+        assertThat(connection.get(TEST_URI, headers, responseHandler)).isEqualTo("get");
+
+        assertThatThrownBy(() -> connection.post(REFUND_URI, headers, "{}", responseHandler))
+                .isInstanceOf(CommunicationException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class)
+                .hasRootCauseMessage("Rate limit exceeded for all requests");
+
+        verify(delegate, never()).post(any(URI.class), anyList(), anyString(), any());
+
+        // the refund was not sent, so its permit is available again
+        assertThat(refunds.permitCount()).isZero();
+        assertThat(refunds.reserve()).isZero();
+    }
+
+    @Test
+    void testWait() {
+        Connection delegate = mock(Connection.class);
+        when(delegate.get(any(URI.class), anyList(), any())).thenReturn("get");
+
+        RateLimiter global = new RateLimiter(20, 1, Duration.ofSeconds(1));
+        RateLimits rateLimits = new RateLimits(global, Collections.emptyMap(), Collections.emptyMap());
+        RateLimitedConnection connection = new RateLimitedConnection(delegate, rateLimits);
+
+        long start = System.nanoTime();
+        assertThat(connection.get(TEST_URI, headers, responseHandler)).isEqualTo("get");
+        assertThat(connection.get(TEST_URI, headers, responseHandler)).isEqualTo("get");
+        long duration = System.nanoTime() - start;
+
+        assertThat(Duration.ofNanos(duration)).isGreaterThanOrEqualTo(Duration.ofMillis(40));
+        assertThat(global.waitCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * RateLimiterTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("nls")
+class RateLimiterTest {
+
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+
+    @Test
+    void testInvalidArguments() {
+        assertThatThrownBy(() -> new RateLimiter(0, 1, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RateLimiter(Double.NaN, 1, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RateLimiter(Double.POSITIVE_INFINITY, 1, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RateLimiter(1, 0, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RateLimiter(1, 1, Duration.ofMillis(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testFailFast() {
+        RateLimiter rateLimiter = new RateLimiter(10, 1, Duration.ZERO, clock::get);
+
+        assertThat(rateLimiter.reserve()).isZero();
+        assertThat(rateLimiter.reserve()).isEqualTo(-1);
+
+        clock.addAndGet(INTERVAL);
+
+        assertThat(rateLimiter.reserve()).isZero();
+
+        assertThat(rateLimiter.permitCount()).isEqualTo(2);
+        assertThat(rateLimiter.rejectedCount()).isEqualTo(1);
+        assertThat(rateLimiter.waitCount()).isZero();
+    }
+
+    @Test
+    void testWait() {
+        RateLimiter rateLimiter = new RateLimiter(10, 1, Duration.ofMillis(250), clock::get);
+
+        assertThat(rateLimiter.reserve()).isZero();
+        assertThat(rateLimiter.reserve()).isEqualTo(INTERVAL);
+        assertThat(rateLimiter.reserve()).isEqualTo(2 * INTERVAL);
+        // 300ms exceeds the maximum wait time
+        assertThat(rateLimiter.reserve()).isEqualTo(-1);
+
+        assertThat(rateLimiter.permitCount()).isEqualTo(3);
+        assertThat(rateLimiter.rejectedCount()).isEqualTo(1);
+        assertThat(rateLimiter.waitCount()).isEqualTo(2);
+        assertThat(rateLimiter.totalWaitTime(TimeUnit.MILLISECONDS)).isEqualTo(300);
+    }
+
+    @Test
+    void testBurst() {
+        RateLimiter rateLimiter = new RateLimiter(10, 3, Duration.ZERO, clock::get);
+
+        assertThat(rateLimiter.reserve()).isZero();
+        assertThat(rateLimiter.reserve()).isZero();
+        assertThat(rateLimiter.reserve()).isZero();
+        assertThat(rateLimiter.reserve()).isEqualTo(-1);
+
+        // one permit becomes available per interval
+        clock.addAndGet(INTERVAL);
+
+        assertThat(rateLimiter.reserve()).isZero();
+        assertThat(rateLimiter.reserve()).isEqualTo(-1);
+
+        // after a long period without requests, no more than the burst is available
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertThat(rateLimiter.reserve()).isZero();
+        assertThat(rateLimiter.reserve()).isZero();
+        assertThat(rateLimiter.reserve()).isZero();
+        assertThat(rateLimiter.reserve()).isEqualTo(-1);
+    }
+
+    @Test
+    void testCancel() {
+        RateLimiter rateLimiter = new RateLimiter(10, 1, Duration.ofMillis(150), clock::get);
+
+        assertThat(rateLimiter.reserve()).isZero();
+        long wait = rateLimiter.reserve();
+        assertThat(wait).isEqualTo(INTERVAL);
+        // 200ms exceeds the maximum wait time
+        assertThat(rateLimiter.reserve()).isEqualTo(-1);
+
+        rateLimiter.cancel(wait);
+
+        assertThat(rateLimiter.reserve()).isEqualTo(INTERVAL);
+
+        assertThat(rateLimiter.permitCount()).isEqualTo(2);
+        assertThat(rateLimiter.waitCount()).isEqualTo(1);
+        assertThat(rateLimiter.totalWaitTime(TimeUnit.MILLISECONDS)).isEqualTo(100);
+    }
+
+    @Test
+    void testProperties() {
+        RateLimiter rateLimiter = new RateLimiter(2.5, 5, Duration.ofSeconds(1));
+
+        assertThat(rateLimiter.permitsPerSecond()).isEqualTo(2.5);
+        assertThat(rateLimiter.burst()).isEqualTo(5);
+        assertThat(rateLimiter.maxWait()).isEqualTo(Duration.ofSeconds(1));
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * RateLimitsTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("nls")
+class RateLimitsTest {
+
+    private final RateLimiter refunds = new RateLimiter(1, 1, Duration.ZERO);
+
+    @Test
+    void testForOperation() {
+        RateLimits rateLimits = new RateLimits(null, Map.of("refunds", refunds), Map.of(
+                "post /v1/{merchantId}/payments/{paymentId}/refund", "refunds",
+                "GET /v1/{merchantId}/refunds/{refundId}", "refunds"));
+
+        assertThat(rateLimits.forOperation("POST", "/v1/{merchantId}/payments/{paymentId}/refund")).isSameAs(refunds);
+        assertThat(rateLimits.forOperation("GET", "/v1/{merchantId}/refunds/{refundId}")).isSameAs(refunds);
+        assertThat(rateLimits.forOperation("GET", "/v1/{merchantId}/payments/{paymentId}/refund")).isNull();
+        assertThat(rateLimits.forOperation("POST", "/v1/{merchantId}/payments")).isNull();
+        assertThat(rateLimits.forGroup("refunds")).isSameAs(refunds);
+    }
+
+    @Test
+    void testUnknownGroup() {
+        Map<String, RateLimiter> groups = Map.of("refunds", refunds);
+        Map<String, String> operations = Map.of("POST /v1/{merchantId}/payments", "payments");
+
+        assertThatThrownBy(() -> new RateLimits(null, groups, operations))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testInvalidOperation() {
+        Map<String, RateLimiter> groups = Map.of("refunds", refunds);
+        Map<String, String> operations = Map.of("/v1/{merchantId}/payments/{paymentId}/refund", "refunds");
+
+        assertThatThrownBy(() -> new RateLimits(null, groups, operations))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
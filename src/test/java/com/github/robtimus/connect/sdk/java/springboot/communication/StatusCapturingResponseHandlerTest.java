@@ -0,0 +1,54 @@
+/*
+ * StatusCapturingResponseHandlerTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.communication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.io.ByteArrayInputStream;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import com.worldline.connect.sdk.java.communication.ResponseHandler;
+
+@SuppressWarnings("nls")
+class StatusCapturingResponseHandlerTest {
+
+    @Test
+    void testHandleResponse() {
+        StatusCapturingResponseHandler<String> handler = new StatusCapturingResponseHandler<>((statusCode, bodyStream, headers) -> "result");
+
+        assertThat(handler.statusCode()).isZero();
+
+        String result = handler.handleResponse(201, new ByteArrayInputStream(new byte[0]), Collections.emptyList());
+
+        assertThat(result).isEqualTo("result");
+        assertThat(handler.statusCode()).isEqualTo(201);
+    }
+
+    @Test
+    void testHandleResponseWithException() {
+        IllegalStateException exception = new IllegalStateException();
+        ResponseHandler<String> delegate = (statusCode, bodyStream, headers) -> {
+            throw exception;
+        };
+        StatusCapturingResponseHandler<String> handler = new StatusCapturingResponseHandler<>(delegate);
+
+        assertThatThrownBy(() -> handler.handleResponse(404, new ByteArrayInputStream(new byte[0]), Collections.emptyList()))
+                .isSameAs(exception);
+        assertThat(handler.statusCode()).isEqualTo(404);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * IdlePoolTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.robtimus.connect.sdk.java.springboot.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@SuppressWarnings("nls")
+class IdlePoolTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, -1 })
+    void testInvalidMaxIdle(int maxIdle) {
+        assertThatThrownBy(() -> new IdlePool<>(maxIdle))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maxIdle must be > 0, is " + maxIdle);
+    }
+
+    @Test
+    void testAcquireFromEmptyPool() {
+        IdlePool<Object> pool = new IdlePool<>(4);
+
+        assertThat(pool.acquire()).isNull();
+        assertThat(pool.maxIdle()).isEqualTo(4);
+        assertThat(pool.idleCount()).isZero();
+    }
+
+    @Test
+    void testReleaseAndAcquire() {
+        IdlePool<Object> pool = new IdlePool<>(4);
+        Set<Object> objects = Set.of(new Object(), new Object(), new Object(), new Object());
+
+        for (Object object : objects) {
+            assertThat(pool.release(object)).isTrue();
+        }
+        assertThat(pool.idleCount()).isEqualTo(4);
+
+        Set<Object> acquired = new HashSet<>();
+        for (int i = 0; i < objects.size(); i++) {
+            acquired.add(pool.acquire());
+        }
+        assertThat(acquired).isEqualTo(objects);
+        assertThat(pool.idleCount()).isZero();
+        assertThat(pool.acquire()).isNull();
+    }
+
+    @Test
+    void testReleaseToFullPool() {
+        IdlePool<Object> pool = new IdlePool<>(1);
+
+        assertThat(pool.release(new Object())).isTrue();
+        assertThat(pool.release(new Object())).isFalse();
+        assertThat(pool.idleCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * DomainTypeAdaptersTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.List;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.worldline.connect.sdk.java.json.DefaultMarshaller;
+import com.worldline.connect.sdk.java.json.Marshaller;
+import com.worldline.connect.sdk.java.json.MarshallerSyntaxException;
+import com.worldline.connect.sdk.java.v1.domain.AmountOfMoney;
+import com.worldline.connect.sdk.java.v1.domain.Card;
+import com.worldline.connect.sdk.java.v1.domain.CardPaymentMethodSpecificInput;
+import com.worldline.connect.sdk.java.v1.domain.CreatePaymentRequest;
+import com.worldline.connect.sdk.java.v1.domain.CreatePaymentResponse;
+import com.worldline.connect.sdk.java.v1.domain.ErrorResponse;
+import com.worldline.connect.sdk.java.v1.domain.Order;
+import com.worldline.connect.sdk.java.v1.domain.PaymentProducts;
+
+@SuppressWarnings("nls")
+class DomainTypeAdaptersTest {
+
+    private final Marshaller expectedMarshaller = DefaultMarshaller.INSTANCE;
+    private final Gson gson = PooledGsonMarshaller.gsonBuilder()
+            .registerTypeAdapterFactory(DomainTypeAdapters.factory())
+            .create();
+    private final GsonMarshaller marshaller = new GsonMarshaller(gson);
+
+    @Nested
+    class Compatibility {
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("com.github.robtimus.connect.sdk.java.springboot.json.JacksonMarshallerTest#responses")
+        void testUnmarshal(Class<?> type, String json) {
+            Object expected = expectedMarshaller.unmarshal(json, type);
+            Object actual = marshaller.unmarshal(json, type);
+
+            assertInstanceOf(type, actual);
+            assertEquals(expectedMarshaller.marshal(expected), expectedMarshaller.marshal(actual));
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("com.github.robtimus.connect.sdk.java.springboot.json.JacksonMarshallerTest#responses")
+        void testMarshalResponse(Class<?> type, String json) {
+            Object object = expectedMarshaller.unmarshal(json, type);
+
+            // compare the JSON strings, not parsed JSON, to verify that fields are written in the same order
+            assertEquals(expectedMarshaller.marshal(object), marshaller.marshal(object));
+        }
+
+        @Test
+        void testMarshalRequest() {
+            CreatePaymentRequest request = createPaymentRequest();
+
+            assertEquals(expectedMarshaller.marshal(request), marshaller.marshal(request));
+        }
+
+        @Test
+        void testRoundTrip() {
+            CreatePaymentRequest request = createPaymentRequest();
+
+            CreatePaymentRequest unmarshalled = marshaller.unmarshal(marshaller.marshal(request), CreatePaymentRequest.class);
+
+            assertEquals(expectedMarshaller.marshal(request), expectedMarshaller.marshal(unmarshalled));
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(classes = { AmountOfMoney.class, CreatePaymentRequest.class, CreatePaymentResponse.class, ErrorResponse.class,
+            PaymentProducts.class })
+    void testGeneratedTypeAdapterIsUsed(Class<?> type) {
+        assertEquals(GeneratedDomainTypeAdapterFactory.class, gson.getAdapter(type).getClass().getEnclosingClass());
+    }
+
+    @Test
+    void testNoTypeAdapterForOtherTypes() {
+        assertNull(DomainTypeAdapters.factory().create(gson, TypeToken.get(String.class)));
+        assertNull(DomainTypeAdapters.factory().create(gson, new TypeToken<List<AmountOfMoney>>() {
+            // no body
+        }));
+    }
+
+    @Test
+    void testHasFields() {
+        assertTrue(DomainTypeAdapters.hasFields(AmountOfMoney.class, "amount:java.lang.Long", "currencyCode:java.lang.String"));
+
+        assertFalse(DomainTypeAdapters.hasFields(AmountOfMoney.class, "amount:java.lang.Long"));
+        assertFalse(DomainTypeAdapters.hasFields(AmountOfMoney.class, "currencyCode:java.lang.String", "amount:java.lang.Long"));
+        assertFalse(DomainTypeAdapters.hasFields(AmountOfMoney.class, "amount:java.lang.Integer", "currencyCode:java.lang.String"));
+    }
+
+    @Test
+    void testSerializeNulls() {
+        Gson serializeNullsGson = PooledGsonMarshaller.gsonBuilder()
+                .registerTypeAdapterFactory(DomainTypeAdapters.factory())
+                .serializeNulls()
+                .create();
+
+        AmountOfMoney amountOfMoney = new AmountOfMoney();
+        amountOfMoney.setAmount(100L);
+
+        assertEquals("{\"amount\":100,\"currencyCode\":null}", serializeNullsGson.toJson(amountOfMoney));
+        assertEquals("{\"amount\":100}", gson.toJson(amountOfMoney));
+    }
+
+    @Test
+    void testUnmarshalIgnoresUnknownProperties() {
+        AmountOfMoney amountOfMoney = marshaller.unmarshal("{\"amount\":100,\"currencyCode\":\"EUR\",\"unknown\":{\"nested\":[1,2]}}",
+                AmountOfMoney.class);
+
+        assertEquals(100L, amountOfMoney.getAmount());
+        assertEquals("EUR", amountOfMoney.getCurrencyCode());
+    }
+
+    @Test
+    void testUnmarshalNull() {
+        assertNull(marshaller.unmarshal("null", AmountOfMoney.class));
+
+        CreatePaymentRequest request = marshaller.unmarshal("{\"order\":null}", CreatePaymentRequest.class);
+        assertNull(request.getOrder());
+    }
+
+    @Test
+    void testUnmarshalInvalidJson() {
+        assertThrows(MarshallerSyntaxException.class, () -> marshaller.unmarshal("{\"amount\":", AmountOfMoney.class));
+        assertThrows(MarshallerSyntaxException.class, () -> marshaller.unmarshal("{\"amount\":\"abc\"}", AmountOfMoney.class));
+        assertThrows(MarshallerSyntaxException.class, () -> marshaller.unmarshal("[1, 2]", AmountOfMoney.class));
+    }
+
+    private static CreatePaymentRequest createPaymentRequest() {
+        AmountOfMoney amountOfMoney = new AmountOfMoney();
+        amountOfMoney.setAmount(2980L);
+        amountOfMoney.setCurrencyCode("EUR");
+
+        Order order = new Order();
+        order.setAmountOfMoney(amountOfMoney);
+
+        Card card = new Card();
+        card.setCardNumber("4567350000427977");
+        card.setCardholderName("Wile E. Coyote");
+        card.setCvv("123");
+        card.setExpiryDate("1299");
+
+        CardPaymentMethodSpecificInput cardPaymentMethodSpecificInput = new CardPaymentMethodSpecificInput();
+        cardPaymentMethodSpecificInput.setCard(card);
+        cardPaymentMethodSpecificInput.setPaymentProductId(1);
+        cardPaymentMethodSpecificInput.setIsRecurring(false);
+
+        CreatePaymentRequest request = new CreatePaymentRequest();
+        request.setOrder(order);
+        request.setCardPaymentMethodSpecificInput(cardPaymentMethodSpecificInput);
+        return request;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * GsonMarshallerTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.worldline.connect.sdk.java.json.DefaultMarshaller;
+import com.worldline.connect.sdk.java.json.Marshaller;
+import com.worldline.connect.sdk.java.json.MarshallerSyntaxException;
+import com.worldline.connect.sdk.java.v1.domain.AmountOfMoney;
+
+@SuppressWarnings("nls")
+class GsonMarshallerTest {
+
+    private static final String AMOUNT_OF_MONEY = "{\"amount\":100,\"currencyCode\":\"EUR\"}";
+
+    private final Marshaller expectedMarshaller = DefaultMarshaller.INSTANCE;
+    private final GsonMarshaller marshaller = new GsonMarshaller(PooledGsonMarshaller.gsonBuilder().create());
+
+    @Test
+    void testMarshal() {
+        AmountOfMoney amountOfMoney = expectedMarshaller.unmarshal(AMOUNT_OF_MONEY, AmountOfMoney.class);
+
+        assertEquals(parse(expectedMarshaller.marshal(amountOfMoney)), parse(marshaller.marshal(amountOfMoney)));
+    }
+
+    @Test
+    void testUnmarshal() {
+        AmountOfMoney amountOfMoney = marshaller.unmarshal(AMOUNT_OF_MONEY, AmountOfMoney.class);
+
+        assertEquals(100L, amountOfMoney.getAmount());
+        assertEquals("EUR", amountOfMoney.getCurrencyCode());
+    }
+
+    @Test
+    void testUnmarshalFromInputStream() {
+        AmountOfMoney amountOfMoney = marshaller.unmarshal(toInputStream(AMOUNT_OF_MONEY), AmountOfMoney.class);
+
+        assertEquals(100L, amountOfMoney.getAmount());
+        assertEquals("EUR", amountOfMoney.getCurrencyCode());
+    }
+
+    @Test
+    void testUnmarshalInvalidJson() {
+        assertThrows(MarshallerSyntaxException.class, () -> marshaller.unmarshal("{\"amount\":", AmountOfMoney.class));
+
+        InputStream inputStream = toInputStream("{\"amount\":\"abc\"}");
+        assertThrows(MarshallerSyntaxException.class, () -> marshaller.unmarshal(inputStream, AmountOfMoney.class));
+    }
+
+    @Test
+    void testCustomTypeAdapter() {
+        Gson gson = PooledGsonMarshaller.gsonBuilder()
+                .registerTypeAdapter(AmountOfMoney.class, new AmountOfMoneyAdapter())
+                .create();
+        GsonMarshaller customMarshaller = new GsonMarshaller(gson);
+
+        AmountOfMoney amountOfMoney = customMarshaller.unmarshal(toInputStream(AMOUNT_OF_MONEY), AmountOfMoney.class);
+
+        assertEquals(100L, amountOfMoney.getAmount());
+        assertEquals("CUSTOM", amountOfMoney.getCurrencyCode());
+    }
+
+    private static JsonElement parse(String json) {
+        return JsonParser.parseString(json);
+    }
+
+    private static InputStream toInputStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class AmountOfMoneyAdapter extends TypeAdapter<AmountOfMoney> {
+
+        @Override
+        public void write(JsonWriter out, AmountOfMoney value) throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AmountOfMoney read(JsonReader in) throws IOException {
+            AmountOfMoney result = new AmountOfMoney();
+            in.beginObject();
+            while (in.hasNext()) {
+                if ("amount".equals(in.nextName())) {
+                    result.setAmount(in.nextLong());
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            result.setCurrencyCode("CUSTOM");
+            return result;
+        }
+    }
+}
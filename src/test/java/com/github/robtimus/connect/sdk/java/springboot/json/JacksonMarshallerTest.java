@@ -0,0 +1,312 @@
+/*
+ * JacksonMarshallerTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.worldline.connect.sdk.java.json.DefaultMarshaller;
+import com.worldline.connect.sdk.java.json.Marshaller;
+import com.worldline.connect.sdk.java.json.MarshallerSyntaxException;
+import com.worldline.connect.sdk.java.v1.domain.Address;
+import com.worldline.connect.sdk.java.v1.domain.AmountOfMoney;
+import com.worldline.connect.sdk.java.v1.domain.Card;
+import com.worldline.connect.sdk.java.v1.domain.CardPaymentMethodSpecificInput;
+import com.worldline.connect.sdk.java.v1.domain.CreatePaymentRequest;
+import com.worldline.connect.sdk.java.v1.domain.CreatePaymentResponse;
+import com.worldline.connect.sdk.java.v1.domain.Customer;
+import com.worldline.connect.sdk.java.v1.domain.ErrorResponse;
+import com.worldline.connect.sdk.java.v1.domain.Order;
+import com.worldline.connect.sdk.java.v1.domain.Payment;
+import com.worldline.connect.sdk.java.v1.domain.PaymentProducts;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+@SuppressWarnings("nls")
+class JacksonMarshallerTest {
+
+    private static final String CREATE_PAYMENT_RESPONSE = """
+            {
+                "creationOutput": {
+                    "additionalReference": "00000012341000059598",
+                    "externalReference": "000000123410000595980000100001"
+                },
+                "payment": {
+                    "id": "000000123410000595980000100001",
+                    "paymentOutput": {
+                        "amountOfMoney": {
+                            "amount": 2345,
+                            "currencyCode": "CAD"
+                        },
+                        "references": {
+                            "paymentReference": "0"
+                        },
+                        "paymentMethod": "card",
+                        "cardPaymentMethodSpecificOutput": {
+                            "paymentProductId": 1,
+                            "authorisationCode": "OK1131",
+                            "card": {
+                                "cardNumber": "************9176",
+                                "expiryDate": "1220"
+                            },
+                            "fraudResults": {
+                                "fraudServiceResult": "error",
+                                "avsResult": "X",
+                                "cvvResult": "M"
+                            }
+                        }
+                    },
+                    "status": "PENDING_APPROVAL",
+                    "statusOutput": {
+                        "isCancellable": true,
+                        "statusCategory": "PENDING_MERCHANT",
+                        "statusCode": 600,
+                        "statusCodeChangeDateTime": "20140630154830",
+                        "isAuthorized": true,
+                        "isRefundable": false
+                    }
+                }
+            }
+            """;
+
+    private static final String PAYMENT_PRODUCTS = """
+            {
+                "paymentProducts": [
+                    {
+                        "allowsRecurring": true,
+                        "allowsTokenization": true,
+                        "displayHints": {
+                            "displayOrder": 20,
+                            "label": "Visa",
+                            "logo": "/templates/master/global/css/img/ppimages/pp_logo_1_v1.png"
+                        },
+                        "id": 1,
+                        "maxAmount": 1000000,
+                        "mobileIntegrationLevel": "OPTIMISED_SUPPORT",
+                        "paymentMethod": "card",
+                        "paymentProductGroup": "cards",
+                        "usesRedirectionTo3rdParty": false
+                    },
+                    {
+                        "allowsRecurring": false,
+                        "allowsTokenization": false,
+                        "displayHints": {
+                            "displayOrder": 0,
+                            "label": "PayPal",
+                            "logo": "/templates/master/global/css/img/ppimages/pp_logo_840_v1.png"
+                        },
+                        "id": 840,
+                        "paymentMethod": "redirect",
+                        "usesRedirectionTo3rdParty": true
+                    }
+                ]
+            }
+            """;
+
+    private static final String ERROR_RESPONSE = """
+            {
+                "errorId": "657b10da-d2f9-4088-a948-bf190ef516b1-000011aa",
+                "errors": [
+                    {
+                        "code": "21000120",
+                        "httpStatusCode": 400,
+                        "id": "PARAMETER_NOT_FOUND_IN_REQUEST",
+                        "message": "cardPaymentMethodSpecificInput.card.expiryDate is missing or invalid",
+                        "propertyName": "cardPaymentMethodSpecificInput.card.expiryDate",
+                        "requestId": "11800"
+                    }
+                ]
+            }
+            """;
+
+    private final Marshaller gson = DefaultMarshaller.INSTANCE;
+    private final JacksonMarshaller jackson = new JacksonMarshaller();
+
+    @Nested
+    class Compatibility {
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("com.github.robtimus.connect.sdk.java.springboot.json.JacksonMarshallerTest#responses")
+        void testUnmarshal(Class<?> type, String json) {
+            Object expected = gson.unmarshal(json, type);
+            Object actual = jackson.unmarshal(json, type);
+
+            assertInstanceOf(type, actual);
+            assertEquals(parse(gson.marshal(expected)), parse(gson.marshal(actual)));
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("com.github.robtimus.connect.sdk.java.springboot.json.JacksonMarshallerTest#responses")
+        void testUnmarshalFromInputStream(Class<?> type, String json) {
+            Object expected = gson.unmarshal(json, type);
+            Object actual = jackson.unmarshal(toInputStream(json), type);
+
+            assertInstanceOf(type, actual);
+            assertEquals(parse(gson.marshal(expected)), parse(gson.marshal(actual)));
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("com.github.robtimus.connect.sdk.java.springboot.json.JacksonMarshallerTest#responses")
+        void testMarshalResponse(Class<?> type, String json) {
+            Object object = gson.unmarshal(json, type);
+
+            assertEquals(parse(gson.marshal(object)), parse(jackson.marshal(object)));
+        }
+
+        @Test
+        void testMarshalRequest() {
+            CreatePaymentRequest request = createPaymentRequest();
+
+            String json = jackson.marshal(request);
+
+            assertEquals(parse(gson.marshal(request)), parse(json));
+            // Gson uses field names, not property names based on getters and setters
+            assertTrue(json.contains("\"isRecurring\""), json);
+            assertFalse(json.contains("\"recurring\""), json);
+            // null values are omitted
+            assertFalse(json.contains("null"), json);
+        }
+
+        @Test
+        void testRoundTrip() {
+            CreatePaymentRequest request = createPaymentRequest();
+
+            CreatePaymentRequest unmarshalled = jackson.unmarshal(jackson.marshal(request), CreatePaymentRequest.class);
+
+            assertEquals(parse(gson.marshal(request)), parse(gson.marshal(unmarshalled)));
+        }
+    }
+
+    @Test
+    void testUnmarshalResponse() {
+        CreatePaymentResponse response = jackson.unmarshal(CREATE_PAYMENT_RESPONSE, CreatePaymentResponse.class);
+
+        Payment payment = response.getPayment();
+        assertEquals("000000123410000595980000100001", payment.getId());
+        assertEquals("PENDING_APPROVAL", payment.getStatus());
+        assertEquals(2345L, payment.getPaymentOutput().getAmountOfMoney().getAmount());
+        assertTrue(payment.getStatusOutput().getIsCancellable());
+        assertFalse(payment.getStatusOutput().getIsRefundable());
+    }
+
+    @Test
+    void testUnmarshalIgnoresUnknownProperties() {
+        AmountOfMoney amountOfMoney = jackson.unmarshal("{\"amount\":100,\"currencyCode\":\"EUR\",\"unknown\":{\"nested\":[1,2]}}",
+                AmountOfMoney.class);
+
+        assertEquals(100L, amountOfMoney.getAmount());
+        assertEquals("EUR", amountOfMoney.getCurrencyCode());
+    }
+
+    @Test
+    void testUnmarshalEmptyContent() {
+        assertNull(jackson.unmarshal((String) null, AmountOfMoney.class));
+        assertNull(jackson.unmarshal("", AmountOfMoney.class));
+        assertNull(jackson.unmarshal("  ", AmountOfMoney.class));
+        assertNull(jackson.unmarshal(toInputStream(""), AmountOfMoney.class));
+    }
+
+    @Test
+    void testCopiedJsonMapperIsReconfigured() {
+        JsonMapper jsonMapper = JsonMapper.builder()
+                .enable(SerializationFeature.WRAP_ROOT_VALUE)
+                .enable(DeserializationFeature.UNWRAP_ROOT_VALUE)
+                .enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+
+        JacksonMarshaller marshaller = new JacksonMarshaller(jsonMapper);
+
+        assertTrue(jsonMapper.isEnabled(SerializationFeature.WRAP_ROOT_VALUE));
+        assertEquals("{\"amount\":100}", marshaller.marshal(marshaller.unmarshal("{\"amount\":100,\"unknown\":1}", AmountOfMoney.class)));
+    }
+
+    @Test
+    void testUnmarshalInvalidJson() {
+        assertThrows(MarshallerSyntaxException.class, () -> jackson.unmarshal("{\"amount\":", AmountOfMoney.class));
+        assertThrows(MarshallerSyntaxException.class, () -> jackson.unmarshal("{\"amount\":\"abc\"}", AmountOfMoney.class));
+
+        InputStream inputStream = toInputStream("[1, 2");
+        assertThrows(MarshallerSyntaxException.class, () -> jackson.unmarshal(inputStream, AmountOfMoney.class));
+    }
+
+    static Stream<Arguments> responses() {
+        return Stream.of(
+                Arguments.of(CreatePaymentResponse.class, CREATE_PAYMENT_RESPONSE),
+                Arguments.of(PaymentProducts.class, PAYMENT_PRODUCTS),
+                Arguments.of(ErrorResponse.class, ERROR_RESPONSE)
+        );
+    }
+
+    private static CreatePaymentRequest createPaymentRequest() {
+        AmountOfMoney amountOfMoney = new AmountOfMoney();
+        amountOfMoney.setAmount(2980L);
+        amountOfMoney.setCurrencyCode("EUR");
+
+        Address billingAddress = new Address();
+        billingAddress.setCountryCode("NL");
+        billingAddress.setCity("Amsterdam");
+
+        Customer customer = new Customer();
+        customer.setBillingAddress(billingAddress);
+        customer.setLocale("nl_NL");
+
+        Order order = new Order();
+        order.setAmountOfMoney(amountOfMoney);
+        order.setCustomer(customer);
+
+        Card card = new Card();
+        card.setCardNumber("4567350000427977");
+        card.setCardholderName("Wile E. Coyote");
+        card.setCvv("123");
+        card.setExpiryDate("1299");
+
+        CardPaymentMethodSpecificInput cardPaymentMethodSpecificInput = new CardPaymentMethodSpecificInput();
+        cardPaymentMethodSpecificInput.setCard(card);
+        cardPaymentMethodSpecificInput.setPaymentProductId(1);
+        cardPaymentMethodSpecificInput.setIsRecurring(false);
+        cardPaymentMethodSpecificInput.setSkipAuthentication(false);
+
+        CreatePaymentRequest request = new CreatePaymentRequest();
+        request.setOrder(order);
+        request.setCardPaymentMethodSpecificInput(cardPaymentMethodSpecificInput);
+        return request;
+    }
+
+    private static JsonElement parse(String json) {
+        return JsonParser.parseString(json);
+    }
+
+    private static InputStream toInputStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * PooledGsonMarshallerTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.worldline.connect.sdk.java.json.DefaultMarshaller;
+import com.worldline.connect.sdk.java.json.Marshaller;
+import com.worldline.connect.sdk.java.json.MarshallerSyntaxException;
+import com.worldline.connect.sdk.java.v1.domain.AmountOfMoney;
+import com.worldline.connect.sdk.java.v1.domain.PaymentProduct;
+import com.worldline.connect.sdk.java.v1.domain.PaymentProductDisplayHints;
+import com.worldline.connect.sdk.java.v1.domain.PaymentProducts;
+
+@SuppressWarnings("nls")
+class PooledGsonMarshallerTest {
+
+    private final Marshaller expectedMarshaller = DefaultMarshaller.INSTANCE;
+    private final PooledGsonMarshaller marshaller = new PooledGsonMarshaller();
+
+    @Nested
+    class SameAsDefaultMarshaller {
+
+        @Test
+        void testMarshal() {
+            PaymentProducts paymentProducts = createPaymentProducts(10);
+
+            assertEquals(parse(expectedMarshaller.marshal(paymentProducts)), parse(marshaller.marshal(paymentProducts)));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = { 0, 1, 100, 1000 })
+        void testUnmarshal(int count) {
+            String json = expectedMarshaller.marshal(createPaymentProducts(count));
+
+            PaymentProducts expected = expectedMarshaller.unmarshal(json, PaymentProducts.class);
+            PaymentProducts actual = marshaller.unmarshal(json, PaymentProducts.class);
+
+            assertEquals(parse(expectedMarshaller.marshal(expected)), parse(expectedMarshaller.marshal(actual)));
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = { 0, 1, 100, 1000 })
+        void testUnmarshalFromInputStream(int count) {
+            // large enough to need multiple reads for larger counts
+            String json = expectedMarshaller.marshal(createPaymentProducts(count));
+
+            PaymentProducts expected = expectedMarshaller.unmarshal(toInputStream(json), PaymentProducts.class);
+            PaymentProducts actual = marshaller.unmarshal(toInputStream(json), PaymentProducts.class);
+
+            assertEquals(parse(expectedMarshaller.marshal(expected)), parse(expectedMarshaller.marshal(actual)));
+        }
+
+        @Test
+        void testUnmarshalFromInputStreamWithNonAsciiCharacters() {
+            String json = "{\"amount\":1,\"currencyCode\":\"€ é 😀\"}";
+
+            AmountOfMoney expected = expectedMarshaller.unmarshal(toInputStream(json), AmountOfMoney.class);
+            AmountOfMoney actual = marshaller.unmarshal(toInputStream(json), AmountOfMoney.class);
+
+            assertEquals(expected.getCurrencyCode(), actual.getCurrencyCode());
+        }
+
+        @Test
+        void testUnmarshalEmptyContent() {
+            assertNull(marshaller.unmarshal("", AmountOfMoney.class));
+            assertNull(marshaller.unmarshal(toInputStream(""), AmountOfMoney.class));
+        }
+
+        @Test
+        void testUnmarshalInvalidJson() {
+            assertThrows(MarshallerSyntaxException.class, () -> marshaller.unmarshal("{\"amount\":", AmountOfMoney.class));
+
+            InputStream inputStream = toInputStream("{\"amount\":\"abc\"}");
+            assertThrows(MarshallerSyntaxException.class, () -> marshaller.unmarshal(inputStream, AmountOfMoney.class));
+        }
+
+        @Test
+        void testConcurrentCalls() throws Exception {
+            String json = expectedMarshaller.marshal(createPaymentProducts(100));
+            JsonElement expected = parse(json);
+
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<PaymentProducts>> futures = new ArrayList<>();
+                for (int i = 0; i < 200; i++) {
+                    futures.add(executor.submit(() -> marshaller.unmarshal(toInputStream(json), PaymentProducts.class)));
+                }
+                for (Future<PaymentProducts> future : futures) {
+                    assertEquals(expected, parse(expectedMarshaller.marshal(future.get())));
+                }
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+
+    @Nested
+    class Decoding {
+
+        @Test
+        void testSameAsInputStreamReader() throws IOException {
+            Random random = new Random(42);
+            PooledGsonMarshaller.PooledReader reader = new PooledGsonMarshaller.PooledReader();
+
+            for (int i = 0; i < 500; i++) {
+                byte[] data = randomData(random, i % 10 == 0 ? 50_000 : 300);
+
+                String expected = readAll(new InputStreamReader(new ByteArrayInputStream(data), StandardCharsets.UTF_8), random);
+                reader.reset(new ChunkedInputStream(data, random));
+                String actual = readAll(reader, random);
+
+                assertEquals(expected, actual);
+            }
+        }
+
+        private byte[] randomData(Random random, int maxLength) {
+            int length = random.nextInt(maxLength);
+            if (random.nextBoolean()) {
+                // mostly malformed input
+                byte[] data = new byte[length];
+                random.nextBytes(data);
+                return data;
+            }
+            StringBuilder sb = new StringBuilder(length);
+            for (int i = 0; i < length; i++) {
+                int codePoint = switch (random.nextInt(3)) {
+                    case 0 -> 0x10000 + random.nextInt(0x1000);
+                    case 1 -> 0x400 + random.nextInt(0x400);
+                    default -> 0x20 + random.nextInt(0x5F);
+                };
+                sb.appendCodePoint(codePoint);
+            }
+            byte[] data = sb.toString().getBytes(StandardCharsets.UTF_8);
+            // sometimes truncate the last multi-byte character
+            return data.length > 0 && random.nextInt(5) == 0
+                    ? Arrays.copyOf(data, data.length - 1)
+                    : data;
+        }
+
+        private String readAll(Reader reader, Random random) throws IOException {
+            StringBuilder sb = new StringBuilder();
+            char[] buffer = new char[2048];
+            int count;
+            while ((count = reader.read(buffer, 0, 1 + random.nextInt(buffer.length))) != -1) {
+                sb.append(buffer, 0, count);
+            }
+            return sb.toString();
+        }
+    }
+
+    @Test
+    void testReadersAreReused() {
+        PooledGsonMarshaller pooledMarshaller = new PooledGsonMarshaller(2);
+
+        assertEquals(0, pooledMarshaller.idleCount());
+
+        for (int i = 0; i < 10; i++) {
+            pooledMarshaller.unmarshal(toInputStream("{\"amount\":1}"), AmountOfMoney.class);
+            assertEquals(1, pooledMarshaller.idleCount());
+        }
+
+        // readers are also returned after failures
+        InputStream inputStream = toInputStream("{\"amount\":");
+        assertThrows(MarshallerSyntaxException.class, () -> pooledMarshaller.unmarshal(inputStream, AmountOfMoney.class));
+        assertEquals(1, pooledMarshaller.idleCount());
+        assertEquals(2, pooledMarshaller.maxIdle());
+    }
+
+    @Test
+    void testCustomTypeAdapter() {
+        AmountOfMoneyTypeAdapter typeAdapter = new AmountOfMoneyTypeAdapter();
+        Gson gson = PooledGsonMarshaller.gsonBuilder()
+                .registerTypeAdapter(AmountOfMoney.class, typeAdapter)
+                .create();
+        PooledGsonMarshaller pooledMarshaller = new PooledGsonMarshaller(gson, 2);
+
+        assertSame(gson, pooledMarshaller.gson());
+
+        AmountOfMoney amountOfMoney = new AmountOfMoney();
+        amountOfMoney.setAmount(100L);
+        amountOfMoney.setCurrencyCode("EUR");
+
+        String json = pooledMarshaller.marshal(amountOfMoney);
+        assertEquals("{\"currencyCode\":\"EUR\",\"amount\":100}", json);
+
+        AmountOfMoney unmarshalled = pooledMarshaller.unmarshal(toInputStream("{\"amount\":100,\"currencyCode\":\"EUR\",\"other\":true}"),
+                AmountOfMoney.class);
+        assertEquals(100L, unmarshalled.getAmount());
+        assertEquals("EUR", unmarshalled.getCurrencyCode());
+        assertEquals(1, typeAdapter.readCount);
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new PooledGsonMarshaller(0));
+        assertThrows(IllegalArgumentException.class, () -> new PooledGsonMarshaller(-1));
+
+        Gson gson = PooledGsonMarshaller.gsonBuilder().create();
+        assertThrows(NullPointerException.class, () -> new PooledGsonMarshaller(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new PooledGsonMarshaller(gson, 0));
+    }
+
+    private static PaymentProducts createPaymentProducts(int count) {
+        List<PaymentProduct> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            PaymentProductDisplayHints displayHints = new PaymentProductDisplayHints();
+            displayHints.setDisplayOrder(i);
+            displayHints.setLabel("Product é€ " + i);
+            displayHints.setLogo("/templates/master/global/css/img/ppimages/pp_logo_" + i + "_v1.png");
+
+            PaymentProduct product = new PaymentProduct();
+            product.setId(i);
+            product.setPaymentMethod("card");
+            product.setAllowsRecurring(i % 2 == 0);
+            product.setDisplayHints(displayHints);
+            products.add(product);
+        }
+
+        PaymentProducts paymentProducts = new PaymentProducts();
+        paymentProducts.setPaymentProducts(products);
+        return paymentProducts;
+    }
+
+    private static JsonElement parse(String json) {
+        return JsonParser.parseString(json);
+    }
+
+    private static InputStream toInputStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class AmountOfMoneyTypeAdapter extends TypeAdapter<AmountOfMoney> {
+
+        private int readCount = 0;
+
+        @Override
+        public void write(JsonWriter out, AmountOfMoney value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("currencyCode").value(value.getCurrencyCode());
+            out.name("amount").value(value.getAmount());
+            out.endObject();
+        }
+
+        @Override
+        public AmountOfMoney read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            readCount++;
+            AmountOfMoney value = new AmountOfMoney();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "amount":
+                        value.setAmount(in.nextLong());
+                        break;
+                    case "currencyCode":
+                        value.setCurrencyCode(in.nextString());
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    private static final class ChunkedInputStream extends InputStream {
+
+        private final byte[] data;
+        private final Random random;
+        private int position;
+
+        private ChunkedInputStream(byte[] data, Random random) {
+            this.data = data;
+            this.random = random;
+        }
+
+        @Override
+        public int read() {
+            return position < data.length ? data[position++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (position >= data.length) {
+                return -1;
+            }
+            int count = Math.min(len, data.length - position);
+            // return small chunks, sometimes single bytes, to split multi-byte characters
+            count = random.nextInt(10) == 0 ? 1 : Math.min(count, 1 + random.nextInt(20_000));
+            System.arraycopy(data, position, b, off, count);
+            position += count;
+            return count;
+        }
+    }
+}
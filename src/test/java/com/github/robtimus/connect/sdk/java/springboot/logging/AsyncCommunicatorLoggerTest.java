@@ -0,0 +1,183 @@
+/*
+ * AsyncCommunicatorLoggerTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.robtimus.connect.sdk.java.springboot.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.InOrder;
+import com.github.robtimus.connect.sdk.java.springboot.logging.AsyncCommunicatorLogger.OverflowPolicy;
+import com.worldline.connect.sdk.java.logging.CommunicatorLogger;
+
+@SuppressWarnings("nls")
+class AsyncCommunicatorLoggerTest {
+
+    @Test
+    void testLogInOrder() {
+        CommunicatorLogger delegate = mock(CommunicatorLogger.class);
+        Throwable error = new AssertionError("assertion failed");
+
+        try (AsyncCommunicatorLogger logger = new AsyncCommunicatorLogger(delegate, AsyncCommunicatorLogger.DEFAULT_CAPACITY)) {
+            logger.log("message1");
+            logger.log("message2", error);
+            logger.log("message3", null);
+            logger.log("message4");
+        }
+
+        InOrder inOrder = inOrder(delegate);
+        inOrder.verify(delegate).log("message1");
+        inOrder.verify(delegate).log("message2", error);
+        inOrder.verify(delegate).log("message3", null);
+        inOrder.verify(delegate).log("message4");
+        verifyNoMoreInteractions(delegate);
+    }
+
+    @Test
+    void testLogAfterClose() {
+        CommunicatorLogger delegate = mock(CommunicatorLogger.class);
+
+        AsyncCommunicatorLogger logger = new AsyncCommunicatorLogger(delegate, AsyncCommunicatorLogger.DEFAULT_CAPACITY);
+        logger.close();
+
+        logger.log("message");
+
+        verify(delegate).log("message");
+        verifyNoMoreInteractions(delegate);
+    }
+
+    @Test
+    void testDisabledDelegate() {
+        LevelAwareCommunicatorLogger delegate = mock(LevelAwareCommunicatorLogger.class);
+        when(delegate.isErrorEnabled()).thenReturn(true);
+
+        Throwable error = new IllegalStateException();
+
+        try (AsyncCommunicatorLogger logger = new AsyncCommunicatorLogger(delegate, AsyncCommunicatorLogger.DEFAULT_CAPACITY)) {
+            assertThat(logger.isEnabled()).isFalse();
+            assertThat(logger.isErrorEnabled()).isTrue();
+
+            logger.log("message1");
+            logger.log("message2", error);
+
+            assertThat(logger.droppedCount()).isZero();
+        }
+
+        verify(delegate, never()).log("message1");
+        verify(delegate).log("message2", error);
+    }
+
+    @Test
+    void testFailingDelegate() {
+        CommunicatorLogger delegate = mock(CommunicatorLogger.class);
+        doThrow(IllegalStateException.class).when(delegate).log("message1");
+
+        try (AsyncCommunicatorLogger logger = new AsyncCommunicatorLogger(delegate, AsyncCommunicatorLogger.DEFAULT_CAPACITY)) {
+            logger.log("message1");
+            logger.log("message2");
+        }
+
+        verify(delegate).log("message1");
+        verify(delegate).log("message2");
+        verifyNoMoreInteractions(delegate);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(OverflowPolicy.class)
+    void testOverflow(OverflowPolicy overflowPolicy) throws InterruptedException {
+        int messageCount = 100;
+
+        SlowCommunicatorLogger delegate = new SlowCommunicatorLogger();
+        AsyncCommunicatorLogger logger = new AsyncCommunicatorLogger(delegate, 16, overflowPolicy, 4);
+
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < messageCount; i++) {
+                logger.log("message" + i);
+            }
+        });
+        producer.start();
+
+        // give the producer time to fill up the buffer
+        TimeUnit.MILLISECONDS.sleep(200);
+        delegate.release();
+        producer.join();
+        logger.close();
+
+        List<String> messages = delegate.messages;
+        assertThat(messages.size() + logger.droppedCount()).isEqualTo(messageCount);
+        assertThat(messages).isSortedAccordingTo((m1, m2) -> Integer.compare(messageIndex(m1), messageIndex(m2)));
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            assertThat(logger.droppedCount()).isZero();
+        } else {
+            assertThat(logger.droppedCount()).isPositive();
+        }
+        assertThat(logger.pendingCount()).isZero();
+    }
+
+    @Test
+    void testInvalidSampleRate() {
+        CommunicatorLogger delegate = mock(CommunicatorLogger.class);
+
+        assertThatThrownBy(() -> new AsyncCommunicatorLogger(delegate, 16, OverflowPolicy.SAMPLE, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(delegate, never()).log(anyString());
+    }
+
+    private static int messageIndex(String message) {
+        return Integer.parseInt(message.substring("message".length()));
+    }
+
+    private static final class SlowCommunicatorLogger implements CommunicatorLogger {
+
+        private final CountDownLatch latch = new CountDownLatch(1);
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void log(String message) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(message);
+        }
+
+        @Override
+        public void log(String message, Throwable thrown) {
+            log(message);
+        }
+
+        private void release() {
+            latch.countDown();
+        }
+    }
+}
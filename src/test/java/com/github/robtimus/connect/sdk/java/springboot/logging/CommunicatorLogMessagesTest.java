@@ -0,0 +1,82 @@
+/*
+ * CommunicatorLogMessagesTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("nls")
+class CommunicatorLogMessagesTest {
+
+    private static final String REQUEST = String.format("Outgoing request (requestId='1'):%n"
+            + "  method:       'GET'%n"
+            + "  uri:          '/v1/1234/products?q='quoted''%n"
+            + "  headers:      'Authorization=\"********\"'%n"
+            + "  content-type: 'application/json'%n"
+            + "  body:         '{%n  \"body\": 'multi-line'%n}'");
+
+    @Test
+    void testRequestId() {
+        assertThat(CommunicatorLogMessages.requestId(REQUEST, CommunicatorLogMessages.REQUEST_PREFIX)).isEqualTo("1");
+        assertThat(CommunicatorLogMessages.requestId(REQUEST, CommunicatorLogMessages.RESPONSE_PREFIX)).isNull();
+        assertThat(CommunicatorLogMessages.requestId("Outgoing request (requestId='1", CommunicatorLogMessages.REQUEST_PREFIX)).isNull();
+    }
+
+    @Test
+    void testField() {
+        assertThat(CommunicatorLogMessages.field(REQUEST, CommunicatorLogMessages.METHOD_FIELD)).isEqualTo("GET");
+        assertThat(CommunicatorLogMessages.field(REQUEST, CommunicatorLogMessages.URI_FIELD)).isEqualTo("/v1/1234/products?q='quoted'");
+        assertThat(CommunicatorLogMessages.field(REQUEST, CommunicatorLogMessages.CONTENT_TYPE_FIELD)).isEqualTo("application/json");
+        assertThat(CommunicatorLogMessages.field(REQUEST, CommunicatorLogMessages.STATUS_CODE_FIELD)).isNull();
+    }
+
+    @Test
+    void testBody() {
+        int start = CommunicatorLogMessages.bodyStart(REQUEST);
+        int end = CommunicatorLogMessages.bodyEnd(REQUEST);
+
+        assertThat(REQUEST.substring(start, end)).isEqualTo(String.format("{%n  \"body\": 'multi-line'%n}"));
+
+        assertThat(CommunicatorLogMessages.bodyStart("Outgoing request (requestId='1'):")).isEqualTo(-1);
+    }
+
+    @Test
+    void testUtf8Length() {
+        assertThat(CommunicatorLogMessages.utf8Length("", 0, 0)).isZero();
+        assertThat(CommunicatorLogMessages.utf8Length("abc", 0, 3)).isEqualTo(3);
+        assertThat(CommunicatorLogMessages.utf8Length("abc", 1, 3)).isEqualTo(2);
+        assertThat(CommunicatorLogMessages.utf8Length("\u00e9", 0, 1)).isEqualTo(2);
+        assertThat(CommunicatorLogMessages.utf8Length("\u20ac", 0, 1)).isEqualTo(3);
+        assertThat(CommunicatorLogMessages.utf8Length("\ud83d\ude00", 0, 2)).isEqualTo(4);
+        assertThat(CommunicatorLogMessages.utf8Length("\ud83d", 0, 1)).isEqualTo(3);
+    }
+
+    @Test
+    void testUtf8Prefix() {
+        String s = "a\u00e9\ud83d\ude00b";
+
+        assertThat(CommunicatorLogMessages.utf8Prefix(s, 0, s.length(), 0)).isZero();
+        assertThat(CommunicatorLogMessages.utf8Prefix(s, 0, s.length(), 1)).isEqualTo(1);
+        assertThat(CommunicatorLogMessages.utf8Prefix(s, 0, s.length(), 2)).isEqualTo(1);
+        assertThat(CommunicatorLogMessages.utf8Prefix(s, 0, s.length(), 3)).isEqualTo(2);
+        // the surrogate pair is never split
+        assertThat(CommunicatorLogMessages.utf8Prefix(s, 0, s.length(), 6)).isEqualTo(2);
+        assertThat(CommunicatorLogMessages.utf8Prefix(s, 0, s.length(), 7)).isEqualTo(4);
+        assertThat(CommunicatorLogMessages.utf8Prefix(s, 0, s.length(), 100)).isEqualTo(s.length());
+    }
+}
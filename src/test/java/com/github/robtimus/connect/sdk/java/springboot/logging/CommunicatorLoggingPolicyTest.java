@@ -0,0 +1,85 @@
+/*
+ * CommunicatorLoggingPolicyTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.robtimus.connect.sdk.java.springboot.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLoggingPolicy.Type;
+import com.worldline.connect.sdk.java.logging.CommunicatorLogger;
+
+@SuppressWarnings("nls")
+class CommunicatorLoggingPolicyTest {
+
+    @Test
+    void testAll() {
+        CommunicatorLoggingPolicy policy = CommunicatorLoggingPolicy.all();
+
+        assertThat(policy.type()).isEqualTo(Type.ALL);
+        assertThat(policy.sampleRate()).isEqualTo(CommunicatorLoggingPolicy.DEFAULT_SAMPLE_RATE);
+        assertThat(policy.slowThreshold()).isEqualTo(CommunicatorLoggingPolicy.DEFAULT_SLOW_THRESHOLD);
+        assertThat(policy).hasToString("ALL");
+    }
+
+    @Test
+    void testOf() {
+        CommunicatorLoggingPolicy policy = CommunicatorLoggingPolicy.of(Type.TAIL, 20, Duration.ofMillis(500));
+
+        assertThat(policy.type()).isEqualTo(Type.TAIL);
+        assertThat(policy.sampleRate()).isEqualTo(20);
+        assertThat(policy.slowThreshold()).isEqualTo(Duration.ofMillis(500));
+        assertThat(policy).hasToString("TAIL[slowThreshold=PT0.5S]");
+    }
+
+    @Test
+    void testOfWithInvalidSampleRate() {
+        Duration slowThreshold = Duration.ofSeconds(1);
+
+        assertThatThrownBy(() -> CommunicatorLoggingPolicy.of(Type.SAMPLE, 0, slowThreshold)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testOfWithNegativeSlowThreshold() {
+        Duration slowThreshold = Duration.ofSeconds(-1);
+
+        assertThatThrownBy(() -> CommunicatorLoggingPolicy.of(Type.SLOW, 1, slowThreshold)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(Type.class)
+    void testApply(Type type) {
+        CommunicatorLogger logger = mock(CommunicatorLogger.class);
+        CommunicatorLoggingPolicy policy = CommunicatorLoggingPolicy.of(type, 10, Duration.ofSeconds(1));
+
+        CommunicatorLogger result = policy.apply(logger);
+
+        if (type == Type.ALL) {
+            assertThat(result).isSameAs(logger);
+        } else {
+            assertThat(result).isInstanceOfSatisfying(PolicyCommunicatorLogger.class, policyLogger -> {
+                assertThat(policyLogger.delegate()).isSameAs(logger);
+                assertThat(policyLogger.policy()).isSameAs(policy);
+            });
+        }
+    }
+}
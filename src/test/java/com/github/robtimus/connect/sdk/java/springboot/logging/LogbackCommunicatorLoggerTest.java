@@ -21,6 +21,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -76,6 +77,53 @@ class LogbackCommunicatorLoggerTest {
         assertThat(event2.getThrowableProxy().getClassName()).isEqualTo(error.getClass().getName());
     }
 
+    @Test
+    void testIsEnabled() {
+        Logger parent = (Logger) LoggerFactory.getLogger(getClass().getPackageName());
+        Logger logger = (Logger) LoggerFactory.getLogger(getClass());
+        logger.setLevel(null);
+        parent.setLevel(Level.INFO);
+
+        LogbackCommunicatorLogger communicatorLogger = new LogbackCommunicatorLogger(logger, Level.DEBUG, Level.WARN);
+
+        assertThat(communicatorLogger.isEnabled()).isFalse();
+        assertThat(communicatorLogger.isErrorEnabled()).isTrue();
+
+        // changes to the level of the logger or any of its ancestors must be picked up immediately
+        parent.setLevel(Level.DEBUG);
+
+        assertThat(communicatorLogger.isEnabled()).isTrue();
+        assertThat(communicatorLogger.isErrorEnabled()).isTrue();
+
+        logger.setLevel(Level.ERROR);
+
+        assertThat(communicatorLogger.isEnabled()).isFalse();
+        assertThat(communicatorLogger.isErrorEnabled()).isFalse();
+
+        parent.setLevel(null);
+        logger.setLevel(null);
+    }
+
+    @Test
+    void testLogWithDisabledLevel() {
+        @SuppressWarnings("unchecked")
+        Appender<ILoggingEvent> appender = mock(Appender.class);
+
+        Logger logger = (Logger) LoggerFactory.getLogger(getClass());
+        logger.setLevel(Level.INFO);
+        logger.addAppender(appender);
+
+        Throwable error = new AssertionError("assertion failed");
+
+        CommunicatorLogger communicatorLogger = new LogbackCommunicatorLogger(logger, Level.DEBUG);
+        communicatorLogger.log("message without exception");
+        communicatorLogger.log("message with exception", error);
+
+        verifyNoInteractions(appender);
+
+        logger.detachAppender(appender);
+    }
+
     @Test
     void testLogWithDifferentLevels() {
         @SuppressWarnings("unchecked")
@@ -116,4 +164,34 @@ class LogbackCommunicatorLoggerTest {
         assertThat(event2.getThrowableProxy().getMessage()).isEqualTo(error.getMessage());
         assertThat(event2.getThrowableProxy().getClassName()).isEqualTo(error.getClass().getName());
     }
+
+    @Test
+    void testLevelChangeListener() {
+        Logger logger = (Logger) LoggerFactory.getLogger(getClass().getName() + ".levelChange");
+        Logger parent = (Logger) LoggerFactory.getLogger(getClass());
+        Level parentLevel = parent.getLevel();
+
+        LogbackCommunicatorLogger communicatorLogger = new LogbackCommunicatorLogger(logger, Level.DEBUG);
+        Runnable listener = mock(Runnable.class);
+
+        Runnable listenerRemover = communicatorLogger.addLevelChangeListener(listener);
+        try {
+            logger.setLevel(Level.DEBUG);
+            verify(listener).run();
+            assertThat(communicatorLogger.isEnabled()).isTrue();
+
+            // the effective level of the logger changes with the level of its parent
+            logger.setLevel(null);
+            parent.setLevel(Level.OFF);
+            verify(listener, times(3)).run();
+            assertThat(communicatorLogger.isEnabled()).isFalse();
+        } finally {
+            listenerRemover.run();
+            parent.setLevel(parentLevel);
+        }
+
+        logger.setLevel(Level.DEBUG);
+        logger.setLevel(null);
+        verifyNoMoreInteractions(listener);
+    }
 }
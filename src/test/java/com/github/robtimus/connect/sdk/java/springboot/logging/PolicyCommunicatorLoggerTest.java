@@ -0,0 +1,308 @@
+/*
+ * PolicyCommunicatorLoggerTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.robtimus.connect.sdk.java.springboot.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import java.time.Duration;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import com.github.robtimus.connect.sdk.java.springboot.logging.CommunicatorLoggingPolicy.Type;
+import com.worldline.connect.sdk.java.logging.CommunicatorLogger;
+
+@SuppressWarnings("nls")
+class PolicyCommunicatorLoggerTest {
+
+    private static final Duration SLOW_THRESHOLD = Duration.ofMillis(500);
+
+    private final CommunicatorLogger delegate = mock(CommunicatorLogger.class);
+
+    private CommunicatorLogger policyLogger(Type type, int sampleRate) {
+        return new PolicyCommunicatorLogger(delegate, CommunicatorLoggingPolicy.of(type, sampleRate, SLOW_THRESHOLD));
+    }
+
+    private static String request(String requestId) {
+        return String.format("Outgoing request (requestId='%s'):%n"
+                + "  method:       'GET'%n"
+                + "  uri:          '/v1/1234/payments/1'%n"
+                + "  headers:      ''", requestId);
+    }
+
+    private static String response(String requestId, long duration, int statusCode) {
+        return String.format("Incoming response (requestId='%s', %d ms):%n"
+                + "  status-code:  '%d'%n"
+                + "  headers:      ''%n"
+                + "  content-type: 'application/json'%n"
+                + "  body:         '{}'", requestId, duration, statusCode);
+    }
+
+    private static String error(String requestId, long duration) {
+        return String.format("Error occurred for outgoing request (requestId='%s', %d ms)", requestId, duration);
+    }
+
+    @Test
+    void testUnrecognizedMessages() {
+        CommunicatorLogger logger = policyLogger(Type.ERRORS, 1);
+        Throwable error = new IllegalStateException();
+
+        logger.log("some message");
+        logger.log("some error", error);
+        logger.log("Outgoing request without request id");
+
+        verify(delegate).log("some message");
+        verify(delegate).log("some error", error);
+        verify(delegate).log("Outgoing request without request id");
+        verifyNoMoreInteractions(delegate);
+    }
+
+    @Test
+    void testDisabledDelegate() {
+        LevelAwareCommunicatorLogger levelAwareDelegate = mock(LevelAwareCommunicatorLogger.class);
+        when(levelAwareDelegate.isErrorEnabled()).thenReturn(true);
+
+        PolicyCommunicatorLogger logger = new PolicyCommunicatorLogger(levelAwareDelegate,
+                CommunicatorLoggingPolicy.of(Type.TAIL, 1, SLOW_THRESHOLD));
+        Throwable error = new IllegalStateException();
+
+        assertThat(logger.isEnabled()).isFalse();
+        assertThat(logger.isErrorEnabled()).isTrue();
+
+        logger.log(request("1"));
+        assertThat(logger.pendingRequestCount()).isZero();
+        logger.log(response("1", 600, 500));
+        logger.log(error("2", 10), error);
+
+        verify(levelAwareDelegate).log(error("2", 10), error);
+        verify(levelAwareDelegate, never()).log(request("1"));
+        verify(levelAwareDelegate, never()).log(response("1", 600, 500));
+    }
+
+    @Nested
+    class Sample {
+
+        @Test
+        void testRequestAndResponseOfSameCall() {
+            int sampleRate = 4;
+            CommunicatorLogger logger = policyLogger(Type.SAMPLE, sampleRate);
+
+            int sampled = 0;
+            for (int i = 0; i < 100; i++) {
+                String requestId = "request" + i;
+                logger.log(request(requestId));
+                logger.log(response(requestId, 10, 200));
+                if (Math.floorMod(requestId.hashCode(), sampleRate) == 0) {
+                    verify(delegate).log(request(requestId));
+                    verify(delegate).log(response(requestId, 10, 200));
+                    sampled++;
+                }
+            }
+            verifyNoMoreInteractions(delegate);
+            assertThat(sampled).isPositive().isLessThan(100);
+        }
+
+        @Test
+        void testWithSampleRateOne() {
+            CommunicatorLogger logger = policyLogger(Type.SAMPLE, 1);
+            Throwable thrown = new IllegalStateException();
+
+            logger.log(request("1"));
+            logger.log(response("1", 10, 200));
+            logger.log(request("2"));
+            logger.log(error("2", 10), thrown);
+
+            verify(delegate).log(request("1"));
+            verify(delegate).log(response("1", 10, 200));
+            verify(delegate).log(request("2"));
+            verify(delegate).log(error("2", 10), thrown);
+            verifyNoMoreInteractions(delegate);
+        }
+    }
+
+    @Nested
+    class Slow {
+
+        @Test
+        void testFastCall() {
+            CommunicatorLogger logger = policyLogger(Type.SLOW, 1);
+
+            logger.log(request("1"));
+            logger.log(response("1", 499, 500));
+
+            verifyNoInteractions(delegate);
+        }
+
+        @Test
+        void testSlowCall() {
+            CommunicatorLogger logger = policyLogger(Type.SLOW, 1);
+
+            logger.log(request("1"));
+            logger.log(response("1", 500, 200));
+
+            verify(delegate).log(response("1", 500, 200));
+            verifyNoMoreInteractions(delegate);
+        }
+
+        @Test
+        void testErrors() {
+            CommunicatorLogger logger = policyLogger(Type.SLOW, 1);
+            Throwable thrown = new IllegalStateException();
+
+            logger.log(request("1"));
+            logger.log(error("1", 10), thrown);
+            logger.log(request("2"));
+            logger.log(error("2", 1000), thrown);
+
+            verify(delegate).log(error("2", 1000), thrown);
+            verifyNoMoreInteractions(delegate);
+        }
+    }
+
+    @Nested
+    class Errors {
+
+        @Test
+        void testSuccessfulCall() {
+            CommunicatorLogger logger = policyLogger(Type.ERRORS, 1);
+
+            logger.log(request("1"));
+            logger.log(response("1", 1000, 201));
+
+            verifyNoInteractions(delegate);
+        }
+
+        @Test
+        void testFailedCall() {
+            CommunicatorLogger logger = policyLogger(Type.ERRORS, 1);
+
+            logger.log(request("1"));
+            logger.log(response("1", 10, 402));
+
+            verify(delegate).log(response("1", 10, 402));
+            verifyNoMoreInteractions(delegate);
+        }
+
+        @Test
+        void testError() {
+            CommunicatorLogger logger = policyLogger(Type.ERRORS, 1);
+            Throwable thrown = new IllegalStateException();
+
+            logger.log(request("1"));
+            logger.log(error("1", 10), thrown);
+
+            verify(delegate).log(error("1", 10), thrown);
+            verifyNoMoreInteractions(delegate);
+        }
+    }
+
+    @Nested
+    class Tail {
+
+        @Test
+        void testFastSuccessfulCall() {
+            PolicyCommunicatorLogger logger = (PolicyCommunicatorLogger) policyLogger(Type.TAIL, 1);
+
+            logger.log(request("1"));
+            assertThat(logger.pendingRequestCount()).isEqualTo(1);
+            logger.log(response("1", 10, 200));
+
+            verifyNoInteractions(delegate);
+            assertThat(logger.pendingRequestCount()).isZero();
+        }
+
+        @Test
+        void testSlowCall() {
+            CommunicatorLogger logger = policyLogger(Type.TAIL, 1);
+
+            logger.log(request("1"));
+            logger.log(request("2"));
+            logger.log(response("2", 10, 200));
+            logger.log(response("1", 600, 200));
+
+            InOrder inOrder = inOrder(delegate);
+            inOrder.verify(delegate).log(request("1"));
+            inOrder.verify(delegate).log(response("1", 600, 200));
+            verifyNoMoreInteractions(delegate);
+        }
+
+        @Test
+        void testFailedCall() {
+            CommunicatorLogger logger = policyLogger(Type.TAIL, 1);
+
+            logger.log(request("1"));
+            logger.log(response("1", 10, 500));
+
+            InOrder inOrder = inOrder(delegate);
+            inOrder.verify(delegate).log(request("1"));
+            inOrder.verify(delegate).log(response("1", 10, 500));
+            verifyNoMoreInteractions(delegate);
+        }
+
+        @Test
+        void testError() {
+            CommunicatorLogger logger = policyLogger(Type.TAIL, 1);
+            Throwable thrown = new IllegalStateException();
+
+            logger.log(request("1"));
+            logger.log(error("1", 10), thrown);
+
+            InOrder inOrder = inOrder(delegate);
+            inOrder.verify(delegate).log(request("1"));
+            inOrder.verify(delegate).log(error("1", 10), thrown);
+            verifyNoMoreInteractions(delegate);
+        }
+
+        @Test
+        void testMaxPendingRequests() {
+            PolicyCommunicatorLogger logger = (PolicyCommunicatorLogger) policyLogger(Type.TAIL, 1);
+
+            for (int i = 0; i < PolicyCommunicatorLogger.MAX_PENDING_REQUESTS * 2; i++) {
+                logger.log(request(Integer.toString(i)));
+            }
+
+            assertThat(logger.pendingRequestCount()).isEqualTo(PolicyCommunicatorLogger.MAX_PENDING_REQUESTS);
+            verifyNoInteractions(delegate);
+        }
+
+        @Test
+        void testMaxPendingRequestsEvictsOldest() {
+            PolicyCommunicatorLogger logger = (PolicyCommunicatorLogger) policyLogger(Type.TAIL, 1);
+
+            for (int i = 0; i <= PolicyCommunicatorLogger.MAX_PENDING_REQUESTS; i++) {
+                logger.log(request(Integer.toString(i)));
+            }
+            assertThat(logger.pendingRequestCount()).isEqualTo(PolicyCommunicatorLogger.MAX_PENDING_REQUESTS);
+
+            logger.log(response("0", 10, 500));
+            logger.log(response("1", 10, 500));
+
+            InOrder inOrder = inOrder(delegate);
+            inOrder.verify(delegate).log(response("0", 10, 500));
+            inOrder.verify(delegate).log(request("1"));
+            inOrder.verify(delegate).log(response("1", 10, 500));
+            verifyNoMoreInteractions(delegate);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * RingBufferTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.robtimus.connect.sdk.java.springboot.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@SuppressWarnings("nls")
+class RingBufferTest {
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @CsvSource({
+            "1, 2",
+            "2, 2",
+            "3, 4",
+            "16, 16",
+            "1000, 1024",
+    })
+    void testCapacity(int capacity, int expected) {
+        RingBuffer<String> buffer = new RingBuffer<>(capacity);
+
+        assertThat(buffer.capacity()).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(ints = { 0, -1, (1 << 30) + 1 })
+    void testInvalidCapacity(int capacity) {
+        assertThatThrownBy(() -> new RingBuffer<>(capacity)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testOfferAndPoll() {
+        RingBuffer<String> buffer = new RingBuffer<>(4);
+
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.size()).isZero();
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer("element" + i)).isTrue();
+        }
+        assertThat(buffer.offer("element4")).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+
+        assertThat(buffer.poll()).isEqualTo("element0");
+        assertThat(buffer.offer("element4")).isTrue();
+        assertThat(buffer.offer("element5")).isFalse();
+
+        for (int i = 1; i <= 4; i++) {
+            assertThat(buffer.poll()).isEqualTo("element" + i);
+        }
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void testMinimalCapacityDoesNotOverwriteElements() {
+        RingBuffer<String> buffer = new RingBuffer<>(1);
+
+        assertThat(buffer.offer("element0")).isTrue();
+        assertThat(buffer.offer("element1")).isTrue();
+        assertThat(buffer.offer("element2")).isFalse();
+
+        assertThat(buffer.poll()).isEqualTo("element0");
+        assertThat(buffer.poll()).isEqualTo("element1");
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    void testMultipleProducers() throws Exception {
+        int producerCount = 4;
+        int elementsPerProducer = 10_000;
+
+        RingBuffer<long[]> buffer = new RingBuffer<>(16);
+
+        ExecutorService executor = Executors.newFixedThreadPool(producerCount);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producerCount; p++) {
+                int producer = p;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < elementsPerProducer; i++) {
+                        while (!buffer.offer(new long[] { producer, i })) {
+                            Thread.yield();
+                        }
+                    }
+                }));
+            }
+
+            // elements of each producer must be received in the order they were added
+            long[] lastReceived = new long[producerCount];
+            Arrays.fill(lastReceived, -1);
+            int received = 0;
+            while (received < producerCount * elementsPerProducer) {
+                long[] element = buffer.poll();
+                if (element == null) {
+                    Thread.yield();
+                } else {
+                    int producer = (int) element[0];
+                    assertThat(element[1]).isEqualTo(lastReceived[producer] + 1);
+                    lastReceived[producer] = element[1];
+                    received++;
+                }
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            assertThat(lastReceived).containsOnly(elementsPerProducer - 1);
+            assertThat(buffer.poll()).isNull();
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * StructuredCommunicatorLoggerTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.KeyValuePair;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+
+@SuppressWarnings("nls")
+class StructuredCommunicatorLoggerTest {
+
+    private Logger logger;
+    private Appender<ILoggingEvent> appender;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        appender = mock(Appender.class);
+
+        logger = (Logger) LoggerFactory.getLogger(getClass());
+        logger.setLevel(Level.INFO);
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void cleanup() {
+        logger.detachAppender(appender);
+        logger.setLevel(null);
+    }
+
+    private static String request(String requestId, String body) {
+        String message = String.format("Outgoing request (requestId='%s'):%n"
+                + "  method:       'POST'%n"
+                + "  uri:          '/v1/1234/payments'%n"
+                + "  headers:      'X-GCS-ServerMetaInfo=\"***\"'", requestId);
+        return body == null ? message : message + String.format("%n  content-type: 'application/json'%n  body:         '%s'", body);
+    }
+
+    private static String response(String requestId, long duration, int statusCode, String body) {
+        String message = String.format("Incoming response (requestId='%s', %d ms):%n"
+                + "  status-code:  '%d'%n"
+                + "  headers:      'Date=\"Tue, 13 Oct 2026 12:00:00 GMT\"'", requestId, duration, statusCode);
+        return body == null ? message : message + String.format("%n  content-type: 'application/json'%n  body:         '%s'", body);
+    }
+
+    private ILoggingEvent captureEvent() {
+        ArgumentCaptor<ILoggingEvent> eventCaptor = ArgumentCaptor.forClass(ILoggingEvent.class);
+        verify(appender).doAppend(eventCaptor.capture());
+        return eventCaptor.getValue();
+    }
+
+    private static Map<String, Object> keyValuePairs(ILoggingEvent event) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        List<KeyValuePair> keyValuePairs = event.getKeyValuePairs();
+        if (keyValuePairs != null) {
+            for (KeyValuePair keyValuePair : keyValuePairs) {
+                result.put(keyValuePair.key, keyValuePair.value);
+            }
+        }
+        return result;
+    }
+
+    @Test
+    void testLogRequest() {
+        StructuredCommunicatorLogger communicatorLogger = new StructuredCommunicatorLogger(logger, Level.INFO, Level.ERROR, 100);
+        communicatorLogger.log(request("1", "{\"cardNumber\":\"****\"}"));
+
+        ILoggingEvent event = captureEvent();
+        assertThat(event.getLevel()).isEqualTo(Level.INFO);
+        assertThat(event.getFormattedMessage()).isEqualTo("Outgoing request (requestId='1'): POST /v1/1234/payments");
+        assertThat(event.getThrowableProxy()).isNull();
+        assertThat(keyValuePairs(event)).containsExactly(
+                Map.entry("requestId", "1"),
+                Map.entry("method", "POST"),
+                Map.entry("uri", "/v1/1234/payments"),
+                Map.entry("contentType", "application/json"),
+                Map.entry("bodySize", 21L),
+                Map.entry("body", "{\"cardNumber\":\"****\"}"));
+    }
+
+    @Test
+    void testLogRequestWithoutBody() {
+        StructuredCommunicatorLogger communicatorLogger = new StructuredCommunicatorLogger(logger, Level.INFO, Level.ERROR, 100);
+        communicatorLogger.log(request("1", null));
+
+        ILoggingEvent event = captureEvent();
+        assertThat(keyValuePairs(event)).containsExactly(
+                Map.entry("requestId", "1"),
+                Map.entry("method", "POST"),
+                Map.entry("uri", "/v1/1234/payments"));
+    }
+
+    @Test
+    void testLogResponse() {
+        StructuredCommunicatorLogger communicatorLogger = new StructuredCommunicatorLogger(logger, Level.INFO, Level.ERROR, 100);
+        communicatorLogger.log(response("1", 123, 201, "{\"payment\":{\"id\":\"1\"}}"));
+
+        ILoggingEvent event = captureEvent();
+        assertThat(event.getLevel()).isEqualTo(Level.INFO);
+        assertThat(event.getFormattedMessage()).isEqualTo("Incoming response (requestId='1', 123 ms): 201");
+        assertThat(keyValuePairs(event)).containsExactly(
+                Map.entry("requestId", "1"),
+                Map.entry("statusCode", 201),
+                Map.entry("duration", 123L),
+                Map.entry("contentType", "application/json"),
+                Map.entry("bodySize", 22L),
+                Map.entry("body", "{\"payment\":{\"id\":\"1\"}}"));
+    }
+
+    @Test
+    void testLogResponseWithTruncatedBody() {
+        StructuredCommunicatorLogger communicatorLogger = new StructuredCommunicatorLogger(logger, Level.INFO, Level.ERROR, 10);
+        // the euro sign is 3 bytes in UTF-8, and must not be split
+        communicatorLogger.log(response("1", 5, 200, "{\"a\":\"12\u20ac4\"}"));
+
+        ILoggingEvent event = captureEvent();
+        assertThat(keyValuePairs(event))
+                .containsEntry("bodySize", 14L)
+                .containsEntry("body", "{\"a\":\"12")
+                .containsEntry("bodyTruncated", true);
+    }
+
+    @Test
+    void testLogResponseWithoutBodyLogging() {
+        StructuredCommunicatorLogger communicatorLogger = new StructuredCommunicatorLogger(logger, Level.INFO, Level.ERROR, 0);
+        communicatorLogger.log(response("1", 5, 200, "{}"));
+
+        ILoggingEvent event = captureEvent();
+        assertThat(keyValuePairs(event))
+                .containsEntry("bodySize", 2L)
+                .doesNotContainKeys("body", "bodyTruncated");
+    }
+
+    @Test
+    void testLogError() {
+        StructuredCommunicatorLogger communicatorLogger = new StructuredCommunicatorLogger(logger, Level.INFO, Level.WARN, 100);
+        Throwable error = new IllegalStateException("connection reset");
+        communicatorLogger.log("Error occurred for outgoing request (requestId='1', 7 ms)", error);
+
+        ILoggingEvent event = captureEvent();
+        assertThat(event.getLevel()).isEqualTo(Level.WARN);
+        assertThat(event.getFormattedMessage()).isEqualTo("Error occurred for outgoing request (requestId='1', 7 ms)");
+        assertThat(event.getThrowableProxy()).isNotNull();
+        assertThat(event.getThrowableProxy().getMessage()).isEqualTo(error.getMessage());
+        assertThat(keyValuePairs(event)).containsExactly(
+                Map.entry("requestId", "1"),
+                Map.entry("duration", 7L));
+    }
+
+    @Test
+    void testUnrecognizedMessages() {
+        StructuredCommunicatorLogger communicatorLogger = new StructuredCommunicatorLogger(logger, Level.INFO, Level.WARN, 100);
+        Throwable error = new IllegalStateException();
+        communicatorLogger.log("some message");
+        communicatorLogger.log("some error", error);
+
+        ArgumentCaptor<ILoggingEvent> eventCaptor = ArgumentCaptor.forClass(ILoggingEvent.class);
+        verify(appender, times(2)).doAppend(eventCaptor.capture());
+
+        List<ILoggingEvent> events = eventCaptor.getAllValues();
+
+        assertThat(events.get(0).getLevel()).isEqualTo(Level.INFO);
+        assertThat(events.get(0).getFormattedMessage()).isEqualTo("some message");
+        assertThat(keyValuePairs(events.get(0))).isEmpty();
+
+        assertThat(events.get(1).getLevel()).isEqualTo(Level.WARN);
+        assertThat(events.get(1).getFormattedMessage()).isEqualTo("some error");
+        assertThat(events.get(1).getThrowableProxy()).isNotNull();
+        assertThat(keyValuePairs(events.get(1))).isEmpty();
+    }
+
+    @Test
+    void testDisabled() {
+        StructuredCommunicatorLogger communicatorLogger = new StructuredCommunicatorLogger(logger, Level.DEBUG, Level.ERROR, 100);
+
+        assertThat(communicatorLogger.isEnabled()).isFalse();
+        assertThat(communicatorLogger.isErrorEnabled()).isTrue();
+
+        communicatorLogger.log(request("1", "{}"));
+        communicatorLogger.log("some message");
+
+        verifyNoInteractions(appender);
+
+        logger.setLevel(Level.DEBUG);
+
+        assertThat(communicatorLogger.isEnabled()).isTrue();
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThatThrownBy(() -> new StructuredCommunicatorLogger(logger, Level.INFO, Level.ERROR, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new StructuredCommunicatorLogger(logger, Level.OFF, Level.ERROR, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * ConcurrencyLimiterMetricsTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.connect.sdk.java.springboot.communication.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SuppressWarnings("nls")
+class ConcurrencyLimiterMetricsTest {
+
+    @Test
+    void testBindTo() throws InterruptedException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 10, Duration.ofSeconds(10), Duration.ZERO);
+        ConcurrencyLimiterMetrics metrics = new ConcurrencyLimiterMetrics(limiter, Tags.of("name", "test"));
+
+        metrics.bindTo(registry);
+
+        assertThat(registry.getMeters()).hasSize(3);
+
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        assertThat(registry.get("connect.sdk.concurrency.limit").tag("name", "test").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("connect.sdk.concurrency.in.flight").tag("name", "test").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("connect.sdk.concurrency.rejected").tag("name", "test").functionCounter().count()).isEqualTo(1);
+    }
+}
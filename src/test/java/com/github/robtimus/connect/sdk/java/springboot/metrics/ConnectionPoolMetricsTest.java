@@ -0,0 +1,74 @@
+/*
+ * ConnectionPoolMetricsTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.connect.sdk.java.springboot.communication.JdkHttpClientConnection;
+import com.worldline.connect.sdk.java.communication.DefaultConnection;
+import com.worldline.connect.sdk.java.communication.DefaultConnectionBuilder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SuppressWarnings("nls")
+class ConnectionPoolMetricsTest {
+
+    @Test
+    void testDefaultConnection() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        try (DefaultConnection connection = new DefaultConnectionBuilder(1000, 1000).withMaxConnections(5).build()) {
+            ConnectionPoolMetrics metrics = new ConnectionPoolMetrics(connection, Tags.of("name", "test"));
+
+            assertThat(metrics.isSupported()).isTrue();
+
+            metrics.bindTo(registry);
+
+            assertThat(registry.getMeters()).hasSize(4);
+            assertThat(gaugeValue(registry, "leased")).isZero();
+            assertThat(gaugeValue(registry, "available")).isZero();
+            assertThat(gaugeValue(registry, "pending")).isZero();
+            assertThat(gaugeValue(registry, "max")).isEqualTo(5);
+        }
+    }
+
+    @Test
+    void testJdkHttpClientConnection() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        try (JdkHttpClientConnection connection = new JdkHttpClientConnection(HttpClient.newHttpClient(), Duration.ofSeconds(1))) {
+            ConnectionPoolMetrics metrics = new ConnectionPoolMetrics(connection, Tags.empty());
+
+            assertThat(metrics.isSupported()).isFalse();
+
+            metrics.bindTo(registry);
+
+            assertThat(registry.getMeters()).isEmpty();
+        }
+    }
+
+    private double gaugeValue(SimpleMeterRegistry registry, String name) {
+        Gauge gauge = registry.get("connect.sdk.connection.pool." + name)
+                .tag("name", "test")
+                .gauge();
+        return gauge.value();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * HedgingMetricsTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.connect.sdk.java.springboot.communication.HedgingPolicy;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SuppressWarnings("nls")
+class HedgingMetricsTest {
+
+    @Test
+    void testBindTo() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        HedgingPolicy policy = new HedgingPolicy(95, Duration.ZERO, Duration.ofMillis(250));
+        HedgingMetrics metrics = new HedgingMetrics(policy, Tags.of("name", "test"));
+
+        metrics.bindTo(registry);
+
+        assertThat(registry.getMeters()).hasSize(4);
+
+        assertThat(registry.get("connect.sdk.hedging.requests").tag("name", "test").functionCounter().count()).isZero();
+        assertThat(registry.get("connect.sdk.hedging.hedged").tag("name", "test").functionCounter().count()).isZero();
+        assertThat(registry.get("connect.sdk.hedging.wins").tag("name", "test").functionCounter().count()).isZero();
+        assertThat(registry.get("connect.sdk.hedging.delay").tag("name", "test").timeGauge().value(TimeUnit.MILLISECONDS)).isEqualTo(250);
+    }
+}
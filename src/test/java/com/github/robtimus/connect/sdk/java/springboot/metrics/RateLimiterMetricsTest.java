@@ -0,0 +1,69 @@
+/*
+ * RateLimiterMetricsTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.connect.sdk.java.springboot.communication.RateLimiter;
+import com.github.robtimus.connect.sdk.java.springboot.communication.RateLimits;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SuppressWarnings("nls")
+class RateLimiterMetricsTest {
+
+    @Test
+    void testBindTo() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        RateLimiter global = new RateLimiter(1, 1, Duration.ZERO);
+        RateLimiter refunds = new RateLimiter(1, 1, Duration.ofSeconds(5));
+        RateLimiterMetrics metrics = new RateLimiterMetrics(new RateLimits(global, Map.of("refunds", refunds), Map.of()), Tags.of("name", "test"));
+
+        metrics.bindTo(registry);
+
+        assertThat(registry.getMeters()).hasSize(6);
+
+        global.reserve();
+        global.reserve();
+        refunds.reserve();
+        refunds.reserve();
+
+        assertThat(registry.get("connect.sdk.rate.limit.permits").tags("name", "test", "group", "global").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("connect.sdk.rate.limit.rejected").tags("name", "test", "group", "global").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("connect.sdk.rate.limit.permits").tags("name", "test", "group", "refunds").functionCounter().count())
+                .isEqualTo(2);
+        assertThat(registry.get("connect.sdk.rate.limit.waits").tags("name", "test", "group", "refunds").functionTimer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testBindToWithoutGlobalRateLimiter() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        RateLimiterMetrics metrics = new RateLimiterMetrics(new RateLimits(null, Map.of(), Map.of()), Tags.empty());
+
+        metrics.bindTo(registry);
+
+        assertThat(registry.getMeters()).isEmpty();
+    }
+}
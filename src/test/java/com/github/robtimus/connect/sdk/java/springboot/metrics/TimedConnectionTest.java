@@ -0,0 +1,143 @@
+/*
+ * TimedConnectionTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import com.worldline.connect.sdk.java.communication.CommunicationException;
+import com.worldline.connect.sdk.java.communication.Connection;
+import com.worldline.connect.sdk.java.communication.RequestHeader;
+import com.worldline.connect.sdk.java.communication.ResponseHandler;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SuppressWarnings("nls")
+class TimedConnectionTest {
+
+    private static final URI PAYMENT_URI = URI.create("https://localhost/v1/1234/payments/000000123410000595980000100001");
+
+    private final List<RequestHeader> headers = Collections.emptyList();
+
+    @Test
+    void testSuccess() {
+        Connection delegate = mock(Connection.class);
+        when(delegate.get(any(URI.class), anyList(), any())).thenAnswer(i -> handle(i.getArgument(2), 200));
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TimedConnection connection = new TimedConnection(delegate, registry);
+
+        String result = connection.get(PAYMENT_URI, headers, (statusCode, bodyStream, responseHeaders) -> "result");
+
+        assertThat(result).isEqualTo("result");
+
+        Timer timer = registry.get(TimedConnection.METRIC_NAME)
+                .tag("method", "GET")
+                .tag("uri", "/v1/{merchantId}/payments/{paymentId}")
+                .tag("status", "200")
+                .tag("exception", "none")
+                .tag("outcome", "SUCCESS")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void testErrorResponse() {
+        Connection delegate = mock(Connection.class);
+        when(delegate.post(any(URI.class), anyList(), anyString(), any())).thenAnswer(i -> handle(i.getArgument(3), 402));
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TimedConnection connection = new TimedConnection(delegate, registry);
+
+        IllegalStateException exception = new IllegalStateException("declined");
+        ResponseHandler<String> responseHandler = (statusCode, bodyStream, responseHeaders) -> {
+            throw exception;
+        };
+
+        assertThatThrownBy(() -> connection.post(PAYMENT_URI.resolve("/v1/1234/payments"), headers, "{}", responseHandler))
+                .isSameAs(exception);
+
+        Timer timer = registry.get(TimedConnection.METRIC_NAME)
+                .tag("method", "POST")
+                .tag("uri", "/v1/{merchantId}/payments")
+                .tag("status", "402")
+                .tag("exception", "IllegalStateException")
+                .tag("outcome", "CLIENT_ERROR")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void testNoResponse() {
+        Connection delegate = mock(Connection.class);
+        CommunicationException exception = new CommunicationException(new IOException("connection refused"));
+        when(delegate.delete(any(URI.class), anyList(), any())).thenThrow(exception);
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TimedConnection connection = new TimedConnection(delegate, registry);
+
+        ResponseHandler<String> responseHandler = (statusCode, bodyStream, responseHeaders) -> "result";
+
+        assertThatThrownBy(() -> connection.delete(PAYMENT_URI, headers, responseHandler))
+                .isSameAs(exception);
+
+        Timer timer = registry.get(TimedConnection.METRIC_NAME)
+                .tag("method", "DELETE")
+                .tag("status", "CLIENT_ERROR")
+                .tag("exception", "CommunicationException")
+                .tag("outcome", "UNKNOWN")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void testRepeatedRequests() {
+        Connection delegate = mock(Connection.class);
+        when(delegate.get(any(URI.class), anyList(), any()))
+                .thenAnswer(i -> handle(i.getArgument(2), 200))
+                .thenAnswer(i -> handle(i.getArgument(2), 404))
+                .thenAnswer(i -> handle(i.getArgument(2), 200));
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TimedConnection connection = new TimedConnection(delegate, registry);
+
+        ResponseHandler<String> responseHandler = (statusCode, bodyStream, responseHeaders) -> "result";
+
+        connection.get(PAYMENT_URI, headers, responseHandler);
+        connection.get(PAYMENT_URI.resolve("/v1/1234/payments/000000123410000595980000100002"), headers, responseHandler);
+        connection.get(PAYMENT_URI.resolve("/v1/1234/payments/000000123410000595980000100003"), headers, responseHandler);
+
+        assertThat(registry.get(TimedConnection.METRIC_NAME).tag("status", "200").timer().count()).isEqualTo(2);
+        assertThat(registry.get(TimedConnection.METRIC_NAME).tag("status", "404").timer().count()).isEqualTo(1);
+        assertThat(registry.get(TimedConnection.METRIC_NAME).timers()).hasSize(2);
+    }
+
+    private static <R> R handle(ResponseHandler<R> responseHandler, int statusCode) {
+        return responseHandler.handleResponse(statusCode, new ByteArrayInputStream(new byte[0]), Collections.emptyList());
+    }
+}
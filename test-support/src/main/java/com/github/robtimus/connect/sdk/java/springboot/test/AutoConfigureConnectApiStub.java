@@ -0,0 +1,60 @@
+/*
+ * AutoConfigureConnectApiStub.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.test;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation for test classes that should use a {@link ConnectApiStubServer} instead of the Worldline Connect Server API.
+ * <p>
+ * The stub server is started before the application context is refreshed, and stopped when the application context is closed.
+ * It is available as a bean, so tests can change its behaviour or inspect its request count.
+ * Properties {@code connect.api.endpoint.scheme}, {@code connect.api.endpoint.host} and {@code connect.api.endpoint.port} are set to
+ * point to the stub server, overriding any other values. Properties {@code connect.api.authorization-id},
+ * {@code connect.api.authorization-secret}, {@code connect.api.integrator} and {@code connect.api.merchant-id} get default values if they
+ * are not set, so the {@link com.worldline.connect.sdk.java.v1.merchant.MerchantClient MerchantClient} is auto-configured as well.
+ * <p>
+ * The stub server's initial behaviour can be configured using the following properties:
+ * <ul>
+ *   <li>{@code connect.api.stub.latency.distribution}: {@code none} (default), {@code fixed}, {@code uniform}, {@code exponential} or
+ *       {@code log-normal}.</li>
+ *   <li>{@code connect.api.stub.latency.mean}: the latency in ms for {@code fixed}, the mean latency in ms for {@code exponential},
+ *       or the median latency in ms for {@code log-normal}.</li>
+ *   <li>{@code connect.api.stub.latency.min} and {@code connect.api.stub.latency.max}: the minimum and maximum latency in ms for
+ *       {@code uniform}.</li>
+ *   <li>{@code connect.api.stub.latency.sigma}: the sigma for {@code log-normal}; defaults to {@code 0.5}.</li>
+ *   <li>{@code connect.api.stub.error-rate}: the fraction of requests that result in an error response; defaults to {@code 0}.</li>
+ *   <li>{@code connect.api.stub.error-status-code}: the status code of error responses; defaults to {@code 500}.</li>
+ *   <li>{@code connect.api.stub.product-count}: the number of payment products that are returned; defaults to {@code 10}.</li>
+ * </ul>
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+public @interface AutoConfigureConnectApiStub {
+    // no attributes
+}
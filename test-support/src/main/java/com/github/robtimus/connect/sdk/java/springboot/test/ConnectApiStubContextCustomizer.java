@@ -0,0 +1,135 @@
+/*
+ * ConnectApiStubContextCustomizer.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.test.context.ContextCustomizer;
+import org.springframework.test.context.MergedContextConfiguration;
+
+/**
+ * A {@link ContextCustomizer} that starts a {@link ConnectApiStubServer}, and points the auto-configured
+ * {@link com.worldline.connect.sdk.java.Communicator Communicator} to it.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("nls")
+class ConnectApiStubContextCustomizer implements ContextCustomizer {
+
+    static final String BEAN_NAME = "connectApiStubServer";
+
+    @Override
+    public void customizeContext(ConfigurableApplicationContext context, MergedContextConfiguration mergedConfig) {
+        ConfigurableEnvironment environment = context.getEnvironment();
+
+        ConnectApiStubServer server = createServer();
+        configure(server, environment);
+        server.start();
+
+        context.getBeanFactory().registerSingleton(BEAN_NAME, server);
+        // singletons registered this way are not destroyed automatically
+        context.addApplicationListener(new ServerStopper(server, context));
+
+        environment.getPropertySources().addFirst(new MapPropertySource("connectApiStub", Map.<String, Object>of(
+                "connect.api.endpoint.scheme", "http",
+                "connect.api.endpoint.host", server.host(),
+                "connect.api.endpoint.port", server.port())));
+        environment.getPropertySources().addLast(new MapPropertySource("connectApiStubDefaults", Map.<String, Object>of(
+                "connect.api.authorization-id", "stub",
+                "connect.api.authorization-secret", "stub",
+                "connect.api.integrator", "connect-api-stub",
+                "connect.api.merchant-id", "1234")));
+    }
+
+    private ConnectApiStubServer createServer() {
+        try {
+            return new ConnectApiStubServer();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void configure(ConnectApiStubServer server, ConfigurableEnvironment environment) {
+        server.setLatency(latency(environment));
+        server.setErrorRate(environment.getProperty("connect.api.stub.error-rate", double.class, 0D));
+        server.setErrorStatusCode(environment.getProperty("connect.api.stub.error-status-code", int.class,
+                ConnectApiStubServer.DEFAULT_ERROR_STATUS_CODE));
+        server.setProductCount(environment.getProperty("connect.api.stub.product-count", int.class, ConnectApiStubServer.DEFAULT_PRODUCT_COUNT));
+    }
+
+    private static LatencyDistribution latency(ConfigurableEnvironment environment) {
+        String distribution = environment.getProperty("connect.api.stub.latency.distribution", "none");
+        switch (distribution) {
+            case "none":
+                return LatencyDistribution.none();
+            case "fixed":
+                return LatencyDistribution.fixed(millis(environment, "connect.api.stub.latency.mean"));
+            case "uniform":
+                return LatencyDistribution.uniform(millis(environment, "connect.api.stub.latency.min"),
+                        millis(environment, "connect.api.stub.latency.max"));
+            case "exponential":
+                return LatencyDistribution.exponential(millis(environment, "connect.api.stub.latency.mean"));
+            case "log-normal":
+                return LatencyDistribution.logNormal(millis(environment, "connect.api.stub.latency.mean"),
+                        environment.getProperty("connect.api.stub.latency.sigma", double.class, 0.5D));
+            default:
+                throw new IllegalStateException("Unsupported value for connect.api.stub.latency.distribution: " + distribution);
+        }
+    }
+
+    private static Duration millis(ConfigurableEnvironment environment, String key) {
+        return Duration.ofMillis(environment.getRequiredProperty(key, long.class));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        // all instances are equal, so application contexts with a stub server can be cached and reused
+        return obj != null && obj.getClass() == getClass();
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    private static final class ServerStopper implements ApplicationListener<ContextClosedEvent> {
+
+        private final ConnectApiStubServer server;
+        private final ConfigurableApplicationContext context;
+
+        private ServerStopper(ConnectApiStubServer server, ConfigurableApplicationContext context) {
+            this.server = server;
+            this.context = context;
+        }
+
+        @Override
+        public void onApplicationEvent(ContextClosedEvent event) {
+            // ignore events of child contexts
+            if (event.getApplicationContext() == context) {
+                server.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,438 @@
+/*
+ * ConnectApiStubServer.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.worldline.connect.sdk.java.json.DefaultMarshaller;
+import com.worldline.connect.sdk.java.json.Marshaller;
+import com.worldline.connect.sdk.java.json.MarshallerSyntaxException;
+import com.worldline.connect.sdk.java.v1.domain.APIError;
+import com.worldline.connect.sdk.java.v1.domain.AmountOfMoney;
+import com.worldline.connect.sdk.java.v1.domain.CreatePaymentRequest;
+import com.worldline.connect.sdk.java.v1.domain.CreatePaymentResponse;
+import com.worldline.connect.sdk.java.v1.domain.ErrorResponse;
+import com.worldline.connect.sdk.java.v1.domain.Order;
+import com.worldline.connect.sdk.java.v1.domain.PaymentOutput;
+import com.worldline.connect.sdk.java.v1.domain.PaymentProduct;
+import com.worldline.connect.sdk.java.v1.domain.PaymentProductDisplayHints;
+import com.worldline.connect.sdk.java.v1.domain.PaymentProducts;
+import com.worldline.connect.sdk.java.v1.domain.PaymentResponse;
+import com.worldline.connect.sdk.java.v1.domain.RefundOutput;
+import com.worldline.connect.sdk.java.v1.domain.RefundRequest;
+import com.worldline.connect.sdk.java.v1.domain.RefundResponse;
+import com.worldline.connect.sdk.java.v1.domain.TestConnection;
+
+/**
+ * An in-process stub of the Worldline Connect Server API. It supports the following v1 calls:
+ * <ul>
+ *   <li>{@code GET /v1/{merchantId}/services/testconnection}</li>
+ *   <li>{@code POST /v1/{merchantId}/payments}</li>
+ *   <li>{@code GET /v1/{merchantId}/payments/{paymentId}}</li>
+ *   <li>{@code POST /v1/{merchantId}/payments/{paymentId}/refund}</li>
+ *   <li>{@code GET /v1/{merchantId}/refunds/{refundId}}</li>
+ *   <li>{@code GET /v1/{merchantId}/products}</li>
+ * </ul>
+ * Other calls result in a 404 error response. Requests are not authenticated, and request bodies are not validated.
+ * <p>
+ * The stub's behaviour can be changed at any time:
+ * <ul>
+ *   <li>The {@link #setLatency(LatencyDistribution) latency distribution} determines how long the stub waits before sending a response.</li>
+ *   <li>The {@link #setErrorRate(double) error rate} determines which fraction of requests result in an error response with the
+ *       {@link #setErrorStatusCode(int) error status code}, instead of a successful response.</li>
+ *   <li>The {@link #setProductCount(int) product count} determines the number of payment products that are returned, and therefore the
+ *       size of the payment products response.</li>
+ * </ul>
+ * Requests are handled concurrently, each on its own thread, so the latency of one request does not affect other requests.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@SuppressWarnings("nls")
+public class ConnectApiStubServer implements AutoCloseable {
+
+    /** The default number of payment products that are returned. */
+    public static final int DEFAULT_PRODUCT_COUNT = 10;
+
+    /** The default status code for error responses. */
+    public static final int DEFAULT_ERROR_STATUS_CODE = 500;
+
+    private static final Pattern TEST_CONNECTION = Pattern.compile("/v1/[^/]+/services/testconnection");
+    private static final Pattern PAYMENTS = Pattern.compile("/v1/[^/]+/payments");
+    private static final Pattern PAYMENT = Pattern.compile("/v1/[^/]+/payments/([^/]+)");
+    private static final Pattern REFUND_PAYMENT = Pattern.compile("/v1/[^/]+/payments/([^/]+)/refund");
+    private static final Pattern REFUND = Pattern.compile("/v1/[^/]+/refunds/([^/]+)");
+    private static final Pattern PRODUCTS = Pattern.compile("/v1/[^/]+/products");
+
+    private final Marshaller marshaller = DefaultMarshaller.INSTANCE;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private volatile LatencyDistribution latency = LatencyDistribution.none();
+    private volatile double errorRate = 0;
+    private volatile int errorStatusCode = DEFAULT_ERROR_STATUS_CODE;
+    private volatile int productCount = DEFAULT_PRODUCT_COUNT;
+
+    private final AtomicLong idGenerator = new AtomicLong();
+    private final LongAdder requestCount = new LongAdder();
+
+    /**
+     * Creates a new stub server that listens on a free port of the loopback address.
+     * The server needs to be {@link #start() started} before it accepts requests.
+     *
+     * @throws IOException If the server could not be created.
+     */
+    public ConnectApiStubServer() throws IOException {
+        this(0);
+    }
+
+    /**
+     * Creates a new stub server that listens on a specific port of the loopback address.
+     * The server needs to be {@link #start() started} before it accepts requests.
+     *
+     * @param port The port to listen on, or {@code 0} to use a free port.
+     * @throws IOException If the server could not be created.
+     */
+    public ConnectApiStubServer(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/", this::handle);
+
+        executor = Executors.newCachedThreadPool(new StubThreadFactory());
+        server.setExecutor(executor);
+    }
+
+    /**
+     * Starts the stub server.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops the stub server. Requests that are in progress are aborted.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Returns the host name that the stub server listens on.
+     *
+     * @return The host name that the stub server listens on.
+     */
+    public String host() {
+        return server.getAddress().getHostString();
+    }
+
+    /**
+     * Returns the port that the stub server listens on.
+     *
+     * @return The port that the stub server listens on.
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the API endpoint of the stub server, for use with a {@link com.worldline.connect.sdk.java.Communicator Communicator}.
+     *
+     * @return The API endpoint of the stub server.
+     */
+    public URI apiEndpoint() {
+        return URI.create("http://" + host() + ":" + port());
+    }
+
+    /**
+     * Returns the latency distribution that is used.
+     *
+     * @return The latency distribution that is used.
+     */
+    public LatencyDistribution getLatency() {
+        return latency;
+    }
+
+    /**
+     * Sets the latency distribution to use.
+     *
+     * @param latency The latency distribution to use.
+     */
+    public void setLatency(LatencyDistribution latency) {
+        this.latency = Objects.requireNonNull(latency);
+    }
+
+    /**
+     * Returns the fraction of requests that result in an error response.
+     *
+     * @return The fraction of requests that result in an error response.
+     */
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    /**
+     * Sets the fraction of requests that result in an error response.
+     *
+     * @param errorRate The fraction of requests that result in an error response, between 0 and 1.
+     * @throws IllegalArgumentException If the given error rate is not between 0 and 1.
+     */
+    public void setErrorRate(double errorRate) {
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("errorRate must be between 0 and 1, is " + errorRate);
+        }
+        this.errorRate = errorRate;
+    }
+
+    /**
+     * Returns the status code of error responses.
+     *
+     * @return The status code of error responses.
+     */
+    public int getErrorStatusCode() {
+        return errorStatusCode;
+    }
+
+    /**
+     * Sets the status code of error responses.
+     *
+     * @param errorStatusCode The status code of error responses, between 400 and 599.
+     * @throws IllegalArgumentException If the given status code is not between 400 and 599.
+     */
+    public void setErrorStatusCode(int errorStatusCode) {
+        if (errorStatusCode < 400 || errorStatusCode > 599) {
+            throw new IllegalArgumentException("errorStatusCode must be between 400 and 599, is " + errorStatusCode);
+        }
+        this.errorStatusCode = errorStatusCode;
+    }
+
+    /**
+     * Returns the number of payment products that are returned.
+     *
+     * @return The number of payment products that are returned.
+     */
+    public int getProductCount() {
+        return productCount;
+    }
+
+    /**
+     * Sets the number of payment products that are returned.
+     *
+     * @param productCount The number of payment products that are returned.
+     * @throws IllegalArgumentException If the given count is negative.
+     */
+    public void setProductCount(int productCount) {
+        if (productCount < 0) {
+            throw new IllegalArgumentException("productCount must be >= 0, is " + productCount);
+        }
+        this.productCount = productCount;
+    }
+
+    /**
+     * Returns the number of requests that the stub server has received.
+     *
+     * @return The number of requests that the stub server has received.
+     */
+    public long requestCount() {
+        return requestCount.sum();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requestCount.increment();
+
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            String body = readBody(exchange);
+
+            if (!delay()) {
+                return;
+            }
+
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                sendError(exchange, errorStatusCode, "STUB_ERROR", "Error generated by the stub server");
+                return;
+            }
+            try {
+                route(exchange, method, path, body);
+            } catch (MarshallerSyntaxException e) {
+                sendError(exchange, 400, "INVALID_REQUEST", "Invalid request body: " + e.getMessage());
+            }
+        }
+    }
+
+    private String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream input = exchange.getRequestBody()) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private boolean delay() {
+        long nanos = latency.nextNanos(ThreadLocalRandom.current());
+        if (nanos <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+            return true;
+        } catch (InterruptedException e) {
+            // the server is being stopped
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void route(HttpExchange exchange, String method, String path, String body) throws IOException {
+        Matcher matcher;
+        if ("GET".equals(method) && TEST_CONNECTION.matcher(path).matches()) {
+            sendResponse(exchange, 200, testConnection());
+        } else if ("POST".equals(method) && PAYMENTS.matcher(path).matches()) {
+            sendResponse(exchange, 201, createPayment(marshaller.unmarshal(body, CreatePaymentRequest.class)));
+        } else if ("GET".equals(method) && (matcher = PAYMENT.matcher(path)).matches()) {
+            sendResponse(exchange, 200, getPayment(matcher.group(1)));
+        } else if ("POST".equals(method) && REFUND_PAYMENT.matcher(path).matches()) {
+            sendResponse(exchange, 201, refund(nextId(), marshaller.unmarshal(body, RefundRequest.class)));
+        } else if ("GET".equals(method) && (matcher = REFUND.matcher(path)).matches()) {
+            sendResponse(exchange, 200, refund(matcher.group(1), null));
+        } else if ("GET".equals(method) && PRODUCTS.matcher(path).matches()) {
+            sendResponse(exchange, 200, paymentProducts(productCount));
+        } else {
+            sendError(exchange, 404, "UNKNOWN_RESOURCE", "No stub for " + method + " " + path);
+        }
+    }
+
+    private TestConnection testConnection() {
+        TestConnection response = new TestConnection();
+        response.setResult("OK");
+        return response;
+    }
+
+    private CreatePaymentResponse createPayment(CreatePaymentRequest request) {
+        Order order = request == null ? null : request.getOrder();
+        AmountOfMoney amountOfMoney = order == null ? null : order.getAmountOfMoney();
+
+        PaymentResponse payment = getPayment(nextId());
+        payment.getPaymentOutput().setAmountOfMoney(amountOfMoney);
+
+        CreatePaymentResponse response = new CreatePaymentResponse();
+        response.setPayment(payment);
+        return response;
+    }
+
+    private PaymentResponse getPayment(String paymentId) {
+        PaymentResponse response = new PaymentResponse();
+        response.setId(paymentId);
+        response.setStatus("PENDING_APPROVAL");
+        response.setPaymentOutput(new PaymentOutput());
+        return response;
+    }
+
+    private RefundResponse refund(String refundId, RefundRequest request) {
+        RefundOutput refundOutput = new RefundOutput();
+        refundOutput.setAmountOfMoney(request == null ? null : request.getAmountOfMoney());
+
+        RefundResponse response = new RefundResponse();
+        response.setId(refundId);
+        response.setStatus("REFUND_REQUESTED");
+        response.setRefundOutput(refundOutput);
+        return response;
+    }
+
+    private PaymentProducts paymentProducts(int count) {
+        List<PaymentProduct> products = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            PaymentProductDisplayHints displayHints = new PaymentProductDisplayHints();
+            displayHints.setDisplayOrder(i);
+            displayHints.setLabel("Product " + i);
+            displayHints.setLogo("/templates/master/global/css/img/ppimages/pp_logo_" + i + "_v1.png");
+
+            PaymentProduct product = new PaymentProduct();
+            product.setId(i);
+            product.setPaymentMethod("card");
+            product.setAllowsRecurring(i % 2 == 0);
+            product.setDisplayHints(displayHints);
+            products.add(product);
+        }
+
+        PaymentProducts response = new PaymentProducts();
+        response.setPaymentProducts(products);
+        return response;
+    }
+
+    private String nextId() {
+        return String.format("%030d", idGenerator.incrementAndGet());
+    }
+
+    private void sendError(HttpExchange exchange, int statusCode, String id, String message) throws IOException {
+        APIError error = new APIError();
+        error.setCode("9999");
+        error.setHttpStatusCode(statusCode);
+        error.setId(id);
+        error.setMessage(message);
+
+        ErrorResponse response = new ErrorResponse();
+        response.setErrorId(UUID.randomUUID().toString());
+        response.setErrors(List.of(error));
+
+        sendResponse(exchange, statusCode, response);
+    }
+
+    private void sendResponse(HttpExchange exchange, int statusCode, Object response) throws IOException {
+        byte[] responseBody = marshaller.marshal(response).getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(statusCode, responseBody.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(responseBody);
+        }
+    }
+
+    private static final class StubThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "connect-api-stub-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * LatencyDistribution.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.test;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * A distribution of latencies that a {@link ConnectApiStubServer} adds to its responses.
+ *
+ * @author Rob Spoor
+ * @since 5.1
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /**
+     * Returns the next latency.
+     *
+     * @param random The random generator to use.
+     * @return The next latency in nanoseconds; never negative.
+     */
+    long nextNanos(RandomGenerator random);
+
+    /**
+     * Returns a distribution without any latency.
+     *
+     * @return A distribution without any latency.
+     */
+    static LatencyDistribution none() {
+        return random -> 0;
+    }
+
+    /**
+     * Returns a distribution that always returns the same latency.
+     *
+     * @param latency The latency to return.
+     * @return A distribution that always returns the given latency.
+     * @throws IllegalArgumentException If the given latency is negative.
+     */
+    @SuppressWarnings("nls")
+    static LatencyDistribution fixed(Duration latency) {
+        if (latency.isNegative()) {
+            throw new IllegalArgumentException("latency must be >= 0, is " + latency);
+        }
+        long nanos = latency.toNanos();
+        return random -> nanos;
+    }
+
+    /**
+     * Returns a distribution that returns latencies that are uniformly distributed between a minimum and maximum.
+     *
+     * @param min The minimum latency, inclusive.
+     * @param max The maximum latency, exclusive.
+     * @return A distribution that returns latencies that are uniformly distributed between the given minimum and maximum.
+     * @throws IllegalArgumentException If the given minimum is negative, or if the given maximum is not larger than the minimum.
+     */
+    @SuppressWarnings("nls")
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        if (min.isNegative()) {
+            throw new IllegalArgumentException("min must be >= 0, is " + min);
+        }
+        if (max.compareTo(min) <= 0) {
+            throw new IllegalArgumentException("max must be > " + min + ", is " + max);
+        }
+        long minNanos = min.toNanos();
+        long maxNanos = max.toNanos();
+        return random -> random.nextLong(minNanos, maxNanos);
+    }
+
+    /**
+     * Returns a distribution that returns exponentially distributed latencies.
+     * Most latencies are small, but there is a long tail of large latencies.
+     *
+     * @param mean The mean latency.
+     * @return A distribution that returns exponentially distributed latencies with the given mean.
+     * @throws IllegalArgumentException If the given mean is not positive.
+     */
+    @SuppressWarnings("nls")
+    static LatencyDistribution exponential(Duration mean) {
+        if (mean.isNegative() || mean.isZero()) {
+            throw new IllegalArgumentException("mean must be > 0, is " + mean);
+        }
+        double meanNanos = mean.toNanos();
+        return random -> (long) (random.nextExponential() * meanNanos);
+    }
+
+    /**
+     * Returns a distribution that returns log-normally distributed latencies.
+     * This usually models the latencies of real services best; latencies are centered around the median, with a tail of large latencies
+     * that grows with {@code sigma}.
+     *
+     * @param median The median latency.
+     * @param sigma The standard deviation of the natural logarithm of the latencies. Typical values are between 0.25 and 1.
+     * @return A distribution that returns log-normally distributed latencies with the given median and sigma.
+     * @throws IllegalArgumentException If the given median or sigma is not positive.
+     */
+    @SuppressWarnings("nls")
+    static LatencyDistribution logNormal(Duration median, double sigma) {
+        if (median.isNegative() || median.isZero()) {
+            throw new IllegalArgumentException("median must be > 0, is " + median);
+        }
+        if (sigma <= 0) {
+            throw new IllegalArgumentException("sigma must be > 0, is " + sigma);
+        }
+        double mu = Math.log(median.toNanos());
+        return random -> (long) Math.exp(random.nextGaussian(mu, sigma));
+    }
+
+    /**
+     * Returns a distribution that caps the latencies of this distribution.
+     *
+     * @param max The maximum latency.
+     * @return A distribution that returns the latencies of this distribution, but at most the given maximum.
+     * @throws NullPointerException If the given maximum is {@code null}.
+     */
+    default LatencyDistribution withMax(Duration max) {
+        long maxNanos = Objects.requireNonNull(max).toNanos();
+        return random -> Math.min(nextNanos(random), maxNanos);
+    }
+}
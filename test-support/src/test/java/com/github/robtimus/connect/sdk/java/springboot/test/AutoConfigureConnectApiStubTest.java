@@ -0,0 +1,89 @@
+/*
+ * AutoConfigureConnectApiStubTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import com.github.robtimus.connect.sdk.java.springboot.test.AutoConfigureConnectApiStubTest.TestApplication;
+import com.worldline.connect.sdk.java.v1.ApiException;
+import com.worldline.connect.sdk.java.v1.merchant.MerchantClient;
+import com.worldline.connect.sdk.java.v1.merchant.products.FindProductsParams;
+
+@SpringBootTest(classes = TestApplication.class, properties = {
+        "connect.api.endpoint.host=api.example.org",
+        "connect.api.merchant-id=5678",
+        "connect.api.stub.product-count=3",
+        "connect.api.stub.error-status-code=503",
+})
+@AutoConfigureConnectApiStub
+@SuppressWarnings("nls")
+class AutoConfigureConnectApiStubTest {
+
+    @Autowired
+    private ConnectApiStubServer server;
+
+    @Autowired
+    private MerchantClient merchantClient;
+
+    @Value("${connect.api.endpoint.host}")
+    private String host;
+
+    @Value("${connect.api.endpoint.port}")
+    private int port;
+
+    @Value("${connect.api.merchant-id}")
+    private String merchantId;
+
+    @Test
+    void testEndpointPointsToStub() {
+        assertEquals(server.host(), host);
+        assertEquals(server.port(), port);
+
+        // explicitly set properties are not overwritten with defaults
+        assertEquals("5678", merchantId);
+
+        long requestCount = server.requestCount();
+        assertEquals("OK", merchantClient.services().testconnection().getResult());
+        assertEquals(requestCount + 1, server.requestCount());
+    }
+
+    @Test
+    void testStubIsConfigured() {
+        assertEquals(3, merchantClient.products().find(new FindProductsParams()).getPaymentProducts().size());
+
+        server.setErrorRate(1);
+        try {
+            ApiException exception = assertThrows(ApiException.class, () -> merchantClient.services().testconnection());
+            assertEquals(503, exception.getStatusCode());
+        } finally {
+            server.setErrorRate(0);
+        }
+    }
+
+    // No @SpringBootApplication, so @ComponentScan won't be applied
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    static class TestApplication {
+    }
+}
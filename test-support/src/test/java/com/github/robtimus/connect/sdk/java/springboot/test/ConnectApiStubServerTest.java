@@ -0,0 +1,193 @@
+/*
+ * ConnectApiStubServerTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.IOException;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import com.worldline.connect.sdk.java.Client;
+import com.worldline.connect.sdk.java.Communicator;
+import com.worldline.connect.sdk.java.authentication.V1HMACAuthenticator;
+import com.worldline.connect.sdk.java.communication.DefaultConnectionBuilder;
+import com.worldline.connect.sdk.java.communication.MetadataProvider;
+import com.worldline.connect.sdk.java.json.DefaultMarshaller;
+import com.worldline.connect.sdk.java.v1.ApiException;
+import com.worldline.connect.sdk.java.v1.domain.AmountOfMoney;
+import com.worldline.connect.sdk.java.v1.domain.CreatePaymentRequest;
+import com.worldline.connect.sdk.java.v1.domain.CreatePaymentResponse;
+import com.worldline.connect.sdk.java.v1.domain.Order;
+import com.worldline.connect.sdk.java.v1.domain.PaymentProducts;
+import com.worldline.connect.sdk.java.v1.domain.PaymentResponse;
+import com.worldline.connect.sdk.java.v1.domain.RefundRequest;
+import com.worldline.connect.sdk.java.v1.domain.RefundResponse;
+import com.worldline.connect.sdk.java.v1.merchant.MerchantClient;
+import com.worldline.connect.sdk.java.v1.merchant.products.FindProductsParams;
+
+@SuppressWarnings("nls")
+class ConnectApiStubServerTest {
+
+    private ConnectApiStubServer server;
+    private Client client;
+    private MerchantClient merchantClient;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = new ConnectApiStubServer();
+        server.start();
+
+        Communicator communicator = new Communicator(server.apiEndpoint(), new DefaultConnectionBuilder(1000, 5000).build(),
+                new V1HMACAuthenticator("keyId", "secret"), new MetadataProvider("robtimus"), DefaultMarshaller.INSTANCE);
+        client = new Client(communicator);
+        merchantClient = client.v1().merchant("1234");
+    }
+
+    @AfterEach
+    void stopServer() throws IOException {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    void testTestConnection() {
+        assertEquals("OK", merchantClient.services().testconnection().getResult());
+        assertEquals(1, server.requestCount());
+    }
+
+    @Test
+    void testCreateAndGetPayment() {
+        AmountOfMoney amountOfMoney = new AmountOfMoney();
+        amountOfMoney.setAmount(2980L);
+        amountOfMoney.setCurrencyCode("EUR");
+
+        Order order = new Order();
+        order.setAmountOfMoney(amountOfMoney);
+
+        CreatePaymentRequest request = new CreatePaymentRequest();
+        request.setOrder(order);
+
+        CreatePaymentResponse response = merchantClient.payments().create(request);
+        String paymentId = response.getPayment().getId();
+
+        assertEquals(2980L, response.getPayment().getPaymentOutput().getAmountOfMoney().getAmount());
+        assertEquals("EUR", response.getPayment().getPaymentOutput().getAmountOfMoney().getCurrencyCode());
+
+        PaymentResponse payment = merchantClient.payments().get(paymentId);
+
+        assertEquals(paymentId, payment.getId());
+        assertEquals("PENDING_APPROVAL", payment.getStatus());
+
+        CreatePaymentResponse otherResponse = merchantClient.payments().create(request);
+        assertNotEquals(paymentId, otherResponse.getPayment().getId());
+    }
+
+    @Test
+    void testRefund() {
+        AmountOfMoney amountOfMoney = new AmountOfMoney();
+        amountOfMoney.setAmount(100L);
+        amountOfMoney.setCurrencyCode("EUR");
+
+        RefundRequest request = new RefundRequest();
+        request.setAmountOfMoney(amountOfMoney);
+
+        RefundResponse response = merchantClient.payments().refund("000000123410000595980000100001", request);
+
+        assertEquals(100L, response.getRefundOutput().getAmountOfMoney().getAmount());
+        assertEquals("REFUND_REQUESTED", response.getStatus());
+
+        RefundResponse refund = merchantClient.refunds().get(response.getId());
+
+        assertEquals(response.getId(), refund.getId());
+        assertNull(refund.getRefundOutput().getAmountOfMoney());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, ConnectApiStubServer.DEFAULT_PRODUCT_COUNT, 1000 })
+    void testProducts(int productCount) {
+        server.setProductCount(productCount);
+
+        PaymentProducts response = merchantClient.products().find(new FindProductsParams());
+
+        assertEquals(productCount, response.getPaymentProducts().size());
+    }
+
+    @Test
+    void testUnknownResource() {
+        ApiException exception = assertThrows(ApiException.class, () -> merchantClient.payments().cancel("1"));
+
+        assertEquals(404, exception.getStatusCode());
+        assertEquals("UNKNOWN_RESOURCE", exception.getErrors().get(0).getId());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 400, 429, 500, 503 })
+    void testErrorRate(int errorStatusCode) {
+        server.setErrorRate(1);
+        server.setErrorStatusCode(errorStatusCode);
+
+        ApiException exception = assertThrows(ApiException.class, () -> merchantClient.services().testconnection());
+
+        assertEquals(errorStatusCode, exception.getStatusCode());
+        assertEquals("STUB_ERROR", exception.getErrors().get(0).getId());
+    }
+
+    @Test
+    void testPartialErrorRate() {
+        server.setErrorRate(0.5);
+
+        int errors = 0;
+        for (int i = 0; i < 200; i++) {
+            try {
+                merchantClient.services().testconnection();
+            } catch (ApiException e) {
+                errors++;
+            }
+        }
+
+        assertTrue(errors > 50 && errors < 150, "errors: " + errors);
+    }
+
+    @Test
+    void testLatency() {
+        server.setLatency(LatencyDistribution.fixed(Duration.ofMillis(200)));
+
+        long start = System.nanoTime();
+        merchantClient.services().testconnection();
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+
+        assertTrue(duration.compareTo(Duration.ofMillis(200)) >= 0, "duration: " + duration);
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> server.setLatency(null));
+        assertThrows(IllegalArgumentException.class, () -> server.setErrorRate(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> server.setErrorRate(1.1));
+        assertThrows(IllegalArgumentException.class, () -> server.setErrorStatusCode(200));
+        assertThrows(IllegalArgumentException.class, () -> server.setErrorStatusCode(600));
+        assertThrows(IllegalArgumentException.class, () -> server.setProductCount(-1));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * LatencyDistributionTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.connect.sdk.java.springboot.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("nls")
+class LatencyDistributionTest {
+
+    private static final int SAMPLES = 10_000;
+
+    private final Random random = new Random(42);
+
+    @Test
+    void testNone() {
+        LatencyDistribution distribution = LatencyDistribution.none();
+
+        assertEquals(0, distribution.nextNanos(random));
+    }
+
+    @Test
+    void testFixed() {
+        LatencyDistribution distribution = LatencyDistribution.fixed(Duration.ofMillis(10));
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(10_000_000, distribution.nextNanos(random));
+        }
+
+        Duration negative = Duration.ofMillis(-1);
+        assertThrows(IllegalArgumentException.class, () -> LatencyDistribution.fixed(negative));
+    }
+
+    @Test
+    void testUniform() {
+        LatencyDistribution distribution = LatencyDistribution.uniform(Duration.ofMillis(10), Duration.ofMillis(20));
+
+        long[] samples = sample(distribution);
+        assertTrue(samples[0] >= 10_000_000, "min: " + samples[0]);
+        assertTrue(samples[samples.length - 1] < 20_000_000, "max: " + samples[samples.length - 1]);
+        assertEquals(15_000_000, median(samples), 500_000);
+
+        Duration min = Duration.ofMillis(10);
+        assertThrows(IllegalArgumentException.class, () -> LatencyDistribution.uniform(Duration.ofMillis(-1), min));
+        assertThrows(IllegalArgumentException.class, () -> LatencyDistribution.uniform(min, min));
+    }
+
+    @Test
+    void testExponential() {
+        LatencyDistribution distribution = LatencyDistribution.exponential(Duration.ofMillis(10));
+
+        long[] samples = sample(distribution);
+        assertTrue(samples[0] >= 0, "min: " + samples[0]);
+        assertEquals(10_000_000, mean(samples), 500_000);
+        // the median of an exponential distribution is mean * ln(2)
+        assertEquals(10_000_000 * Math.log(2), median(samples), 500_000);
+
+        assertThrows(IllegalArgumentException.class, () -> LatencyDistribution.exponential(Duration.ZERO));
+    }
+
+    @Test
+    void testLogNormal() {
+        LatencyDistribution distribution = LatencyDistribution.logNormal(Duration.ofMillis(10), 0.5);
+
+        long[] samples = sample(distribution);
+        assertTrue(samples[0] > 0, "min: " + samples[0]);
+        assertEquals(10_000_000, median(samples), 500_000);
+        // the mean of a log-normal distribution is median * e^(sigma^2 / 2)
+        assertEquals(10_000_000 * Math.exp(0.125), mean(samples), 500_000);
+
+        Duration median = Duration.ofMillis(10);
+        assertThrows(IllegalArgumentException.class, () -> LatencyDistribution.logNormal(Duration.ZERO, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> LatencyDistribution.logNormal(median, 0));
+    }
+
+    @Test
+    void testWithMax() {
+        LatencyDistribution distribution = LatencyDistribution.exponential(Duration.ofMillis(10))
+                .withMax(Duration.ofMillis(15));
+
+        long[] samples = sample(distribution);
+        assertEquals(15_000_000, samples[samples.length - 1]);
+    }
+
+    private long[] sample(LatencyDistribution distribution) {
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = distribution.nextNanos(random);
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private static double median(long[] sortedSamples) {
+        return sortedSamples[sortedSamples.length / 2];
+    }
+
+    private static double mean(long[] samples) {
+        return Arrays.stream(samples).average().orElseThrow();
+    }
+}